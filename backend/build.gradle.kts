@@ -14,6 +14,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
     id("net.bytebuddy.byte-buddy-gradle-plugin") version "1.18.4"
     id("org.springdoc.openapi-gradle-plugin") version "1.9.0"
+    id("me.champeau.jmh") version "0.7.3"
     jacoco
 }
 
@@ -67,6 +68,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-aspectj")
+    // Tracing: Micrometer Observation spans exported to Zipkin (see docker-compose.yml)
+    implementation("org.springframework.boot:spring-boot-starter-zipkin")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-authorization-server")
 
     // ORIS API client
@@ -76,10 +79,11 @@ dependencies {
     implementation("org.springframework.modulith:spring-modulith-starter-core:$springModulithVersion")
     implementation("org.springframework.modulith:spring-modulith-starter-jdbc:$springModulithVersion")
     implementation("org.springframework.modulith:spring-modulith-events-api:$springModulithVersion")
+    implementation("org.springframework.modulith:spring-modulith-events-core:$springModulithVersion")
     runtimeOnly("org.springframework.modulith:spring-modulith-actuator:$springModulithVersion")
 
     // Database
-    runtimeOnly("org.postgresql:postgresql")
+    implementation("org.postgresql:postgresql")
     runtimeOnly("com.h2database:h2")
 
     // Flyway for database migrations
@@ -143,6 +147,7 @@ dependencies {
     testImplementation("org.springframework.modulith:spring-modulith-starter-test:$springModulithVersion")
     testImplementation("org.springframework.modulith:spring-modulith-junit:$springModulithVersion")
     testImplementation("org.awaitility:awaitility")
+    testImplementation("com.icegreen:greenmail-junit5:2.1.2")  // in-process SMTP server for email outbox tests
     testImplementation("org.jmolecules.integrations:jmolecules-archunit")
     testImplementation("org.springframework.boot:spring-boot-starter-jdbc-test")
     testImplementation("org.springframework.boot:spring-boot-starter-data-jdbc-test")
@@ -151,6 +156,71 @@ dependencies {
     mockitoAgent("org.mockito:mockito-core") { isTransitive = false }
 }
 
+// JMH microbenchmarks (src/jmh/java), run with ./gradlew jmh
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+}
+
+// HTTP load-test scenarios (src/loadTest/java) against a Testcontainers PostgreSQL seeded by the
+// synthetic-data profile, run with ./gradlew loadTest; the report is written to build/reports/load-test
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+val loadTestImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.testImplementation.get())
+}
+val loadTestRuntimeOnly: Configuration by configurations.getting {
+    extendsFrom(configurations.testRuntimeOnly.get())
+}
+
+dependencies {
+    loadTestImplementation("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Runs HTTP load-test scenarios against a containerised PostgreSQL."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = loadTest.output.classesDirs
+    classpath = loadTest.runtimeClasspath
+    useJUnitPlatform()
+    filter { excludeTestsMatching("com.klabis.loadtest.queryplan.*") }
+    shouldRunAfter(tasks.test)
+    outputs.upToDateWhen { false }
+    jvmArgs("-Xmx3g")
+    systemProperty("klabis.load-test.report-dir", layout.buildDirectory.dir("reports/load-test").get().asFile.absolutePath)
+    // -Pload-test.users=500 etc. override the scenario sizes in LoadTestSettings
+    providers.gradlePropertiesPrefixedBy("load-test.").get().forEach { (name, value) ->
+        systemProperty("klabis.$name", value)
+    }
+}
+
+// EXPLAIN-based plan checks of critical queries (src/loadTest/java/com/klabis/loadtest/queryplan),
+// sharing the load-test source set and its containerised PostgreSQL setup
+tasks.register<Test>("queryPlanTest") {
+    description = "Checks execution plans of critical queries against a containerised PostgreSQL."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = loadTest.output.classesDirs
+    classpath = loadTest.runtimeClasspath
+    useJUnitPlatform()
+    filter { includeTestsMatching("com.klabis.loadtest.queryplan.*") }
+    shouldRunAfter(tasks.test)
+    jvmArgs("-Xmx2g")
+}
+
+// Prints a new klabis.encryption.wrapped-data-key, wrapped by the Jasypt password in KLABIS_JASYPT_PASSWORD
+tasks.register<JavaExec>("generateWrappedDataKey") {
+    description = "Generates a wrapped data key for klabis.encryption.mode=envelope."
+    group = "application"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("com.klabis.common.encryption.WrappedDataKeyGenerator")
+}
+
 byteBuddy {
     transformation {
         plugin = org.jmolecules.bytebuddy.JMoleculesPlugin::class.java
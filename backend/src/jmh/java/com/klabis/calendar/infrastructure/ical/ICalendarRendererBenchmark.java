@@ -0,0 +1,85 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import com.klabis.calendar.application.IcalFeedPort.EventScheduleEntry;
+import com.klabis.events.EventId;
+import com.klabis.events.domain.EventStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares rendering a personal schedule feed with the former {@code StringBuilder} renderer, including the UTF-8
+ * encoding of the response body it needed, against writing straight to the response stream.
+ * <p>
+ * Run with {@code ./gradlew jmh}; results are written to {@code build/results/jmh/results.json}. The streaming side
+ * writes into a reused buffer, as it would into the servlet response buffer. The build enables the JMH {@code gc}
+ * profiler, so {@code gc.alloc.rate.norm} gives the bytes allocated per rendered feed next to the average time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ICalendarRendererBenchmark {
+
+    private static final String BASE_URL = "https://klabis.example.com";
+    private static final Instant DTSTAMP = Instant.parse("2026-05-21T10:00:00Z");
+
+    @Param({"10", "500", "5000"})
+    private int events;
+
+    private List<EventScheduleEntry> entries;
+    private StringBuilderICalendarRenderer stringBuilderRenderer;
+    private ICalendarRenderer streamingRenderer;
+    private ByteArrayOutputStream responseBuffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        entries = IntStream.range(0, events)
+                .mapToObj(i -> new EventScheduleEntry(
+                        new EventId(UUID.nameUUIDFromBytes(("event-" + i).getBytes(StandardCharsets.UTF_8))),
+                        "Oblastní žebříček – " + i + ". závod, klasická trať; Jihomoravská oblast",
+                        start.plusDays(i % 365),
+                        "Sportovní areál Pod Hradem, Brno-Líšeň",
+                        "ZBM",
+                        i % 2 == 0 ? "https://zbm.example.com/zavody/" + i : null,
+                        i % 10 == 0 ? EventStatus.CANCELLED : EventStatus.ACTIVE,
+                        i % 7 == 0))
+                .toList();
+        stringBuilderRenderer = new StringBuilderICalendarRenderer();
+        streamingRenderer = new ICalendarRenderer();
+
+        responseBuffer = new ByteArrayOutputStream();
+        streaming();
+        if (!Arrays.equals(stringBuilder(), responseBuffer.toByteArray())) {
+            throw new IllegalStateException("Renderers produce different feeds");
+        }
+    }
+
+    @Benchmark
+    public byte[] stringBuilder() {
+        return stringBuilderRenderer.render(entries, BASE_URL, DTSTAMP).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int streaming() throws IOException {
+        responseBuffer.reset();
+        streamingRenderer.render(entries, BASE_URL, DTSTAMP, responseBuffer);
+        return responseBuffer.size();
+    }
+}
@@ -0,0 +1,147 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import com.klabis.calendar.application.IcalFeedPort.EventScheduleEntry;
+import com.klabis.events.domain.EventStatus;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * The personal schedule part of {@link ICalendarRenderer} as it was before it wrote to an {@code OutputStream}:
+ * the feed is built in a {@link StringBuilder} and every line is encoded to find its fold points.
+ * Kept unchanged as the baseline of {@link ICalendarRendererBenchmark}.
+ */
+class StringBuilderICalendarRenderer {
+
+    private static final DateTimeFormatter DTSTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String CRLF = "\r\n";
+
+    /**
+     * Renders the iCalendar feed.
+     *
+     * @param entries  events to include, each paired with the member's role
+     * @param baseUrl  base URL of the Klabis application (e.g. {@code https://klabis.example.com})
+     *                 used to build event detail links
+     * @param dtstamp  the current instant used as DTSTAMP for all VEVENTs
+     * @return iCalendar text (UTF-8, CRLF line endings)
+     */
+    public String render(List<EventScheduleEntry> entries, String baseUrl, Instant dtstamp) {
+        StringBuilder sb = new StringBuilder();
+
+        appendLine(sb, "BEGIN:VCALENDAR");
+        appendLine(sb, "VERSION:2.0");
+        appendLine(sb, "PRODID:-//Klabis//Klabis Member Portal//CS");
+
+        for (EventScheduleEntry entry : entries) {
+            appendVEvent(sb, entry, baseUrl, dtstamp);
+        }
+
+        appendLine(sb, "END:VCALENDAR");
+
+        return sb.toString();
+    }
+
+    private void appendVEvent(StringBuilder sb, EventScheduleEntry event, String baseUrl, Instant dtstamp) {
+        String eventDetailUrl = baseUrl + "/events/" + event.eventId().value();
+        String dtstart = DATE_FORMAT.format(event.eventDate());
+        String dtend = DATE_FORMAT.format(event.eventDate().plusDays(1));
+        String uid = event.eventId().value() + "@klabis";
+
+        appendLine(sb, "BEGIN:VEVENT");
+        appendLine(sb, "UID:" + uid);
+        appendLine(sb, "DTSTAMP:" + DTSTAMP_FORMAT.format(dtstamp));
+        appendLine(sb, "DTSTART;VALUE=DATE:" + dtstart);
+        appendLine(sb, "DTEND;VALUE=DATE:" + dtend);
+        appendLine(sb, "SUMMARY:" + escapeText(event.name()));
+
+        if (event.location() != null && !event.location().isBlank()) {
+            appendLine(sb, "LOCATION:" + escapeText(event.location()));
+        }
+
+        appendLine(sb, "URL:" + eventDetailUrl);
+
+        String description = buildDescription(event, eventDetailUrl);
+        appendLine(sb, "DESCRIPTION:" + escapeText(description));
+
+        if (event.status() == EventStatus.CANCELLED) {
+            appendLine(sb, "STATUS:CANCELLED");
+        } else {
+            appendLine(sb, "STATUS:CONFIRMED");
+        }
+
+        appendLine(sb, "END:VEVENT");
+    }
+
+    /**
+     * Appends a single iCalendar content line to the buffer, folding at 75-octet boundaries
+     * per RFC 5545 §3.1. Long lines are split with CRLF + single SPACE continuation.
+     * Folding is octet-based (UTF-8 bytes) to correctly handle multi-byte characters.
+     */
+    private void appendLine(StringBuilder sb, String line) {
+        byte[] bytes = line.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        if (bytes.length <= 75) {
+            sb.append(line).append(CRLF);
+            return;
+        }
+
+        int offset = 0;
+        boolean first = true;
+        while (offset < bytes.length) {
+            int limit = first ? 75 : 74; // first line: 75 octets; continuation: 74 octets (1 used by leading space)
+            int end = Math.min(offset + limit, bytes.length);
+
+            // Walk back if the cut falls in the middle of a multi-byte UTF-8 sequence
+            while (end < bytes.length && (bytes[end] & 0xC0) == 0x80) {
+                end--;
+            }
+
+            if (!first) {
+                sb.append(' ');
+            }
+            sb.append(new String(bytes, offset, end - offset, java.nio.charset.StandardCharsets.UTF_8));
+            sb.append(CRLF);
+
+            offset = end;
+            first = false;
+        }
+    }
+
+    private String buildDescription(EventScheduleEntry event, String eventDetailUrl) {
+        StringBuilder desc = new StringBuilder();
+        desc.append("Pořadatel: ").append(event.organizer());
+        desc.append("\n\nDetail v Klabisu: ").append(eventDetailUrl);
+
+        if (event.websiteUrl() != null) {
+            desc.append("\nWeb akce: ").append(event.websiteUrl());
+        }
+
+        if (event.isCoordinator()) {
+            desc.append("\nRole: koordinátor");
+        }
+
+        return desc.toString();
+    }
+
+    /**
+     * Escapes text values per RFC 5545 §3.3.11:
+     * backslash → \\, comma → \,, semicolon → \;, newline → \n
+     */
+    static String escapeText(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value
+                .replace("\\", "\\\\")
+                .replace(",", "\\,")
+                .replace(";", "\\;")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+}
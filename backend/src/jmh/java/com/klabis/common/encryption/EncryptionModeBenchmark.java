@@ -0,0 +1,52 @@
+package com.klabis.common.encryption;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-operation cost of the two cipher modes used for personal data at rest.
+ * <p>
+ * Run with {@code ./gradlew jmh}. The {@code jasypt} mode derives a PBE key on every call,
+ * while {@code envelope} performs a single AES-GCM operation with the cached data key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EncryptionModeBenchmark {
+
+    private static final String BIRTH_NUMBER = "900101/1235";
+
+    @Param({EncryptionConfiguration.MODE_JASYPT, EncryptionConfiguration.MODE_ENVELOPE})
+    private String mode;
+
+    private EncryptionService encryptionService;
+    private String ciphertext;
+
+    @Setup
+    public void setUp() {
+        SharedEncryptionService jasyptEncryptor = new SharedEncryptionService(
+                "benchmark-password-with-reasonable-length", "PBEWithHmacSHA512AndAES_256");
+        encryptionService = EncryptionConfiguration.MODE_ENVELOPE.equals(mode)
+                ? EnvelopeEncryptionService.fromWrappedDataKey(EnvelopeEncryptionService.wrapNewDataKey(jasyptEncryptor), jasyptEncryptor)
+                : jasyptEncryptor;
+        ciphertext = encryptionService.encrypt(BIRTH_NUMBER);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionService.encrypt(BIRTH_NUMBER);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionService.decrypt(ciphertext);
+    }
+}
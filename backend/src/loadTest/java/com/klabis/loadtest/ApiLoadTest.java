@@ -0,0 +1,183 @@
+package com.klabis.loadtest;
+
+import com.klabis.common.bootstrap.synthetic.SyntheticDataProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real HTTP API with concurrent virtual users against PostgreSQL seeded by the synthetic-data profile.
+ * <p>
+ * Scenarios run in the order a busy day produces them: a login storm, event list browsing, a registration
+ * opening burst on one event, iCal subscription polling and a fee choice window. Latency percentiles and
+ * throughput of every scenario are written to {@code build/reports/load-test}.
+ * <p>
+ * This run uses platform threads; {@link VirtualThreadsApiLoadTest} repeats it on virtual threads for comparison.
+ * <p>
+ * Run with {@code ./gradlew loadTest} (requires Docker).
+ */
+@DisplayName("API load test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"postgresql", "synthetic-data", "loadtest"})
+@Testcontainers
+class ApiLoadTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    private static final int EVENT_PAGE_SIZE = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SyntheticDataProperties syntheticData;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    private record TestMember(UUID id, String registrationNumber, String chipNumber) {
+    }
+
+    @Test
+    @DisplayName("should keep error rate of every scenario below the threshold")
+    void runScenarios() throws Exception {
+        URI baseUri = URI.create("http://localhost:" + port);
+        List<TestMember> members = activeMembers(settings.users());
+        assertThat(members).as("synthetic members available for virtual users").hasSize(settings.users());
+        List<KlabisClient> clients = members.stream().map(member -> new KlabisClient(baseUri)).toList();
+        int users = members.size();
+
+        List<ScenarioResult> results = new ArrayList<>();
+
+        results.add(LoadDriver.run("login storm", users, 1, LoadDriver.successful(),
+                (user, i) -> clients.get(user).login(members.get(user).registrationNumber(),
+                        syntheticData.getPassword())));
+
+        List<UUID> eventIds = jdbcTemplate.queryForList(
+                "SELECT id FROM events.events WHERE status <> 'DRAFT' ORDER BY id LIMIT 1000", UUID.class);
+        int eventPages = Math.max(1, Math.min(50, eventIds.size() / EVENT_PAGE_SIZE));
+        results.add(LoadDriver.run("event list browsing", users, settings.iterations(), LoadDriver.successful(),
+                (user, i) -> {
+                    Random random = random(user, i);
+                    KlabisClient client = clients.get(user);
+                    return i % 2 == 0
+                            ? client.get("/api/events?page=%d&size=%d".formatted(random.nextInt(eventPages),
+                            EVENT_PAGE_SIZE))
+                            : client.get("/api/events/" + eventIds.get(random.nextInt(eventIds.size())));
+                }));
+
+        Map<String, Object> burstEvent = jdbcTemplate.queryForMap("""
+                SELECT id, categories FROM events.events
+                WHERE status = 'ACTIVE' AND registration_deadline > CURRENT_DATE
+                ORDER BY event_date, id
+                LIMIT 1""");
+        UUID burstEventId = (UUID) burstEvent.get("id");
+        String category = ((String) burstEvent.get("categories")).split(",")[0];
+        // every virtual user registers once, so start from an event nobody is registered for yet
+        jdbcTemplate.update("DELETE FROM events.event_registrations WHERE event_id = ?", burstEventId);
+        results.add(LoadDriver.run("registration opening burst", users, 1, status -> status == 201,
+                (user, i) -> clients.get(user).post("/api/events/%s/registrations".formatted(burstEventId),
+                        Map.of("siCardNumber", members.get(user).chipNumber(), "category", category))));
+
+        URI[] feeds = new URI[users];
+        results.add(LoadDriver.run("iCal token generation", users, 1, LoadDriver.successful(), (user, i) -> {
+            URI subscribeUrl = URI.create(clients.get(user).postForJson("/api/me/ical-token").get("url").asString());
+            feeds[user] = baseUri.resolve(subscribeUrl.getRawPath() + "?" + subscribeUrl.getRawQuery());
+            return 200;
+        }));
+        results.add(LoadDriver.run("iCal polling", users, settings.iterations(), LoadDriver.successful(),
+                (user, i) -> clients.get(user).getUrl(feeds[user])));
+
+        int year = LocalDate.now().getYear();
+        List<UUID> feeGroups = jdbcTemplate.queryForList("""
+                SELECT l.membership_fee_group_id
+                FROM membershipfees.fee_selection_campaign_level l
+                JOIN membershipfees.fee_selection_campaign c ON c.id = l.fee_selection_campaign_id
+                WHERE c.publication_year = ?
+                ORDER BY l.membership_fee_group_id""", UUID.class, year);
+        results.add(LoadDriver.run("fee choice window", users, 2, status -> status == 204,
+                (user, i) -> clients.get(user).post(
+                        "/api/members/%s/fee-choice/%d".formatted(members.get(user).id(), year),
+                        Map.of("membershipFeeGroupId", feeGroups.get(random(user, i).nextInt(feeGroups.size()))))));
+
+        Path reportDir = virtualThreads ? settings.reportDir().resolve("virtual-threads") : settings.reportDir();
+        LoadTestReport.write(settings, reportDir, datasetSummary(), runtimeSummary(), results);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.errorRate())
+                .as("error rate of '%s' (statuses %s)", result.name(), result.statuses())
+                .isLessThanOrEqualTo(settings.maxErrorRate()));
+    }
+
+    private List<TestMember> activeMembers(int limit) {
+        return jdbcTemplate.query("""
+                        SELECT m.id, m.registration_number, m.chip_number
+                        FROM members.members m
+                        JOIN common.users u ON u.id = m.id
+                        WHERE m.created_by = 'synthetic-data' AND m.is_active AND u.account_status = 'ACTIVE'
+                        ORDER BY m.registration_number
+                        LIMIT ?""",
+                (rs, rowNum) -> new TestMember(rs.getObject("id", UUID.class), rs.getString("registration_number"),
+                        rs.getString("chip_number")),
+                limit);
+    }
+
+    private Map<String, Object> datasetSummary() {
+        Map<String, Object> dataset = new LinkedHashMap<>();
+        for (String table : List.of("members.members", "events.events", "events.event_registrations",
+                "finance.finance_transaction", "membershipfees.membership_fee_group_members")) {
+            dataset.put(table, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class));
+        }
+        return dataset;
+    }
+
+    private Map<String, Object> runtimeSummary() {
+        Map<String, Object> runtime = new LinkedHashMap<>();
+        runtime.put("threads", virtualThreads ? "virtual" : "platform");
+        if (virtualThreads) {
+            Collection<Timer> pinned = meterRegistry.find("klabis.virtual-threads.pinned").timers();
+            runtime.put("pinnedEvents", pinned.stream().mapToLong(Timer::count).sum());
+            runtime.put("pinnedMs", pinned.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum());
+            runtime.put("pinnedSites", pinned.stream().map(timer -> timer.getId().getTag("site")).sorted().toList());
+        }
+        return runtime;
+    }
+
+    private Random random(int user, int iteration) {
+        return new Random(settings.seed() * 1_000_003L + user * 10_007L + iteration);
+    }
+}
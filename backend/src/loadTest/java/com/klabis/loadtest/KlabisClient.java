@@ -0,0 +1,176 @@
+package com.klabis.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP client of one virtual user.
+ * <p>
+ * Logs in the way the web application does — form login followed by the OAuth2 authorization code flow — and then
+ * calls the API with the issued bearer token. Every user has its own cookie store, so sessions are not shared.
+ */
+final class KlabisClient {
+
+    static final String CLIENT_ID = "apispec";
+    static final String CLIENT_SECRET = "apispec";
+    static final String REDIRECT_URI = "https://localhost:8443/swagger-ui/oauth2-redirect.html";
+
+    private static final String HAL_FORMS = "application/prs.hal-forms+json";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_REDIRECTS = 5;
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final URI baseUri;
+    private final HttpClient http;
+    private String accessToken;
+
+    KlabisClient(URI baseUri) {
+        this.baseUri = baseUri;
+        this.http = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    boolean isLoggedIn() {
+        return accessToken != null;
+    }
+
+    /**
+     * Form login and authorization code exchange.
+     *
+     * @return status of the token response, or of the first step that did not behave as expected
+     */
+    int login(String username, String password) throws Exception {
+        String authorizeQuery = form(Map.of(
+                "response_type", "code",
+                "client_id", CLIENT_ID,
+                "scope", "openid",
+                "redirect_uri", REDIRECT_URI,
+                "state", username));
+        HttpResponse<Void> authorize = send(html(baseUri.resolve("/oauth2/authorize?" + authorizeQuery)).GET().build());
+        if (authorize.statusCode() != 302) {
+            return authorize.statusCode();
+        }
+
+        HttpResponse<Void> response = send(HttpRequest.newBuilder(baseUri.resolve("/login"))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form(Map.of("username", username, "password", password))))
+                .build());
+
+        for (int hop = 0; hop < MAX_REDIRECTS && response.statusCode() == 302; hop++) {
+            String location = response.headers().firstValue("Location").orElseThrow();
+            if (location.startsWith(REDIRECT_URI)) {
+                return exchangeCode(queryParameter(location, "code"));
+            }
+            if (location.contains("/login")) {
+                return 401;
+            }
+            response = send(html(baseUri.resolve(location)).GET().build());
+        }
+        return response.statusCode();
+    }
+
+    private int exchangeCode(String code) throws Exception {
+        String credentials = Base64.getEncoder()
+                .encodeToString((CLIENT_ID + ":" + CLIENT_SECRET).getBytes(StandardCharsets.UTF_8));
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(baseUri.resolve("/oauth2/token"))
+                        .timeout(TIMEOUT)
+                        .header("Authorization", "Basic " + credentials)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form(Map.of(
+                                "grant_type", "authorization_code",
+                                "code", code,
+                                "redirect_uri", REDIRECT_URI))))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+            accessToken = JSON.readTree(response.body()).get("access_token").asString();
+        }
+        return response.statusCode();
+    }
+
+    int get(String path) throws Exception {
+        return http.send(api(path).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    JsonNode getJson(String path) throws Exception {
+        HttpResponse<String> response = http.send(api(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET %s returned %d".formatted(path, response.statusCode()));
+        }
+        return JSON.readTree(response.body());
+    }
+
+    JsonNode postForJson(String path) throws Exception {
+        HttpResponse<String> response = http.send(api(path).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("POST %s returned %d".formatted(path, response.statusCode()));
+        }
+        return JSON.readTree(response.body());
+    }
+
+    int post(String path, Object body) throws Exception {
+        return http.send(api(path)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Unauthenticated GET of an absolute URL, e.g. an iCal subscription link carrying its own token.
+     */
+    int getUrl(URI url) throws Exception {
+        return http.send(HttpRequest.newBuilder(url).timeout(TIMEOUT).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder api(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Accept", HAL_FORMS)
+                .header("Authorization", "Bearer " + accessToken);
+    }
+
+    private HttpRequest.Builder html(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(TIMEOUT).header("Accept", "text/html");
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws Exception {
+        return http.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static String form(Map<String, String> parameters) {
+        return parameters.entrySet().stream()
+                .map(e -> e.getKey() + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String queryParameter(String url, String name) {
+        String query = URI.create(url).getRawQuery();
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        throw new IllegalStateException("Redirect %s has no '%s' parameter".formatted(url, name));
+    }
+}
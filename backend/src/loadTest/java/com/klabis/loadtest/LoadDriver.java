@@ -0,0 +1,104 @@
+package com.klabis.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+
+/**
+ * Closed-model load driver: every virtual user runs on its own virtual thread and issues its requests back to back.
+ * <p>
+ * All users are released at the same moment, so the first requests of a scenario form a burst, which is what
+ * registration openings and login storms look like in production. Latency of every request is recorded in an
+ * HdrHistogram with microsecond resolution.
+ */
+final class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    /**
+     * One request made by a virtual user.
+     */
+    @FunctionalInterface
+    interface UserRequest {
+
+        /**
+         * @return HTTP status of the response
+         */
+        int execute(int user, int iteration) throws Exception;
+    }
+
+    private LoadDriver() {
+    }
+
+    static ScenarioResult run(String name, int virtualUsers, int iterations, IntPredicate expectedStatus,
+                              UserRequest request) {
+        Histogram latencies = new ConcurrentHistogram(3);
+        LongAdder errors = new LongAdder();
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        log.info("Scenario '{}' starting: users={}, iterations={}", name, virtualUsers, iterations);
+        long elapsedNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> users = new ArrayList<>(virtualUsers);
+            for (int u = 0; u < virtualUsers; u++) {
+                int user = u;
+                users.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        long started = System.nanoTime();
+                        int status;
+                        try {
+                            status = request.execute(user, i);
+                        } catch (Exception e) {
+                            log.debug("Scenario '{}' request failed: user={}, error={}", name, user, e.toString());
+                            status = -1;
+                        }
+                        latencies.recordValue(Math.max(1, (System.nanoTime() - started) / 1_000));
+                        statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                        if (!expectedStatus.test(status)) {
+                            errors.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> user : users) {
+                user.get();
+            }
+            elapsedNanos = System.nanoTime() - started;
+        } catch (Exception e) {
+            throw new IllegalStateException("Scenario '%s' was interrupted".formatted(name), e);
+        }
+
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.get()));
+        ScenarioResult result = ScenarioResult.of(name, virtualUsers, latencies, errors.sum(),
+                Duration.ofNanos(elapsedNanos), statusCounts);
+        log.info("Scenario '{}' finished: requests={}, errors={}, p50={}ms, p95={}ms, p99={}ms, throughput={}/s",
+                name, result.requests(), result.errors(), result.p50(), result.p95(), result.p99(),
+                Math.round(result.throughput()));
+        return result;
+    }
+
+    static IntPredicate successful() {
+        return status -> status >= 200 && status < 400;
+    }
+}
@@ -0,0 +1,81 @@
+package com.klabis.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes scenario results as {@code load-test-report.md} for people and {@code load-test-report.json} for
+ * comparing runs in CI.
+ */
+final class LoadTestReport {
+
+    private LoadTestReport() {
+    }
+
+    /**
+     * @param reportDir where to write the report, {@link LoadTestSettings#reportDir()} or a subdirectory of it
+     * @param runtime   how the application ran, e.g. thread mode and pinning statistics
+     */
+    static void write(LoadTestSettings settings, Path reportDir, Map<String, Object> dataset,
+                      Map<String, Object> runtime, List<ScenarioResult> results) throws IOException {
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("load-test-report.md"), markdown(settings, dataset, runtime, results));
+        Files.writeString(reportDir.resolve("load-test-report.json"), json(settings, dataset, runtime, results));
+    }
+
+    private static String markdown(LoadTestSettings settings, Map<String, Object> dataset,
+                                   Map<String, Object> runtime, List<ScenarioResult> results) {
+        StringBuilder report = new StringBuilder()
+                .append("# Klabis load test\n\n")
+                .append("- generated: ").append(Instant.now()).append('\n')
+                .append("- virtual users: ").append(settings.users())
+                .append(", iterations per user: ").append(settings.iterations())
+                .append(", seed: ").append(settings.seed()).append('\n')
+                .append("- dataset: ").append(dataset).append('\n')
+                .append("- runtime: ").append(runtime).append("\n\n")
+                .append("| Scenario | Users | Requests | Errors | p50 ms | p95 ms | p99 ms | max ms | req/s | Statuses |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+        for (ScenarioResult result : results) {
+            report.append(String.format(Locale.ROOT,
+                    "| %s | %d | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %s |%n",
+                    result.name(), result.virtualUsers(), result.requests(), result.errors(),
+                    result.p50(), result.p95(), result.p99(), result.max(), result.throughput(), result.statuses()));
+        }
+        return report.toString();
+    }
+
+    private static String json(LoadTestSettings settings, Map<String, Object> dataset, Map<String, Object> runtime,
+                               List<ScenarioResult> results) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("generatedAt", Instant.now().toString());
+        document.put("users", settings.users());
+        document.put("iterations", settings.iterations());
+        document.put("seed", settings.seed());
+        document.put("dataset", dataset);
+        document.put("runtime", runtime);
+        document.put("scenarios", results.stream().map(result -> {
+            Map<String, Object> scenario = new LinkedHashMap<>();
+            scenario.put("name", result.name());
+            scenario.put("virtualUsers", result.virtualUsers());
+            scenario.put("requests", result.requests());
+            scenario.put("errors", result.errors());
+            scenario.put("elapsedMs", result.elapsed().toMillis());
+            scenario.put("throughput", result.throughput());
+            scenario.put("p50Ms", result.p50());
+            scenario.put("p95Ms", result.p95());
+            scenario.put("p99Ms", result.p99());
+            scenario.put("maxMs", result.max());
+            scenario.put("statuses", result.statuses());
+            return scenario;
+        }).toList());
+        return JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsString(document);
+    }
+}
@@ -0,0 +1,28 @@
+package com.klabis.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * Scenario sizes and thresholds, read from {@code klabis.load-test.*} system properties.
+ * <p>
+ * The Gradle {@code loadTest} task forwards {@code -Pload-test.<name>=<value>} project properties, e.g.
+ * {@code ./gradlew loadTest -Pload-test.users=500}.
+ */
+record LoadTestSettings(
+        int users,
+        int iterations,
+        long seed,
+        double maxErrorRate,
+        Path reportDir) {
+
+    private static final String PREFIX = "klabis.load-test.";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger(PREFIX + "users", 200),
+                Integer.getInteger(PREFIX + "iterations", 20),
+                Long.getLong(PREFIX + "seed", 42L),
+                Double.parseDouble(System.getProperty(PREFIX + "max-error-rate", "0.01")),
+                Path.of(System.getProperty(PREFIX + "report-dir", "build/reports/load-test")));
+    }
+}
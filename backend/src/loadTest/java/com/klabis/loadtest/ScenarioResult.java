@@ -0,0 +1,45 @@
+package com.klabis.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of one load-test scenario: latency percentiles in milliseconds, throughput and response statuses.
+ */
+record ScenarioResult(
+        String name,
+        int virtualUsers,
+        long requests,
+        long errors,
+        Duration elapsed,
+        double p50,
+        double p95,
+        double p99,
+        double max,
+        Map<Integer, Long> statuses) {
+
+    static ScenarioResult of(String name, int virtualUsers, Histogram latenciesMicros, long errors, Duration elapsed,
+                             Map<Integer, Long> statuses) {
+        return new ScenarioResult(name, virtualUsers, latenciesMicros.getTotalCount(), errors, elapsed,
+                millis(latenciesMicros.getValueAtPercentile(50)),
+                millis(latenciesMicros.getValueAtPercentile(95)),
+                millis(latenciesMicros.getValueAtPercentile(99)),
+                millis(latenciesMicros.getMaxValue()),
+                statuses);
+    }
+
+    double throughput() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : requests / seconds;
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.klabis.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * The scenarios of {@link ApiLoadTest} with Tomcat, async tasks, schedulers and module listeners on virtual
+ * threads, against a fresh database seeded the same way. The report goes to {@code build/reports/load-test/
+ * virtual-threads} and adds the pinning recorded by {@code VirtualThreadPinningRecorder}, so both runs can be
+ * compared side by side.
+ */
+@DisplayName("API load test on virtual threads")
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsApiLoadTest extends ApiLoadTest {
+}
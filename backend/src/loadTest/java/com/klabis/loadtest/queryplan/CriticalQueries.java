@@ -0,0 +1,164 @@
+package com.klabis.loadtest.queryplan;
+
+import com.klabis.events.application.EventScheduleQuery;
+import com.klabis.events.domain.EventFilter;
+import com.klabis.events.domain.EventRepository;
+import com.klabis.finance.domain.MemberAccountRepository;
+import com.klabis.finance.domain.TransactionType;
+import com.klabis.members.MemberId;
+import com.klabis.members.domain.MemberFilter;
+import com.klabis.members.domain.MemberRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Registry of queries whose execution plans must not regress.
+ * <p>
+ * Every entry calls a real repository or query port the way the application does (same filters, page sizes and
+ * sort orders as the REST API defaults), so a refactor of the SQL is checked without touching this class. Cost
+ * limits are relative to a full scan of the table the query is about, which keeps them meaningful when the
+ * synthetic dataset is resized.
+ * <p>
+ * Queries that cannot use a B-tree index by design — substring fulltext search — are registered with a cost limit
+ * only, so that they at least cannot get worse than one pass over their table.
+ */
+final class CriticalQueries {
+
+    /**
+     * Ports the critical queries are issued through.
+     */
+    record Ports(EventRepository events, EventScheduleQuery eventSchedule, MemberAccountRepository memberAccounts,
+                 MemberRepository members) {
+    }
+
+    /**
+     * Parameters picked from the generated dataset, and full-scan costs of its large tables.
+     */
+    record Fixtures(LocalDate today, MemberId registeredMember, MemberId coordinator, MemberId accountHolder,
+                    String memberSearchToken, Map<String, Double> fullScanCosts) {
+
+        double fullScanCost(String table) {
+            Double cost = fullScanCosts.get(table);
+            if (cost == null) {
+                throw new IllegalArgumentException("No full scan cost measured for table " + table);
+            }
+            return cost;
+        }
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        void run(Ports ports, Fixtures fixtures) throws Exception;
+    }
+
+    record CriticalQuery(String name, Operation operation, BiConsumer<QueryPlansAssert, Fixtures> expectation) {
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static final String EVENTS = "events.events";
+    static final String REGISTRATIONS = "events.event_registrations";
+    static final String TRANSACTIONS = "finance.finance_transaction";
+    static final String MEMBERS = "members.members";
+    static final String MEMBER_SCHEDULE = "events.member_schedule";
+
+    static final List<String> MEASURED_TABLES = List.of(EVENTS, REGISTRATIONS, TRANSACTIONS, MEMBERS,
+            MEMBER_SCHEDULE);
+
+    private static final PageRequest EVENT_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "eventDate"));
+    private static final PageRequest TRANSACTION_PAGE =
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "occurredAt"));
+    private static final PageRequest MEMBER_PAGE = PageRequest.of(0, 10, Sort.by("lastName", "firstName"));
+
+    private CriticalQueries() {
+    }
+
+    static List<CriticalQuery> all() {
+        return List.of(
+                new CriticalQuery("event list filtered by date range",
+                        (ports, fixtures) -> ports.events().findAll(
+                                EventFilter.byDateRange(fixtures.today(), fixtures.today().plusDays(7)), EVENT_PAGE),
+                        (plans, fixtures) -> plans
+                                .usesIndex("idx_events_event_date")
+                                .hasNoSequentialScanOn("events", "event_registrations")
+                                .hasTotalCostAtMost(fixtures.fullScanCost(EVENTS) / 2)),
+
+                new CriticalQuery("event list filtered by coordinator",
+                        (ports, fixtures) -> ports.events().findAll(
+                                new EventFilter(Set.of(), null, null, null, null, null, fixtures.coordinator(),
+                                        null, null, null),
+                                EVENT_PAGE),
+                        (plans, fixtures) -> plans
+                                .usesIndex("idx_events_event_coordinator_id")
+                                .hasNoSequentialScanOn("events", "event_registrations")
+                                .hasTotalCostAtMost(fixtures.fullScanCost(EVENTS) / 4)),
+
+                new CriticalQuery("event list filtered by registered member",
+                        (ports, fixtures) -> ports.events().findAll(
+                                new EventFilter(Set.of(), null, null, null, null, fixtures.registeredMember(), null,
+                                        null, null, null),
+                                EVENT_PAGE),
+                        (plans, fixtures) -> plans
+                                .usesIndex("idx_event_registrations_member_id")
+                                .hasNoSequentialScanOn("event_registrations")
+                                .hasTotalCostAtMost(fixtures.fullScanCost(REGISTRATIONS) / 2)),
+
+                new CriticalQuery("member schedule (iCal feed window)",
+                        (ports, fixtures) -> ports.eventSchedule().findMemberSchedule(
+                                fixtures.registeredMember(), fixtures.today().minusDays(30),
+                                fixtures.today().plusMonths(12)),
+                        (plans, fixtures) -> plans
+                                .usesIndex("pk_member_schedule")
+                                .hasNoSequentialScanOn("member_schedule", "events", "event_registrations")
+                                .hasTotalCostAtMost(fixtures.fullScanCost(MEMBER_SCHEDULE) / 4)),
+
+                new CriticalQuery("already imported ORIS ids",
+                        (ports, fixtures) -> ports.events().findImportedOrisIds(
+                                IntStream.rangeClosed(9_000, 9_100).boxed().toList()),
+                        (plans, fixtures) -> plans
+                                .hasNoSequentialScanOn("events")
+                                .hasTotalCostAtMost(fixtures.fullScanCost(EVENTS) / 4)),
+
+                new CriticalQuery("upcoming ORIS events",
+                        (ports, fixtures) -> ports.events().findAllUpcomingOrisEvents(fixtures.today()),
+                        (plans, fixtures) -> plans
+                                .hasNoSequentialScanOn("events", "event_registrations")
+                                .hasTotalCostAtMost(fixtures.fullScanCost(EVENTS) / 2)),
+
+                new CriticalQuery("member account transactions",
+                        (ports, fixtures) -> ports.memberAccounts().findTransactions(
+                                fixtures.accountHolder(), null, null, null, TRANSACTION_PAGE),
+                        (plans, fixtures) -> plans
+                                .usesIndex("idx_finance_transaction_account_occurred")
+                                .hasNoSequentialScanOn("finance_transaction")
+                                .hasTotalCostAtMost(fixtures.fullScanCost(TRANSACTIONS) / 4)),
+
+                new CriticalQuery("member account transactions filtered by period and type",
+                        (ports, fixtures) -> ports.memberAccounts().findTransactions(
+                                fixtures.accountHolder(), fixtures.today().minusYears(1), fixtures.today(),
+                                TransactionType.DEPOSIT, TRANSACTION_PAGE),
+                        (plans, fixtures) -> plans
+                                .usesIndex("idx_finance_transaction_account_occurred")
+                                .hasNoSequentialScanOn("finance_transaction")
+                                .hasTotalCostAtMost(fixtures.fullScanCost(TRANSACTIONS) / 4)),
+
+                new CriticalQuery("member search by name",
+                        (ports, fixtures) -> ports.members().findAll(
+                                MemberFilter.activeOnly().withFulltext(fixtures.memberSearchToken()), MEMBER_PAGE),
+                        // substring match on unaccented names reads the whole table; unaccent() is not immutable,
+                        // so an expression index is not possible without changing the query
+                        (plans, fixtures) -> plans
+                                .hasTotalCostAtMost(fixtures.fullScanCost(MEMBERS) * 2))
+        );
+    }
+}
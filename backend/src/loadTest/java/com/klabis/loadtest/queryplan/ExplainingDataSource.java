@@ -0,0 +1,170 @@
+package com.klabis.loadtest.queryplan;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * DataSource decorator that asks PostgreSQL for the plan of every query executed while {@link #explain} runs.
+ *
+ * <p>Before a {@code SELECT} is executed, the same SQL prefixed with {@code EXPLAIN (FORMAT JSON)} is prepared on
+ * the same connection and the parameter setters recorded on the original statement are replayed on it. The plan
+ * therefore belongs to exactly the statement and bind values the application produced — the registry of critical
+ * queries calls the real repositories instead of copying their SQL. Outside {@link #explain} the decorator only
+ * forwards calls.
+ */
+final class ExplainingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery");
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final ThreadLocal<List<QueryPlan>> PLANS = new ThreadLocal<>();
+
+    private record ParameterSetter(Method method, Object[] args) {
+    }
+
+    @FunctionalInterface
+    interface QueryCode {
+        void run() throws Exception;
+    }
+
+    private ExplainingDataSource() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+    }
+
+    /**
+     * Runs the given code and returns the plans of all queries it executed on the current thread, in order.
+     */
+    static List<QueryPlan> explain(QueryCode code) throws Exception {
+        List<QueryPlan> plans = new ArrayList<>();
+        PLANS.set(plans);
+        try {
+            code.run();
+            return plans;
+        } finally {
+            PLANS.remove();
+        }
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return wrapPreparedStatement(statement, target, (String) args[0]);
+            }
+            if (result instanceof Statement statement && !(result instanceof PreparedStatement)) {
+                return wrapStatement(statement, target);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrapPreparedStatement(PreparedStatement statement, Connection connection,
+                                                           String sql) {
+        List<ParameterSetter> parameters = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+            if (isParameterSetter(method, args)) {
+                parameters.add(new ParameterSetter(method, args));
+            } else if (method.getName().equals("clearParameters")) {
+                parameters.clear();
+            } else if (EXECUTE_METHODS.contains(method.getName()) && args == null) {
+                recordPlan(connection, sql, parameters);
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement, Connection connection) {
+        return proxy(Statement.class, statement, (target, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName()) && args != null && args.length == 1
+                && args[0] instanceof String sql) {
+                recordPlan(connection, sql, List.of());
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static boolean isParameterSetter(Method method, Object[] args) {
+        return method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer;
+    }
+
+    private static void recordPlan(Connection connection, String sql, List<ParameterSetter> parameters)
+            throws Throwable {
+        List<QueryPlan> plans = PLANS.get();
+        if (plans == null || !isQuery(sql)) {
+            return;
+        }
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+            for (ParameterSetter parameter : parameters) {
+                invoke(explain, parameter.method(), parameter.args());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException("EXPLAIN returned no plan for: " + sql);
+                }
+                JsonNode document = JSON.readTree(resultSet.getString(1));
+                plans.add(new QueryPlan(sql, document.get(0).get("Plan")));
+            }
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("with");
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            if (method.getName().equals("unwrap") && args != null && args[0] instanceof Class<?> iface
+                && iface.isInstance(proxy)) {
+                return proxy;
+            }
+            return handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(ExplainingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.klabis.loadtest.queryplan;
+
+import tools.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * PostgreSQL execution plan of one statement, as returned by {@code EXPLAIN (FORMAT JSON)}.
+ *
+ * @param sql  the explained statement
+ * @param root the top {@code Plan} node
+ */
+record QueryPlan(String sql, JsonNode root) {
+
+    /**
+     * Planner's estimated total cost of the statement, in PostgreSQL cost units.
+     */
+    double totalCost() {
+        return root.path("Total Cost").asDouble();
+    }
+
+    /**
+     * Names of all indexes the plan reads (index, index-only and bitmap index scans).
+     */
+    Set<String> indexNames() {
+        Set<String> names = new TreeSet<>();
+        for (JsonNode node : nodes()) {
+            if (node.has("Index Name")) {
+                names.add(node.path("Index Name").asString());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Names of all tables the plan reads with a sequential scan.
+     */
+    Set<String> sequentiallyScannedTables() {
+        Set<String> tables = new TreeSet<>();
+        for (JsonNode node : nodes()) {
+            if ("Seq Scan".equals(node.path("Node Type").asString())) {
+                tables.add(node.path("Relation Name").asString());
+            }
+        }
+        return tables;
+    }
+
+    List<JsonNode> nodes() {
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(root, nodes);
+        return nodes;
+    }
+
+    /**
+     * Plan tree in a compact, EXPLAIN-like text form for failure messages.
+     */
+    String describe() {
+        StringBuilder text = new StringBuilder(sql.strip().replaceAll("\\s+", " ")).append('\n');
+        describe(root, 1, text);
+        return text.toString();
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        JsonNode children = node.path("Plans");
+        for (int i = 0; i < children.size(); i++) {
+            collect(children.get(i), nodes);
+        }
+    }
+
+    private static void describe(JsonNode node, int depth, StringBuilder text) {
+        text.append("  ".repeat(depth)).append("-> ").append(node.path("Node Type").asString());
+        if (node.has("Index Name")) {
+            text.append(" using ").append(node.path("Index Name").asString());
+        }
+        if (node.has("Relation Name")) {
+            text.append(" on ").append(node.path("Relation Name").asString());
+        }
+        text.append(String.format(Locale.ROOT, "  (cost=%.2f rows=%d)%n",
+                node.path("Total Cost").asDouble(), node.path("Plan Rows").asLong()));
+        JsonNode children = node.path("Plans");
+        for (int i = 0; i < children.size(); i++) {
+            describe(children.get(i), depth + 1, text);
+        }
+    }
+}
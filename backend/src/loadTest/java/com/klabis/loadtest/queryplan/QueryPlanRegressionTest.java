@@ -0,0 +1,143 @@
+package com.klabis.loadtest.queryplan;
+
+import com.klabis.common.bootstrap.synthetic.SyntheticDataProperties;
+import com.klabis.events.application.EventScheduleQuery;
+import com.klabis.events.domain.EventRepository;
+import com.klabis.finance.domain.MemberAccountRepository;
+import com.klabis.loadtest.queryplan.CriticalQueries.CriticalQuery;
+import com.klabis.loadtest.queryplan.CriticalQueries.Fixtures;
+import com.klabis.loadtest.queryplan.CriticalQueries.Ports;
+import com.klabis.members.MemberId;
+import com.klabis.members.domain.MemberRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Checks the PostgreSQL execution plans of {@link CriticalQueries} against a synthetic dataset.
+ * <p>
+ * The dataset is generated by the synthetic-data profile with a fixed seed and anchor date and analyzed before the
+ * plans are taken, so the planner sees the same statistics on every run. A failure prints the offending plan.
+ * <p>
+ * Run with {@code ./gradlew queryPlanTest} (requires Docker).
+ */
+@DisplayName("Query plan regression")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "klabis.synthetic-data.anchor-date=2026-03-01",
+        "klabis.synthetic-data.members=3000",
+        "klabis.synthetic-data.events=20000",
+        "klabis.synthetic-data.registrations=200000",
+        "klabis.synthetic-data.transactions=100000",
+        "klabis.synthetic-data.fee-years=1"
+})
+@ActiveProfiles({"postgresql", "synthetic-data", "loadtest"})
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    @TestConfiguration
+    static class ExplainingDataSourceConfiguration {
+
+        @Bean
+        static BeanPostProcessor explainingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? ExplainingDataSource.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SyntheticDataProperties syntheticData;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventScheduleQuery eventScheduleQuery;
+
+    @Autowired
+    private MemberAccountRepository memberAccountRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Ports ports;
+    private Fixtures fixtures;
+
+    @BeforeAll
+    void analyzeDataset() {
+        jdbcTemplate.execute("ANALYZE");
+
+        Map<String, Double> fullScanCosts = new LinkedHashMap<>();
+        for (String table : CriticalQueries.MEASURED_TABLES) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) SELECT * FROM " + table, String.class);
+            fullScanCosts.put(table, JSON.readTree(plan).get(0).get("Plan").get("Total Cost").asDouble());
+        }
+
+        ports = new Ports(eventRepository, eventScheduleQuery, memberAccountRepository, memberRepository);
+        fixtures = new Fixtures(
+                syntheticData.getAnchorDate(),
+                memberId("""
+                        SELECT member_id FROM events.event_registrations
+                        GROUP BY member_id ORDER BY COUNT(*) DESC, member_id LIMIT 1"""),
+                memberId("""
+                        SELECT event_coordinator_id FROM events.events
+                        WHERE event_coordinator_id IS NOT NULL ORDER BY event_coordinator_id LIMIT 1"""),
+                memberId("""
+                        SELECT member_account_id FROM finance.finance_transaction
+                        GROUP BY member_account_id ORDER BY COUNT(*) DESC, member_account_id LIMIT 1"""),
+                jdbcTemplate.queryForObject("""
+                        SELECT last_name FROM members.members
+                        WHERE created_by = 'synthetic-data' ORDER BY registration_number LIMIT 1""", String.class),
+                fullScanCosts);
+    }
+
+    static List<CriticalQuery> criticalQueries() {
+        return CriticalQueries.all();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("criticalQueries")
+    @DisplayName("critical query keeps its plan")
+    void criticalQueryKeepsItsPlan(CriticalQuery query) throws Exception {
+        List<QueryPlan> plans = ExplainingDataSource.explain(() -> query.operation().run(ports, fixtures));
+
+        query.expectation().accept(QueryPlansAssert.assertThat(plans).as(query.name()).hasQueries(), fixtures);
+    }
+
+    private MemberId memberId(String sql) {
+        return new MemberId(jdbcTemplate.queryForObject(sql, UUID.class));
+    }
+}
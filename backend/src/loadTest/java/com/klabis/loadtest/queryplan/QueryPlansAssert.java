@@ -0,0 +1,78 @@
+package com.klabis.loadtest.queryplan;
+
+import org.assertj.core.api.AbstractAssert;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Assertions on the plans of all queries executed by one critical operation.
+ *
+ * <pre>{@code
+ * QueryPlansAssert.assertThat(ExplainingDataSource.explain(() -> eventScheduleQuery.findEventIdsForMemberSchedule(...)))
+ *         .usesIndex("idx_event_registrations_member_id")
+ *         .hasNoSequentialScanOn("event_registrations")
+ *         .hasTotalCostAtMost(1_000);
+ * }</pre>
+ *
+ * <p>Table conditions hold for every statement; {@link #usesIndex} requires the index in at least one of them,
+ * so child-collection loads of an aggregate do not have to repeat it.
+ */
+class QueryPlansAssert extends AbstractAssert<QueryPlansAssert, List<QueryPlan>> {
+
+    private QueryPlansAssert(List<QueryPlan> actual) {
+        super(actual, QueryPlansAssert.class);
+    }
+
+    static QueryPlansAssert assertThat(List<QueryPlan> actual) {
+        return new QueryPlansAssert(actual);
+    }
+
+    QueryPlansAssert hasQueries() {
+        isNotNull();
+        if (actual.isEmpty()) {
+            failWithMessage("Expected the operation to execute at least one query but it executed none");
+        }
+        return this;
+    }
+
+    QueryPlansAssert usesIndex(String indexName) {
+        hasQueries();
+        if (actual.stream().noneMatch(plan -> plan.indexNames().contains(indexName))) {
+            failWithMessage("Expected a plan using index <%s> but none did:%n%s", indexName, describeAll());
+        }
+        return this;
+    }
+
+    QueryPlansAssert hasNoSequentialScanOn(String... tables) {
+        hasQueries();
+        for (QueryPlan plan : actual) {
+            List<String> scanned = Arrays.stream(tables)
+                    .filter(plan.sequentiallyScannedTables()::contains)
+                    .toList();
+            if (!scanned.isEmpty()) {
+                failWithMessage("Expected no sequential scan on %s but the plan scans %s:%n%s",
+                        Arrays.toString(tables), scanned, plan.describe());
+            }
+        }
+        return this;
+    }
+
+    QueryPlansAssert hasTotalCostAtMost(double maxCost) {
+        hasQueries();
+        for (QueryPlan plan : actual) {
+            if (plan.totalCost() > maxCost) {
+                failWithMessage("%s", String.format(Locale.ROOT,
+                        "Expected estimated cost of at most %.0f but it is %.0f:%n%s",
+                        maxCost, plan.totalCost(), plan.describe()));
+            }
+        }
+        return this;
+    }
+
+    private String describeAll() {
+        return actual.stream().map(QueryPlan::describe).collect(Collectors.joining("\n"));
+    }
+}
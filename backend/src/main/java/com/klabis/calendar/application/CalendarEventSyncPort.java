@@ -7,30 +7,38 @@ import org.jmolecules.architecture.hexagonal.PrimaryPort;
  * Primary port for synchronizing calendar items with event lifecycle.
  * <p>
  * This port defines the interface for event-driven calendar synchronization.
- * Primary adapters (event handlers) depend on this port to trigger
- * calendar updates when events change.
+ * Primary adapters (event handlers) depend on this port to request
+ * calendar updates when events change; requests for the same event are
+ * coalesced and carried out later by {@link #synchronizePending()}.
  */
 @PrimaryPort
 public interface CalendarEventSyncPort {
 
     /**
-     * Creates a calendar item for a published event.
+     * Requests calendar items for a published event.
      *
      * @param eventId the event ID
      */
     void handleEventPublished(EventId eventId);
 
     /**
-     * Updates a calendar item when an event is modified.
+     * Requests an update of calendar items when an event is modified.
      *
      * @param eventId the event ID
      */
     void handleEventUpdated(EventId eventId);
 
     /**
-     * Deletes a calendar item when an event is cancelled.
+     * Requests deletion of calendar items when an event is cancelled.
      *
      * @param eventId the event ID
      */
     void handleEventCancelled(EventId eventId);
+
+    /**
+     * Synchronises one batch of events whose requests are due.
+     *
+     * @return number of events synchronised; 0 when nothing is due
+     */
+    int synchronizePending();
 }
@@ -1,6 +1,8 @@
 package com.klabis.calendar.application;
 
 import com.klabis.calendar.CalendarItemKind;
+import com.klabis.calendar.application.CalendarSyncRequest.Action;
+import com.klabis.calendar.domain.CalendarItem;
 import com.klabis.calendar.domain.CalendarRepository;
 import com.klabis.calendar.domain.EventCalendarItem;
 import com.klabis.events.EventData;
@@ -10,13 +12,26 @@ import org.jmolecules.ddd.annotation.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Keeps event calendar items in line with their events.
+ * <p>
+ * Event lifecycle notifications are only recorded in the {@link CalendarSyncQueue}, which keeps one entry per
+ * event. {@link #synchronizePending()} later reconciles due events in batches: event data and existing items of the
+ * whole batch are loaded with one query each, and the resulting inserts, updates and deletes are written in bulk.
+ * An ORIS import that updates an event many times within seconds therefore costs a single reconciliation.
+ */
 @Service
 public class CalendarEventSyncService implements CalendarEventSyncPort {
 
@@ -24,42 +39,109 @@ public class CalendarEventSyncService implements CalendarEventSyncPort {
 
     private final CalendarRepository calendarRepository;
     private final EventDataProvider eventDataProvider;
+    private final CalendarSyncQueue syncQueue;
+    private final CalendarSyncProperties properties;
+    private final TransactionOperations transactions;
+    private final Clock clock;
 
     public CalendarEventSyncService(
             CalendarRepository calendarRepository,
-            EventDataProvider eventDataProvider) {
+            EventDataProvider eventDataProvider,
+            CalendarSyncQueue syncQueue,
+            CalendarSyncProperties properties,
+            TransactionOperations transactions,
+            Clock clock) {
         this.calendarRepository = calendarRepository;
         this.eventDataProvider = eventDataProvider;
+        this.syncQueue = syncQueue;
+        this.properties = properties;
+        this.transactions = transactions;
+        this.clock = clock;
     }
 
     @Transactional
     public void handleEventPublished(EventId eventId) {
-        log.info("Reconciling calendar items for published event: {}", eventId);
-        reconcile(eventId);
-        log.info("Calendar items reconciled for published event: {}", eventId);
+        log.debug("Calendar synchronisation requested for published event: {}", eventId);
+        syncQueue.request(eventId, Action.RECONCILE, clock.instant());
     }
 
     @Transactional
     public void handleEventUpdated(EventId eventId) {
-        log.info("Reconciling calendar items for updated event: {}", eventId);
-        reconcile(eventId);
-        log.info("Calendar items reconciled for updated event: {}", eventId);
+        log.debug("Calendar synchronisation requested for updated event: {}", eventId);
+        syncQueue.request(eventId, Action.RECONCILE, clock.instant());
     }
 
     @Transactional
     public void handleEventCancelled(EventId eventId) {
-        log.info("Deleting all calendar items for cancelled event: {}", eventId);
+        log.debug("Calendar item removal requested for cancelled event: {}", eventId);
+        syncQueue.request(eventId, Action.REMOVE, clock.instant());
+    }
 
-        List<EventCalendarItem> items = findEventCalendarItems(eventId);
-        items.forEach(calendarRepository::delete);
+    @Override
+    public int synchronizePending() {
+        Instant now = clock.instant();
+        List<CalendarSyncRequest> batch = syncQueue.claimDue(
+                now.minus(properties.getQuietPeriod()),
+                now.minus(properties.getMaxDelay()),
+                now,
+                now.plus(properties.getLease()),
+                properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
 
-        log.info("Deleted {} calendar item(s) for cancelled event: {}", items.size(), eventId);
+        transactions.executeWithoutResult(status -> {
+            synchronize(batch);
+            syncQueue.complete(batch);
+        });
+        log.info("Calendar items synchronised for {} event(s)", batch.size());
+        return batch.size();
     }
 
-    private void reconcile(EventId eventId) {
-        EventData event = eventDataProvider.getEventData(eventId);
+    void synchronize(Collection<CalendarSyncRequest> requests) {
+        Set<EventId> eventIds = requests.stream().map(CalendarSyncRequest::eventId).collect(Collectors.toSet());
+        Set<EventId> toReconcile = requests.stream()
+                .filter(request -> request.action() == Action.RECONCILE)
+                .map(CalendarSyncRequest::eventId)
+                .collect(Collectors.toSet());
+
+        Map<EventId, EventData> events = toReconcile.isEmpty()
+                ? Map.of()
+                : eventDataProvider.getEventData(toReconcile);
+        Map<EventId, List<EventCalendarItem>> existingByEvent = calendarRepository.findByEventIds(eventIds).stream()
+                .filter(EventCalendarItem.class::isInstance)
+                .map(EventCalendarItem.class::cast)
+                .collect(Collectors.groupingBy(EventCalendarItem::getEventId));
+
+        List<CalendarItem> toSave = new ArrayList<>();
+        List<CalendarItem> toDelete = new ArrayList<>();
+        for (CalendarSyncRequest request : requests) {
+            EventId eventId = request.eventId();
+            List<EventCalendarItem> existing = existingByEvent.getOrDefault(eventId, List.of());
+            EventData event = events.get(eventId);
+            if (request.action() == Action.REMOVE || event == null) {
+                if (request.action() == Action.RECONCILE) {
+                    log.warn("Event {} no longer exists, removing its calendar items", eventId);
+                }
+                toDelete.addAll(existing);
+            } else {
+                reconcile(eventId, event, existing, toSave, toDelete);
+            }
+        }
 
-        Map<CalendarItemKind, EventCalendarItem> existingByKind = findEventCalendarItems(eventId).stream()
+        if (!toSave.isEmpty()) {
+            calendarRepository.saveAll(toSave);
+        }
+        if (!toDelete.isEmpty()) {
+            calendarRepository.deleteAll(toDelete);
+        }
+        log.debug("Calendar sync batch: events={}, saved={}, deleted={}", requests.size(), toSave.size(),
+                toDelete.size());
+    }
+
+    private void reconcile(EventId eventId, EventData event, List<EventCalendarItem> existing,
+                           List<CalendarItem> toSave, List<CalendarItem> toDelete) {
+        Map<CalendarItemKind, EventCalendarItem> existingByKind = existing.stream()
                 .collect(Collectors.toMap(EventCalendarItem::getKind, item -> item));
 
         Set<CalendarItemKind> expectedKinds = EnumSet.of(CalendarItemKind.EVENT_DATE);
@@ -68,16 +150,16 @@ public class CalendarEventSyncService implements CalendarEventSyncPort {
         }
 
         for (CalendarItemKind kind : expectedKinds) {
-            EventCalendarItem existing = existingByKind.remove(kind);
-            if (existing != null) {
-                existing.synchronizeFromEvent(event);
-                calendarRepository.save(existing);
+            EventCalendarItem item = existingByKind.remove(kind);
+            if (item != null) {
+                item.synchronizeFromEvent(event);
+                toSave.add(item);
             } else {
-                calendarRepository.save(createItem(kind, event, eventId));
+                toSave.add(createItem(kind, event, eventId));
             }
         }
 
-        existingByKind.values().forEach(calendarRepository::delete);
+        toDelete.addAll(existingByKind.values());
     }
 
     private EventCalendarItem createItem(CalendarItemKind kind, EventData event, EventId eventId) {
@@ -95,11 +177,4 @@ public class CalendarEventSyncService implements CalendarEventSyncPort {
             default -> throw new IllegalArgumentException("Unexpected event calendar item kind: " + kind);
         };
     }
-
-    private List<EventCalendarItem> findEventCalendarItems(EventId eventId) {
-        return calendarRepository.findByEventId(eventId).stream()
-                .filter(EventCalendarItem.class::isInstance)
-                .map(EventCalendarItem.class::cast)
-                .toList();
-    }
 }
@@ -0,0 +1,64 @@
+package com.klabis.calendar.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Coalescing of event changes before calendar synchronisation (klabis.calendar.sync.*).
+ */
+@ConfigurationProperties(prefix = "klabis.calendar.sync")
+class CalendarSyncProperties {
+
+    /**
+     * An event is synchronised once it has not changed for this long.
+     */
+    private Duration quietPeriod = Duration.ofSeconds(2);
+
+    /**
+     * Upper bound of the delay for an event that keeps changing.
+     */
+    private Duration maxDelay = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of events synchronised in one transaction.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long claimed events are hidden from other nodes; a failed batch is retried after it expires.
+     */
+    private Duration lease = Duration.ofMinutes(5);
+
+    public Duration getQuietPeriod() {
+        return quietPeriod;
+    }
+
+    public void setQuietPeriod(Duration quietPeriod) {
+        this.quietPeriod = quietPeriod;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+}
@@ -0,0 +1,39 @@
+package com.klabis.calendar.application;
+
+import com.klabis.events.EventId;
+import org.jmolecules.architecture.hexagonal.SecondaryPort;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Secondary port for pending calendar synchronisation, kept as one entry per event.
+ * <p>
+ * Requesting the synchronisation of an event that is already waiting only updates the entry, so the number of
+ * entries - and the synchronisation work - is bounded by the number of distinct events, not by the number of
+ * domain events emitted for them.
+ */
+@SecondaryPort
+public interface CalendarSyncQueue {
+
+    /**
+     * Records that the calendar items of the event need the given action; replaces a pending action of the same event.
+     */
+    void request(EventId eventId, CalendarSyncRequest.Action action, Instant now);
+
+    /**
+     * Claims entries that are due: their event has not changed since {@code quietSince}, or has been waiting since
+     * {@code overdueSince}. Claimed entries are hidden from other nodes until {@code leaseUntil}.
+     *
+     * @return claimed entries, at most {@code limit}
+     */
+    List<CalendarSyncRequest> claimDue(Instant quietSince, Instant overdueSince, Instant now, Instant leaseUntil,
+                                       int limit);
+
+    /**
+     * Removes synchronised entries. Entries whose event was requested again after they had been claimed are kept
+     * and released, so the newer change is synchronised as well.
+     */
+    void complete(Collection<CalendarSyncRequest> requests);
+}
@@ -0,0 +1,26 @@
+package com.klabis.calendar.application;
+
+import com.klabis.events.EventId;
+
+import java.time.Instant;
+
+/**
+ * Pending synchronisation of the calendar items of one event.
+ *
+ * @param eventId         the event
+ * @param action          latest requested action
+ * @param lastRequestedAt time of the latest request, used to detect requests made while the entry was processed
+ */
+public record CalendarSyncRequest(EventId eventId, Action action, Instant lastRequestedAt) {
+
+    public enum Action {
+        /**
+         * Create, update or delete items so that they match the event.
+         */
+        RECONCILE,
+        /**
+         * Delete all items of the event.
+         */
+        REMOVE
+    }
+}
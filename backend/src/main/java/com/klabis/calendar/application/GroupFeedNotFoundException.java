@@ -0,0 +1,15 @@
+package com.klabis.calendar.application;
+
+import com.klabis.common.exceptions.ResourceNotFoundException;
+
+import java.util.UUID;
+
+/**
+ * Thrown for group calendar feeds the caller may not see; non-members get the same answer as for an unknown group.
+ */
+public class GroupFeedNotFoundException extends ResourceNotFoundException {
+
+    public GroupFeedNotFoundException(UUID groupId) {
+        super("Calendar feed not found for group with ID: " + groupId);
+    }
+}
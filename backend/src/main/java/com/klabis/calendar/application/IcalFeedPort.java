@@ -1,11 +1,15 @@
 package com.klabis.calendar.application;
 
-import com.klabis.events.domain.Event;
+import com.klabis.calendar.domain.CalendarItem;
+import com.klabis.events.EventId;
+import com.klabis.events.domain.EventStatus;
 import com.klabis.members.MemberId;
 import org.jmolecules.architecture.hexagonal.PrimaryPort;
+import org.jspecify.annotations.Nullable;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @PrimaryPort
 public interface IcalFeedPort {
@@ -16,9 +20,39 @@ public interface IcalFeedPort {
      * The window is computed from {@code now}: [{@code now - past}, {@code now + future}]
      * where past and future are configured via {@code klabis.ical.window.*} properties.
      *
-     * @return events paired with whether the member is the coordinator for each
+     * @return events ordered by date, each with the data needed to render it and whether the member is its coordinator
      */
     List<EventScheduleEntry> getMySchedule(MemberId memberId, LocalDate now);
 
-    record EventScheduleEntry(Event event, boolean isCoordinator) {}
+    /**
+     * Retrieves all calendar items (manual and event-linked) within the default feed window, ordered by start date.
+     * The result is the same for every subscriber.
+     */
+    List<CalendarItem> getClubCalendar(LocalDate now);
+
+    /**
+     * Retrieves the event date items of events within the default feed window that at least one owner or member of
+     * the group is registered for or coordinates. The result is the same for every subscriber of the group.
+     *
+     * @throws GroupFeedNotFoundException when the group does not exist (has no owners or members)
+     */
+    List<CalendarItem> getGroupCalendar(UUID groupId, LocalDate now);
+
+    /**
+     * Checks that the member may subscribe to the group's feed, i.e. is one of its owners or members.
+     *
+     * @throws GroupFeedNotFoundException when the group does not exist or the member does not belong to it
+     */
+    void checkGroupFeedAccess(UUID groupId, MemberId memberId);
+
+    record EventScheduleEntry(
+            EventId eventId,
+            String name,
+            LocalDate eventDate,
+            @Nullable String location,
+            String organizer,
+            @Nullable String websiteUrl,
+            EventStatus status,
+            boolean isCoordinator) {
+    }
 }
@@ -1,26 +1,38 @@
 package com.klabis.calendar.application;
 
+import com.klabis.calendar.CalendarItemKind;
+import com.klabis.calendar.domain.CalendarFilter;
+import com.klabis.calendar.domain.CalendarItem;
+import com.klabis.calendar.domain.CalendarRepository;
 import com.klabis.events.EventId;
 import com.klabis.events.application.EventScheduleQuery;
-import com.klabis.events.domain.Events;
+import com.klabis.groups.application.GroupMembersQuery;
 import com.klabis.members.MemberId;
 import org.jmolecules.ddd.annotation.Service;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 @Service
 class IcalFeedService implements IcalFeedPort {
 
     private final EventScheduleQuery eventScheduleQuery;
-    private final Events events;
+    private final CalendarRepository calendarRepository;
+    private final GroupMembersQuery groupMembersQuery;
     private final IcalWindowProperties windowProperties;
 
-    IcalFeedService(EventScheduleQuery eventScheduleQuery, Events events, IcalWindowProperties windowProperties) {
+    IcalFeedService(EventScheduleQuery eventScheduleQuery,
+                    CalendarRepository calendarRepository,
+                    GroupMembersQuery groupMembersQuery,
+                    IcalWindowProperties windowProperties) {
         this.eventScheduleQuery = eventScheduleQuery;
-        this.events = events;
+        this.calendarRepository = calendarRepository;
+        this.groupMembersQuery = groupMembersQuery;
         this.windowProperties = windowProperties;
     }
 
@@ -32,15 +44,62 @@ class IcalFeedService implements IcalFeedPort {
         LocalDate from = now.minus(windowProperties.getPast());
         LocalDate to = now.plus(windowProperties.getFuture());
 
-        Set<EventId> eventIds = eventScheduleQuery.findEventIdsForMemberSchedule(memberId, from, to);
-
-        return eventIds.stream()
-                .map(events::findById)
-                .flatMap(java.util.Optional::stream)
-                .map(event -> {
-                    boolean isCoordinator = memberId.equals(event.getEventCoordinatorId());
-                    return new EventScheduleEntry(event, isCoordinator);
-                })
+        return eventScheduleQuery.findMemberSchedule(memberId, from, to).stream()
+                .map(entry -> new EventScheduleEntry(
+                        entry.eventId(),
+                        entry.name(),
+                        entry.eventDate(),
+                        entry.location(),
+                        entry.organizer(),
+                        entry.websiteUrl(),
+                        entry.status(),
+                        entry.coordinator()))
                 .toList();
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<CalendarItem> getClubCalendar(LocalDate now) {
+        Assert.notNull(now, "now must not be null");
+
+        return calendarRepository.findByFilter(window(now), Sort.unsorted());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<CalendarItem> getGroupCalendar(UUID groupId, LocalDate now) {
+        Assert.notNull(groupId, "groupId must not be null");
+        Assert.notNull(now, "now must not be null");
+
+        Set<MemberId> memberIds = groupMembersQuery.findMembersOf(groupId);
+        if (memberIds.isEmpty()) {
+            throw new GroupFeedNotFoundException(groupId);
+        }
+
+        CalendarFilter window = window(now);
+        Set<EventId> eventIds = eventScheduleQuery.findEventIdsForMembersSchedule(
+                memberIds, window.startDate(), window.endDate());
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        CalendarFilter filter = window
+                .withItemTypes(Set.of(CalendarItemKind.EVENT_DATE))
+                .withEventIds(eventIds);
+        return calendarRepository.findByFilter(filter, Sort.unsorted());
+    }
+
+    @Override
+    public void checkGroupFeedAccess(UUID groupId, MemberId memberId) {
+        Assert.notNull(groupId, "groupId must not be null");
+        Assert.notNull(memberId, "memberId must not be null");
+
+        if (!groupMembersQuery.findMembersOf(groupId).contains(memberId)) {
+            throw new GroupFeedNotFoundException(groupId);
+        }
+    }
+
+    private CalendarFilter window(LocalDate now) {
+        return CalendarFilter.dateRange(now.minus(windowProperties.getPast()), now.plus(windowProperties.getFuture()));
+    }
 }
@@ -6,6 +6,7 @@ import org.jmolecules.architecture.hexagonal.SecondaryPort;
 import org.jmolecules.ddd.annotation.Repository;
 import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +16,20 @@ public interface CalendarRepository {
 
     CalendarItem save(CalendarItem calendarItem);
 
+    /**
+     * Saves all items at once; new items are inserted in a single batch.
+     */
+    void saveAll(Collection<? extends CalendarItem> calendarItems);
+
     Optional<CalendarItem> findById(CalendarItemId id);
 
     List<CalendarItem> findByFilter(CalendarFilter filter, Sort sort);
 
     List<CalendarItem> findByEventId(EventId eventId);
 
+    List<CalendarItem> findByEventIds(Collection<EventId> eventIds);
+
     void delete(CalendarItem calendarItem);
+
+    void deleteAll(Collection<? extends CalendarItem> calendarItems);
 }
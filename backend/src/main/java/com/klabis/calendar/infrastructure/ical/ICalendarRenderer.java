@@ -1,27 +1,33 @@
 package com.klabis.calendar.infrastructure.ical;
 
 import com.klabis.calendar.application.IcalFeedPort.EventScheduleEntry;
-import com.klabis.events.domain.Event;
+import com.klabis.calendar.domain.CalendarItem;
+import com.klabis.calendar.domain.EventCalendarItem;
 import com.klabis.events.domain.EventStatus;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Serializes events to iCalendar (RFC 5545) format.
  * Manual serialization — no third-party library dependency.
  * Output uses CRLF line endings and UTF-8 encoding per RFC 5545.
+ * <p>
+ * The {@link OutputStream} variants write straight to the stream through {@link IcalContentWriter}, encoding and
+ * folding in one pass; the {@code String} variants render into memory first.
  */
 public class ICalendarRenderer {
 
     private static final DateTimeFormatter DTSTAMP_FORMAT =
             DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
-    private static final DateTimeFormatter DATE_FORMAT =
-            DateTimeFormatter.ofPattern("yyyyMMdd");
-
-    private static final String CRLF = "\r\n";
 
     /**
      * Renders the iCalendar feed.
@@ -33,116 +39,129 @@ public class ICalendarRenderer {
      * @return iCalendar text (UTF-8, CRLF line endings)
      */
     public String render(List<EventScheduleEntry> entries, String baseUrl, Instant dtstamp) {
-        StringBuilder sb = new StringBuilder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            render(entries, baseUrl, dtstamp, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
 
-        appendLine(sb, "BEGIN:VCALENDAR");
-        appendLine(sb, "VERSION:2.0");
-        appendLine(sb, "PRODID:-//Klabis//Klabis Member Portal//CS");
+    /**
+     * Renders the iCalendar feed as UTF-8 into {@code out}, which is flushed but not closed.
+     *
+     * @see #render(List, String, Instant)
+     */
+    public void render(List<EventScheduleEntry> entries, String baseUrl, Instant dtstamp, OutputStream out)
+            throws IOException {
+        IcalContentWriter writer = new IcalContentWriter(out);
+        String formattedDtstamp = DTSTAMP_FORMAT.format(dtstamp);
 
+        writeCalendarStart(writer);
         for (EventScheduleEntry entry : entries) {
-            appendVEvent(sb, entry.event(), entry.isCoordinator(), baseUrl, dtstamp);
+            writeVEvent(writer, entry, baseUrl, formattedDtstamp);
         }
-
-        appendLine(sb, "END:VCALENDAR");
-
-        return sb.toString();
+        writer.line("END:VCALENDAR");
+        writer.flush();
     }
 
-    private void appendVEvent(StringBuilder sb, Event event, boolean isCoordinator, String baseUrl, Instant dtstamp) {
-        String eventDetailUrl = baseUrl + "/events/" + event.getId().value();
-        String dtstart = DATE_FORMAT.format(event.getEventDate());
-        String dtend = DATE_FORMAT.format(event.getEventDate().plusDays(1));
-        String uid = event.getId().value() + "@klabis";
-
-        appendLine(sb, "BEGIN:VEVENT");
-        appendLine(sb, "UID:" + uid);
-        appendLine(sb, "DTSTAMP:" + DTSTAMP_FORMAT.format(dtstamp));
-        appendLine(sb, "DTSTART;VALUE=DATE:" + dtstart);
-        appendLine(sb, "DTEND;VALUE=DATE:" + dtend);
-        appendLine(sb, "SUMMARY:" + escapeText(event.getName()));
-
-        if (event.getLocation() != null && !event.getLocation().isBlank()) {
-            appendLine(sb, "LOCATION:" + escapeText(event.getLocation()));
+    /**
+     * Renders a shared feed (club-wide or group) from calendar items. Unlike {@link #render} the output does not
+     * depend on the subscriber, so it can be rendered once and served to everyone.
+     *
+     * @param items    calendar items to include; event-linked items get a link to the event detail
+     * @param baseUrl  base URL of the Klabis application used to build event detail links
+     * @param dtstamp  the instant used as DTSTAMP for all VEVENTs
+     * @return iCalendar text (UTF-8, CRLF line endings)
+     */
+    public String renderCalendarItems(List<CalendarItem> items, String baseUrl, Instant dtstamp) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            renderCalendarItems(items, baseUrl, dtstamp, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return out.toString(StandardCharsets.UTF_8);
+    }
 
-        appendLine(sb, "URL:" + eventDetailUrl);
-
-        String description = buildDescription(event, eventDetailUrl, isCoordinator);
-        appendLine(sb, "DESCRIPTION:" + escapeText(description));
-
-        if (event.getStatus() == EventStatus.CANCELLED) {
-            appendLine(sb, "STATUS:CANCELLED");
-        } else {
-            appendLine(sb, "STATUS:CONFIRMED");
+    /**
+     * Renders a shared feed as UTF-8 into {@code out}, which is flushed but not closed.
+     *
+     * @see #renderCalendarItems(List, String, Instant)
+     */
+    public void renderCalendarItems(List<CalendarItem> items, String baseUrl, Instant dtstamp, OutputStream out)
+            throws IOException {
+        IcalContentWriter writer = new IcalContentWriter(out);
+        String formattedDtstamp = DTSTAMP_FORMAT.format(dtstamp);
+
+        writeCalendarStart(writer);
+        for (CalendarItem item : items) {
+            writeVEvent(writer, item, baseUrl, formattedDtstamp);
         }
+        writer.line("END:VCALENDAR");
+        writer.flush();
+    }
 
-        appendLine(sb, "END:VEVENT");
+    private void writeCalendarStart(IcalContentWriter writer) throws IOException {
+        writer.line("BEGIN:VCALENDAR");
+        writer.line("VERSION:2.0");
+        writer.line("PRODID:-//Klabis//Klabis Member Portal//CS");
     }
 
-    /**
-     * Appends a single iCalendar content line to the buffer, folding at 75-octet boundaries
-     * per RFC 5545 §3.1. Long lines are split with CRLF + single SPACE continuation.
-     * Folding is octet-based (UTF-8 bytes) to correctly handle multi-byte characters.
-     */
-    private void appendLine(StringBuilder sb, String line) {
-        byte[] bytes = line.getBytes(java.nio.charset.StandardCharsets.UTF_8);
-        if (bytes.length <= 75) {
-            sb.append(line).append(CRLF);
-            return;
+    private void writeVEvent(IcalContentWriter writer, CalendarItem item, String baseUrl, String dtstamp)
+            throws IOException {
+        writer.line("BEGIN:VEVENT");
+        writer.raw("UID:").uuid(item.getId().value()).raw("@klabis").endLine();
+        writer.raw("DTSTAMP:").raw(dtstamp).endLine();
+        writer.raw("DTSTART;VALUE=DATE:").date(item.getStartDate()).endLine();
+        writer.raw("DTEND;VALUE=DATE:").date(item.getEndDate().plusDays(1)).endLine();
+        writer.raw("SUMMARY:").text(item.getName()).endLine();
+
+        if (item instanceof EventCalendarItem eventItem) {
+            writer.raw("URL:").raw(baseUrl).raw("/events/").uuid(eventItem.getEventId().value()).endLine();
         }
 
-        int offset = 0;
-        boolean first = true;
-        while (offset < bytes.length) {
-            int limit = first ? 75 : 74; // first line: 75 octets; continuation: 74 octets (1 used by leading space)
-            int end = Math.min(offset + limit, bytes.length);
-
-            // Walk back if the cut falls in the middle of a multi-byte UTF-8 sequence
-            while (end < bytes.length && (bytes[end] & 0xC0) == 0x80) {
-                end--;
-            }
-
-            if (!first) {
-                sb.append(' ');
-            }
-            sb.append(new String(bytes, offset, end - offset, java.nio.charset.StandardCharsets.UTF_8));
-            sb.append(CRLF);
-
-            offset = end;
-            first = false;
+        if (item.getDescription() != null && !item.getDescription().isBlank()) {
+            writer.raw("DESCRIPTION:").text(item.getDescription()).endLine();
         }
+
+        writer.line("END:VEVENT");
     }
 
-    private String buildDescription(Event event, String eventDetailUrl, boolean isCoordinator) {
-        StringBuilder desc = new StringBuilder();
-        desc.append("Pořadatel: ").append(event.getOrganizer());
-        desc.append("\n\nDetail v Klabisu: ").append(eventDetailUrl);
+    private void writeVEvent(IcalContentWriter writer, EventScheduleEntry event, String baseUrl, String dtstamp)
+            throws IOException {
+        UUID eventId = event.eventId().value();
 
-        if (event.getWebsiteUrl() != null) {
-            desc.append("\nWeb akce: ").append(event.getWebsiteUrl().value());
-        }
+        writer.line("BEGIN:VEVENT");
+        writer.raw("UID:").uuid(eventId).raw("@klabis").endLine();
+        writer.raw("DTSTAMP:").raw(dtstamp).endLine();
+        writer.raw("DTSTART;VALUE=DATE:").date(event.eventDate()).endLine();
+        writer.raw("DTEND;VALUE=DATE:").date(event.eventDate().plusDays(1)).endLine();
+        writer.raw("SUMMARY:").text(event.name()).endLine();
 
-        if (isCoordinator) {
-            desc.append("\nRole: koordinátor");
+        if (event.location() != null && !event.location().isBlank()) {
+            writer.raw("LOCATION:").text(event.location()).endLine();
         }
 
-        return desc.toString();
-    }
+        writer.raw("URL:").raw(baseUrl).raw("/events/").uuid(eventId).endLine();
 
-    /**
-     * Escapes text values per RFC 5545 §3.3.11:
-     * backslash → \\, comma → \,, semicolon → \;, newline → \n
-     */
-    static String escapeText(String value) {
-        if (value == null) {
-            return "";
+        writer.raw("DESCRIPTION:").text("Pořadatel: ").text(event.organizer())
+                .text("\n\nDetail v Klabisu: ").text(baseUrl).text("/events/").uuid(eventId);
+        if (event.websiteUrl() != null) {
+            writer.text("\nWeb akce: ").text(event.websiteUrl());
+        }
+        if (event.isCoordinator()) {
+            writer.text("\nRole: koordinátor");
         }
-        return value
-                .replace("\\", "\\\\")
-                .replace(",", "\\,")
-                .replace(";", "\\;")
-                .replace("\r\n", "\\n")
-                .replace("\n", "\\n")
-                .replace("\r", "\\n");
+        writer.endLine();
+
+        if (event.status() == EventStatus.CANCELLED) {
+            writer.line("STATUS:CANCELLED");
+        } else {
+            writer.line("STATUS:CONFIRMED");
+        }
+
+        writer.line("END:VEVENT");
     }
 }
@@ -0,0 +1,195 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Writes iCalendar content lines to an {@link OutputStream}, encoding UTF-8 and folding lines (RFC 5545 §3.1) in a
+ * single pass over the characters.
+ * <p>
+ * A physical line never exceeds 75 octets: when the next character does not fit, CRLF + SPACE is written first.
+ * Multi-byte characters are never split. Output goes through one fixed buffer, so writing a feed allocates nothing
+ * per line. Not thread-safe; use one instance per rendered feed and call {@link #flush()} at the end.
+ */
+final class IcalContentWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[8192];
+    private int position;
+    private int lineOctets;
+
+    IcalContentWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes a value as is (property names, URLs, fixed values).
+     */
+    IcalContentWriter raw(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            i = writeChar(value, i);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a TEXT value escaped per RFC 5545 §3.3.11: backslash, comma and semicolon are prefixed with a backslash,
+     * line breaks become {@code \n}. {@code null} writes nothing.
+     */
+    IcalContentWriter text(String value) throws IOException {
+        if (value == null) {
+            return this;
+        }
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ',', ';' -> {
+                    writeCodePoint('\\');
+                    writeCodePoint(c);
+                }
+                case '\r' -> {
+                    if (i + 1 < length && value.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    writeCodePoint('\\');
+                    writeCodePoint('n');
+                }
+                case '\n' -> {
+                    writeCodePoint('\\');
+                    writeCodePoint('n');
+                }
+                default -> i = writeChar(value, i);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes a DATE value ({@code yyyyMMdd}).
+     */
+    IcalContentWriter date(LocalDate date) throws IOException {
+        writeDigits(date.getYear(), 4);
+        writeDigits(date.getMonthValue(), 2);
+        writeDigits(date.getDayOfMonth(), 2);
+        return this;
+    }
+
+    /**
+     * Writes the canonical lower-case form of a UUID, as {@link UUID#toString()} does.
+     */
+    IcalContentWriter uuid(UUID uuid) throws IOException {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        writeHex(msb >>> 32, 8);
+        writeCodePoint('-');
+        writeHex(msb >>> 16, 4);
+        writeCodePoint('-');
+        writeHex(msb, 4);
+        writeCodePoint('-');
+        writeHex(lsb >>> 48, 4);
+        writeCodePoint('-');
+        writeHex(lsb, 12);
+        return this;
+    }
+
+    /**
+     * Ends the current content line with CRLF.
+     */
+    void endLine() throws IOException {
+        writeByte('\r');
+        writeByte('\n');
+        lineOctets = 0;
+    }
+
+    /**
+     * Writes a complete content line without escaping.
+     */
+    void line(String value) throws IOException {
+        raw(value);
+        endLine();
+    }
+
+    void flush() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+        out.flush();
+    }
+
+    /**
+     * Writes the character at {@code index}, or the surrogate pair starting there, and returns the index of the last
+     * char consumed. Unpaired surrogates are written as {@code ?}, like {@link String#getBytes} does.
+     */
+    private int writeChar(String value, int index) throws IOException {
+        char c = value.charAt(index);
+        if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            writeCodePoint(Character.toCodePoint(c, value.charAt(index + 1)));
+            return index + 1;
+        }
+        writeCodePoint(Character.isSurrogate(c) ? '?' : c);
+        return index;
+    }
+
+    private void writeDigits(int value, int width) throws IOException {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            writeCodePoint('0' + (value / divisor) % 10);
+        }
+    }
+
+    private void writeHex(long value, int digits) throws IOException {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            writeCodePoint(HEX[(int) (value >>> shift) & 0xF]);
+        }
+    }
+
+    private void writeCodePoint(int codePoint) throws IOException {
+        if (codePoint < 0x80) {
+            fold(1);
+            writeByte(codePoint);
+        } else if (codePoint < 0x800) {
+            fold(2);
+            writeByte(0xC0 | (codePoint >> 6));
+            writeByte(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            fold(3);
+            writeByte(0xE0 | (codePoint >> 12));
+            writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+            writeByte(0x80 | (codePoint & 0x3F));
+        } else {
+            fold(4);
+            writeByte(0xF0 | (codePoint >> 18));
+            writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+            writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+            writeByte(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void fold(int octets) throws IOException {
+        if (lineOctets + octets > MAX_LINE_OCTETS) {
+            writeByte('\r');
+            writeByte('\n');
+            writeByte(' ');
+            lineOctets = 1;
+        }
+        lineOctets += octets;
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        buffer[position++] = (byte) b;
+    }
+}
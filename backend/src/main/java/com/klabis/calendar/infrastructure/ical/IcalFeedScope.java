@@ -0,0 +1,32 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Identifies a shared iCal feed: the club-wide feed or the feed of one group.
+ */
+public record IcalFeedScope(@Nullable UUID groupId) {
+
+    private static final IcalFeedScope CLUB = new IcalFeedScope(null);
+
+    public static IcalFeedScope club() {
+        return CLUB;
+    }
+
+    public static IcalFeedScope group(UUID groupId) {
+        return new IcalFeedScope(groupId);
+    }
+
+    public boolean isClub() {
+        return groupId == null;
+    }
+
+    /**
+     * Stable name of the scope, used as the snapshot file name.
+     */
+    public String key() {
+        return isClub() ? "club" : "group-" + groupId;
+    }
+}
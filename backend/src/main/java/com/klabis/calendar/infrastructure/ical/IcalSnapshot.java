@@ -0,0 +1,35 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HexFormat;
+
+/**
+ * A rendered shared feed.
+ *
+ * @param body       the iCalendar document (UTF-8); shared by all requests and never modified
+ * @param eTag       strong entity tag derived from the body
+ * @param renderedAt when the body was rendered (its DTSTAMP)
+ * @param windowDate the day the feed window was computed from
+ * @param checkedAt  when the body was last confirmed to be up to date
+ */
+public record IcalSnapshot(byte[] body, String eTag, Instant renderedAt, LocalDate windowDate, Instant checkedAt) {
+
+    static IcalSnapshot of(byte[] body, Instant renderedAt, LocalDate windowDate, Instant checkedAt) {
+        return new IcalSnapshot(body, "\"" + sha256(body) + "\"", renderedAt, windowDate, checkedAt);
+    }
+
+    IcalSnapshot checked(Instant checkedAt) {
+        return new IcalSnapshot(body, eTag, renderedAt, windowDate, checkedAt);
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
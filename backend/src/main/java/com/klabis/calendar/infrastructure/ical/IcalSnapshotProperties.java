@@ -0,0 +1,55 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Pre-rendered shared iCal feeds (klabis.ical.snapshots.*).
+ */
+@ConfigurationProperties(prefix = "klabis.ical.snapshots")
+public class IcalSnapshotProperties {
+
+    /**
+     * Directory the rendered feeds are written to so that a restarted node can serve them before re-rendering;
+     * snapshots are kept in memory only when not set.
+     */
+    private @Nullable Path directory;
+
+    /**
+     * How often feeds marked as changed are re-rendered.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(2);
+
+    /**
+     * Feeds are re-rendered at least this often, which picks up changes made on other nodes
+     * and group membership changes.
+     */
+    private Duration maxAge = Duration.ofMinutes(10);
+
+    public @Nullable Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(@Nullable Path directory) {
+        this.directory = directory;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+}
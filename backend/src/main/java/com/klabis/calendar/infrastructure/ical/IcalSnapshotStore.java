@@ -0,0 +1,214 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import com.klabis.calendar.application.GroupFeedNotFoundException;
+import com.klabis.calendar.application.IcalFeedPort;
+import com.klabis.calendar.domain.CalendarItem;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the rendered club-wide and group feeds so that a request only hands out the shared body.
+ * <p>
+ * A feed is rendered on its first request (or read back from {@link IcalSnapshotProperties#getDirectory()} after a
+ * restart) and afterwards re-rendered in the background: soon after it was marked as changed, when it reaches
+ * {@link IcalSnapshotProperties#getMaxAge()} and when the day the feed window starts from moves on. A re-render whose
+ * content did not change keeps the previous body, so subscribers keep getting {@code 304 Not Modified}. The feed of
+ * a group that no longer exists is dropped, together with its file, on its next refresh.
+ */
+@Component
+public class IcalSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IcalSnapshotStore.class);
+
+    private final IcalFeedPort icalFeedPort;
+    private final ICalendarRenderer icalRenderer;
+    private final IcalSnapshotProperties properties;
+    private final Clock clock;
+    private final String baseUrl;
+
+    private final Map<IcalFeedScope, IcalSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<IcalFeedScope> changed = ConcurrentHashMap.newKeySet();
+
+    IcalSnapshotStore(IcalFeedPort icalFeedPort,
+                      ICalendarRenderer icalRenderer,
+                      IcalSnapshotProperties properties,
+                      Clock clock,
+                      @Value("${klabis.ical.base-url:https://localhost:8443}") String baseUrl) {
+        this.icalFeedPort = icalFeedPort;
+        this.icalRenderer = icalRenderer;
+        this.properties = properties;
+        this.clock = clock;
+        this.baseUrl = baseUrl;
+    }
+
+    public IcalSnapshot get(IcalFeedScope scope) {
+        IcalSnapshot snapshot = snapshots.get(scope);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // loaded outside the map, so no map lock is held (nor a virtual thread pinned) during the query, rendering
+        // and file I/O; concurrent first requests may each render the feed, the first stored snapshot wins
+        IcalSnapshot loaded = loadOrRender(scope);
+        IcalSnapshot existing = snapshots.putIfAbsent(scope, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * Marks every feed as changed, e.g. after a calendar item was saved. Within a transaction the mark is set
+     * once it commits, so the re-render sees the change.
+     */
+    public void markAllChanged() {
+        afterCommit(() -> changed.addAll(snapshots.keySet()));
+    }
+
+    /**
+     * Marks the group feeds as changed, e.g. after a registration changed the events their members attend.
+     */
+    public void markGroupsChanged() {
+        afterCommit(() -> snapshots.keySet().stream()
+                .filter(scope -> !scope.isClub())
+                .forEach(changed::add));
+    }
+
+    @Scheduled(initialDelayString = "${klabis.ical.snapshots.refresh-interval:PT2S}",
+            fixedDelayString = "${klabis.ical.snapshots.refresh-interval:PT2S}")
+    void refreshDue() {
+        Instant now = clock.instant();
+        LocalDate today = LocalDate.now(clock);
+
+        for (Map.Entry<IcalFeedScope, IcalSnapshot> entry : snapshots.entrySet()) {
+            IcalFeedScope scope = entry.getKey();
+            IcalSnapshot current = entry.getValue();
+            boolean due = changed.remove(scope)
+                    || !current.checkedAt().plus(properties.getMaxAge()).isAfter(now)
+                    || !current.windowDate().equals(today);
+            if (!due) {
+                continue;
+            }
+            try {
+                snapshots.put(scope, refresh(scope, current));
+            } catch (GroupFeedNotFoundException e) {
+                evict(scope);
+            } catch (RuntimeException e) {
+                changed.add(scope);
+                log.warn("Failed to refresh iCal feed {}, keeping the previous snapshot", scope.key(), e);
+            }
+        }
+    }
+
+    private void evict(IcalFeedScope scope) {
+        snapshots.remove(scope);
+        changed.remove(scope);
+        Path file = snapshotFile(scope);
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete iCal snapshot {}", file, e);
+        }
+    }
+
+    private IcalSnapshot loadOrRender(IcalFeedScope scope) {
+        Path file = snapshotFile(scope);
+        if (file != null && Files.isReadable(file)) {
+            try {
+                // served as is until the next refresh, which re-renders it as if it were past its max age
+                Instant modified = Files.getLastModifiedTime(file).toInstant();
+                return IcalSnapshot.of(Files.readAllBytes(file), modified,
+                        LocalDate.ofInstant(modified, clock.getZone()), Instant.EPOCH);
+            } catch (IOException e) {
+                log.warn("Failed to read iCal snapshot {}, rendering it again", file, e);
+            }
+        }
+        return renderAndWrite(scope, clock.instant());
+    }
+
+    private IcalSnapshot refresh(IcalFeedScope scope, IcalSnapshot current) {
+        Instant now = clock.instant();
+        LocalDate today = LocalDate.now(clock);
+        if (current.windowDate().equals(today)) {
+            // rendered with the old DTSTAMP, an unchanged feed produces the very same bytes
+            IcalSnapshot rerendered = render(scope, current.renderedAt());
+            if (Arrays.equals(rerendered.body(), current.body())) {
+                return current.checked(now);
+            }
+        }
+        return renderAndWrite(scope, now);
+    }
+
+    private IcalSnapshot renderAndWrite(IcalFeedScope scope, Instant dtstamp) {
+        IcalSnapshot snapshot = render(scope, dtstamp);
+        write(scope, snapshot);
+        return snapshot;
+    }
+
+    private IcalSnapshot render(IcalFeedScope scope, Instant dtstamp) {
+        LocalDate today = LocalDate.now(clock);
+        List<CalendarItem> items = scope.isClub()
+                ? icalFeedPort.getClubCalendar(today)
+                : icalFeedPort.getGroupCalendar(scope.groupId(), today);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            icalRenderer.renderCalendarItems(items, baseUrl, dtstamp, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return IcalSnapshot.of(body.toByteArray(), dtstamp, today, dtstamp);
+    }
+
+    private void write(IcalFeedScope scope, IcalSnapshot snapshot) {
+        Path file = snapshotFile(scope);
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), scope.key(), ".tmp");
+            Files.write(temp, snapshot.body());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write iCal snapshot {}", file, e);
+        }
+    }
+
+    private @Nullable Path snapshotFile(IcalFeedScope scope) {
+        Path directory = properties.getDirectory();
+        return directory != null ? directory.resolve(scope.key() + ".ics") : null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,6 +50,11 @@ class CalendarRepositoryAdapter implements CalendarRepository {
         return saved.toCalendarItem();
     }
 
+    @Override
+    public void saveAll(Collection<? extends CalendarItem> calendarItems) {
+        jdbcRepository.saveAll(calendarItems.stream().map(CalendarMemento::from).toList());
+    }
+
     @Override
     public Optional<CalendarItem> findById(CalendarItemId id) {
         return jdbcRepository.findById(id.value())
@@ -83,11 +89,27 @@ class CalendarRepositoryAdapter implements CalendarRepository {
                 .toList();
     }
 
+    @Override
+    public List<CalendarItem> findByEventIds(Collection<EventId> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        Criteria criteria = Criteria.where("event_id").in(eventIds.stream().map(EventId::value).toList());
+        return jdbcAggregateTemplate.findAll(Query.query(criteria), CalendarMemento.class).stream()
+                .map(CalendarMemento::toCalendarItem)
+                .toList();
+    }
+
     @Override
     public void delete(CalendarItem calendarItem) {
         jdbcRepository.deleteById(calendarItem.getId().value());
     }
 
+    @Override
+    public void deleteAll(Collection<? extends CalendarItem> calendarItems) {
+        jdbcRepository.deleteAllById(calendarItems.stream().map(item -> item.getId().value()).toList());
+    }
+
     private static Criteria buildDateRangeCriteria(CalendarFilter filter) {
         return Criteria.where("start_date").lessThanOrEquals(filter.endDate())
                 .and("end_date").greaterThanOrEquals(filter.startDate());
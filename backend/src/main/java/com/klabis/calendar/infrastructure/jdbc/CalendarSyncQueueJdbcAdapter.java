@@ -0,0 +1,136 @@
+package com.klabis.calendar.infrastructure.jdbc;
+
+import com.klabis.calendar.application.CalendarSyncQueue;
+import com.klabis.calendar.application.CalendarSyncRequest;
+import com.klabis.events.EventId;
+import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.jmolecules.ddd.annotation.Repository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link CalendarSyncQueue} backed by {@code calendar.calendar_sync_queue}.
+ * <p>
+ * Claims and completions compare {@code last_requested_at} with the value that was read, the same way the email
+ * outbox claims its rows: an entry is synchronised by one node at a time, and a request that arrives while the
+ * entry is being synchronised is never lost.
+ */
+@SecondaryAdapter
+@Repository
+class CalendarSyncQueueJdbcAdapter implements CalendarSyncQueue {
+
+    private static final String UPDATE_REQUEST = """
+            UPDATE calendar.calendar_sync_queue SET action = :action, last_requested_at = :now
+            WHERE event_id = :eventId
+            """;
+
+    private static final String INSERT_REQUEST = """
+            INSERT INTO calendar.calendar_sync_queue (event_id, action, first_requested_at, last_requested_at)
+            VALUES (:eventId, :action, :now, :now)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SELECT_DUE = """
+            SELECT event_id, action, last_requested_at
+            FROM calendar.calendar_sync_queue
+            WHERE (last_requested_at <= :quietSince OR first_requested_at <= :overdueSince)
+              AND (claimed_until IS NULL OR claimed_until <= :now)
+            ORDER BY first_requested_at
+            LIMIT :limit
+            """;
+
+    private static final String CLAIM = """
+            UPDATE calendar.calendar_sync_queue SET claimed_until = :leaseUntil
+            WHERE event_id = :eventId AND last_requested_at = :lastRequestedAt
+              AND (claimed_until IS NULL OR claimed_until <= :now)
+            """;
+
+    private static final String DELETE_COMPLETED = """
+            DELETE FROM calendar.calendar_sync_queue
+            WHERE event_id = :eventId AND last_requested_at = :lastRequestedAt
+            """;
+
+    private static final String RELEASE = "UPDATE calendar.calendar_sync_queue SET claimed_until = NULL WHERE event_id = :eventId";
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+
+    CalendarSyncQueueJdbcAdapter(NamedParameterJdbcTemplate namedJdbc) {
+        this.namedJdbc = namedJdbc;
+    }
+
+    @Override
+    public void request(EventId eventId, CalendarSyncRequest.Action action, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("eventId", eventId.value())
+                .addValue("action", action.name())
+                .addValue("now", Timestamp.from(now));
+
+        if (namedJdbc.update(UPDATE_REQUEST, params) == 0 && namedJdbc.update(INSERT_REQUEST, params) == 0) {
+            // inserted concurrently by another listener between our update and insert
+            namedJdbc.update(UPDATE_REQUEST, params);
+        }
+    }
+
+    @Override
+    public List<CalendarSyncRequest> claimDue(Instant quietSince, Instant overdueSince, Instant now,
+                                              Instant leaseUntil, int limit) {
+        List<CalendarSyncRequest> due = namedJdbc.query(SELECT_DUE, new MapSqlParameterSource()
+                        .addValue("quietSince", Timestamp.from(quietSince))
+                        .addValue("overdueSince", Timestamp.from(overdueSince))
+                        .addValue("now", Timestamp.from(now))
+                        .addValue("limit", limit),
+                (rs, rowNum) -> new CalendarSyncRequest(
+                        new EventId(rs.getObject("event_id", UUID.class)),
+                        CalendarSyncRequest.Action.valueOf(rs.getString("action")),
+                        rs.getTimestamp("last_requested_at").toInstant()));
+        if (due.isEmpty()) {
+            return due;
+        }
+
+        int[] claimed = namedJdbc.batchUpdate(CLAIM, due.stream()
+                .map(request -> keyOf(request)
+                        .addValue("leaseUntil", Timestamp.from(leaseUntil))
+                        .addValue("now", Timestamp.from(now)))
+                .toArray(SqlParameterSource[]::new));
+
+        List<CalendarSyncRequest> result = new ArrayList<>(due.size());
+        for (int i = 0; i < due.size(); i++) {
+            if (claimed[i] != 0) {
+                result.add(due.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void complete(Collection<CalendarSyncRequest> requests) {
+        List<CalendarSyncRequest> completed = List.copyOf(requests);
+        int[] deleted = namedJdbc.batchUpdate(DELETE_COMPLETED, completed.stream()
+                .map(CalendarSyncQueueJdbcAdapter::keyOf)
+                .toArray(SqlParameterSource[]::new));
+
+        List<SqlParameterSource> requestedAgain = new ArrayList<>();
+        for (int i = 0; i < completed.size(); i++) {
+            if (deleted[i] == 0) {
+                requestedAgain.add(new MapSqlParameterSource("eventId", completed.get(i).eventId().value()));
+            }
+        }
+        if (!requestedAgain.isEmpty()) {
+            namedJdbc.batchUpdate(RELEASE, requestedAgain.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private static MapSqlParameterSource keyOf(CalendarSyncRequest request) {
+        return new MapSqlParameterSource()
+                .addValue("eventId", request.eventId().value())
+                .addValue("lastRequestedAt", Timestamp.from(request.lastRequestedAt()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.klabis.calendar.infrastructure.jdbc;
+
+import com.klabis.calendar.infrastructure.ical.IcalSnapshotStore;
+import org.springframework.data.relational.core.mapping.event.AbstractRelationalEventListener;
+import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the shared iCal feeds as changed whenever a calendar item is saved or deleted, whether by a user or by the
+ * event synchronisation.
+ */
+@Component
+class IcalSnapshotInvalidator extends AbstractRelationalEventListener<CalendarMemento> {
+
+    private final IcalSnapshotStore snapshotStore;
+
+    IcalSnapshotInvalidator(IcalSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    @Override
+    protected void onAfterSave(AfterSaveEvent<CalendarMemento> event) {
+        snapshotStore.markAllChanged();
+    }
+
+    @Override
+    protected void onAfterDelete(AfterDeleteEvent<CalendarMemento> event) {
+        snapshotStore.markAllChanged();
+    }
+}
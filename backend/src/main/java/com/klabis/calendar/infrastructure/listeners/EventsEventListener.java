@@ -1,6 +1,7 @@
 package com.klabis.calendar.infrastructure.listeners;
 
 import com.klabis.calendar.application.CalendarEventSyncPort;
+import com.klabis.common.listeners.ListenerExecutors;
 import com.klabis.events.EventCancelledEvent;
 import com.klabis.events.EventPublishedEvent;
 import com.klabis.events.EventUpdatedEvent;
@@ -8,6 +9,7 @@ import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -37,6 +39,7 @@ class EventsEventListener {
      * @param event the event published event containing event ID
      */
     @ApplicationModuleListener
+    @Async(ListenerExecutors.CALENDAR)
     public void handle(EventPublishedEvent event) {
         log.debug("Received EventPublishedEvent for event: {}", event.eventId());
         calendarEventSyncPort.handleEventPublished(event.eventId());
@@ -48,6 +51,7 @@ class EventsEventListener {
      * @param event the event updated event containing event ID
      */
     @ApplicationModuleListener
+    @Async(ListenerExecutors.CALENDAR)
     public void handle(EventUpdatedEvent event) {
         log.debug("Received EventUpdatedEvent for event: {}", event.eventId());
         calendarEventSyncPort.handleEventUpdated(event.eventId());
@@ -59,6 +63,7 @@ class EventsEventListener {
      * @param event the event cancelled event containing event ID
      */
     @ApplicationModuleListener
+    @Async(ListenerExecutors.CALENDAR)
     public void handle(EventCancelledEvent event) {
         log.debug("Received EventCancelledEvent for event: {}", event.eventId());
         calendarEventSyncPort.handleEventCancelled(event.eventId());
@@ -0,0 +1,36 @@
+package com.klabis.calendar.infrastructure.listeners;
+
+import com.klabis.calendar.infrastructure.ical.IcalSnapshotStore;
+import com.klabis.common.listeners.ListenerExecutors;
+import com.klabis.events.MemberRegisteredForEventEvent;
+import com.klabis.events.MemberUnregisteredFromEventEvent;
+import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Group feeds list the events their members attend, so every registration change marks them as changed.
+ */
+@Component
+@PrimaryAdapter
+class RegistrationsEventListener {
+
+    private final IcalSnapshotStore snapshotStore;
+
+    RegistrationsEventListener(IcalSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    @ApplicationModuleListener
+    @Async(ListenerExecutors.CALENDAR)
+    public void handle(MemberRegisteredForEventEvent event) {
+        snapshotStore.markGroupsChanged();
+    }
+
+    @ApplicationModuleListener
+    @Async(ListenerExecutors.CALENDAR)
+    public void handle(MemberUnregisteredFromEventEvent event) {
+        snapshotStore.markGroupsChanged();
+    }
+}
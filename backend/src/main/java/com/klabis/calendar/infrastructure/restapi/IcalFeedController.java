@@ -3,12 +3,16 @@ package com.klabis.calendar.infrastructure.restapi;
 import com.klabis.calendar.application.IcalFeedPort;
 import com.klabis.calendar.application.IcalFeedPort.EventScheduleEntry;
 import com.klabis.calendar.infrastructure.ical.ICalendarRenderer;
+import com.klabis.calendar.infrastructure.ical.IcalFeedScope;
+import com.klabis.calendar.infrastructure.ical.IcalSnapshot;
+import com.klabis.calendar.infrastructure.ical.IcalSnapshotStore;
 import com.klabis.common.users.UserId;
 import com.klabis.members.MemberId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.CacheControl;
@@ -18,32 +22,38 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @PrimaryAdapter
 @RestController
-@Tag(name = "Calendar Feed", description = "iCalendar subscribe feed for personal schedule")
+@Tag(name = "Calendar Feed", description = "iCalendar subscribe feeds for the personal schedule, the club and groups")
 class IcalFeedController {
 
     private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
 
     private final IcalFeedPort icalFeedPort;
     private final ICalendarRenderer icalRenderer;
+    private final IcalSnapshotStore snapshotStore;
     private final String baseUrl;
 
     IcalFeedController(
             IcalFeedPort icalFeedPort,
             ICalendarRenderer icalRenderer,
+            IcalSnapshotStore snapshotStore,
             @Value("${klabis.ical.base-url:https://localhost:8443}") String baseUrl) {
         this.icalFeedPort = icalFeedPort;
         this.icalRenderer = icalRenderer;
+        this.snapshotStore = snapshotStore;
         this.baseUrl = baseUrl;
     }
 
@@ -58,19 +68,71 @@ class IcalFeedController {
     )
     @ApiResponse(responseCode = "200", description = "iCalendar feed returned")
     @ApiResponse(responseCode = "401", description = "Missing or invalid token")
-    ResponseEntity<String> getMySchedule(
+    void getMySchedule(
             @Parameter(description = "Personal Access Token for calendar authentication", required = true)
-            @RequestParam String token) {
+            @RequestParam String token,
+            HttpServletResponse response) throws IOException {
 
         MemberId memberId = resolveAuthenticatedMemberId();
         List<EventScheduleEntry> entries = icalFeedPort.getMySchedule(memberId, LocalDate.now());
-        String body = icalRenderer.render(entries, baseUrl, Instant.now());
 
+        // rendered straight into the response instead of building the whole feed in memory first
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(TEXT_CALENDAR.toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(600, TimeUnit.SECONDS).cachePublic().noTransform().getHeaderValue());
+        icalRenderer.render(entries, baseUrl, Instant.now(), response.getOutputStream());
+    }
+
+    @GetMapping(value = "/ical/club.ics", produces = "text/calendar")
+    @Operation(
+            summary = "Club-wide iCalendar feed",
+            description = """
+                    Returns an iCalendar (RFC 5545) feed with all club calendar items, the same for every subscriber.
+                    Supports conditional requests via ETag / If-None-Match.
+                    Authenticate via the ?token= query parameter (Personal Access Token).
+                    """
+    )
+    @ApiResponse(responseCode = "200", description = "iCalendar feed returned")
+    @ApiResponse(responseCode = "304", description = "Feed not modified since the given ETag")
+    @ApiResponse(responseCode = "401", description = "Missing or invalid token")
+    ResponseEntity<byte[]> getClubCalendar(
+            @Parameter(description = "Personal Access Token for calendar authentication", required = true)
+            @RequestParam String token) {
+
+        return sharedFeed(snapshotStore.get(IcalFeedScope.club()));
+    }
+
+    @GetMapping(value = "/ical/groups/{groupId}.ics", produces = "text/calendar")
+    @Operation(
+            summary = "Group iCalendar feed",
+            description = """
+                    Returns an iCalendar (RFC 5545) feed with the events attended or coordinated by members
+                    of the group, the same for every subscriber. Only available to owners and members of the group.
+                    Supports conditional requests via ETag / If-None-Match.
+                    Authenticate via the ?token= query parameter (Personal Access Token).
+                    """
+    )
+    @ApiResponse(responseCode = "200", description = "iCalendar feed returned")
+    @ApiResponse(responseCode = "304", description = "Feed not modified since the given ETag")
+    @ApiResponse(responseCode = "401", description = "Missing or invalid token")
+    @ApiResponse(responseCode = "404", description = "Group not found or the user is not its member")
+    ResponseEntity<byte[]> getGroupCalendar(
+            @PathVariable UUID groupId,
+            @Parameter(description = "Personal Access Token for calendar authentication", required = true)
+            @RequestParam String token) {
+
+        icalFeedPort.checkGroupFeedAccess(groupId, resolveAuthenticatedMemberId());
+        return sharedFeed(snapshotStore.get(IcalFeedScope.group(groupId)));
+    }
+
+    private ResponseEntity<byte[]> sharedFeed(IcalSnapshot snapshot) {
         return ResponseEntity.ok()
                 .contentType(TEXT_CALENDAR)
-                .header(HttpHeaders.CACHE_CONTROL,
-                        CacheControl.maxAge(600, TimeUnit.SECONDS).cachePublic().noTransform().getHeaderValue())
-                .body(body);
+                .eTag(snapshot.eTag())
+                .lastModified(snapshot.renderedAt())
+                .cacheControl(CacheControl.maxAge(600, TimeUnit.SECONDS).cachePublic().noTransform())
+                .body(snapshot.body());
     }
 
     private MemberId resolveAuthenticatedMemberId() {
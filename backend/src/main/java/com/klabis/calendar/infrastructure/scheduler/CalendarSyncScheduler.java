@@ -0,0 +1,26 @@
+package com.klabis.calendar.infrastructure.scheduler;
+
+import com.klabis.calendar.application.CalendarEventSyncPort;
+import org.jmolecules.ddd.annotation.Service;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Drains the calendar synchronisation queue; each run synchronises batches until nothing is due.
+ */
+@Service
+class CalendarSyncScheduler {
+
+    private final CalendarEventSyncPort calendarEventSyncPort;
+
+    CalendarSyncScheduler(CalendarEventSyncPort calendarEventSyncPort) {
+        this.calendarEventSyncPort = calendarEventSyncPort;
+    }
+
+    @Scheduled(initialDelayString = "${klabis.calendar.sync.poll-interval:PT1S}",
+            fixedDelayString = "${klabis.calendar.sync.poll-interval:PT1S}")
+    void synchronizePending() {
+        while (calendarEventSyncPort.synchronizePending() > 0) {
+            // next batch
+        }
+    }
+}
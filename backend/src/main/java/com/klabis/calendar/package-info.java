@@ -10,11 +10,12 @@
  * <p>
  * Event-linked items are read-only; only manual items can be edited or deleted.
  * <p>
- * This module depends on the events module for:
+ * This module depends on:
  * <ul>
- *   <li>Domain events (EventPublishedEvent, EventUpdatedEvent, EventCancelledEvent)</li>
- *   <li>Cross-module query port (EventScheduleQuery)</li>
- *   <li>Event aggregate read access (Events, Event) via the events.domain named interface</li>
+ *   <li>Events module: domain events (EventPublishedEvent, EventUpdatedEvent, EventCancelledEvent)</li>
+ *   <li>Events module: cross-module query port (EventScheduleQuery)</li>
+ *   <li>Events module: Event aggregate read access (Events, Event) via the events.domain named interface</li>
+ *   <li>Groups module: members of a group (GroupMembersQuery), which make up the group iCal feeds</li>
  * </ul>
  */
 @org.springframework.modulith.ApplicationModule(displayName = "Kalendář")
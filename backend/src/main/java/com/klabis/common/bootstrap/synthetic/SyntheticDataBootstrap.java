@@ -0,0 +1,44 @@
+package com.klabis.common.bootstrap.synthetic;
+
+import com.klabis.common.ClubProperties;
+import com.klabis.common.bootstrap.BootstrapDataInitializer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * Loads the synthetic performance dataset on startup when the {@code synthetic-data} profile is active.
+ * <p>
+ * Runs after the regular bootstrap initializers so the demo users stay available next to the generated ones.
+ */
+@Component
+@Profile("synthetic-data")
+@Order(100)
+class SyntheticDataBootstrap implements BootstrapDataInitializer {
+
+    private final SyntheticDataGenerator generator;
+
+    SyntheticDataBootstrap(JdbcTemplate jdbcTemplate,
+                           SyntheticDataProperties properties,
+                           ClubProperties clubProperties,
+                           PasswordEncoder passwordEncoder,
+                           Clock clock) {
+        // one hash shared by all generated users; encoding it per user would dominate the load time
+        this.generator = new SyntheticDataGenerator(jdbcTemplate, properties, clubProperties.getCode(),
+                passwordEncoder.encode(properties.getPassword()), clock);
+    }
+
+    @Override
+    public boolean requiresBootstrap() {
+        return !generator.isGenerated();
+    }
+
+    @Override
+    public void bootstrapData() {
+        generator.generate();
+    }
+}
@@ -0,0 +1,605 @@
+package com.klabis.common.bootstrap.synthetic;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Generates a production-sized dataset (members with user accounts, events with registrations and calendar
+ * items, ledger transactions and membership fee campaigns) for performance tests and benchmarks.
+ * <p>
+ * Rows are written with batched JDBC inserts instead of going through the aggregates: a dataset of hundreds of
+ * thousands of rows would otherwise take minutes to load and flood the event publication registry. Every section
+ * draws from its own {@link Random} derived from {@code klabis.synthetic-data.seed}, so the same seed and anchor date
+ * produce the same rows on an empty database, and changing one volume does not reshuffle the other sections.
+ * <p>
+ * All generated members are marked with {@code created_by = 'synthetic-data'}; they coexist with the regular
+ * bootstrap data and take registration numbers that are still free for their birth year.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final String CREATED_BY = "synthetic-data";
+
+    private static final int FIRST_BIRTH_YEAR = 1950;
+    private static final int BIRTH_YEARS = 70;
+    private static final int MAX_SEQUENCE_NUMBER = 99;
+    private static final int HISTORY_YEARS = 3;
+    private static final String CURRENCY = "CZK";
+    private static final String STANDARD_AUTHORITIES = "[\"MEMBERS:READ\",\"EVENTS:READ\"]";
+
+    private static final String[] MALE_FIRST_NAMES = {
+            "Jan", "Petr", "Pavel", "Tomáš", "Martin", "Jakub", "Ondřej", "Lukáš", "Filip", "Michal",
+            "Vojtěch", "Adam", "Radek", "Jiří", "David", "Marek", "Daniel", "Matěj", "Štěpán", "Vít"};
+    private static final String[] FEMALE_FIRST_NAMES = {
+            "Eva", "Marie", "Lucie", "Petra", "Tereza", "Kateřina", "Zuzana", "Alžběta", "Barbora", "Klára",
+            "Anna", "Veronika", "Jana", "Markéta", "Adéla", "Eliška", "Karolína", "Michaela", "Šárka", "Hana"};
+    private static final String[] MALE_LAST_NAMES = {
+            "Novák", "Svoboda", "Novotný", "Dvořák", "Černý", "Procházka", "Kučera", "Veselý", "Horák", "Němec",
+            "Pokorný", "Marek", "Pospíšil", "Hájek", "Král", "Jelínek", "Růžička", "Beneš", "Fiala", "Sedláček"};
+    private static final String[] FEMALE_LAST_NAMES = {
+            "Nováková", "Svobodová", "Novotná", "Dvořáková", "Černá", "Procházková", "Kučerová", "Veselá",
+            "Horáková", "Němcová", "Pokorná", "Marková", "Pospíšilová", "Hájková", "Králová", "Jelínková",
+            "Růžičková", "Benešová", "Fialová", "Sedláčková"};
+    private static final String[][] CITIES = {
+            {"Praha", "11000"}, {"Brno", "60200"}, {"Ostrava", "70200"}, {"Plzeň", "30100"},
+            {"Olomouc", "77900"}, {"Liberec", "46001"}, {"České Budějovice", "37001"}, {"Hradec Králové", "50002"},
+            {"Pardubice", "53002"}, {"Zlín", "76001"}, {"Jihlava", "58601"}, {"Opava", "74601"}};
+    private static final String[] STREETS = {
+            "Hlavní", "Zahradní", "Nová", "Lipová", "Polní", "Lesní", "Školní", "Sportovní", "Okružní", "Příční"};
+    private static final String[] ORGANIZERS = {"ZBM", "PGP", "SJC", "TBM", "LPU", "DKP", "OOB", "VLI", "KAM", "SKV"};
+    private static final String[] EVENT_NAMES = {
+            "Oblastní žebříček", "Veteraniáda", "Sprint", "Noční OB", "Štafety", "Český pohár",
+            "Mistrovství oblasti", "Klubový trénink", "Pohár mládeže", "Middle"};
+    private static final String[] CATEGORIES = {
+            "D10", "D12", "D14", "D16", "D18", "D21", "D35", "D45", "D55",
+            "H10", "H12", "H14", "H16", "H18", "H21", "H35", "H45", "H55", "HDR"};
+    private static final String[] DEFAULT_EVENT_TYPES = {"Závod", "Trénink", "Soustředění"};
+    private static final String[] DEFAULT_FEE_TIER_NAMES = {"Základní", "Závodník", "Rodinný"};
+    private static final int[] DEFAULT_FEE_TIER_AMOUNTS = {800, 1500, 2500};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyntheticDataProperties properties;
+    private final String clubCode;
+    private final String passwordHash;
+    private final LocalDate anchorDate;
+    private final LocalDateTime createdAt;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  SyntheticDataProperties properties,
+                                  String clubCode,
+                                  String passwordHash,
+                                  Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clubCode = clubCode.toUpperCase();
+        this.passwordHash = passwordHash;
+        this.anchorDate = Objects.requireNonNullElseGet(properties.getAnchorDate(), () -> LocalDate.now(clock));
+        this.createdAt = anchorDate.atStartOfDay();
+    }
+
+    /**
+     * @return true when a synthetic dataset has already been loaded into the database
+     */
+    public boolean isGenerated() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM members.members WHERE created_by = ?", Integer.class, CREATED_BY);
+        return count != null && count > 0;
+    }
+
+    public void generate() {
+        long started = System.nanoTime();
+
+        List<GeneratedMember> members = generateMembers();
+        List<GeneratedEvent> events = generateEvents(members, eventTypes());
+        int registrations = generateRegistrations(events, members);
+        int scheduleEntries = generateMemberSchedule();
+        int transactions = generateLedger(members);
+        int feeGroupMembers = generateFeeCampaigns(members);
+
+        log.info("Synthetic dataset generated in {}s: seed={}, anchorDate={}, members={}, events={}, "
+                 + "registrations={}, scheduleEntries={}, transactions={}, feeGroupMembers={}",
+                Duration.ofNanos(System.nanoTime() - started).toSeconds(), properties.getSeed(), anchorDate,
+                members.size(), events.size(), registrations, scheduleEntries, transactions, feeGroupMembers);
+    }
+
+    // --- members and users ---
+
+    private List<GeneratedMember> generateMembers() {
+        Random random = random("members");
+        int[] nextSequence = nextSequencePerBirthYear();
+        int capacity = 0;
+        for (int next : nextSequence) {
+            capacity += Math.max(0, MAX_SEQUENCE_NUMBER + 1 - next);
+        }
+        if (properties.getMembers() > capacity) {
+            throw new IllegalStateException(
+                    "Cannot generate %d synthetic members: only %d registration numbers are free for birth years %d-%d"
+                            .formatted(properties.getMembers(), capacity, FIRST_BIRTH_YEAR,
+                                    FIRST_BIRTH_YEAR + BIRTH_YEARS - 1));
+        }
+
+        BatchInsert memberInsert = new BatchInsert("""
+                INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth,
+                    nationality, gender, email, phone, street, city, postal_code, country,
+                    guardian_first_name, guardian_last_name, guardian_relationship, guardian_email, guardian_phone,
+                    is_active, chip_number, created_at, created_by, modified_at, modified_by, version)
+                VALUES (?, ?, ?, ?, ?, 'CZ', ?, ?, ?, ?, ?, ?, 'CZ', ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """);
+        BatchInsert userInsert = new BatchInsert("""
+                INSERT INTO common.users (id, user_name, password_hash, account_status, created_at, created_by,
+                    modified_at, last_modified_by, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """);
+        BatchInsert permissionsInsert = new BatchInsert("""
+                INSERT INTO common.user_permissions (user_id, authorities, created_at, created_by, modified_at,
+                    last_modified_by, version)
+                VALUES (?, ?, ?, ?, ?, ?, 0)
+                """);
+
+        List<GeneratedMember> members = new ArrayList<>(properties.getMembers());
+        for (int i = 0; i < properties.getMembers(); i++) {
+            int yearIndex = random.nextInt(BIRTH_YEARS);
+            while (nextSequence[yearIndex] > MAX_SEQUENCE_NUMBER) {
+                yearIndex = (yearIndex + 1) % BIRTH_YEARS;
+            }
+            int birthYear = FIRST_BIRTH_YEAR + yearIndex;
+            String registrationNumber = "%s%02d%02d".formatted(clubCode, birthYear % 100, nextSequence[yearIndex]++);
+            LocalDate dateOfBirth = LocalDate.ofYearDay(birthYear, 1 + random.nextInt(365));
+
+            boolean male = random.nextBoolean();
+            String firstName = pick(random, male ? MALE_FIRST_NAMES : FEMALE_FIRST_NAMES);
+            int lastNameIndex = random.nextInt(MALE_LAST_NAMES.length);
+            String lastName = male ? MALE_LAST_NAMES[lastNameIndex] : FEMALE_LAST_NAMES[lastNameIndex];
+            String[] city = pick(random, CITIES);
+            boolean minor = dateOfBirth.plusYears(18).isAfter(anchorDate);
+            boolean active = random.nextInt(20) != 0;
+
+            UUID id = uuid(random);
+            String chipNumber = String.valueOf(2_000_000 + i);
+            memberInsert.add(id, registrationNumber, firstName, lastName, dateOfBirth,
+                    male ? "MALE" : "FEMALE",
+                    email(firstName, lastName, registrationNumber),
+                    phone(random),
+                    pick(random, STREETS) + " " + (1 + random.nextInt(120)),
+                    city[0], city[1],
+                    minor ? pick(random, FEMALE_FIRST_NAMES) : null,
+                    minor ? FEMALE_LAST_NAMES[lastNameIndex] : null,
+                    minor ? "PARENT" : null,
+                    minor ? "rodic." + ascii(lastName) + "." + registrationNumber.toLowerCase() + "@example.com" : null,
+                    minor ? phone(random) : null,
+                    active, chipNumber, createdAt, CREATED_BY, createdAt, CREATED_BY);
+            userInsert.add(id, registrationNumber, passwordHash, active ? "ACTIVE" : "SUSPENDED",
+                    createdAt, CREATED_BY, createdAt, CREATED_BY);
+            permissionsInsert.add(id, STANDARD_AUTHORITIES, createdAt, CREATED_BY, createdAt, CREATED_BY);
+
+            members.add(new GeneratedMember(id, chipNumber));
+        }
+
+        userInsert.finish();
+        permissionsInsert.finish();
+        memberInsert.finish();
+        updateRegistrationNumberSequences(nextSequence);
+        return members;
+    }
+
+    private int[] nextSequencePerBirthYear() {
+        int[] next = new int[BIRTH_YEARS];
+        jdbcTemplate.query("""
+                SELECT EXTRACT(YEAR FROM date_of_birth) AS birth_year, COUNT(*) AS members
+                FROM members.members
+                GROUP BY EXTRACT(YEAR FROM date_of_birth)
+                """, rs -> {
+            int index = rs.getInt("birth_year") - FIRST_BIRTH_YEAR;
+            if (index >= 0 && index < BIRTH_YEARS) {
+                next[index] = Math.max(next[index], rs.getInt("members"));
+            }
+        });
+        jdbcTemplate.query("SELECT birth_year, next_value FROM members.registration_number_sequences", rs -> {
+            int index = rs.getInt("birth_year") - FIRST_BIRTH_YEAR;
+            if (index >= 0 && index < BIRTH_YEARS) {
+                next[index] = Math.max(next[index], rs.getInt("next_value"));
+            }
+        });
+        return next;
+    }
+
+    private void updateRegistrationNumberSequences(int[] nextSequence) {
+        for (int i = 0; i < BIRTH_YEARS; i++) {
+            if (nextSequence[i] == 0) {
+                continue;
+            }
+            int updated = jdbcTemplate.update(
+                    "UPDATE members.registration_number_sequences SET next_value = ? WHERE birth_year = ?",
+                    nextSequence[i], FIRST_BIRTH_YEAR + i);
+            if (updated == 0) {
+                jdbcTemplate.update(
+                        "INSERT INTO members.registration_number_sequences (birth_year, next_value) VALUES (?, ?)",
+                        FIRST_BIRTH_YEAR + i, nextSequence[i]);
+            }
+        }
+    }
+
+    // --- events, registrations and calendar items ---
+
+    private List<UUID> eventTypes() {
+        List<UUID> existing = jdbcTemplate.queryForList(
+                "SELECT id FROM events.event_types ORDER BY sort_order, name", UUID.class);
+        if (!existing.isEmpty()) {
+            return existing;
+        }
+        Random random = random("event-types");
+        BatchInsert insert = new BatchInsert("""
+                INSERT INTO events.event_types (id, name, color, sort_order, created_at, created_by, modified_at,
+                    modified_by, version)
+                VALUES (?, ?, NULL, ?, ?, ?, ?, ?, 0)
+                """);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < DEFAULT_EVENT_TYPES.length; i++) {
+            UUID id = uuid(random);
+            insert.add(id, DEFAULT_EVENT_TYPES[i], i, createdAt, CREATED_BY, createdAt, CREATED_BY);
+            ids.add(id);
+        }
+        insert.finish();
+        return ids;
+    }
+
+    private List<GeneratedEvent> generateEvents(List<GeneratedMember> members, List<UUID> eventTypeIds) {
+        Random random = random("events");
+        LocalDate firstDate = anchorDate.minusYears(HISTORY_YEARS);
+        int spanDays = (int) (anchorDate.plusYears(1).toEpochDay() - firstDate.toEpochDay());
+
+        BatchInsert eventInsert = new BatchInsert("""
+                INSERT INTO events.events (id, name, event_date, location, organizer, event_coordinator_id, status,
+                    registration_deadline, categories, cancellation_reason, event_type_id,
+                    base_entry_fee_amount, base_entry_fee_currency,
+                    created_at, created_by, modified_at, modified_by, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """);
+        BatchInsert calendarInsert = new BatchInsert("""
+                INSERT INTO calendar.calendar_items (id, kind, name, description, start_date, end_date, event_id,
+                    created_at, created_by, modified_at, last_modified_by, version)
+                VALUES (?, 'EVENT_DATE', ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """);
+
+        List<GeneratedEvent> events = new ArrayList<>(properties.getEvents());
+        for (int i = 0; i < properties.getEvents(); i++) {
+            UUID id = uuid(random);
+            LocalDate eventDate = firstDate.plusDays(random.nextInt(spanDays));
+            String name = pick(random, EVENT_NAMES) + " " + (i + 1);
+            String location = pick(random, CITIES)[0];
+            String organizer = pick(random, ORGANIZERS);
+            String status = eventDate.isBefore(anchorDate)
+                    ? (random.nextInt(20) == 0 ? "CANCELLED" : "FINISHED")
+                    : (random.nextInt(10) == 0 ? "DRAFT" : "ACTIVE");
+            UUID coordinator = random.nextInt(3) == 0 && !members.isEmpty()
+                    ? members.get(random.nextInt(members.size())).id() : null;
+            List<String> categories = categories(random);
+
+            eventInsert.add(id, name, eventDate, location, organizer, coordinator, status,
+                    eventDate.minusDays(7), String.join(",", categories),
+                    "CANCELLED".equals(status) ? "Nepříznivé počasí" : null,
+                    eventTypeIds.get(random.nextInt(eventTypeIds.size())),
+                    BigDecimal.valueOf(100 + 10L * random.nextInt(31)), CURRENCY,
+                    createdAt, CREATED_BY, createdAt, CREATED_BY);
+
+            if (!"DRAFT".equals(status)) {
+                calendarInsert.add(uuid(random), name, location + " - " + organizer, eventDate, eventDate, id,
+                        createdAt, CREATED_BY, createdAt, CREATED_BY);
+                events.add(new GeneratedEvent(id, eventDate, categories));
+            }
+        }
+        eventInsert.finish();
+        calendarInsert.finish();
+        return events;
+    }
+
+    private static List<String> categories(Random random) {
+        List<String> categories = new ArrayList<>();
+        for (String category : CATEGORIES) {
+            if (random.nextInt(4) != 0) {
+                categories.add(category);
+            }
+        }
+        if (categories.isEmpty()) {
+            categories.add("H21");
+        }
+        return categories;
+    }
+
+    private int generateRegistrations(List<GeneratedEvent> events, List<GeneratedMember> members) {
+        if (events.isEmpty() || members.isEmpty()) {
+            return 0;
+        }
+        Random random = random("registrations");
+        BatchInsert insert = new BatchInsert("""
+                INSERT INTO events.event_registrations (id, event_id, member_id, si_card_number, category,
+                    registered_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """);
+
+        int perEvent = properties.getRegistrations() / events.size();
+        int remainder = properties.getRegistrations() % events.size();
+        for (int e = 0; e < events.size(); e++) {
+            GeneratedEvent event = events.get(e);
+            int count = Math.min(members.size(), perEvent + (e < remainder ? 1 : 0));
+            // a consecutive window of members keeps (event, member) unique without tracking used pairs
+            int first = random.nextInt(members.size());
+            for (int r = 0; r < count; r++) {
+                GeneratedMember member = members.get((first + r) % members.size());
+                LocalDateTime registeredAt = event.date().minusDays(1 + random.nextInt(30))
+                        .atTime(6 + random.nextInt(16), random.nextInt(60));
+                insert.add(uuid(random), event.id(), member.id(), member.chipNumber(),
+                        pick(random, event.categories()), registeredAt);
+            }
+        }
+        return insert.finish();
+    }
+
+    /**
+     * Fills the member schedule read model for the generated events; the application keeps it up to date from
+     * domain events, which the batched inserts above bypass. Entries of events generated by an earlier run exist
+     * already and are skipped.
+     */
+    private int generateMemberSchedule() {
+        return jdbcTemplate.update("""
+                INSERT INTO events.member_schedule (member_id, event_date, event_id, name, location, organizer,
+                    website_url, status, coordinator)
+                SELECT m.member_id, e.event_date, e.id, e.name, e.location, e.organizer, e.website_url, e.status,
+                       (e.event_coordinator_id IS NOT NULL AND e.event_coordinator_id = m.member_id)
+                FROM events.events e
+                JOIN (SELECT event_id, member_id FROM events.event_registrations
+                      UNION
+                      SELECT id, event_coordinator_id FROM events.events WHERE event_coordinator_id IS NOT NULL) m
+                     ON m.event_id = e.id
+                WHERE e.created_by = ?
+                  AND NOT EXISTS (SELECT 1 FROM events.member_schedule s
+                                  WHERE s.member_id = m.member_id AND s.event_id = e.id)
+                """, CREATED_BY);
+    }
+
+    // --- finance ---
+
+    private int generateLedger(List<GeneratedMember> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+        Random random = random("ledger");
+        BatchInsert accountInsert = new BatchInsert("""
+                INSERT INTO finance.member_account (member_id, balance_amount, balance_currency, created_at, version)
+                VALUES (?, 0, ?, ?, 0)
+                """);
+        for (GeneratedMember member : members) {
+            accountInsert.add(member.id(), CURRENCY, createdAt);
+        }
+        accountInsert.finish();
+
+        BatchInsert transactionInsert = new BatchInsert("""
+                INSERT INTO finance.finance_transaction (id, member_account_id, type, amount, currency, note,
+                    recorded_at, occurred_at, recorded_by_user_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """);
+        BigDecimal[] balances = new BigDecimal[members.size()];
+        Arrays.fill(balances, BigDecimal.ZERO);
+        int treasurers = Math.min(10, members.size());
+        int historyDays = HISTORY_YEARS * 365;
+
+        for (int i = 0; i < properties.getTransactions(); i++) {
+            int memberIndex = random.nextInt(members.size());
+            boolean deposit = random.nextInt(4) == 0;
+            BigDecimal amount = deposit
+                    ? BigDecimal.valueOf(500 + 100L * random.nextInt(26))
+                    : BigDecimal.valueOf(-(100 + 10L * random.nextInt(41)));
+            LocalDate occurredAt = anchorDate.minusDays(random.nextInt(historyDays));
+            transactionInsert.add(uuid(random), members.get(memberIndex).id(), deposit ? "DEPOSIT" : "OTHER",
+                    amount, CURRENCY, deposit ? "Vklad na účet" : "Startovné",
+                    occurredAt.atTime(8 + random.nextInt(12), random.nextInt(60)), occurredAt,
+                    members.get(random.nextInt(treasurers)).id());
+            balances[memberIndex] = balances[memberIndex].add(amount);
+        }
+        int transactions = transactionInsert.finish();
+
+        BatchInsert balanceUpdate = new BatchInsert(
+                "UPDATE finance.member_account SET balance_amount = ? WHERE member_id = ?");
+        for (int i = 0; i < members.size(); i++) {
+            if (balances[i].signum() != 0) {
+                balanceUpdate.add(balances[i], members.get(i).id());
+            }
+        }
+        balanceUpdate.finish();
+        return transactions;
+    }
+
+    // --- membership fees ---
+
+    private int generateFeeCampaigns(List<GeneratedMember> members) {
+        Random random = random("membership-fees");
+        List<FeeTier> tiers = feeTiers(random);
+        Set<Integer> existingYears = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT publication_year FROM membershipfees.fee_selection_campaign", Integer.class));
+
+        BatchInsert groupInsert = new BatchInsert("""
+                INSERT INTO membershipfees.membership_fee_group (id, source_level_id, name, group_year,
+                    yearly_fee_snapshot_amount, yearly_fee_snapshot_currency, status, voting_deadline,
+                    created_at, created_by, modified_at, modified_by, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """);
+        BatchInsert campaignInsert = new BatchInsert("""
+                INSERT INTO membershipfees.fee_selection_campaign (id, publication_year, voting_deadline,
+                    deadline_processed_at, created_at, created_by, modified_at, modified_by, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """);
+        BatchInsert campaignLevelInsert = new BatchInsert("""
+                INSERT INTO membershipfees.fee_selection_campaign_level (fee_selection_campaign_id,
+                    membership_fee_group_id)
+                VALUES (?, ?)
+                """);
+        BatchInsert groupMemberInsert = new BatchInsert("""
+                INSERT INTO membershipfees.membership_fee_group_members (id, membership_fee_group_id, member_id,
+                    joined_at, assignment_source, assigned_by)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """);
+
+        for (int year = anchorDate.getYear() - properties.getFeeYears() + 1; year <= anchorDate.getYear(); year++) {
+            if (existingYears.contains(year)) {
+                continue;
+            }
+            // the anchor year's campaign stays open so fee choice scenarios have a voting window to hit
+            LocalDate votingDeadline = year == anchorDate.getYear()
+                    ? anchorDate.plusMonths(1)
+                    : LocalDate.of(year, 3, 31);
+            boolean closed = votingDeadline.isBefore(anchorDate);
+
+            UUID campaignId = uuid(random);
+            campaignInsert.add(campaignId, year, votingDeadline,
+                    closed ? votingDeadline.plusDays(1).atStartOfDay() : null,
+                    createdAt, CREATED_BY, createdAt, CREATED_BY);
+
+            List<UUID> groupIds = new ArrayList<>(tiers.size());
+            for (FeeTier tier : tiers) {
+                UUID groupId = uuid(random);
+                groupInsert.add(groupId, tier.id(), tier.name(), year, tier.yearlyFee(), CURRENCY,
+                        closed ? "FROZEN" : "EDITABLE", votingDeadline,
+                        createdAt, CREATED_BY, createdAt, CREATED_BY);
+                groupIds.add(groupId);
+            }
+            // parents must be written before the rows referencing them
+            campaignInsert.finish();
+            groupInsert.finish();
+            for (UUID groupId : groupIds) {
+                campaignLevelInsert.add(campaignId, groupId);
+            }
+
+            for (GeneratedMember member : members) {
+                boolean adminAssigned = random.nextInt(10) == 0;
+                groupMemberInsert.add(uuid(random), groupIds.get(random.nextInt(groupIds.size())), member.id(),
+                        votingDeadline.minusDays(random.nextInt(60)),
+                        adminAssigned ? "ADMIN_ASSIGNMENT" : "MEMBER_CHOICE",
+                        adminAssigned ? members.get(0).id() : null);
+            }
+        }
+
+        campaignLevelInsert.finish();
+        return groupMemberInsert.finish();
+    }
+
+    private List<FeeTier> feeTiers(Random random) {
+        List<FeeTier> existing = jdbcTemplate.query(
+                "SELECT id, name, yearly_fee_amount FROM membershipfees.membership_fee_tier ORDER BY name, id",
+                (rs, rowNum) -> new FeeTier(rs.getObject("id", UUID.class), rs.getString("name"),
+                        rs.getBigDecimal("yearly_fee_amount")));
+        if (!existing.isEmpty()) {
+            return existing;
+        }
+        BatchInsert insert = new BatchInsert("""
+                INSERT INTO membershipfees.membership_fee_tier (id, name, yearly_fee_amount, yearly_fee_currency,
+                    created_at, created_by, modified_at, modified_by, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """);
+        List<FeeTier> tiers = new ArrayList<>();
+        for (int i = 0; i < DEFAULT_FEE_TIER_NAMES.length; i++) {
+            FeeTier tier = new FeeTier(uuid(random), DEFAULT_FEE_TIER_NAMES[i],
+                    BigDecimal.valueOf(DEFAULT_FEE_TIER_AMOUNTS[i]));
+            insert.add(tier.id(), tier.name(), tier.yearlyFee(), CURRENCY,
+                    createdAt, CREATED_BY, createdAt, CREATED_BY);
+            tiers.add(tier);
+        }
+        insert.finish();
+        return tiers;
+    }
+
+    // --- helpers ---
+
+    private Random random(String section) {
+        return new Random(properties.getSeed() * 31 + section.hashCode());
+    }
+
+    /**
+     * Random-based (version 4) UUID drawn from the section's generator, so identifiers are repeatable too.
+     */
+    private static UUID uuid(Random random) {
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String email(String firstName, String lastName, String registrationNumber) {
+        return "%s.%s.%s@example.com".formatted(ascii(firstName), ascii(lastName), registrationNumber.toLowerCase());
+    }
+
+    private static String phone(Random random) {
+        return "+420 6%02d %03d %03d".formatted(random.nextInt(100), random.nextInt(1000), random.nextInt(1000));
+    }
+
+    private static String ascii(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase();
+    }
+
+    private record GeneratedMember(UUID id, String chipNumber) {
+    }
+
+    private record GeneratedEvent(UUID id, LocalDate date, List<String> categories) {
+    }
+
+    private record FeeTier(UUID id, String name, BigDecimal yearlyFee) {
+    }
+
+    /**
+     * Collects rows for one statement and sends them in JDBC batches of {@code klabis.synthetic-data.batch-size}.
+     */
+    private final class BatchInsert {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private int written;
+
+        BatchInsert(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... values) {
+            rows.add(values);
+            if (rows.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        int finish() {
+            flush();
+            return written;
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            written += rows.size();
+            rows.clear();
+        }
+    }
+}
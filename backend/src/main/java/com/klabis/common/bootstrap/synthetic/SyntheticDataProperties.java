@@ -0,0 +1,103 @@
+package com.klabis.common.bootstrap.synthetic;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+/**
+ * Volumes and seed for the synthetic performance dataset.
+ * <p>
+ * Maps to klabis.synthetic-data.* properties in application-synthetic-data.yml
+ */
+@ConfigurationProperties(prefix = "klabis.synthetic-data")
+public class SyntheticDataProperties {
+
+    private long seed = 42L;
+    /**
+     * Day the dataset is generated around (event dates, ledger history, fee years). Defaults to today;
+     * set it explicitly when two databases have to contain identical rows.
+     */
+    private LocalDate anchorDate;
+    private int members = 5_000;
+    private int events = 10_000;
+    private int registrations = 300_000;
+    private int transactions = 200_000;
+    private int feeYears = 3;
+    private int batchSize = 1_000;
+    /**
+     * Password of every generated user account (user name is the member's registration number).
+     */
+    private String password = "password";
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public LocalDate getAnchorDate() {
+        return anchorDate;
+    }
+
+    public void setAnchorDate(LocalDate anchorDate) {
+        this.anchorDate = anchorDate;
+    }
+
+    public int getMembers() {
+        return members;
+    }
+
+    public void setMembers(int members) {
+        this.members = members;
+    }
+
+    public int getEvents() {
+        return events;
+    }
+
+    public void setEvents(int events) {
+        this.events = events;
+    }
+
+    public int getRegistrations() {
+        return registrations;
+    }
+
+    public void setRegistrations(int registrations) {
+        this.registrations = registrations;
+    }
+
+    public int getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(int transactions) {
+        this.transactions = transactions;
+    }
+
+    public int getFeeYears() {
+        return feeYears;
+    }
+
+    public void setFeeYears(int feeYears) {
+        this.feeYears = feeYears;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
@@ -0,0 +1,102 @@
+package com.klabis.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Caffeine caches, by default wrapped in a {@link ClusterCacheManager} so that evictions reach all nodes.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableCaching
+public class CacheConfiguration {
+
+    static CaffeineCacheManager caffeineCacheManager(CacheProperties properties) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCaffeine(Caffeine.newBuilder().expireAfterWrite(properties.getDefaultTtl()));
+        Set<String> customCaches = new HashSet<>(properties.getTtl().keySet());
+        customCaches.addAll(properties.getMaximumSize().keySet());
+        customCaches.forEach(name -> {
+            Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                    .expireAfterWrite(properties.getTtl().getOrDefault(name, properties.getDefaultTtl()));
+            Long maximumSize = properties.getMaximumSize().get(name);
+            if (maximumSize != null) {
+                caffeine.maximumSize(maximumSize);
+            }
+            manager.registerCustomCache(name, caffeine.build());
+        });
+        return manager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "klabis.cache.cluster.enabled", havingValue = "false")
+    CacheManager cacheManager(CacheProperties properties) {
+        return caffeineCacheManager(properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(value = "klabis.cache.cluster.enabled", havingValue = "true", matchIfMissing = true)
+    static class ClusterConfiguration {
+
+        private final @Nullable String url;
+        private final @Nullable String username;
+        private final @Nullable String password;
+        private final boolean postgres;
+
+        /**
+         * Connects like the application pool does: through {@link JdbcConnectionDetails}, which also covers service
+         * connections (Docker Compose, Testcontainers). With read replica routing Boot defines no connection details
+         * and the primary pool is built from {@link DataSourceProperties}, so those are used instead.
+         */
+        ClusterConfiguration(ObjectProvider<JdbcConnectionDetails> connectionDetails,
+                             DataSourceProperties dataSourceProperties) {
+            JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+            if (details != null) {
+                this.url = details.getJdbcUrl();
+                this.username = details.getUsername();
+                this.password = details.getPassword();
+            } else {
+                this.url = dataSourceProperties.determineUrl();
+                this.username = dataSourceProperties.determineUsername();
+                this.password = dataSourceProperties.determinePassword();
+            }
+            this.postgres = url != null && url.startsWith("jdbc:postgresql:");
+        }
+
+        @Bean
+        CacheInvalidationLog cacheInvalidationLog(NamedParameterJdbcTemplate namedJdbc) {
+            return new CacheInvalidationLog(namedJdbc, postgres);
+        }
+
+        @Bean
+        ClusterCacheManager cacheManager(CacheProperties properties, CacheInvalidationLog invalidationLog, Clock clock) {
+            return new ClusterCacheManager(caffeineCacheManager(properties), invalidationLog, UUID.randomUUID(), clock);
+        }
+
+        @Bean
+        CacheInvalidationReceiver cacheInvalidationReceiver(ClusterCacheManager cacheManager,
+                                                            CacheInvalidationLog invalidationLog,
+                                                            CacheProperties properties,
+                                                            Clock clock) {
+            PostgresNotificationListener notifications = postgres
+                    ? new PostgresNotificationListener(url, username, password)
+                    : null;
+            return new CacheInvalidationReceiver(cacheManager, invalidationLog, properties.getCluster(),
+                    notifications, clock);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.klabis.common.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the {@code common.cache_invalidation} table.
+ * <p>
+ * An invalidation is written by the connection of the surrounding transaction, so it becomes visible to other nodes
+ * exactly when the change that caused it commits, and disappears with a rollback. On PostgreSQL the insert is
+ * followed by {@code pg_notify}, which is transactional as well and wakes up the listeners at commit.
+ */
+class CacheInvalidationLog {
+
+    static final String CHANNEL = "klabis_cache_invalidation";
+
+    private static final String INSERT = """
+            INSERT INTO common.cache_invalidation (id, origin, cache_name, cache_key, created_at)
+            VALUES (:id, :origin, :cacheName, :cacheKey, :createdAt)
+            """;
+
+    private static final String NOTIFY = "SELECT pg_notify('" + CHANNEL + "', :cacheName)";
+
+    private static final String SELECT_SINCE = """
+            SELECT id, cache_name, cache_key, created_at
+            FROM common.cache_invalidation
+            WHERE created_at >= :since AND origin <> :origin
+            """;
+
+    private static final String DELETE_OLDER_THAN = "DELETE FROM common.cache_invalidation WHERE created_at < :before";
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final boolean notify;
+
+    /**
+     * @param notify whether to send a PostgreSQL notification along with every invalidation
+     */
+    CacheInvalidationLog(NamedParameterJdbcTemplate namedJdbc, boolean notify) {
+        this.namedJdbc = namedJdbc;
+        this.notify = notify;
+    }
+
+    /**
+     * @param cacheKey encoded key, see {@link CacheKeyCodec}; {@code null} for the whole cache
+     */
+    void append(UUID origin, String cacheName, @Nullable String cacheKey, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID())
+                .addValue("origin", origin)
+                .addValue("cacheName", cacheName)
+                .addValue("cacheKey", cacheKey)
+                .addValue("createdAt", Timestamp.from(now));
+        namedJdbc.update(INSERT, params);
+        if (notify) {
+            namedJdbc.query(NOTIFY, params, (ResultSetExtractor<Void>) rs -> null);
+        }
+    }
+
+    /**
+     * Invalidations of other nodes written at or after {@code since}, in no particular order.
+     */
+    List<Invalidation> findSince(Instant since, UUID excludedOrigin) {
+        return namedJdbc.query(SELECT_SINCE, new MapSqlParameterSource()
+                        .addValue("since", Timestamp.from(since))
+                        .addValue("origin", excludedOrigin),
+                (rs, rowNum) -> new Invalidation(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("cache_name"),
+                        rs.getString("cache_key"),
+                        rs.getTimestamp("created_at").toInstant()));
+    }
+
+    int deleteOlderThan(Instant before) {
+        return namedJdbc.update(DELETE_OLDER_THAN, new MapSqlParameterSource("before", Timestamp.from(before)));
+    }
+
+    record Invalidation(UUID id, String cacheName, @Nullable String cacheKey, Instant createdAt) {
+    }
+}
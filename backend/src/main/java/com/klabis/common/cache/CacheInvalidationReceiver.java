@@ -0,0 +1,147 @@
+package com.klabis.common.cache;
+
+import com.klabis.common.cache.CacheInvalidationLog.Invalidation;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Replays invalidations written by other nodes on the local caches.
+ * <p>
+ * A background thread waits for a PostgreSQL notification (or, without PostgreSQL, simply for the poll interval)
+ * and then reads all invalidations of the last {@code lookback}. Rows are read by time rather than "after the last
+ * seen row" because transactions commit in a different order than they write: an invalidation written early by a
+ * long transaction becomes visible after later ones. Rows already applied are remembered until they fall out of the
+ * look-back window, so each is applied once. The window therefore has to cover the longest evicting transaction plus
+ * the clock skew between nodes; a notification that is lost (listener reconnecting) is caught up by the next poll.
+ * <p>
+ * The same thread purges rows older than the retention period every {@value #PURGE_EVERY_POLLS} polls.
+ */
+class CacheInvalidationReceiver implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationReceiver.class);
+
+    static final int PURGE_EVERY_POLLS = 100;
+
+    private final ClusterCacheManager cacheManager;
+    private final CacheInvalidationLog invalidationLog;
+    private final CacheProperties.Cluster settings;
+    private final @Nullable PostgresNotificationListener notifications;
+    private final Clock clock;
+
+    private final Map<UUID, Instant> applied = new HashMap<>();
+    private volatile boolean running;
+    private @Nullable Thread thread;
+    private int pollsSincePurge;
+
+    CacheInvalidationReceiver(ClusterCacheManager cacheManager,
+                              CacheInvalidationLog invalidationLog,
+                              CacheProperties.Cluster settings,
+                              @Nullable PostgresNotificationListener notifications,
+                              Clock clock) {
+        this.cacheManager = cacheManager;
+        this.invalidationLog = invalidationLog;
+        this.settings = settings;
+        this.notifications = notifications;
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().daemon().name("cache-invalidation").start(this::run);
+        log.info("Receiving cache invalidations from other nodes by {} (node {})",
+                notifications != null ? "PostgreSQL LISTEN/NOTIFY" : "polling every " + settings.getPollInterval(),
+                cacheManager.nodeId());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        thread = null;
+        if (current != null) {
+            current.interrupt();
+            if (notifications != null) {
+                notifications.close();
+            }
+            try {
+                current.join(settings.getPollInterval().multipliedBy(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                awaitSignal();
+                receive();
+                if (++pollsSincePurge >= PURGE_EVERY_POLLS) {
+                    pollsSincePurge = 0;
+                    purge();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to receive cache invalidations, retrying: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void awaitSignal() throws InterruptedException {
+        Duration timeout = settings.getPollInterval();
+        if (notifications != null) {
+            try {
+                notifications.await(timeout);
+                return;
+            } catch (SQLException e) {
+                log.warn("Listening for cache invalidations failed, polling until reconnected: {}", e.getMessage());
+                notifications.close();
+            }
+        }
+        Thread.sleep(timeout);
+    }
+
+    /**
+     * Applies invalidations that have not been applied yet.
+     *
+     * @return number of invalidations applied
+     */
+    synchronized int receive() {
+        Instant since = clock.instant().minus(settings.getLookback());
+        List<Invalidation> invalidations = invalidationLog.findSince(since, cacheManager.nodeId());
+        int count = 0;
+        for (Invalidation invalidation : invalidations) {
+            if (applied.putIfAbsent(invalidation.id(), invalidation.createdAt()) == null) {
+                cacheManager.apply(invalidation);
+                count++;
+            }
+        }
+        applied.values().removeIf(createdAt -> createdAt.isBefore(since));
+        if (count > 0) {
+            log.debug("Applied {} cache invalidation(s) from other nodes", count);
+        }
+        return count;
+    }
+
+    int purge() {
+        return invalidationLog.deleteOlderThan(clock.instant().minus(settings.getRetention()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.klabis.common.cache;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Text form of cache keys for the {@code common.cache_invalidation} table.
+ * <p>
+ * Only the key types our caches actually use are supported; each is stored with a type prefix so the receiving node
+ * evicts the entry under an equal key object. Other keys (and keys too long for the column) cannot be transferred,
+ * and their eviction is broadcast as clearing the whole cache instead.
+ */
+final class CacheKeyCodec {
+
+    static final int MAX_LENGTH = 500;
+
+    private CacheKeyCodec() {
+    }
+
+    static Optional<String> encode(Object key) {
+        String encoded = switch (key) {
+            case String value -> "s:" + value;
+            case UUID value -> "u:" + value;
+            case Long value -> "l:" + value;
+            case Integer value -> "i:" + value;
+            default -> null;
+        };
+        return Optional.ofNullable(encoded).filter(value -> value.length() <= MAX_LENGTH);
+    }
+
+    static Object decode(String encoded) {
+        String value = encoded.substring(2);
+        return switch (encoded.substring(0, 2)) {
+            case "s:" -> value;
+            case "u:" -> UUID.fromString(value);
+            case "l:" -> Long.valueOf(value);
+            case "i:" -> Integer.valueOf(value);
+            default -> throw new IllegalArgumentException("Unknown cache key encoding: " + encoded);
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.klabis.common.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the application caches (klabis.cache.*).
+ */
+@ConfigurationProperties(prefix = "klabis.cache")
+public class CacheProperties {
+
+    /**
+     * Time after which an entry expires, unless configured per cache in {@link #ttl}.
+     */
+    private Duration defaultTtl = Duration.ofHours(1);
+
+    /**
+     * Expiry per cache name.
+     */
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    /**
+     * Maximum number of entries per cache name; caches not listed are unbounded.
+     */
+    private Map<String, Long> maximumSize = new HashMap<>();
+
+    private final Cluster cluster = new Cluster();
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public void setDefaultTtl(Duration defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    public Map<String, Duration> getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Map<String, Duration> ttl) {
+        this.ttl = ttl;
+    }
+
+    public Map<String, Long> getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(Map<String, Long> maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    /**
+     * Broadcasting of evictions between application nodes (klabis.cache.cluster.*).
+     */
+    public static class Cluster {
+
+        /**
+         * When disabled, caches are purely node-local.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Interval of reading invalidations without a notification; on PostgreSQL only a safety net.
+         */
+        private Duration pollInterval = Duration.ofSeconds(2);
+
+        /**
+         * How far back invalidations are read; must exceed the longest evicting transaction plus clock skew.
+         */
+        private Duration lookback = Duration.ofMinutes(1);
+
+        /**
+         * Age after which invalidations are deleted from the table.
+         */
+        private Duration retention = Duration.ofHours(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public Duration getLookback() {
+            return lookback;
+        }
+
+        public void setLookback(Duration lookback) {
+            this.lookback = lookback;
+        }
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+    }
+}
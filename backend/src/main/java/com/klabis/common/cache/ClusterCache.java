@@ -0,0 +1,93 @@
+package com.klabis.common.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A node-local cache whose evictions are broadcast to the other nodes. Reads and writes stay local.
+ */
+final class ClusterCache implements Cache {
+
+    private final Cache local;
+    private final ClusterCacheManager manager;
+
+    ClusterCache(Cache local, ClusterCacheManager manager) {
+        this.local = local;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public @Nullable ValueWrapper get(Object key) {
+        return local.get(key);
+    }
+
+    @Override
+    public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+        return local.get(key, type);
+    }
+
+    @Override
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, valueLoader);
+    }
+
+    @Override
+    public @Nullable CompletableFuture<?> retrieve(Object key) {
+        return local.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return local.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        local.put(key, value);
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        manager.broadcast(local, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = local.evictIfPresent(key);
+        manager.broadcast(local, key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        manager.broadcast(local, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = local.invalidate();
+        manager.broadcast(local, null);
+        return present;
+    }
+}
@@ -0,0 +1,114 @@
+package com.klabis.common.cache;
+
+import com.klabis.common.cache.CacheInvalidationLog.Invalidation;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps node-local caches consistent across application nodes.
+ * <p>
+ * Caches are served by the local delegate (Caffeine), so reads never leave the JVM. Every eviction and clear is
+ * also written to the {@link CacheInvalidationLog}, from where {@link CacheInvalidationReceiver} replays it on the
+ * other nodes. Entries can therefore live for hours: a change on any node reaches all of them within the
+ * notification latency on PostgreSQL, or within the poll interval elsewhere.
+ * <p>
+ * Within a transaction the invalidation is written by the same transaction, and the local entry is evicted once
+ * more after commit. Without that second eviction a concurrent reader on this node could load the old value between
+ * the {@code @CacheEvict} and the commit and keep it until the entry expires.
+ * <p>
+ * {@code @CachePut} updates only the local cache; other nodes keep their entry until it is evicted or expires.
+ */
+public class ClusterCacheManager implements CacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterCacheManager.class);
+
+    private final CacheManager local;
+    private final CacheInvalidationLog invalidationLog;
+    private final UUID nodeId;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, ClusterCache> caches = new ConcurrentHashMap<>();
+
+    ClusterCacheManager(CacheManager local, CacheInvalidationLog invalidationLog, UUID nodeId, Clock clock) {
+        this.local = local;
+        this.invalidationLog = invalidationLog;
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public @Nullable Cache getCache(String name) {
+        ClusterCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache localCache = local.getCache(name);
+        return localCache != null
+                ? caches.computeIfAbsent(name, ignored -> new ClusterCache(localCache, this))
+                : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return local.getCacheNames();
+    }
+
+    UUID nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Writes the eviction of {@code key} ({@code null} for the whole cache) for the other nodes.
+     */
+    void broadcast(Cache cache, @Nullable Object key) {
+        String encodedKey = key != null ? CacheKeyCodec.encode(key).orElse(null) : null;
+        if (key != null && encodedKey == null) {
+            log.debug("Cache key of type {} cannot be broadcast, other nodes clear cache '{}'",
+                    key.getClass().getName(), cache.getName());
+        }
+        invalidationLog.append(nodeId, cache.getName(), encodedKey, clock.instant());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(cache, key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Applies an invalidation received from another node. Caches this node has not created yet hold nothing to
+     * invalidate and are left alone.
+     */
+    void apply(Invalidation invalidation) {
+        if (!local.getCacheNames().contains(invalidation.cacheName())) {
+            return;
+        }
+        Cache cache = local.getCache(invalidation.cacheName());
+        if (cache != null) {
+            String encodedKey = invalidation.cacheKey();
+            evictLocally(cache, encodedKey != null ? CacheKeyCodec.decode(encodedKey) : null);
+        }
+    }
+
+    private static void evictLocally(Cache cache, @Nullable Object key) {
+        if (key == null) {
+            cache.invalidate();
+        } else {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.klabis.common.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Waits for {@code NOTIFY} on the cache invalidation channel.
+ * <p>
+ * Listening needs a connection that stays open for the lifetime of the application, so it is opened directly from
+ * the JDBC URL instead of being taken from (and permanently missing in) the connection pool. A broken connection is
+ * reported to the caller and reopened by the next {@link #await} call.
+ */
+class PostgresNotificationListener implements AutoCloseable {
+
+    private final String url;
+    private final Properties credentials = new Properties();
+
+    private volatile @Nullable Connection connection;
+
+    PostgresNotificationListener(String url, @Nullable String username, @Nullable String password) {
+        this.url = url;
+        if (username != null) {
+            credentials.setProperty("user", username);
+        }
+        if (password != null) {
+            credentials.setProperty("password", password);
+        }
+    }
+
+    /**
+     * Blocks until a notification arrives or the timeout elapses.
+     *
+     * @return whether any notification was received
+     */
+    boolean await(Duration timeout) throws SQLException {
+        PGNotification[] notifications = listen().getNotifications((int) Math.max(1, timeout.toMillis()));
+        return notifications != null && notifications.length > 0;
+    }
+
+    private PGConnection listen() throws SQLException {
+        Connection current = connection;
+        if (current == null || current.isClosed()) {
+            current = DriverManager.getConnection(url, credentials);
+            try (Statement statement = current.createStatement()) {
+                statement.execute("LISTEN " + CacheInvalidationLog.CHANNEL);
+            }
+            connection = current;
+        }
+        return current.unwrap(PGConnection.class);
+    }
+
+    @Override
+    public void close() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException ignored) {
+                // the connection is being discarded anyway
+            }
+        }
+    }
+}
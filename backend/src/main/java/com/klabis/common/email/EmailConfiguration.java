@@ -1,18 +1,24 @@
 package com.klabis.common.email;
 
 import com.klabis.common.templating.ThymeleafTemplateRenderer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.thymeleaf.TemplateEngine;
 
+import java.time.Clock;
+
 @Configuration
 public class EmailConfiguration {
 
     @Bean
     @Profile("email")
-    public EmailService javaMailEmailService(JavaMailSender javaMailSender, EmailProperties emailProperties) {
+    JavaMailEmailService javaMailEmailService(JavaMailSender javaMailSender, EmailProperties emailProperties) {
         return new JavaMailEmailService(javaMailSender, emailProperties);
     }
 
@@ -22,6 +28,32 @@ public class EmailConfiguration {
         return new LoggingEmailService(emailProperties);
     }
 
+    @Configuration
+    @Profile("email")
+    @ConditionalOnProperty(value = "klabis.email.outbox.enabled", havingValue = "true", matchIfMissing = true)
+    static class OutboxConfiguration {
+
+        @Bean
+        EmailOutbox emailOutbox(NamedParameterJdbcTemplate namedJdbc) {
+            return new EmailOutbox(namedJdbc);
+        }
+
+        @Bean
+        @Primary
+        OutboxEmailService outboxEmailService(EmailOutbox emailOutbox, Clock clock) {
+            return new OutboxEmailService(emailOutbox, clock);
+        }
+
+        @Bean
+        EmailOutboxDispatcher emailOutboxDispatcher(EmailOutbox emailOutbox,
+                                                    JavaMailEmailService javaMailEmailService,
+                                                    EmailProperties emailProperties,
+                                                    Clock clock,
+                                                    MeterRegistry meterRegistry) {
+            return new EmailOutboxDispatcher(emailOutbox, javaMailEmailService, emailProperties, clock, meterRegistry);
+        }
+    }
+
     // TODO: migrate to TemplateRenderer interface only
     @Bean
     ThymeleafTemplateRenderer templateRenderer(TemplateEngine templateEngine) {
@@ -0,0 +1,147 @@
+package com.klabis.common.email;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the {@code common.email_outbox} table.
+ * <p>
+ * Rows are claimed by moving {@code next_attempt_at} into the future with a compare-and-set update, so a
+ * row is sent by at most one dispatcher at a time, and a crashed dispatcher's rows become due again once
+ * the lease expires.
+ */
+class EmailOutbox {
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT = """
+            INSERT INTO common.email_outbox (id, recipient, subject, html_body, text_body, status, attempts, next_attempt_at, created_at)
+            VALUES (:id, :recipient, :subject, :htmlBody, :textBody, 'PENDING', 0, :now, :now)
+            """;
+
+    private static final String SELECT_DUE = """
+            SELECT id, recipient, subject, html_body, text_body, attempts, next_attempt_at, created_at
+            FROM common.email_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            """;
+
+    private static final String CLAIM = """
+            UPDATE common.email_outbox SET next_attempt_at = :leaseUntil
+            WHERE id = :id AND status = 'PENDING' AND next_attempt_at = :seenNextAttemptAt
+            """;
+
+    private static final String DELETE_SENT = "DELETE FROM common.email_outbox WHERE id IN (:ids)";
+
+    private static final String RESCHEDULE = """
+            UPDATE common.email_outbox
+            SET attempts = :attempts, status = :status, next_attempt_at = :nextAttemptAt, last_error = :lastError
+            WHERE id = :id
+            """;
+
+    private static final String COUNT_PENDING = "SELECT COUNT(*) FROM common.email_outbox WHERE status = 'PENDING'";
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+
+    EmailOutbox(NamedParameterJdbcTemplate namedJdbc) {
+        this.namedJdbc = namedJdbc;
+    }
+
+    void enqueue(EmailMessage message, Instant now) {
+        namedJdbc.update(INSERT, new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID())
+                .addValue("recipient", message.to())
+                .addValue("subject", message.subject())
+                .addValue("htmlBody", message.htmlBody())
+                .addValue("textBody", message.textBody())
+                .addValue("now", Timestamp.from(now)));
+    }
+
+    /**
+     * Claims up to {@code limit} due messages, hiding them from other dispatchers until {@code leaseUntil}.
+     */
+    List<OutboxEntry> claimDue(int limit, Instant now, Instant leaseUntil) {
+        List<DueRow> due = namedJdbc.query(SELECT_DUE, new MapSqlParameterSource()
+                        .addValue("now", Timestamp.from(now))
+                        .addValue("limit", limit),
+                (rs, rowNum) -> new DueRow(
+                        new OutboxEntry(
+                                rs.getObject("id", UUID.class),
+                                new EmailMessage(rs.getString("recipient"), rs.getString("subject"),
+                                        rs.getString("html_body"), rs.getString("text_body")),
+                                rs.getInt("attempts"),
+                                rs.getTimestamp("created_at").toInstant()),
+                        rs.getTimestamp("next_attempt_at")));
+        if (due.isEmpty()) {
+            return List.of();
+        }
+
+        int[] claimed = namedJdbc.batchUpdate(CLAIM, due.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("id", row.entry().id())
+                        .addValue("leaseUntil", Timestamp.from(leaseUntil))
+                        .addValue("seenNextAttemptAt", row.nextAttemptAt()))
+                .toArray(SqlParameterSource[]::new));
+
+        List<OutboxEntry> result = new ArrayList<>();
+        for (int i = 0; i < due.size(); i++) {
+            if (claimed[i] == 1) {
+                result.add(due.get(i).entry());
+            }
+        }
+        return result;
+    }
+
+    void deleteSent(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            namedJdbc.update(DELETE_SENT, new MapSqlParameterSource("ids", ids));
+        }
+    }
+
+    void scheduleRetry(OutboxEntry entry, Instant nextAttemptAt, String error) {
+        reschedule(entry, STATUS_PENDING, nextAttemptAt, error);
+    }
+
+    void markFailed(OutboxEntry entry, Instant now, String error) {
+        reschedule(entry, STATUS_FAILED, now, error);
+    }
+
+    long countPending() {
+        Long count = namedJdbc.getJdbcTemplate().queryForObject(COUNT_PENDING, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private void reschedule(OutboxEntry entry, String status, Instant nextAttemptAt, String error) {
+        namedJdbc.update(RESCHEDULE, new MapSqlParameterSource()
+                .addValue("id", entry.id())
+                .addValue("attempts", entry.attempts() + 1)
+                .addValue("status", status)
+                .addValue("nextAttemptAt", Timestamp.from(nextAttemptAt))
+                .addValue("lastError", truncate(error)));
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    record OutboxEntry(UUID id, EmailMessage message, int attempts, Instant createdAt) {
+    }
+
+    private record DueRow(OutboxEntry entry, Timestamp nextAttemptAt) {
+    }
+}
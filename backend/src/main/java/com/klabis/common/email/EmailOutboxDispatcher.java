@@ -0,0 +1,162 @@
+package com.klabis.common.email;
+
+import com.klabis.common.email.EmailOutbox.OutboxEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background delivery of messages queued in the email outbox.
+ *
+ * <p>Each run claims due messages in batches of {@code klabis.email.outbox.batch-size} and sends every batch
+ * over one SMTP connection. Delivered messages are removed from the outbox; failed ones are retried with
+ * exponential backoff and marked FAILED after {@code klabis.email.outbox.max-attempts}.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@value #METRIC_PENDING} — messages waiting for delivery, refreshed after every run</li>
+ *   <li>{@value #METRIC_BATCH_SEND} — time spent sending one batch over SMTP</li>
+ *   <li>{@value #METRIC_DELIVERY_LAG} — time from queueing to successful delivery</li>
+ *   <li>{@value #METRIC_SENT} / {@value #METRIC_FAILURES} — delivered messages and failed attempts
+ *       (tagged {@code outcome=retry|failed})</li>
+ * </ul>
+ */
+public class EmailOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    static final String METRIC_PENDING = "klabis.email.outbox.pending";
+    static final String METRIC_BATCH_SEND = "klabis.email.outbox.batch.send";
+    static final String METRIC_DELIVERY_LAG = "klabis.email.outbox.delivery.lag";
+    static final String METRIC_SENT = "klabis.email.outbox.sent";
+    static final String METRIC_FAILURES = "klabis.email.outbox.failures";
+
+    private final EmailOutbox outbox;
+    private final JavaMailEmailService mailService;
+    private final EmailProperties.Outbox settings;
+    private final Clock clock;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Timer batchSendTimer;
+    private final Timer deliveryLagTimer;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    EmailOutboxDispatcher(EmailOutbox outbox,
+                          JavaMailEmailService mailService,
+                          EmailProperties emailProperties,
+                          Clock clock,
+                          MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.mailService = mailService;
+        this.settings = emailProperties.getOutbox();
+        this.clock = clock;
+
+        Gauge.builder(METRIC_PENDING, pending, AtomicLong::get)
+                .description("Emails waiting in the outbox for delivery")
+                .register(meterRegistry);
+        this.batchSendTimer = Timer.builder(METRIC_BATCH_SEND)
+                .description("Time spent sending one outbox batch over SMTP")
+                .register(meterRegistry);
+        this.deliveryLagTimer = Timer.builder(METRIC_DELIVERY_LAG)
+                .description("Time from queueing an email to its delivery")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder(METRIC_SENT)
+                .description("Emails delivered from the outbox")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder(METRIC_FAILURES)
+                .description("Failed email delivery attempts")
+                .tag("outcome", "retry")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_FAILURES)
+                .description("Failed email delivery attempts")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${klabis.email.outbox.poll-interval:PT5S}",
+            fixedDelayString = "${klabis.email.outbox.poll-interval:PT5S}")
+    void dispatchPending() {
+        int sent;
+        do {
+            sent = dispatchBatch();
+        } while (sent == settings.getBatchSize());
+        pending.set(outbox.countPending());
+    }
+
+    /**
+     * Claims and sends one batch of due messages.
+     *
+     * @return number of messages claimed in this batch
+     */
+    int dispatchBatch() {
+        Instant now = clock.instant();
+        List<OutboxEntry> batch = outbox.claimDue(settings.getBatchSize(), now, now.plus(settings.getLease()));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, Exception> failures = batchSendTimer.record(
+                () -> mailService.sendAll(batch.stream().map(OutboxEntry::message).toList()));
+
+        Instant sentAt = clock.instant();
+        List<UUID> delivered = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEntry entry = batch.get(i);
+            Exception failure = failures.get(i);
+            if (failure == null) {
+                delivered.add(entry.id());
+                deliveryLagTimer.record(Duration.between(entry.createdAt(), sentAt));
+            } else {
+                handleFailure(entry, failure, sentAt);
+            }
+        }
+        outbox.deleteSent(delivered);
+        sentCounter.increment(delivered.size());
+
+        log.debug("Email outbox batch processed: claimed={}, sent={}, failed={}",
+                batch.size(), delivered.size(), failures.size());
+        return batch.size();
+    }
+
+    private void handleFailure(OutboxEntry entry, Exception failure, Instant now) {
+        int attempt = entry.attempts() + 1;
+        if (attempt >= settings.getMaxAttempts()) {
+            outbox.markFailed(entry, now, failure.getMessage());
+            failedCounter.increment();
+            log.error("Email delivery failed permanently after {} attempts: id={}, subject='{}', error='{}'",
+                    attempt, entry.id(), entry.message().subject(), failure.getMessage());
+        } else {
+            outbox.scheduleRetry(entry, now.plus(backoff(attempt)), failure.getMessage());
+            retryCounter.increment();
+            log.warn("Email delivery attempt {} failed, will retry: id={}, subject='{}', error='{}'",
+                    attempt, entry.id(), entry.message().subject(), failure.getMessage());
+        }
+    }
+
+    /**
+     * Exponential backoff: initial backoff doubled for each further attempt, capped at max backoff.
+     */
+    Duration backoff(int attempt) {
+        Duration delay = settings.getInitialBackoff();
+        for (int i = 1; i < attempt && delay.compareTo(settings.getMaxBackoff()) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(settings.getMaxBackoff()) > 0 ? settings.getMaxBackoff() : delay;
+    }
+}
@@ -2,6 +2,8 @@ package com.klabis.common.email;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for email functionality.
  * Maps to klabis.email.* properties in application.yml
@@ -11,6 +13,8 @@ public class EmailProperties {
 
     private String from;
 
+    private final Outbox outbox = new Outbox();
+
     public static EmailProperties withFrom(String from) {
         EmailProperties props = new EmailProperties();
         props.from = from;
@@ -24,4 +28,92 @@ public class EmailProperties {
     public void setFrom(String from) {
         this.from = from;
     }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    /**
+     * Settings of the asynchronous email outbox (klabis.email.outbox.*), used with the {@code email} profile.
+     */
+    public static class Outbox {
+
+        /**
+         * When disabled, emails are sent synchronously by the calling thread.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of messages sent over a single SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Delivery attempts after which a message is marked as FAILED.
+         */
+        private int maxAttempts = 8;
+
+        /**
+         * Delay before the first retry; doubled for every further attempt.
+         */
+        private Duration initialBackoff = Duration.ofSeconds(30);
+
+        /**
+         * Upper bound of the retry delay.
+         */
+        private Duration maxBackoff = Duration.ofHours(1);
+
+        /**
+         * How long a claimed message is hidden from other dispatchers while being sent.
+         */
+        private Duration lease = Duration.ofMinutes(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getLease() {
+            return lease;
+        }
+
+        public void setLease(Duration lease) {
+            this.lease = lease;
+        }
+    }
 }
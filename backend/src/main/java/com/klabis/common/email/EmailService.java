@@ -20,6 +20,9 @@ public interface EmailService {
      *   <li>Invalid addresses are logged and skipped</li>
      *   <li>Template errors fall back to plain-text if available</li>
      * </ul>
+     * <p>
+     * Implementations that store the message transactionally (the email outbox) propagate storage failures,
+     * so that the business operation is not committed with its email silently lost.
      *
      * @param message the email message to send
      */
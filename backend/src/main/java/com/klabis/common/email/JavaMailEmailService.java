@@ -4,9 +4,16 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Email service implementation using Spring's JavaMailSender.
  *
@@ -43,6 +50,44 @@ public class JavaMailEmailService implements EmailService {
         }
     }
 
+    /**
+     * Sends all messages over a single SMTP connection.
+     * <p>
+     * Unlike {@link #send(EmailMessage)}, failures are reported to the caller so that it can retry them.
+     *
+     * @return failures keyed by the position of the failed message in {@code messages}; empty when all were sent
+     */
+    Map<Integer, Exception> sendAll(List<EmailMessage> messages) {
+        Map<Integer, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Integer> positions = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                MimeMessage mimeMessage = createMimeMessage(messages.get(i));
+                positions.put(mimeMessage, i);
+                mimeMessages.add(mimeMessage);
+            } catch (MessagingException e) {
+                failures.put(i, e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                positions.values().forEach(i -> failures.put(i, e));
+            } else {
+                e.getFailedMessages().forEach((mimeMessage, cause) -> failures.put(positions.get(mimeMessage), cause));
+            }
+        } catch (Exception e) {
+            positions.values().forEach(i -> failures.put(i, e));
+        }
+        return failures;
+    }
+
     private MimeMessage createMimeMessage(EmailMessage message) throws MessagingException {
         // Always use multipart=true to properly handle HTML content types
         // MimeMessageHelper needs multipart mode to set correct content-type for HTML emails
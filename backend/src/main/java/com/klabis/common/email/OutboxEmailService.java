@@ -0,0 +1,40 @@
+package com.klabis.common.email;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+
+/**
+ * Email service that queues messages into the email outbox instead of talking to SMTP.
+ *
+ * <p>The message is stored in the caller's transaction, so it is sent only if the business operation commits,
+ * and an SMTP outage never blocks the caller. Delivery is done by {@link EmailOutboxDispatcher}.
+ *
+ * <p>Activated by the {@code email} Spring profile unless {@code klabis.email.outbox.enabled=false}.
+ */
+public class OutboxEmailService implements EmailService {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxEmailService.class);
+
+    private final EmailOutbox outbox;
+    private final Clock clock;
+
+    OutboxEmailService(EmailOutbox outbox, Clock clock) {
+        this.outbox = outbox;
+        this.clock = clock;
+    }
+
+    /**
+     * Queues the message in the caller's transaction.
+     *
+     * @throws org.springframework.dao.DataAccessException when the message cannot be stored; it is not swallowed,
+     *                                                     so the caller's transaction rolls back instead of
+     *                                                     committing without the email
+     */
+    @Override
+    public void send(EmailMessage message) {
+        outbox.enqueue(message, clock.instant());
+        log.debug("Email queued: subject='{}', multipart={}", message.subject(), message.isMultipart());
+    }
+}
@@ -7,15 +7,85 @@ import java.util.Objects;
  * <p>
  * This type is used for fields that should be encrypted at rest in the database.
  * Spring Data JDBC converters handle encryption/decryption transparently.
+ * <p>
+ * Values read from the database keep their ciphertext and are decrypted lazily on the first call
+ * to {@link #value()}. Loading rows therefore costs no cryptographic work unless the plaintext is
+ * actually needed. A loaded value that was never decrypted is written back as the original
+ * ciphertext, without being re-encrypted.
  */
-public record EncryptedString(String value) {
+public final class EncryptedString {
 
-    public EncryptedString {
-        Objects.requireNonNull(value, "Encrypted value cannot be null");
+    private final String ciphertext;
+    private final EncryptionService encryptionService;
+    private volatile String value;
+
+    private EncryptedString(String value, String ciphertext, EncryptionService encryptionService) {
+        this.value = value;
+        this.ciphertext = ciphertext;
+        this.encryptionService = encryptionService;
     }
 
     public static EncryptedString of(String value) {
-        return new EncryptedString(value);
+        Objects.requireNonNull(value, "Encrypted value cannot be null");
+        return new EncryptedString(value, null, null);
+    }
+
+    /**
+     * Creates a value backed by ciphertext loaded from storage. Decryption is deferred until {@link #value()}.
+     */
+    static EncryptedString ofCiphertext(String ciphertext, EncryptionService encryptionService) {
+        Objects.requireNonNull(ciphertext, "Ciphertext cannot be null");
+        Objects.requireNonNull(encryptionService, "Encryption service cannot be null");
+        return new EncryptedString(null, ciphertext, encryptionService);
+    }
+
+    /**
+     * Returns the plaintext, decrypting the stored ciphertext on first access.
+     */
+    public String value() {
+        String result = value;
+        if (result == null) {
+            result = encryptionService.decrypt(ciphertext);
+            value = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns true when the plaintext is available without any further cryptographic work.
+     */
+    public boolean isDecrypted() {
+        return value != null;
+    }
+
+    /**
+     * Returns the original ciphertext for values loaded from storage, or null for values created from plaintext.
+     */
+    String ciphertext() {
+        return ciphertext;
+    }
+
+    /**
+     * Values loaded from storage are equal when they carry the same ciphertext, values created from plaintext when
+     * their plaintext is equal. Neither comparison nor hashing ever decrypts.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EncryptedString other)) {
+            return false;
+        }
+        if (ciphertext != null || other.ciphertext != null) {
+            return Objects.equals(ciphertext, other.ciphertext);
+        }
+        return value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return ciphertext != null ? ciphertext.hashCode() : value.hashCode();
     }
 
     @Override
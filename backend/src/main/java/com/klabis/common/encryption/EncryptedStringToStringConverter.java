@@ -11,6 +11,7 @@ import org.springframework.data.convert.WritingConverter;
  * while maintaining transparent encryption/decryption for the application.
  * <p>
  * Converts {@link EncryptedString} domain type to encrypted {@link String} for database storage.
+ * Values loaded from the database that still carry their original ciphertext are written back as-is.
  *
  * Uses SharedEncryptionService to ensure consistent encryption/decryption.
  */
@@ -28,6 +29,9 @@ class EncryptedStringToStringConverter implements Converter<EncryptedString, Str
         if (source == null) {
             return null;
         }
+        if (source.ciphertext() != null) {
+            return source.ciphertext();
+        }
         return encryptionService.encrypt(source.value());
     }
 }
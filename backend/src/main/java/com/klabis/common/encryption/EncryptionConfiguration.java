@@ -1,22 +1,51 @@
 package com.klabis.common.encryption;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
 
+/**
+ * Encryption of personal data at rest.
+ * <p>
+ * Two cipher modes are supported, selected by {@code klabis.encryption.mode}:
+ * <ul>
+ *   <li>{@code jasypt} (default) - password-based Jasypt encryption, deriving a key on every operation</li>
+ *   <li>{@code envelope} - AES-GCM with a cached data key that is stored wrapped by the Jasypt encryptor.
+ *       Existing Jasypt values stay readable; new values are written in the versioned envelope format.</li>
+ * </ul>
+ */
 @Configuration
 public class EncryptionConfiguration {
 
+    private static final Logger log = LoggerFactory.getLogger(EncryptionConfiguration.class);
+
+    static final String MODE_JASYPT = "jasypt";
+    static final String MODE_ENVELOPE = "envelope";
+
     @Value("${jasypt.encryptor.password}")
     private String encryptionPassword;
     @Value("${jasypt.encryptor.algorithm:PBEWithHmacSHA512AndAES_256}")
     private String algorithm;
+    @Value("${klabis.encryption.mode:" + MODE_JASYPT + "}")
+    private String mode;
+    @Value("${klabis.encryption.wrapped-data-key:}")
+    private String wrappedDataKey;
 
 
     @Bean
     public EncryptionService sharedEncryptionService() {
-        return new SharedEncryptionService(encryptionPassword, algorithm);
+        SharedEncryptionService jasyptEncryptor = new SharedEncryptionService(encryptionPassword, algorithm);
+        if (MODE_ENVELOPE.equalsIgnoreCase(mode)) {
+            log.info("Using envelope (AES-GCM) encryption for personal data");
+            return EnvelopeEncryptionService.fromWrappedDataKey(wrappedDataKey, jasyptEncryptor);
+        }
+        if (!MODE_JASYPT.equalsIgnoreCase(mode)) {
+            throw new IllegalStateException("Unknown klabis.encryption.mode: " + mode);
+        }
+        return jasyptEncryptor;
     }
 
     @Bean
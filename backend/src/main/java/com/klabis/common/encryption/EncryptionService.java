@@ -4,4 +4,12 @@ public interface EncryptionService {
     String encrypt(String plaintext);
 
     String decrypt(String encrypted);
+
+    /**
+     * Returns whether the ciphertext was produced by the currently configured cipher mode.
+     * Values in an older format remain decryptable but are candidates for re-encryption.
+     */
+    default boolean isCurrentFormat(String encrypted) {
+        return true;
+    }
 }
@@ -0,0 +1,119 @@
+package com.klabis.common.encryption;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Envelope encryption service using a cached AES-256 data key with AES-GCM.
+ * <p>
+ * The data key is stored wrapped (encrypted) by the password-based Jasypt encryptor and is unwrapped
+ * only once, at startup. Every subsequent encrypt/decrypt is a single AES-GCM operation, avoiding the
+ * per-call PBE key derivation of {@link SharedEncryptionService}.
+ * <p>
+ * Ciphertexts carry the {@value #CIPHERTEXT_PREFIX} version prefix followed by Base64 of {@code IV || ciphertext+tag}.
+ * Values without the prefix are legacy Jasypt ciphertexts (Base64 never contains {@code ':'}) and are
+ * decrypted by the legacy encryptor, so both formats coexist until they are re-encrypted.
+ */
+class EnvelopeEncryptionService implements EncryptionService {
+
+    static final String CIPHERTEXT_PREFIX = "v2:";
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH_BYTES = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final int DATA_KEY_LENGTH_BITS = 256;
+
+    private final SecretKey dataKey;
+    private final EncryptionService legacyEncryptor;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    EnvelopeEncryptionService(SecretKey dataKey, EncryptionService legacyEncryptor) {
+        this.dataKey = dataKey;
+        this.legacyEncryptor = legacyEncryptor;
+    }
+
+    /**
+     * Creates the service from a data key wrapped by the given key-encryption service.
+     *
+     * @param wrappedDataKey   Base64 data key encrypted by {@code keyEncryptor}
+     * @param keyEncryptor     password-based encryptor used as key-encryption key and for legacy values
+     */
+    static EnvelopeEncryptionService fromWrappedDataKey(String wrappedDataKey, EncryptionService keyEncryptor) {
+        if (wrappedDataKey == null || wrappedDataKey.isBlank()) {
+            throw new IllegalStateException(
+                    "Envelope encryption requires klabis.encryption.wrapped-data-key (generate one with ./gradlew generateWrappedDataKey)");
+        }
+        byte[] keyBytes = Base64.getDecoder().decode(keyEncryptor.decrypt(wrappedDataKey));
+        return new EnvelopeEncryptionService(new SecretKeySpec(keyBytes, "AES"), keyEncryptor);
+    }
+
+    /**
+     * Generates a new random data key and returns it wrapped by the given key-encryption service,
+     * ready to be used as the {@code klabis.encryption.wrapped-data-key} property value.
+     */
+    static String wrapNewDataKey(EncryptionService keyEncryptor) {
+        try {
+            KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+            keyGenerator.init(DATA_KEY_LENGTH_BITS);
+            byte[] keyBytes = keyGenerator.generateKey().getEncoded();
+            return keyEncryptor.encrypt(Base64.getEncoder().encodeToString(keyBytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("AES key generation is not available", e);
+        }
+    }
+
+    @Override
+    public String encrypt(String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        try {
+            byte[] iv = new byte[IV_LENGTH_BYTES];
+            secureRandom.nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, dataKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+
+            byte[] payload = ByteBuffer.allocate(iv.length + ciphertext.length).put(iv).put(ciphertext).array();
+            return CIPHERTEXT_PREFIX + Base64.getEncoder().encodeToString(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM encryption failed", e);
+        }
+    }
+
+    @Override
+    public String decrypt(String encrypted) {
+        if (encrypted == null) {
+            return null;
+        }
+        if (!isCurrentFormat(encrypted)) {
+            return legacyEncryptor.decrypt(encrypted);
+        }
+        try {
+            byte[] payload = Base64.getDecoder().decode(encrypted.substring(CIPHERTEXT_PREFIX.length()));
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, dataKey, new GCMParameterSpec(TAG_LENGTH_BITS, payload, 0, IV_LENGTH_BYTES));
+            byte[] plaintext = cipher.doFinal(payload, IV_LENGTH_BYTES, payload.length - IV_LENGTH_BYTES);
+
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM decryption failed", e);
+        }
+    }
+
+    @Override
+    public boolean isCurrentFormat(String encrypted) {
+        return encrypted != null && encrypted.startsWith(CIPHERTEXT_PREFIX);
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.data.convert.ReadingConverter;
  * from database using Jasypt encryption.
  * <p>
  * Converts encrypted {@link String} from database to {@link EncryptedString} domain type.
+ * The ciphertext is not decrypted here - {@link EncryptedString} decrypts it on first access,
+ * so materialising rows performs no cryptographic work.
  * <p>
  * Uses SharedEncryptionService to ensure consistent encryption/decryption.
  */
@@ -25,7 +27,6 @@ class StringToEncryptedStringConverter implements Converter<String, EncryptedStr
         if (dbData == null) {
             return null;
         }
-        String decrypted = encryptionService.decrypt(dbData);
-        return EncryptedString.of(decrypted);
+        return EncryptedString.ofCiphertext(dbData, encryptionService);
     }
 }
@@ -0,0 +1,35 @@
+package com.klabis.common.encryption;
+
+/**
+ * Command line tool printing a new data key for {@code klabis.encryption.mode=envelope}.
+ * <p>
+ * The key is wrapped by the Jasypt password taken from {@code KLABIS_JASYPT_PASSWORD}, so it must be generated
+ * with the same password (and algorithm) the application runs with. Run it with
+ * {@code ./gradlew generateWrappedDataKey} and put the printed value into {@code KLABIS_ENCRYPTION_WRAPPED_DATA_KEY}.
+ * An optional first argument overrides the Jasypt algorithm ({@code jasypt.encryptor.algorithm}).
+ */
+public final class WrappedDataKeyGenerator {
+
+    static final String PASSWORD_ENVIRONMENT_VARIABLE = "KLABIS_JASYPT_PASSWORD";
+    static final String DEFAULT_ALGORITHM = "PBEWithHmacSHA512AndAES_256";
+
+    private WrappedDataKeyGenerator() {
+    }
+
+    public static void main(String[] args) {
+        String password = System.getenv(PASSWORD_ENVIRONMENT_VARIABLE);
+        if (password == null || password.isBlank()) {
+            System.err.println(PASSWORD_ENVIRONMENT_VARIABLE + " must be set to the application's Jasypt password");
+            System.exit(1);
+        }
+        String algorithm = args.length > 0 ? args[0] : DEFAULT_ALGORITHM;
+        System.out.println(generate(password, algorithm));
+    }
+
+    /**
+     * Returns a new random data key wrapped by the Jasypt encryptor with the given password and algorithm.
+     */
+    public static String generate(String password, String algorithm) {
+        return EnvelopeEncryptionService.wrapNewDataKey(new SharedEncryptionService(password, algorithm));
+    }
+}
@@ -0,0 +1,162 @@
+package com.klabis.common.etag;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Entity tags of aggregate detail resources, derived from the optimistic locking version.
+ * <p>
+ * The tag is {@code "<version>-<fingerprint>"}. The fingerprint covers the caller's name and authorities, because
+ * the same aggregate version renders with different fields and affordances for different callers, and the current
+ * date, because some affordances (registration deadlines) change with it. A tag therefore only ever matches for the
+ * caller it was issued to, on the day it was issued.
+ * <p>
+ * Typical use in a controller:
+ * <pre>{@code
+ * Optional<ResponseEntity<Model>> notModified = AggregateETags.notModified(() -> repository.findVersionById(id));
+ * if (notModified.isPresent()) {
+ *     return notModified.get();
+ * }
+ * Aggregate aggregate = ...;
+ * return AggregateETags.ok(aggregate.getVersion()).body(model);
+ * }</pre>
+ * Writes accept {@code If-Match} through {@link #expectIfMatch(UUID)}, see {@link ExpectedVersions}.
+ */
+public final class AggregateETags {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private AggregateETags() {
+    }
+
+    /**
+     * Answers a conditional GET without loading the aggregate.
+     *
+     * @param currentVersion cheap version-only lookup; only called when the request carries {@code If-None-Match}
+     * @return a 304 response when the caller's copy is current, empty when the resource has to be rendered
+     */
+    public static <T> Optional<ResponseEntity<T>> notModified(Supplier<Optional<Long>> currentVersion) {
+        String ifNoneMatch = requestHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        List<ETag> candidates = ETag.parse(ifNoneMatch);
+        return currentVersion.get()
+                .map(AggregateETags::eTag)
+                .filter(current -> candidates.stream()
+                        .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false)))
+                .map(current -> ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(current.formattedTag())
+                        .cacheControl(REVALIDATE)
+                        .<T>build());
+    }
+
+    /**
+     * A 200 response carrying the entity tag of the given version. Aggregates that have not been persisted yet
+     * (no version) get no tag.
+     * <p>
+     * Tagged responses are marked {@code private, no-cache} instead of the {@code no-store} Spring Security adds by
+     * default, so browsers keep them and revalidate with {@code If-None-Match}.
+     */
+    public static ResponseEntity.BodyBuilder ok(@Nullable Long version) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (version != null) {
+            response.eTag(eTag(version).formattedTag()).cacheControl(REVALIDATE);
+        }
+        return response;
+    }
+
+    /**
+     * Turns the {@code If-Match} header of the current request into the expected version of the aggregate with the
+     * given id, so that the write fails with a precondition error instead of overwriting a newer version.
+     * <p>
+     * Does nothing without {@code If-Match} or for {@code If-Match: *}.
+     *
+     * @throws ErrorResponseException with 412 when none of the tags names a version of this resource
+     */
+    public static void expectIfMatch(UUID aggregateId) {
+        String ifMatch = requestHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch == null) {
+            return;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.stream().anyMatch(ETag::isWildcard)) {
+            return;
+        }
+        Long expected = tags.stream()
+                .filter(tag -> !tag.weak())
+                .map(tag -> parseVersion(tag.tag()))
+                .flatMap(Optional::stream)
+                .findFirst()
+                .orElseThrow(() -> new ErrorResponseException(HttpStatus.PRECONDITION_FAILED));
+        ExpectedVersions.expect(aggregateId, expected);
+    }
+
+    static ETag eTag(long version) {
+        return new ETag(version + "-" + fingerprint(SecurityContextHolder.getContext().getAuthentication(),
+                LocalDate.now()), false);
+    }
+
+    static Optional<Long> parseVersion(String tag) {
+        int separator = tag.indexOf('-');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(tag.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    static String fingerprint(@Nullable Authentication authentication, LocalDate date) {
+        StringBuilder input = new StringBuilder(date.toString()).append('\n');
+        if (authentication != null) {
+            input.append(authentication.getName()).append('\n');
+            authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .forEach(authority -> input.append(authority).append(','));
+        }
+        return HEX.formatHex(sha256(input.toString()), 0, 8);
+    }
+
+    private static byte[] sha256(String input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static @Nullable String requestHeader(String name) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(name);
+        }
+        return null;
+    }
+}
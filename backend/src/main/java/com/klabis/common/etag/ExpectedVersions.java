@@ -0,0 +1,69 @@
+package com.klabis.common.etag;
+
+import com.klabis.common.domain.AuditMetadata;
+import com.klabis.common.domain.KlabisAggregateRoot;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Versions that the current request expects aggregates to have, taken from {@code If-Match}.
+ * <p>
+ * Repository adapters call {@link #applyTo} right before turning an aggregate into its memento. The expected version
+ * replaces the loaded one, so the {@code UPDATE ... WHERE version = ?} of Spring Data JDBC does the comparison
+ * atomically and a stale write ends in an {@code OptimisticLockingFailureException}, reported as 412. No extra read
+ * is needed and there is no window between checking and writing.
+ * <p>
+ * Expectations live in the request attributes and are consumed by the first save of the aggregate, so a service that
+ * saves the same aggregate twice is not tripped up by its own first write. Outside a web request this is a no-op.
+ */
+public final class ExpectedVersions {
+
+    private static final String ATTRIBUTE = ExpectedVersions.class.getName();
+
+    private ExpectedVersions() {
+    }
+
+    static void expect(UUID aggregateId, long version) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            expectations(attributes, true).put(aggregateId, version);
+        }
+    }
+
+    /**
+     * Replaces the version of a persisted aggregate with the one the request expects, if any.
+     *
+     * @param aggregate   aggregate about to be saved
+     * @param aggregateId its id as used in the resource URI
+     * @return the same aggregate
+     */
+    public static <A extends KlabisAggregateRoot<A, ?>> A applyTo(A aggregate, UUID aggregateId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        AuditMetadata auditMetadata = aggregate.getAuditMetadata();
+        if (attributes == null || auditMetadata == null) {
+            return aggregate;
+        }
+        Map<UUID, Long> expectations = expectations(attributes, false);
+        Long expected = expectations != null ? expectations.remove(aggregateId) : null;
+        if (expected != null) {
+            aggregate.updateAuditMetadata(new AuditMetadata(auditMetadata.createdAt(), auditMetadata.createdBy(),
+                    auditMetadata.lastModifiedAt(), auditMetadata.lastModifiedBy(), expected));
+        }
+        return aggregate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<UUID, Long> expectations(RequestAttributes attributes, boolean create) {
+        Map<UUID, Long> expectations =
+                (Map<UUID, Long>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (expectations == null && create) {
+            expectations = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, expectations, RequestAttributes.SCOPE_REQUEST);
+        }
+        return expectations;
+    }
+}
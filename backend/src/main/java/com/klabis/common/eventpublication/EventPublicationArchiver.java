@@ -0,0 +1,133 @@
+package com.klabis.common.eventpublication;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Scheduled job keeping the Spring Modulith EVENT_PUBLICATION table small.
+ *
+ * <p>Completed publications older than {@code klabis.events.retention.archive-after} are moved to
+ * EVENT_PUBLICATION_ARCHIVE, and archived rows older than {@code klabis.events.retention.keep-archived}
+ * are deleted. Both steps work in batches of {@code batch-size} rows, each in its own transaction,
+ * so that event publishing running at the same time is never blocked for long.
+ */
+@Component
+public class EventPublicationArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPublicationArchiver.class);
+
+    private static final String COLUMNS = """
+            id, completion_date, event_type, listener_id, publication_date, serialized_event,
+            status, completion_attempts, last_resubmission_date""";
+
+    private static final String SELECT_COMPLETED = """
+            SELECT id FROM event_publication
+            WHERE completion_date < :cutoff
+            ORDER BY completion_date
+            LIMIT :limit
+            """;
+
+    private static final String COPY_TO_ARCHIVE = "INSERT INTO event_publication_archive (" + COLUMNS + ") "
+                                                  + "SELECT " + COLUMNS + " FROM event_publication WHERE id IN (:ids)";
+
+    private static final String DELETE_ARCHIVED = "DELETE FROM event_publication WHERE id IN (:ids)";
+
+    private static final String SELECT_EXPIRED = """
+            SELECT id FROM event_publication_archive
+            WHERE completion_date < :cutoff
+            ORDER BY completion_date
+            LIMIT :limit
+            """;
+
+    private static final String DELETE_EXPIRED = "DELETE FROM event_publication_archive WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final EventPublicationRetentionProperties properties;
+    private final Clock clock;
+
+    public EventPublicationArchiver(NamedParameterJdbcTemplate namedJdbc,
+                                    PlatformTransactionManager transactionManager,
+                                    EventPublicationRetentionProperties properties,
+                                    Clock clock) {
+        this.namedJdbc = namedJdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${klabis.events.retention.cron:0 15 3 * * *}")
+    public void runRetention() {
+        try {
+            int archived = archiveCompleted();
+            int purged = purgeArchive();
+            log.info("Event publication retention completed: {} archived, {} purged from archive", archived, purged);
+        } catch (Exception e) {
+            log.error("Error during event publication retention job: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Moves completed publications past the archive threshold to EVENT_PUBLICATION_ARCHIVE.
+     *
+     * @return number of moved publications
+     */
+    public int archiveCompleted() {
+        Instant cutoff = clock.instant().minus(properties.getArchiveAfter());
+        return inBatches(SELECT_COMPLETED, cutoff, ids -> {
+            namedJdbc.update(COPY_TO_ARCHIVE, new MapSqlParameterSource("ids", ids));
+            namedJdbc.update(DELETE_ARCHIVED, new MapSqlParameterSource("ids", ids));
+        });
+    }
+
+    /**
+     * Deletes archived publications past the archive retention period.
+     *
+     * @return number of deleted publications
+     */
+    public int purgeArchive() {
+        Instant cutoff = clock.instant().minus(properties.getKeepArchived());
+        return inBatches(SELECT_EXPIRED, cutoff,
+                ids -> namedJdbc.update(DELETE_EXPIRED, new MapSqlParameterSource("ids", ids)));
+    }
+
+    private int inBatches(String selectSql, Instant cutoff, BatchAction action) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.from(cutoff))
+                .addValue("limit", properties.getBatchSize());
+
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            Integer processed = transactionTemplate.execute(status -> {
+                List<UUID> ids = namedJdbc.queryForList(selectSql, params, UUID.class);
+                if (!ids.isEmpty()) {
+                    action.apply(ids);
+                }
+                return ids.size();
+            });
+            int count = processed != null ? processed : 0;
+            total += count;
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface BatchAction {
+        void apply(List<UUID> ids);
+    }
+}
@@ -0,0 +1,65 @@
+package com.klabis.common.eventpublication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Retention of Spring Modulith event publications.
+ * Maps to klabis.events.retention.* properties in application.yml
+ */
+@ConfigurationProperties(prefix = "klabis.events.retention")
+public class EventPublicationRetentionProperties {
+
+    /**
+     * Completed publications older than this are moved to EVENT_PUBLICATION_ARCHIVE.
+     */
+    private Duration archiveAfter = Duration.ofDays(7);
+
+    /**
+     * Archived publications older than this are deleted.
+     */
+    private Duration keepArchived = Duration.ofDays(180);
+
+    /**
+     * Number of rows moved or deleted in one transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound of batches per run, so one run never holds the database for long.
+     */
+    private int maxBatchesPerRun = 200;
+
+    public Duration getArchiveAfter() {
+        return archiveAfter;
+    }
+
+    public void setArchiveAfter(Duration archiveAfter) {
+        this.archiveAfter = archiveAfter;
+    }
+
+    public Duration getKeepArchived() {
+        return keepArchived;
+    }
+
+    public void setKeepArchived(Duration keepArchived) {
+        this.keepArchived = keepArchived;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+}
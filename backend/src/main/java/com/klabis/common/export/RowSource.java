@@ -0,0 +1,21 @@
+package com.klabis.common.export;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Rows of an export, handed over one at a time.
+ * <p>
+ * Nothing is read before {@link #forEach} is called and rows are not kept once the action returns, so a source
+ * backed by a database cursor can feed an export of any size in constant memory. A {@code List} is a valid source
+ * too ({@code list::forEach}).
+ */
+@FunctionalInterface
+public interface RowSource<T> {
+
+    void forEach(Consumer<? super T> action);
+
+    default <R> RowSource<R> map(Function<? super T, ? extends R> mapper) {
+        return action -> forEach(row -> action.accept(mapper.apply(row)));
+    }
+}
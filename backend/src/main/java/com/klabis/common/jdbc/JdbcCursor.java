@@ -0,0 +1,49 @@
+package com.klabis.common.jdbc;
+
+import com.klabis.common.export.RowSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.stream.Stream;
+
+/**
+ * Queries whose rows are fetched from the database in batches while they are consumed.
+ * <p>
+ * PostgreSQL only honours the fetch size inside a transaction; otherwise the driver reads the whole result before
+ * returning the first row. Each {@link RowSource#forEach} therefore runs in a read-only transaction (joining the
+ * current one if there is any), which also lets it go to the read replica when one is configured. The connection
+ * stays checked out until the last row is consumed, so sources are meant for downloads, not long-lived iteration.
+ * <p>
+ * Adapters create their own instance from the injected DataSource and transaction manager.
+ */
+public final class JdbcCursor {
+
+    static final int FETCH_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JdbcCursor(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+        cursorTemplate.setFetchSize(FETCH_SIZE);
+        this.jdbc = new NamedParameterJdbcTemplate(cursorTemplate);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Returns a source that runs the query each time it is iterated. Nothing touches the database until then.
+     */
+    public <T> RowSource<T> query(String sql, SqlParameterSource parameters, RowMapper<T> rowMapper) {
+        return action -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> rows = jdbc.queryForStream(sql, parameters, rowMapper)) {
+                rows.forEach(action);
+            }
+        });
+    }
+}
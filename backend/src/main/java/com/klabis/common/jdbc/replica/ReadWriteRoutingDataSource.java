@@ -0,0 +1,65 @@
+package com.klabis.common.jdbc.replica;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * Must be used behind a {@link LazyConnectionDataSourceProxy} ({@link #create}): the transaction manager asks for
+ * a connection before it marks the transaction read-only, so the physical connection is only chosen once the first
+ * statement runs. Work outside a transaction stays on the primary.
+ * <p>
+ * A committed read-write transaction pins the reads of its user to the primary for the read-your-writes window
+ * of {@link ReadYourWritesTracker}.
+ */
+final class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWrites;
+
+    private ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWrites) {
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    static DataSource create(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWrites) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, readYourWrites));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriterOnCommit();
+            return Target.PRIMARY;
+        }
+        return readYourWrites.wroteRecently() ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    private void rememberWriterOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        readYourWrites.currentSession().ifPresent(session ->
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.recordWrite(session);
+                    }
+                }));
+    }
+}
@@ -0,0 +1,43 @@
+package com.klabis.common.jdbc.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Remembers who committed a write recently, so that their next reads see it even if the replica lags behind.
+ * <p>
+ * The session is the authenticated user: the API is called with bearer tokens and has no HTTP session, and the
+ * same user in another browser tab expects to see their own change too. Anonymous requests and background jobs
+ * have no session and are never pinned to the primary.
+ */
+final class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(window).build();
+    }
+
+    Optional<String> currentSession() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.of(authentication.getName());
+    }
+
+    void recordWrite(String session) {
+        recentWriters.put(session, Boolean.TRUE);
+    }
+
+    boolean wroteRecently() {
+        return currentSession().map(session -> recentWriters.getIfPresent(session) != null).orElse(false);
+    }
+}
@@ -0,0 +1,108 @@
+package com.klabis.common.listeners;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sizing of the per-module listener executors.
+ * Maps to klabis.listeners.executors.* properties in application.yml
+ *
+ * <p>{@code defaults} apply to every module; entries under {@code modules.<name>} override individual values.
+ */
+@ConfigurationProperties(prefix = "klabis.listeners.executors")
+public class ListenerExecutorProperties {
+
+    private final Settings defaults = new Settings(2, 4, 500, false);
+
+    private final Map<String, Settings> modules = new HashMap<>();
+
+    public Settings getDefaults() {
+        return defaults;
+    }
+
+    public Map<String, Settings> getModules() {
+        return modules;
+    }
+
+    /**
+     * Effective settings of a module: its own values where set, the defaults otherwise.
+     */
+    Settings forModule(String module) {
+        Settings overrides = modules.get(module);
+        if (overrides == null) {
+            return defaults;
+        }
+        return new Settings(
+                overrides.getCoreSize() != null ? overrides.getCoreSize() : defaults.getCoreSize(),
+                overrides.getMaxSize() != null ? overrides.getMaxSize() : defaults.getMaxSize(),
+                overrides.getQueueCapacity() != null ? overrides.getQueueCapacity() : defaults.getQueueCapacity(),
+                overrides.getVirtualThreads() != null ? overrides.getVirtualThreads() : defaults.getVirtualThreads());
+    }
+
+    public static class Settings {
+
+        /**
+         * Threads running listeners of the module; kept alive while idle.
+         */
+        private Integer coreSize;
+
+        /**
+         * Upper bound of threads; threads above core-size are added only while the queue is full.
+         */
+        private Integer maxSize;
+
+        /**
+         * Events waiting for a free thread; when full, the listener is dropped and its publication resubmitted later.
+         */
+        private Integer queueCapacity;
+
+        /**
+         * Creates the executor's threads as virtual threads; max-size and queue-capacity still apply.
+         */
+        private Boolean virtualThreads;
+
+        public Settings() {
+        }
+
+        Settings(Integer coreSize, Integer maxSize, Integer queueCapacity, Boolean virtualThreads) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.queueCapacity = queueCapacity;
+            this.virtualThreads = virtualThreads;
+        }
+
+        public Integer getCoreSize() {
+            return coreSize;
+        }
+
+        public void setCoreSize(Integer coreSize) {
+            this.coreSize = coreSize;
+        }
+
+        public Integer getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Integer getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Boolean getVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(Boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+    }
+}
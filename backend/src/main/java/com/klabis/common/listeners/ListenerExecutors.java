@@ -0,0 +1,23 @@
+package com.klabis.common.listeners;
+
+/**
+ * Names of the per-module executors running {@code @ApplicationModuleListener} handlers.
+ *
+ * <p>A listener opts into its module's executor with {@code @Async(ListenerExecutors.CALENDAR)} next to
+ * {@code @ApplicationModuleListener}; the directly declared {@code @Async} qualifier takes precedence over the
+ * unqualified one inherited from {@code @ApplicationModuleListener}. Each executor has its own threads and
+ * bounded queue (see {@link ListenerExecutorProperties}), so a backlog in one module does not delay listeners
+ * of the others.
+ */
+public final class ListenerExecutors {
+
+    public static final String CALENDAR = "calendarListenerExecutor";
+    public static final String FINANCE = "financeListenerExecutor";
+    public static final String GROUPS = "groupsListenerExecutor";
+    public static final String MEMBERS = "membersListenerExecutor";
+    public static final String MEMBERSHIP_FEES = "membershipFeesListenerExecutor";
+    public static final String USERS = "usersListenerExecutor";
+
+    private ListenerExecutors() {
+    }
+}
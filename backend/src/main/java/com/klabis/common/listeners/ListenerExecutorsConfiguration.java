@@ -0,0 +1,138 @@
+package com.klabis.common.listeners;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-module executors for {@code @ApplicationModuleListener} handlers (see {@link ListenerExecutors}).
+ *
+ * <p>Every executor is instrumented with Micrometer's {@link ExecutorServiceMetrics} under the
+ * {@value #METRIC_PREFIX} prefix and tagged with {@code name=<module>}:
+ * <ul>
+ *   <li><b>{@value #METRIC_PREFIX}.executor.idle</b> - time an event waited in the queue</li>
+ *   <li><b>{@value #METRIC_PREFIX}.executor</b> - listener execution time</li>
+ *   <li><b>{@value #METRIC_PREFIX}.executor.queued / .active / .pool.size</b> - current backlog and load</li>
+ *   <li><b>{@value #METRIC_PREFIX}.executor.rejected</b> - listener invocations dropped by a saturated executor</li>
+ * </ul>
+ *
+ * <p>A saturated executor drops the invocation instead of running it in the publishing thread, so one module's
+ * backlog cannot stall the publisher and with it the listeners of other modules. The event publication stays
+ * incomplete and is resubmitted by {@link UnprocessedPublicationsResubmitter}.
+ *
+ * <p>Because these are {@code Executor} beans, Spring Boot's task execution auto-configuration backs off, so the
+ * {@value #APPLICATION_TASK_EXECUTOR} (Spring MVC async requests, unqualified {@code @Async}) is defined here too.
+ */
+@Configuration
+public class ListenerExecutorsConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerExecutorsConfiguration.class);
+
+    static final String METRIC_PREFIX = "klabis.listeners";
+
+    /**
+     * Bean name Spring Boot uses for its auto-configured task executor.
+     */
+    static final String APPLICATION_TASK_EXECUTOR = "applicationTaskExecutor";
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ListenerExecutorProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    ListenerExecutorsConfiguration(ListenerExecutorProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(ListenerExecutors.CALENDAR)
+    ExecutorService calendarListenerExecutor() {
+        return create("calendar");
+    }
+
+    @Bean(ListenerExecutors.FINANCE)
+    ExecutorService financeListenerExecutor() {
+        return create("finance");
+    }
+
+    @Bean(ListenerExecutors.GROUPS)
+    ExecutorService groupsListenerExecutor() {
+        return create("groups");
+    }
+
+    @Bean(ListenerExecutors.MEMBERS)
+    ExecutorService membersListenerExecutor() {
+        return create("members");
+    }
+
+    @Bean(ListenerExecutors.MEMBERSHIP_FEES)
+    ExecutorService membershipFeesListenerExecutor() {
+        return create("membershipfees");
+    }
+
+    @Bean(ListenerExecutors.USERS)
+    ExecutorService usersListenerExecutor() {
+        return create("users");
+    }
+
+    /**
+     * The executor Spring Boot would auto-configure without the listener executors, built from its builders so that
+     * {@code spring.task.execution.*} and {@code spring.threads.virtual.enabled} still apply.
+     */
+    @Bean(APPLICATION_TASK_EXECUTOR)
+    AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+                                              SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+                                              Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return simpleAsyncTaskExecutorBuilder.build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    ExecutorService create(String module) {
+        ListenerExecutorProperties.Settings settings = properties.forModule(module);
+        String threadNamePrefix = "listener-" + module + "-";
+
+        ThreadFactory threadFactory = settings.getVirtualThreads()
+                ? Thread.ofVirtual().name(threadNamePrefix, 1).factory()
+                : new CustomizableThreadFactory(threadNamePrefix);
+
+        int maxSize = Math.max(settings.getMaxSize(), 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                Math.min(settings.getCoreSize(), maxSize),
+                maxSize,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(settings.getQueueCapacity(), 1)),
+                threadFactory,
+                leaveForResubmission(module));
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, module, METRIC_PREFIX, Tags.empty());
+    }
+
+    private RejectedExecutionHandler leaveForResubmission(String module) {
+        Counter rejected = meterRegistry.counter(METRIC_PREFIX + ".executor.rejected", "name", module);
+        return (task, executor) -> {
+            rejected.increment();
+            log.warn("Listener executor of module {} is saturated, its event publication is left for resubmission",
+                    module);
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.klabis.common.listeners;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.modulith.events.ResubmissionOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Resubmits event publications that no listener has started processing.
+ *
+ * <p>A saturated listener executor drops the invocation (see {@link ListenerExecutorsConfiguration}), leaving its
+ * publication in status {@link EventPublication.Status#PUBLISHED PUBLISHED}. Such publications are resubmitted once
+ * they are older than {@code klabis.listeners.resubmission.min-age}. Publications of failed listeners are left for
+ * the republication on restart, as before.
+ */
+@Component
+class UnprocessedPublicationsResubmitter {
+
+    private final IncompleteEventPublications incompletePublications;
+    private final Duration minAge;
+
+    UnprocessedPublicationsResubmitter(IncompleteEventPublications incompletePublications,
+                                       @Value("${klabis.listeners.resubmission.min-age:PT10M}") Duration minAge) {
+        this.incompletePublications = incompletePublications;
+        this.minAge = minAge;
+    }
+
+    @Scheduled(initialDelayString = "${klabis.listeners.resubmission.interval:PT1M}",
+            fixedDelayString = "${klabis.listeners.resubmission.interval:PT1M}")
+    void resubmit() {
+        incompletePublications.resubmitIncompletePublications(ResubmissionOptions.defaults()
+                .withMinAge(minAge)
+                .withFilter(publication -> publication.getStatus() == EventPublication.Status.PUBLISHED));
+    }
+}
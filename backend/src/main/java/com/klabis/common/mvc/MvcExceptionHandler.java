@@ -16,7 +16,6 @@ import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
@@ -116,9 +115,20 @@ class MvcExceptionHandler extends ResponseEntityExceptionHandler {
                     schema = @Schema(implementation = ProblemDetail.class)
             )
     )
-    @ResponseStatus(HttpStatus.CONFLICT)
+    @ApiResponse(
+            responseCode = "412",
+            description = "Precondition failed - the If-Match version is no longer current",
+            content = @Content(
+                    mediaType = "application/problem+json",
+                    schema = @Schema(implementation = ProblemDetail.class)
+            )
+    )
     @ExceptionHandler(OptimisticLockingFailureException.class)
-    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException ex, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            return ErrorResponse.builder(ex, HttpStatus.PRECONDITION_FAILED, "The resource has been modified since it was read")
+                    .title("Precondition Failed").build();
+        }
         return ErrorResponse.builder(ex, HttpStatus.CONFLICT, ex.getMessage()).title("Concurrent Update Conflict").build();
     }
 
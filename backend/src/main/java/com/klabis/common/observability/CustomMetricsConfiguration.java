@@ -3,15 +3,19 @@ package com.klabis.common.observability;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.core.EventPublicationRepository;
 
 import java.util.List;
 
@@ -27,6 +31,9 @@ import java.util.List;
  *   <li><b>spring.modulith.events.published</b> - Counter tracking total events published</li>
  *   <li><b>spring.modulith.events.incomplete</b> - Gauge showing current incomplete events backlog</li>
  *   <li><b>spring.modulith.events.latency</b> - Histogram of event processing time (milliseconds)</li>
+ *   <li><b>klabis.listeners.duration</b> - Timer per listener, event type and outcome (see {@link CustomMetricsTrackingAspect})</li>
+ *   <li><b>klabis.events.completion.lag</b> - Timer of publish-to-completion lag per event type and listener
+ *       (see {@link EventCompletionLagRecorder})</li>
  * </ul>
  *
  * <h2>Configuration</h2>
@@ -43,14 +50,35 @@ public class CustomMetricsConfiguration {
     public static final String METRIC_NAME_INCOMPLETE_EVENTS = "klabis.events.incomplete";
     public static final String METRIC_NAME_LISTENERS_CALLED = "klabis.listeners.called";
     public static final String METRIC_NAME_LISTENERS_EXECUTION_TIME = "klabis.listeners.executionTime";
+    public static final String METRIC_NAME_LISTENER_DURATION = "klabis.listeners.duration";
+    public static final String METRIC_NAME_EVENT_COMPLETION_LAG = "klabis.events.completion.lag";
+
+    static final Tag APPLICATION_TAG = Tag.of("application", "klabis");
+
+    @Bean
+    IncompleteEventsCounter incompleteEventsCounter(JdbcTemplate jdbcTemplate) {
+        return new IncompleteEventsCounter(jdbcTemplate);
+    }
+
+    @Bean
+    static BeanPostProcessor eventCompletionLagRecordingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof EventPublicationRepository repository
+                        ? new EventCompletionLagRecorder(repository, meterRegistry)
+                        : bean;
+            }
+        };
+    }
 
     @Bean
-    MeterBinder registerMetrics(JdbcTemplate jdbcTemplate) {
+    MeterBinder registerMetrics(IncompleteEventsCounter incompleteEventsCounter) {
         return registry -> {
             log.info("Binding Spring Modulith custom metrics to MeterRegistry %s".formatted(System.identityHashCode(
                     registry)));
 
-            final Tag applicationTag = Tag.of("application", "klabis");
+            final Tag applicationTag = APPLICATION_TAG;
 
             // Counter for total events published
             Counter.builder(METRIC_NAME_LISTENERS_CALLED)
@@ -58,10 +86,10 @@ public class CustomMetricsConfiguration {
                     .tags(List.of(applicationTag))
                     .register(registry);
 
-            // Gauge for incomplete events backlog
+            // Gauge for incomplete events backlog (cached, refreshed in the background)
             Gauge.builder(METRIC_NAME_INCOMPLETE_EVENTS,
-                            jdbcTemplate,
-                            CustomMetricsConfiguration::countIncompleteEvents)
+                            incompleteEventsCounter,
+                            IncompleteEventsCounter::value)
                     .description("Current number of incomplete Spring Modulith events")
                     .tags(List.of(applicationTag))
                     .register(registry);
@@ -80,18 +108,6 @@ public class CustomMetricsConfiguration {
         };
     }
 
-    private static double countIncompleteEvents(JdbcTemplate jdbcTemplate) {
-        try {
-            Integer count = jdbcTemplate.queryForObject(
-                    "SELECT COUNT(*) FROM EVENT_PUBLICATION WHERE COMPLETION_DATE IS NULL AND EVENT_TYPE LIKE 'com.klabis.%'",
-                    Integer.class);
-            return count != null ? count : 0;
-        } catch (Exception e) {
-            log.warn("Failed to query incomplete events count: {}", e.getMessage());
-            return -1;
-        }
-    }
-
     /**
      * Logs custom metrics configuration status on startup.
      */
@@ -4,6 +4,8 @@ import com.klabis.KlabisApplication;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -13,7 +15,9 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AOP aspect that tracks metrics for Spring Modulith event listeners.
@@ -28,15 +32,19 @@ import java.time.Instant;
  *       Increments when Klabis events are processed by listeners</li>
  *   <li><b>Event Latency ({@value CustomMetricsConfiguration#METRIC_NAME_LISTENERS_EXECUTION_TIME}):</b>
  *       Records execution time of event listener methods in milliseconds</li>
+ *   <li><b>Listener Duration ({@value CustomMetricsConfiguration#METRIC_NAME_LISTENER_DURATION}):</b>
+ *       Timer with percentile histogram tagged by {@code listener}, {@code event} and {@code outcome}</li>
  * </ul>
  *
+ * <p>Meters are created on the first call of a listener/event combination and reused afterwards.
+ *
  * <h2>How It Works</h2>
  * <ol>
  *   <li>Intercepts all @EventListener method calls</li>
  *   <li>Filters for Klabis domain events only</li>
  *   <li>Increments published events counter</li>
  *   <li>Measures listener execution time</li>
- *   <li>Records latency metric after listener completes</li>
+ *   <li>Records latency metrics after listener completes</li>
  * </ol>
  *
  * <p><b>Note:</b> This does NOT include the time events spend waiting in the
@@ -54,10 +62,24 @@ public class CustomMetricsTrackingAspect {
     private static final Package KLABIS_PACKAGE = KlabisApplication.class.getPackage();
     private static final Logger log = LoggerFactory.getLogger(CustomMetricsTrackingAspect.class);
 
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+
     private final MeterRegistry meterRegistry;
+    private final Counter listenersCalledCounter;
+    private final DistributionSummary executionTimeSummary;
+    private final Map<ListenerTimerKey, Timer> listenerTimers = new ConcurrentHashMap<>();
 
     public CustomMetricsTrackingAspect(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
+        // Same name and tags as in CustomMetricsConfiguration, so these resolve to the meters registered there
+        this.listenersCalledCounter = Counter.builder(CustomMetricsConfiguration.METRIC_NAME_LISTENERS_CALLED)
+                .tags(List.of(CustomMetricsConfiguration.APPLICATION_TAG))
+                .register(meterRegistry);
+        this.executionTimeSummary = DistributionSummary.builder(CustomMetricsConfiguration.METRIC_NAME_LISTENERS_EXECUTION_TIME)
+                .tags(List.of(CustomMetricsConfiguration.APPLICATION_TAG))
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
     }
 
     @Around("@annotation(org.springframework.context.event.EventListener) && execution(* com.klabis..*(com.klabis..*))")
@@ -83,55 +105,55 @@ public class CustomMetricsTrackingAspect {
         }
 
         Object event = args[0];
+        String listener = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                          + "." + joinPoint.getSignature().getName();
 
         // Measure execution time
-        Instant startTime = Instant.now();
+        long startTime = System.nanoTime();
 
         try {
             // Execute the actual listener method
             Object result = joinPoint.proceed();
 
-            Duration latency = Duration.between(startTime, Instant.now());
-            trackEventSuccess(event, latency);
+            Duration latency = Duration.ofNanos(System.nanoTime() - startTime);
+            trackEventSuccess(listener, event, latency);
 
             return result;
         } catch (Throwable throwable) {
-            trackEventFailure(event);
+            trackEventFailure(listener, event, Duration.ofNanos(System.nanoTime() - startTime));
 
             throw throwable;
         }
     }
 
-    public void trackEventFailure(Object event) {
+    public void trackEventFailure(String listener, Object event, Duration latency) {
         if (isKlabisEvent(event)) {
             log.debug("Tracking failed processing of event {}", event.getClass().getSimpleName());
-            getPublishedEventsCounter().increment();
+            listenersCalledCounter.increment();
+            listenerTimer(listener, event.getClass(), OUTCOME_FAILURE).record(latency);
         }
 
     }
 
-    public void trackEventSuccess(Object event, Duration latency) {
+    public void trackEventSuccess(String listener, Object event, Duration latency) {
         if (isKlabisEvent(event)) {
             log.debug("Tracking success processing of event {}", event.getClass().getSimpleName());
-            getPublishedEventsCounter().increment();
-            recordLatency(latency);
+            listenersCalledCounter.increment();
+            executionTimeSummary.record(latency.toMillis());
+            listenerTimer(listener, event.getClass(), OUTCOME_SUCCESS).record(latency);
         }
     }
 
-    private Counter getPublishedEventsCounter() {
-        return meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_LISTENERS_CALLED).counter();
-    }
-
-    private DistributionSummary getEventLatencySummary() {
-        return meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_LISTENERS_EXECUTION_TIME).summary();
-    }
-
-    private void recordLatency(Duration latency) {
-        DistributionSummary summary = getEventLatencySummary();
-        if (summary != null) {
-            double millis = latency.toMillis();
-            summary.record(millis);
-        }
+    private Timer listenerTimer(String listener, Class<?> eventType, String outcome) {
+        return listenerTimers.computeIfAbsent(new ListenerTimerKey(listener, eventType, outcome),
+                key -> Timer.builder(CustomMetricsConfiguration.METRIC_NAME_LISTENER_DURATION)
+                        .description("Execution time of Klabis event listeners")
+                        .tags(List.of(CustomMetricsConfiguration.APPLICATION_TAG,
+                                Tag.of("listener", key.listener()),
+                                Tag.of("event", key.eventType().getSimpleName()),
+                                Tag.of("outcome", key.outcome())))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
     }
 
     private boolean isKlabisEvent(Object event) {
@@ -139,4 +161,7 @@ public class CustomMetricsTrackingAspect {
         return eventPackage != null &&
                eventPackage.getName().startsWith(KLABIS_PACKAGE.getName());
     }
+
+    private record ListenerTimerKey(String listener, Class<?> eventType, String outcome) {
+    }
 }
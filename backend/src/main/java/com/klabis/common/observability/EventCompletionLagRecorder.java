@@ -0,0 +1,183 @@
+package com.klabis.common.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records end-to-end lag of Spring Modulith event publications - from publishing the event to completion of
+ * its listener, including the time spent in the EVENT_PUBLICATION outbox and in the listener executor queue.
+ *
+ * <p>Decorates the {@link EventPublicationRepository}, so the lag is recorded by the node that completed the
+ * publication, once the completion commits. It goes into the
+ * {@value CustomMetricsConfiguration#METRIC_NAME_EVENT_COMPLETION_LAG} timer, tagged by {@code event} and
+ * {@code listener}. Completions Modulith marks by event and listener only (without a publication in progress on
+ * this node) carry no publication date and are not recorded.
+ */
+class EventCompletionLagRecorder implements EventPublicationRepository {
+
+    private static final String KLABIS_PACKAGE = "com.klabis.";
+
+    private final EventPublicationRepository delegate;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+
+    EventCompletionLagRecorder(EventPublicationRepository delegate, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void markCompleted(TargetEventPublication publication, Instant completionDate) {
+        delegate.markCompleted(publication, completionDate);
+        if (publication.getEvent().getClass().getName().startsWith(KLABIS_PACKAGE)) {
+            afterCommit(() -> record(publication, completionDate));
+        }
+    }
+
+    private void record(TargetEventPublication publication, Instant completionDate) {
+        timer(publication.getEvent().getClass().getSimpleName(),
+                listenerName(publication.getTargetIdentifier().getValue()))
+                .record(Duration.between(publication.getPublicationDate(), completionDate));
+    }
+
+    private Timer timer(String event, String listener) {
+        return timers.computeIfAbsent(List.of(event, listener),
+                key -> Timer.builder(CustomMetricsConfiguration.METRIC_NAME_EVENT_COMPLETION_LAG)
+                        .description("Time from publishing a Klabis event to completion of its listener")
+                        .tags(List.of(CustomMetricsConfiguration.APPLICATION_TAG,
+                                Tag.of("event", event),
+                                Tag.of("listener", listener)))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry.getObject()));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(Math.max(className.lastIndexOf('.'), className.lastIndexOf('$')) + 1);
+    }
+
+    /**
+     * Shortens a Modulith listener id ({@code com.klabis.x.SomeListener.method(com.klabis.y.Event)}) to
+     * {@code SomeListener.method}, matching the listener tag of the listener duration timer.
+     */
+    static String listenerName(String listenerId) {
+        int parameters = listenerId.indexOf('(');
+        String qualifiedMethod = parameters >= 0 ? listenerId.substring(0, parameters) : listenerId;
+        int methodDot = qualifiedMethod.lastIndexOf('.');
+        if (methodDot < 0) {
+            return qualifiedMethod;
+        }
+        return simpleName(qualifiedMethod.substring(0, methodDot)) + qualifiedMethod.substring(methodDot);
+    }
+
+    // plain delegation
+
+    @Override
+    public TargetEventPublication create(TargetEventPublication publication) {
+        return delegate.create(publication);
+    }
+
+    @Override
+    public void markProcessing(UUID identifier) {
+        delegate.markProcessing(identifier);
+    }
+
+    @Override
+    public void markCompleted(Object event, PublicationTargetIdentifier identifier, Instant completionDate) {
+        delegate.markCompleted(event, identifier, completionDate);
+    }
+
+    @Override
+    public void markCompleted(UUID identifier, Instant completionDate) {
+        delegate.markCompleted(identifier, completionDate);
+    }
+
+    @Override
+    public void markFailed(UUID identifier) {
+        delegate.markFailed(identifier);
+    }
+
+    @Override
+    public boolean markResubmitted(UUID identifier, Instant resubmissionDate) {
+        return delegate.markResubmitted(identifier, resubmissionDate);
+    }
+
+    @Override
+    public List<TargetEventPublication> findIncompletePublications() {
+        return delegate.findIncompletePublications();
+    }
+
+    @Override
+    public List<TargetEventPublication> findIncompletePublicationsPublishedBefore(Instant instant) {
+        return delegate.findIncompletePublicationsPublishedBefore(instant);
+    }
+
+    @Override
+    public Optional<TargetEventPublication> findIncompletePublicationsByEventAndTargetIdentifier(
+            Object event, PublicationTargetIdentifier targetIdentifier) {
+        return delegate.findIncompletePublicationsByEventAndTargetIdentifier(event, targetIdentifier);
+    }
+
+    @Override
+    public List<TargetEventPublication> findCompletedPublications() {
+        return delegate.findCompletedPublications();
+    }
+
+    @Override
+    public void deletePublications(List<UUID> identifiers) {
+        delegate.deletePublications(identifiers);
+    }
+
+    @Override
+    public void deleteCompletedPublications() {
+        delegate.deleteCompletedPublications();
+    }
+
+    @Override
+    public void deleteCompletedPublicationsBefore(Instant instant) {
+        delegate.deleteCompletedPublicationsBefore(instant);
+    }
+
+    @Override
+    public List<TargetEventPublication> findFailedPublications(FailedCriteria criteria) {
+        return delegate.findFailedPublications(criteria);
+    }
+
+    @Override
+    public List<TargetEventPublication> findByStatus(EventPublication.Status status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public int countByStatus(EventPublication.Status status) {
+        return delegate.countByStatus(status);
+    }
+}
@@ -0,0 +1,50 @@
+package com.klabis.common.observability;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically refreshed count of incomplete Spring Modulith event publications.
+ *
+ * <p>Backs the {@value CustomMetricsConfiguration#METRIC_NAME_INCOMPLETE_EVENTS} gauge, so a Prometheus scrape
+ * reads a cached value instead of running {@code COUNT(*)} over EVENT_PUBLICATION. The first read loads the
+ * value synchronously; a failed refresh reports {@code -1}.
+ */
+public class IncompleteEventsCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(IncompleteEventsCounter.class);
+
+    private static final String COUNT_INCOMPLETE =
+            "SELECT COUNT(*) FROM EVENT_PUBLICATION WHERE COMPLETION_DATE IS NULL AND EVENT_TYPE LIKE 'com.klabis.%'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong count = new AtomicLong(-1);
+    private volatile boolean loaded;
+
+    IncompleteEventsCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${klabis.events.metrics.incomplete-refresh-interval:PT30S}")
+    void refresh() {
+        try {
+            Long current = jdbcTemplate.queryForObject(COUNT_INCOMPLETE, Long.class);
+            count.set(current != null ? current : 0);
+            loaded = true;
+        } catch (Exception e) {
+            log.warn("Failed to query incomplete events count: {}", e.getMessage());
+            count.set(-1);
+        }
+    }
+
+    double value() {
+        if (!loaded) {
+            refresh();
+        }
+        return count.get();
+    }
+}
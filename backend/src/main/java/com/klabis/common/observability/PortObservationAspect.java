@@ -0,0 +1,65 @@
+package com.klabis.common.observability;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Creates Micrometer Observations (tracing spans and timers) around application port calls.
+ *
+ * <ul>
+ *   <li>implementations of {@code @PrimaryPort} interfaces (application services)</li>
+ *   <li>{@code @SecondaryAdapter} classes (repository adapters, ORIS and other outgoing adapters)</li>
+ *   <li>the ORIS API client</li>
+ * </ul>
+ *
+ * <p>Observations are named {@value #OBSERVATION_NAME} and carry only low-cardinality key values - the layer,
+ * the simple class name and the method name. Span names are {@code Class.method}. Whether spans are exported
+ * is controlled by {@code management.tracing.sampling.probability}.
+ */
+@Aspect
+class PortObservationAspect {
+
+    static final String OBSERVATION_NAME = "klabis.port";
+
+    static final String LAYER_PRIMARY_PORT = "primary-port";
+    static final String LAYER_SECONDARY_ADAPTER = "secondary-adapter";
+    static final String LAYER_ORIS_CLIENT = "oris-client";
+
+    private final ObservationRegistry observationRegistry;
+
+    PortObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * (@org.jmolecules.architecture.hexagonal.PrimaryPort com.klabis..*)+.*(..))")
+    public Object observePrimaryPort(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(LAYER_PRIMARY_PORT, joinPoint);
+    }
+
+    @Around("@within(org.jmolecules.architecture.hexagonal.SecondaryAdapter) && execution(public * com.klabis..*(..))")
+    public Object observeSecondaryAdapter(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(LAYER_SECONDARY_ADAPTER, joinPoint);
+    }
+
+    @Around("execution(public * com.dpolach.api.orisclient.OrisApiClient+.*(..))")
+    public Object observeOrisClient(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(LAYER_ORIS_CLIENT, joinPoint);
+    }
+
+    private Object observe(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(className + "." + methodName)
+                .lowCardinalityKeyValues(KeyValues.of(
+                        "layer", layer,
+                        "class", className,
+                        "method", methodName))
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+    }
+}
@@ -0,0 +1,22 @@
+package com.klabis.common.observability;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Observation spans around primary ports, secondary adapters and the ORIS client (see
+ * {@link PortObservationAspect}).
+ *
+ * <p>Disabled with {@code klabis.observation.ports.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(value = "klabis.observation.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class PortObservationConfiguration {
+
+    @Bean
+    PortObservationAspect portObservationAspect(ObservationRegistry observationRegistry) {
+        return new PortObservationAspect(observationRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.klabis.common.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Pinning diagnostics for the virtual-thread mode (see {@link VirtualThreadPinningRecorder}).
+ *
+ * <p>Active only with {@code spring.threads.virtual.enabled=true}; platform threads cannot be pinned.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningConfiguration {
+
+    @Bean
+    VirtualThreadPinningRecorder virtualThreadPinningRecorder(
+            MeterRegistry meterRegistry,
+            @Value("${klabis.virtual-threads.pinned-threshold:20ms}") Duration pinnedThreshold) {
+        return new VirtualThreadPinningRecorder(meterRegistry, pinnedThreshold);
+    }
+}
@@ -0,0 +1,155 @@
+package com.klabis.common.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Streams JFR events about virtual threads that could not unmount from their carrier thread.
+ *
+ * <p>A virtual thread that blocks inside a {@code synchronized} block or a native frame keeps its carrier
+ * (platform) thread busy; with only as many carriers as CPU cores, a few of those stall every other request.
+ * Each {@code jdk.VirtualThreadPinned} event longer than the threshold is recorded into the
+ * {@value #METRIC_NAME_PINNED} timer, tagged by {@code site} - the first Klabis frame of the pinned stack, or
+ * the library package when no Klabis code is involved. The first pinning at every site is also logged with its
+ * stack trace. {@code jdk.VirtualThreadSubmitFailed} events are counted in {@value #METRIC_NAME_SUBMIT_FAILED}.
+ */
+public class VirtualThreadPinningRecorder implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningRecorder.class);
+
+    static final String METRIC_NAME_PINNED = "klabis.virtual-threads.pinned";
+    static final String METRIC_NAME_SUBMIT_FAILED = "klabis.virtual-threads.submit.failed";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final String APPLICATION_PACKAGE = "com.klabis.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+    private static final int LOGGED_FRAMES = 15;
+
+    static final String UNKNOWN_SITE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Counter submitFailed;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    VirtualThreadPinningRecorder(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.submitFailed = Counter.builder(METRIC_NAME_SUBMIT_FAILED)
+                .description("Virtual threads that could not be scheduled on a carrier thread")
+                .tags(List.of(CustomMetricsConfiguration.APPLICATION_TAG))
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.enable(SUBMIT_FAILED_EVENT);
+            recording.onEvent(PINNED_EVENT, this::recordPinned);
+            recording.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailed.increment());
+            recording.startAsync();
+            stream = recording;
+            log.info("Recording virtual thread pinning longer than {} as {}", threshold, METRIC_NAME_PINNED);
+        } catch (RuntimeException e) {
+            // JFR can be unavailable or disabled in the JVM; the application must still start
+            log.warn("Virtual thread pinning is not recorded, JFR streaming failed to start: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void recordPinned(RecordedEvent event) {
+        String site = site(event.getStackTrace());
+        timer(site).record(event.getDuration());
+        if (loggedSites.add(site)) {
+            log.warn("Virtual thread pinned its carrier thread for {} ms at {}:\n{}",
+                    event.getDuration().toMillis(), site, describe(event.getStackTrace()));
+        }
+    }
+
+    private Timer timer(String site) {
+        return timers.computeIfAbsent(site, key -> Timer.builder(METRIC_NAME_PINNED)
+                .description("Time virtual threads kept their carrier thread blocked")
+                .tags(List.of(CustomMetricsConfiguration.APPLICATION_TAG, Tag.of("site", key)))
+                .register(meterRegistry));
+    }
+
+    static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNKNOWN_SITE;
+        }
+        String library = null;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod() == null || frame.getMethod().getType() == null) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith(APPLICATION_PACKAGE)) {
+                return simpleName(className) + "." + frame.getMethod().getName();
+            }
+            if (library == null && JDK_PACKAGES.stream().noneMatch(className::startsWith)) {
+                library = packageOf(className);
+            }
+        }
+        return library != null ? library : UNKNOWN_SITE;
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat %s.%s(line %d)".formatted(
+                        frame.getMethod().getType().getName(), frame.getMethod().getName(), frame.getLineNumber()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(Math.max(className.lastIndexOf('.'), className.lastIndexOf('$')) + 1);
+    }
+
+    /**
+     * Keeps the tag cardinality low: {@code org.postgresql.core.v3.QueryExecutorImpl} becomes
+     * {@code org.postgresql.core}.
+     */
+    private static String packageOf(String className) {
+        String[] parts = className.split("\\.");
+        int segments = Math.min(3, parts.length - 1);
+        return segments <= 0 ? className : String.join(".", List.of(parts).subList(0, segments));
+    }
+}
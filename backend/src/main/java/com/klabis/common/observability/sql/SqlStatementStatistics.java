@@ -0,0 +1,79 @@
+package com.klabis.common.observability.sql;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * SQL statements executed within one tracking scope (an HTTP request, a transaction or a test block).
+ *
+ * <p>Statements are grouped by <i>shape</i> - the SQL with literals and {@code IN} lists normalized - so that
+ * the same query executed for many different ids shows up as one repeated shape (typical N+1 pattern).
+ */
+public class SqlStatementStatistics {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final String name;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int statementCount;
+    private long totalNanos;
+
+    SqlStatementStatistics(String name) {
+        this.name = name;
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        totalNanos += nanos;
+        shapes.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public Duration totalTime() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * @return number of executions per statement shape, in order of first execution
+     */
+    public Map<String, Integer> statementShapes() {
+        return Map.copyOf(shapes);
+    }
+
+    /**
+     * @return statement shapes executed at least {@code threshold} times, with their execution counts
+     */
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    static String shapeOf(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return IN_LIST.matcher(shape).replaceAll("IN (?)");
+    }
+
+    @Override
+    public String toString() {
+        return "%s: %d statements in %d ms".formatted(name, statementCount, totalTime().toMillis());
+    }
+}
@@ -0,0 +1,64 @@
+package com.klabis.common.observability.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Thread-bound tracking scopes for SQL statement statistics.
+ *
+ * <p>Statements executed through the instrumented DataSource (see {@link SqlStatementCountingDataSource}) are
+ * recorded into every scope open on the current thread, so a transaction scope nested in a request scope
+ * counts towards both. Scopes must be closed in reverse order of opening - use try-with-resources:
+ *
+ * <pre>{@code
+ * try (SqlStatementTracker.Scope scope = SqlStatementTracker.start("import")) {
+ *     ...
+ *     log.info("{}", scope.statistics());
+ * }
+ * }</pre>
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Deque<SqlStatementStatistics>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlStatementTracker() {
+    }
+
+    public static Scope start(String name) {
+        SqlStatementStatistics statistics = new SqlStatementStatistics(name);
+        SCOPES.get().push(statistics);
+        return new Scope(statistics);
+    }
+
+    static boolean isActive() {
+        return !SCOPES.get().isEmpty();
+    }
+
+    static void record(String sql, long nanos) {
+        for (SqlStatementStatistics statistics : SCOPES.get()) {
+            statistics.record(sql, nanos);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final SqlStatementStatistics statistics;
+
+        private Scope(SqlStatementStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        public SqlStatementStatistics statistics() {
+            return statistics;
+        }
+
+        @Override
+        public void close() {
+            Deque<SqlStatementStatistics> scopes = SCOPES.get();
+            scopes.remove(statistics);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.klabis.common.observability.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request and per-transaction SQL statement statistics (N+1 detection).
+ *
+ * <p>Wraps the application DataSource so that executed statements are reported to {@link SqlStatementTracker},
+ * and opens a tracking scope for every HTTP request ({@link SqlStatisticsFilter}) and every outermost
+ * {@code @Transactional} call ({@link TransactionalSqlStatisticsAspect}). Results are logged and published as
+ * metrics by {@link SqlStatisticsReporter}. Tests can open their own scope with {@link SqlStatementTracker#start}.
+ *
+ * <p>Disabled with {@code klabis.sql.statistics.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(value = "klabis.sql.statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfiguration {
+
+    @Bean
+    static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // decorators such as the read-replica routing proxy delegate to pools that are wrapped themselves
+                return bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)
+                        ? SqlStatementCountingDataSource.wrap(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    SqlStatisticsReporter sqlStatisticsReporter(MeterRegistry meterRegistry, SqlStatisticsProperties properties) {
+        return new SqlStatisticsReporter(meterRegistry, properties);
+    }
+
+    @Bean
+    SqlStatisticsFilter sqlStatisticsFilter(SqlStatisticsReporter reporter) {
+        return new SqlStatisticsFilter(reporter);
+    }
+
+    @Bean
+    TransactionalSqlStatisticsAspect transactionalSqlStatisticsAspect(SqlStatisticsReporter reporter) {
+        return new TransactionalSqlStatisticsAspect(reporter);
+    }
+}
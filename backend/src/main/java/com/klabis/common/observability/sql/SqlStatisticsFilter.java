@@ -0,0 +1,43 @@
+package com.klabis.common.observability.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts SQL statements executed while handling an HTTP request.
+ *
+ * <p>The request is reported under its handler mapping pattern (e.g. {@code GET /api/members/{id}}) to keep
+ * metric tag cardinality bounded. Runs before Spring Security, so statements of authentication are counted too.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private final SqlStatisticsReporter reporter;
+
+    SqlStatisticsFilter(SqlStatisticsReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.start(request.getMethod() + " " + request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null || scope.statistics().statementCount() > 0) {
+                String name = request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+                reporter.report("request", name, scope.statistics());
+            }
+        }
+    }
+}
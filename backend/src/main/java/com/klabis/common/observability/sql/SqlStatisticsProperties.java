@@ -0,0 +1,50 @@
+package com.klabis.common.observability.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request and per-transaction SQL statement statistics.
+ * Maps to klabis.sql.statistics.* properties in application.yml
+ */
+@ConfigurationProperties(prefix = "klabis.sql.statistics")
+public class SqlStatisticsProperties {
+
+    /**
+     * Instruments the DataSource and reports statement counts of HTTP requests and transactions.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Executions of the same statement shape within one scope that are reported as a likely N+1 query.
+     */
+    private int repeatedStatementThreshold = 10;
+
+    /**
+     * Scopes executing more statements than this are logged at WARN level even without repeated statements.
+     */
+    private int statementWarningThreshold = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    public int getStatementWarningThreshold() {
+        return statementWarningThreshold;
+    }
+
+    public void setStatementWarningThreshold(int statementWarningThreshold) {
+        this.statementWarningThreshold = statementWarningThreshold;
+    }
+}
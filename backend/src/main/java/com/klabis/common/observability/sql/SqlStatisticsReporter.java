@@ -0,0 +1,83 @@
+package com.klabis.common.observability.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logs and publishes metrics of a finished {@link SqlStatementTracker} scope.
+ *
+ * <p>Metrics, tagged with {@code scope} ({@code request} or {@code transaction}) and {@code name}
+ * (request pattern or transactional method):
+ * <ul>
+ *   <li><b>{@value #METRIC_STATEMENTS}</b> - statements per scope</li>
+ *   <li><b>{@value #METRIC_TIME}</b> - total time spent executing statements per scope</li>
+ *   <li><b>{@value #METRIC_REPEATED}</b> - scopes with a statement shape repeated over the threshold</li>
+ * </ul>
+ */
+class SqlStatisticsReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatisticsReporter.class);
+
+    static final String METRIC_STATEMENTS = "klabis.sql.statements";
+    static final String METRIC_TIME = "klabis.sql.time";
+    static final String METRIC_REPEATED = "klabis.sql.repeated";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatisticsProperties properties;
+    private final Map<List<String>, ScopeMeters> meters = new ConcurrentHashMap<>();
+
+    SqlStatisticsReporter(MeterRegistry meterRegistry, SqlStatisticsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    void report(String scope, String name, SqlStatementStatistics statistics) {
+        ScopeMeters scopeMeters = meters.computeIfAbsent(List.of(scope, name), key -> new ScopeMeters(scope, name));
+        scopeMeters.statements.record(statistics.statementCount());
+        scopeMeters.time.record(statistics.totalTime());
+
+        Map<String, Integer> repeated = statistics.repeatedStatements(properties.getRepeatedStatementThreshold());
+        if (!repeated.isEmpty()) {
+            scopeMeters.repeated.increment();
+            log.warn("Possible N+1 queries in {} {}: {} statements in {} ms, repeated: {}",
+                    scope, name, statistics.statementCount(), statistics.totalTime().toMillis(), repeated);
+        } else if (statistics.statementCount() > properties.getStatementWarningThreshold()) {
+            log.warn("Many SQL statements in {} {}: {} statements in {} ms",
+                    scope, name, statistics.statementCount(), statistics.totalTime().toMillis());
+        } else if (log.isDebugEnabled() && statistics.statementCount() > 0) {
+            log.debug("SQL statements in {} {}: {} statements in {} ms",
+                    scope, name, statistics.statementCount(), statistics.totalTime().toMillis());
+        }
+    }
+
+    private final class ScopeMeters {
+
+        private final DistributionSummary statements;
+        private final Timer time;
+        private final Counter repeated;
+
+        private ScopeMeters(String scope, String name) {
+            this.statements = DistributionSummary.builder(METRIC_STATEMENTS)
+                    .description("SQL statements executed per request or transaction")
+                    .tags("scope", scope, "name", name)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.time = Timer.builder(METRIC_TIME)
+                    .description("Time spent executing SQL statements per request or transaction")
+                    .tags("scope", scope, "name", name)
+                    .register(meterRegistry);
+            this.repeated = Counter.builder(METRIC_REPEATED)
+                    .description("Requests or transactions repeating one SQL statement shape over the threshold")
+                    .tags("scope", scope, "name", name)
+                    .register(meterRegistry);
+        }
+    }
+}
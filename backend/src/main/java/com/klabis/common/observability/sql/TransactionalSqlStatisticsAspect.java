@@ -0,0 +1,44 @@
+package com.klabis.common.observability.sql;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counts SQL statements executed within outermost {@code @Transactional} service calls.
+ *
+ * <p>Runs before the transaction interceptor, so a call that joins an already running transaction is counted
+ * by the scope of the transaction that started it, not reported separately.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class TransactionalSqlStatisticsAspect {
+
+    private final SqlStatisticsReporter reporter;
+
+    TransactionalSqlStatisticsAspect(SqlStatisticsReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Around("(@annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || @within(org.springframework.transaction.annotation.Transactional))"
+            + " && execution(* com.klabis..*(..))")
+    public Object countTransactionStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                      + "." + joinPoint.getSignature().getName();
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.start(name)) {
+            Object result = joinPoint.proceed();
+            if (scope.statistics().statementCount() > 0) {
+                reporter.report("transaction", name, scope.statistics());
+            }
+            return result;
+        }
+    }
+}
@@ -7,7 +7,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.util.Assert;
 
 import java.time.Duration;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Rate limiter that tracks request counts per key.
@@ -16,6 +16,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * for each key (e.g., registration number). Each key has its own independent
  * rate limit that resets after the configured duration.
  *
+ * <p>Counters are updated with compare-and-set instead of a per-key monitor, so a burst of requests for one
+ * key never blocks (or, on virtual threads, pins) the request threads.
+ *
  * <p>Rate limiting configuration:
  * <ul>
  *   <li>limit: Maximum number of requests allowed per time window</li>
@@ -30,7 +33,6 @@ public class PerKeyRateLimiter {
     private final int limit;
     private final Duration duration;
     private final Cache cache;
-    private final ConcurrentHashMap<String, Object> locks = new ConcurrentHashMap<>();
 
     /**
      * Creates a new per-key rate limiter.
@@ -67,22 +69,18 @@ public class PerKeyRateLimiter {
      * @throws RateLimitExceededException if rate limit is exceeded
      */
     public void checkLimit(String key) {
-        Object lock = locks.computeIfAbsent(key, k -> new Object());
-
-        synchronized (lock) {
-            RequestCounter counter = cache.get(key, RequestCounter::new);
-
-            if (counter.getCount() >= limit) {
-                log.warn("Rate limit exceeded for key: {}", key);
-                throw new RateLimitExceededException(
-                        "Rate limit exceeded: %d requests per %s allowed".formatted(limit, duration)
-                );
-            }
+        RequestCounter counter = cache.get(key, RequestCounter::new);
 
-            counter.increment();
-            cache.put(key, counter);
-            log.debug("Rate limit check passed for key: {} (count: {})", key, counter.getCount());
+        if (!counter.tryIncrement(limit)) {
+            log.warn("Rate limit exceeded for key: {}", key);
+            throw new RateLimitExceededException(
+                    "Rate limit exceeded: %d requests per %s allowed".formatted(limit, duration)
+            );
         }
+
+        // re-put restarts the expiry, so the window runs from the last accepted request
+        cache.put(key, counter);
+        log.debug("Rate limit check passed for key: {} (count: {})", key, counter.getCount());
     }
 
     /**
@@ -123,14 +121,30 @@ public class PerKeyRateLimiter {
      * Internal counter class that tracks request count within a time window.
      */
     public static class RequestCounter {
-        private int count = 0;
+        private final AtomicInteger count = new AtomicInteger();
 
         public int getCount() {
-            return count;
+            return count.get();
         }
 
         public void increment() {
-            count++;
+            count.incrementAndGet();
+        }
+
+        /**
+         * Increments the count unless it already reached the limit.
+         *
+         * @return {@code false} if the limit was reached and the count was left unchanged
+         */
+        boolean tryIncrement(int limit) {
+            int current;
+            do {
+                current = count.get();
+                if (current >= limit) {
+                    return false;
+                }
+            } while (!count.compareAndSet(current, current + 1));
+            return true;
         }
     }
 }
@@ -27,6 +27,7 @@ public class CorsConfiguration {
         configuration.addExposedHeader("Location");
         configuration.addExposedHeader("X-Warnings");
         configuration.addExposedHeader("Content-Disposition");
+        configuration.addExposedHeader("ETag");
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 
 import java.time.Duration;
 
@@ -16,9 +17,13 @@ public class FrontendConfiguration implements WebMvcConfigurer {
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Vite emits content-addressed filenames (index-<hash>.js).
         // A new release ships under a new name, so we can cache aggressively.
+        // The build also writes .br/.gz siblings; they are picked by Accept-Encoding
+        // (with Vary) so nothing gets compressed per request.
         registry.addResourceHandler("/assets/**")
                 .addResourceLocations("classpath:/static/assets/")
-                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
 
         // Service worker + PWA manifest drive update detection.
         // Must revalidate every request — otherwise the browser keeps an old SW
@@ -7,7 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,8 +19,8 @@ import java.util.List;
  * Forwards browser navigation requests to {@code /index.html} when no static resource
  * matches the request path and the path is not reserved for another handler.
  * <p>
- * Decides up front by checking the static resource location: if a file exists, the
- * filter steps aside and the regular {@code ResourceHttpRequestHandler} serves it;
+ * Decides up front by looking the path up in the {@link StaticResourceManifest}: if a file
+ * exists, the filter steps aside and the regular {@code ResourceHttpRequestHandler} serves it;
  * otherwise (and only for HTML-accepting GETs to non-reserved paths) the request is
  * forwarded to the SPA shell so client-side routing can render the page.
  */
@@ -29,7 +29,6 @@ import java.util.List;
 class SpaFallbackFilter extends OncePerRequestFilter {
 
     private static final String INDEX_HTML = "/index.html";
-    private static final String STATIC_LOCATION = "classpath:/static";
 
     private static final List<String> EXCLUDED_PREFIXES = List.of(
             "/api", "/ical", "/swagger-ui", "/v3/api-docs", "/docs",
@@ -41,10 +40,10 @@ class SpaFallbackFilter extends OncePerRequestFilter {
             "/silent-renew.html", "/swagger-ui.html"
     );
 
-    private final ResourceLoader resourceLoader;
+    private final StaticResourceManifest staticResources;
 
-    SpaFallbackFilter(ResourceLoader resourceLoader) {
-        this.resourceLoader = resourceLoader;
+    SpaFallbackFilter(ResourcePatternResolver resourcePatternResolver) {
+        this.staticResources = new StaticResourceManifest(resourcePatternResolver);
     }
 
     @Override
@@ -70,9 +69,9 @@ class SpaFallbackFilter extends OncePerRequestFilter {
 
     private boolean resourceExists(String path) {
         if (path == null || path.isEmpty() || "/".equals(path)) {
-            return resourceLoader.getResource(STATIC_LOCATION + INDEX_HTML).exists();
+            return staticResources.contains(INDEX_HTML);
         }
-        return resourceLoader.getResource(STATIC_LOCATION + path).exists();
+        return staticResources.contains(path);
     }
 
     private static boolean isExcluded(String path) {
@@ -0,0 +1,80 @@
+package com.klabis.common.ui;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Paths of the files under {@code classpath:/static}, listed once at startup.
+ * <p>
+ * The static content only changes with a new build, so {@link SpaFallbackFilter} can answer "is this a file?"
+ * from memory instead of asking the class loader on every navigation. Precompressed variants ({@code .gz},
+ * {@code .br}) are not listed: they are never requested directly, {@code EncodedResourceResolver} picks them
+ * up for the original path.
+ * <p>
+ * Deliberately not a bean of its own: {@link SpaFallbackFilter} is part of every MVC test slice and builds it
+ * from the application context.
+ */
+final class StaticResourceManifest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticResourceManifest.class);
+
+    static final String STATIC_LOCATION = "classpath:/static/";
+
+    private static final List<String> PRECOMPRESSED_EXTENSIONS = List.of(".gz", ".br");
+
+    private final Set<String> paths;
+
+    StaticResourceManifest(ResourcePatternResolver resourcePatternResolver) {
+        this.paths = scan(resourcePatternResolver);
+        LOG.info("Indexed {} static resources under {}", paths.size(), STATIC_LOCATION);
+    }
+
+    /**
+     * @param path request path starting with {@code /}, e.g. {@code /assets/index-abc123.js}
+     */
+    boolean contains(String path) {
+        return paths.contains(path);
+    }
+
+    Set<String> paths() {
+        return paths;
+    }
+
+    private static Set<String> scan(ResourcePatternResolver resolver) {
+        try {
+            Resource root = resolver.getResource(STATIC_LOCATION);
+            if (!root.exists()) {
+                return Set.of();
+            }
+            String rootUrl = root.getURL().toString();
+            Set<String> paths = new HashSet<>();
+            for (Resource resource : resolver.getResources(STATIC_LOCATION + "**")) {
+                String url = resource.getURL().toString();
+                if (!url.startsWith(rootUrl) || url.endsWith("/") || isPrecompressedVariant(url)) {
+                    continue;
+                }
+                String relativePath = UriUtils.decode(url.substring(rootUrl.length()), StandardCharsets.UTF_8);
+                if (!relativePath.isEmpty() && resource.isReadable()) {
+                    paths.add("/" + relativePath);
+                }
+            }
+            return Set.copyOf(paths);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list static resources under " + STATIC_LOCATION, e);
+        }
+    }
+
+    private static boolean isPrecompressedVariant(String url) {
+        return PRECOMPRESSED_EXTENSIONS.stream().anyMatch(url::endsWith);
+    }
+}
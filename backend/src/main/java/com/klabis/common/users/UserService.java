@@ -3,6 +3,7 @@ package com.klabis.common.users;
 import com.klabis.common.users.domain.User;
 import org.jmolecules.architecture.hexagonal.PrimaryPort;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -34,6 +35,23 @@ public interface UserService {
      */
     UserId createUser(String username, String email, Set<Authority> authorities);
 
+    /**
+     * ID, username and email of a user to be created by {@link #createUsers(List, Set)}. The ID is chosen by the
+     * caller, so aggregates sharing it can be built and validated before any user is created.
+     */
+    record PendingUser(UserId id, String username, String email) {
+    }
+
+    /**
+     * Creates several users pending password setup, like {@link #createUser(String, String, Set)} does for one.
+     * <p>
+     * Users and their permissions are inserted in batches. A UserCreatedEvent is published for each user.
+     *
+     * @param users       IDs, usernames and emails of the users to create
+     * @param authorities the set of authorities granted to every user
+     */
+    void createUsers(List<PendingUser> users, Set<Authority> authorities);
+
     /**
      * Creates a new user with an immediately active account using a pre-encoded password.
      * <p>
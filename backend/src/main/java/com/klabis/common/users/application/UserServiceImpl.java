@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -61,6 +62,21 @@ public class UserServiceImpl implements UserService {
         return userId;
     }
 
+    @Override
+    public void createUsers(List<PendingUser> users, Set<Authority> authorities) {
+        log.debug("Creating {} users pending password setup", users.size());
+
+        userRepository.saveAll(users.stream()
+                .map(user -> User.createdUserWithEmail(user.id(), user.username(), user.email()))
+                .toList());
+
+        userPermissionsRepository.saveAll(users.stream()
+                .map(user -> UserPermissions.create(user.id(), authorities))
+                .toList());
+
+        log.info("Created {} users pending password setup", users.size());
+    }
+
     @Override
     public UserId createActiveUser(String username, String passwordHash, Set<Authority> authorities) {
         log.debug("Creating active user: username={}", username);
@@ -106,13 +106,27 @@ public class User extends KlabisAggregateRoot<User, UserId> {
      * @return new User with PENDING_ACTIVATION status and a random placeholder password hash
      */
     public static User createdUserWithEmail(String username, String email) {
+        return createdUserWithEmail(UserId.newId(), username, email);
+    }
+
+    /**
+     * Creates a new user pending password setup, like {@link #createdUserWithEmail(String, String)}, with an ID
+     * chosen by the caller, e.g. one the member aggregate sharing it was already built with.
+     *
+     * @param id       ID of the new user
+     * @param username registration number (username)
+     * @param email    email address for password setup (PII from Member context)
+     * @return new User with PENDING_ACTIVATION status and a random placeholder password hash
+     */
+    public static User createdUserWithEmail(UserId id, String username, String email) {
+        Objects.requireNonNull(id, "User ID is required");
         Objects.requireNonNull(username, "Username is required");
         Objects.requireNonNull(email, "Email is required");
 
         String placeholderHash = UUID.randomUUID().toString();
 
         User user = new User(
-                new UserId(UUID.randomUUID()),
+                id,
                 username,
                 placeholderHash,
                 AccountStatus.PENDING_ACTIVATION
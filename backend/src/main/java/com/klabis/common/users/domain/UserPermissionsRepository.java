@@ -4,6 +4,7 @@ import com.klabis.common.users.Authority;
 import com.klabis.common.users.UserId;
 import org.jmolecules.architecture.hexagonal.SecondaryPort;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -41,6 +42,13 @@ public interface UserPermissionsRepository {
      */
     UserPermissions save(UserPermissions permissions);
 
+    /**
+     * Saves several UserPermissions aggregates; new records are inserted in a single batch.
+     *
+     * @param permissions the permissions to save
+     */
+    void saveAll(Collection<UserPermissions> permissions);
+
     /**
      * Finds permissions by user ID.
      * <p>
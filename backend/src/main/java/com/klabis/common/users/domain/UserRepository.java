@@ -4,6 +4,8 @@ import com.klabis.common.users.UserId;
 import com.klabis.common.users.UserService;
 import org.jmolecules.architecture.hexagonal.SecondaryPort;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -42,6 +44,14 @@ public interface UserRepository {
      */
     User save(User user);
 
+    /**
+     * Save several users; new users are inserted in a single batch.
+     *
+     * @param users the users to save
+     * @return the saved users, in the given order
+     */
+    List<User> saveAll(Collection<User> users);
+
     /**
      * Delete user by ID.
      * <p>
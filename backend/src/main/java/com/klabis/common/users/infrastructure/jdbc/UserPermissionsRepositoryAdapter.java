@@ -7,6 +7,7 @@ import com.klabis.common.users.domain.UserPermissionsRepository;
 import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
 import org.jmolecules.ddd.annotation.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -33,6 +34,11 @@ class UserPermissionsRepositoryAdapter implements UserPermissionsRepository {
         return saved.toUserPermissions();
     }
 
+    @Override
+    public void saveAll(Collection<UserPermissions> permissions) {
+        jdbcRepository.saveAll(permissions.stream().map(UserPermissionsMemento::from).toList());
+    }
+
     @Override
     public Optional<UserPermissions> findById(UserId userId) {
         return jdbcRepository.findById(userId.uuid())
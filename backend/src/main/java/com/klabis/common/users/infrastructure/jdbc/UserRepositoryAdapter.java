@@ -6,7 +6,10 @@ import com.klabis.common.users.domain.UserRepository;
 import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
 import org.jmolecules.ddd.annotation.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.StreamSupport;
 
 /**
  * Adapter that bridges between UserRepository domain interface and UserJdbcRepository.
@@ -37,6 +40,14 @@ class UserRepositoryAdapter implements UserRepository {
         return saved.toUser();
     }
 
+    @Override
+    public List<User> saveAll(Collection<User> users) {
+        List<UserMemento> mementos = users.stream().map(UserMemento::from).toList();
+        return StreamSupport.stream(jdbcRepository.saveAll(mementos).spliterator(), false)
+                .map(UserMemento::toUser)
+                .toList();
+    }
+
     @Override
     public Optional<User> findById(UserId id) {
         return jdbcRepository.findById(id.uuid())
@@ -1,5 +1,6 @@
 package com.klabis.common.users.infrastructure.listeners;
 
+import com.klabis.common.listeners.ListenerExecutors;
 import com.klabis.common.users.UserService;
 import com.klabis.common.users.application.PasswordSetupService;
 import com.klabis.common.users.domain.AccountStatus;
@@ -10,6 +11,7 @@ import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -76,6 +78,7 @@ public class UserCreatedEventHandler {
      * @param event the user created event containing optional email for password setup
      */
     @ApplicationModuleListener
+    @Async(ListenerExecutors.USERS)
     public void onUserCreated(UserCreatedEvent event) {
         log.info("Processing UserCreatedEvent (eventId: {}) for user: {} (status: {})",
                 event.eventId(), event.userId(), event.accountStatus());
@@ -4,6 +4,9 @@ import com.klabis.events.EventData;
 import com.klabis.events.EventId;
 import org.jmolecules.architecture.hexagonal.SecondaryPort;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Secondary port for fetching event data from the events module.
  * <p>
@@ -25,4 +28,12 @@ public interface EventDataProvider {
      * @throws IllegalArgumentException if event not found
      */
     EventData getEventData(EventId eventId);
+
+    /**
+     * Fetches event data of several events at once, without loading the event aggregates.
+     *
+     * @param eventIds the event IDs
+     * @return event data by event ID; events that do not exist are missing from the map
+     */
+    Map<EventId, EventData> getEventData(Collection<EventId> eventIds);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 @PrimaryPort
 public interface EventManagementPort {
@@ -24,5 +25,11 @@ public interface EventManagementPort {
 
     Event getEvent(EventId eventId, boolean canManageEvents);
 
+    /**
+     * Version of the event for conditional requests. Same visibility as {@link #getEvent}: empty for a DRAFT
+     * event unless the caller can manage events, so a 304 never reveals that a draft exists.
+     */
+    Optional<Long> findEventVersion(EventId eventId, boolean canManageEvents);
+
     Page<Event> listEvents(EventFilter filter, Pageable pageable, boolean canManageEvents);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 @Service
 public class EventManagementService implements EventManagementPort {
@@ -76,6 +77,11 @@ public class EventManagementService implements EventManagementPort {
         return event;
     }
 
+    @Override
+    public Optional<Long> findEventVersion(EventId eventId, boolean canManageEvents) {
+        return eventRepository.findVersionById(eventId, canManageEvents);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<Event> listEvents(EventFilter filter, Pageable pageable, boolean canManageEvents) {
@@ -1,10 +1,14 @@
 package com.klabis.events.application;
 
 import com.klabis.events.EventId;
+import com.klabis.events.domain.EventStatus;
 import com.klabis.members.MemberId;
 import org.jmolecules.architecture.hexagonal.SecondaryPort;
+import org.jspecify.annotations.Nullable;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -12,6 +16,9 @@ import java.util.Set;
  * <p>
  * Used by the calendar module to determine which events a given member is involved in
  * (as an active participant or the coordinator) within a given date range.
+ * <p>
+ * Answered from the {@code events.member_schedule} read model, which is kept up to date from the events'
+ * domain events and can be rebuilt from scratch with {@code klabis.events.member-schedule.rebuild=true}.
  */
 @SecondaryPort
 public interface EventScheduleQuery {
@@ -21,4 +28,27 @@ public interface EventScheduleQuery {
      * and where the given member is either the coordinator or has an active registration.
      */
     Set<EventId> findEventIdsForMemberSchedule(MemberId memberId, LocalDate from, LocalDate to);
+
+    /**
+     * Returns the IDs of events within {@code [from, to]} that at least one of the given members
+     * is registered for or coordinates (empty for no members).
+     */
+    Set<EventId> findEventIdsForMembersSchedule(Collection<MemberId> memberIds, LocalDate from, LocalDate to);
+
+    /**
+     * Returns the same events as {@link #findEventIdsForMemberSchedule} with the data needed to render them,
+     * ordered by event date.
+     */
+    List<MemberScheduleEntry> findMemberSchedule(MemberId memberId, LocalDate from, LocalDate to);
+
+    record MemberScheduleEntry(
+            EventId eventId,
+            String name,
+            LocalDate eventDate,
+            @Nullable String location,
+            String organizer,
+            @Nullable String websiteUrl,
+            EventStatus status,
+            boolean coordinator) {
+    }
 }
@@ -13,6 +13,7 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -42,9 +43,11 @@ class MemberRegistrationSanctionService implements MemberRegistrationSanctionPor
         autoUnregisterFromOpenEvents(memberId);
     }
 
+    // Runs outside any transaction, which reads the primary: an answer read from a lagging replica right after
+    // a block or unblock would be cached for the whole TTL, long after the replica caught up
     @Override
     @Cacheable(value = "memberRegistrationBlocks", key = "#memberId.value()")
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean isMemberBlocked(MemberId memberId) {
         return blockRepository.isBlocked(memberId);
     }
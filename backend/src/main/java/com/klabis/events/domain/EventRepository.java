@@ -1,8 +1,10 @@
 package com.klabis.events.domain;
 
+import com.klabis.events.EventId;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.jmolecules.architecture.hexagonal.SecondaryPort;
 
@@ -37,6 +39,16 @@ public interface EventRepository extends Events {
      */
     boolean existsByOrisId(int orisId);
 
+    /**
+     * Reads only the optimistic locking version of an event, without loading the aggregate.
+     * Used to answer conditional requests.
+     *
+     * @param eventId       the event ID
+     * @param includeDrafts whether a DRAFT event counts as existing
+     * @return the current version, or empty if the event does not exist (or is a draft and drafts are excluded)
+     */
+    Optional<Long> findVersionById(EventId eventId, boolean includeDrafts);
+
     /**
      * Returns the subset of {@code candidateOrisIds} that already have a matching event in the repository.
      * <p>
@@ -6,8 +6,16 @@ import com.klabis.events.application.EventDataProvider;
 import com.klabis.events.domain.Event;
 import com.klabis.events.domain.Events;
 import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Date;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Implementation of EventDataProvider that queries the events module.
  * <p>
@@ -19,10 +27,18 @@ import org.springframework.stereotype.Component;
 @SecondaryAdapter
 class EventDataProviderImpl implements EventDataProvider {
 
+    private static final String SELECT_EVENT_DATA = """
+            SELECT id, name, event_date, location, organizer, website_url, registration_deadline
+            FROM events.events
+            WHERE id IN (:ids)
+            """;
+
     private final Events events;
+    private final NamedParameterJdbcTemplate namedJdbc;
 
-    EventDataProviderImpl(Events events) {
+    EventDataProviderImpl(Events events, NamedParameterJdbcTemplate namedJdbc) {
         this.events = events;
+        this.namedJdbc = namedJdbc;
     }
 
     @Override
@@ -39,4 +55,24 @@ class EventDataProviderImpl implements EventDataProvider {
                 event.getRegistrationDeadlines().deadline1().orElse(null)
         );
     }
+
+    @Override
+    public Map<EventId, EventData> getEventData(Collection<EventId> eventIds) {
+        Map<EventId, EventData> result = new HashMap<>();
+        if (eventIds.isEmpty()) {
+            return result;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", eventIds.stream().map(EventId::value).toList());
+        namedJdbc.query(SELECT_EVENT_DATA, params, rs -> {
+            Date registrationDeadline = rs.getDate("registration_deadline");
+            result.put(new EventId(rs.getObject("id", UUID.class)), new EventData(
+                    rs.getString("name"),
+                    rs.getDate("event_date").toLocalDate(),
+                    rs.getString("location"),
+                    rs.getString("organizer"),
+                    rs.getString("website_url"),
+                    registrationDeadline != null ? registrationDeadline.toLocalDate() : null));
+        });
+        return result;
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -30,6 +31,9 @@ interface EventJdbcRepository extends CrudRepository<EventMemento, UUID>, Paging
     @Query("SELECT EXISTS(SELECT 1 FROM events.events WHERE oris_id = :orisId)")
     boolean existsByOrisId(@Param("orisId") int orisId);
 
+    @Query("SELECT version FROM events.events WHERE id = :id AND (:includeDrafts OR status <> 'DRAFT')")
+    Optional<Long> findVersionById(@Param("id") UUID id, @Param("includeDrafts") boolean includeDrafts);
+
     // findAll(Pageable) is inherited from PagingAndSortingRepository
     // findById(UUID) is inherited from CrudRepository
     // save() is inherited from CrudRepository
@@ -1,5 +1,6 @@
 package com.klabis.events.infrastructure.jdbc;
 
+import com.klabis.common.etag.ExpectedVersions;
 import com.klabis.common.pagination.TranslatedPageable;
 import com.klabis.events.EventId;
 import com.klabis.events.EventTypeId;
@@ -89,10 +90,16 @@ class EventRepositoryAdapter implements EventRepository {
 
     @Override
     public Event save(Event event) {
+        ExpectedVersions.applyTo(event, event.getId().value());
         EventMemento saved = jdbcRepository.save(EventMemento.from(event));
         return saved.toEvent();
     }
 
+    @Override
+    public Optional<Long> findVersionById(EventId eventId, boolean includeDrafts) {
+        return jdbcRepository.findVersionById(eventId.value(), includeDrafts);
+    }
+
     @Override
     public Optional<Event> findById(EventId eventId) {
         return jdbcRepository.findById(eventId.value())
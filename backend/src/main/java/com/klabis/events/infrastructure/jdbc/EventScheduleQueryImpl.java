@@ -2,6 +2,7 @@ package com.klabis.events.infrastructure.jdbc;
 
 import com.klabis.events.EventId;
 import com.klabis.events.application.EventScheduleQuery;
+import com.klabis.events.domain.EventStatus;
 import com.klabis.members.MemberId;
 import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -9,14 +10,37 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * Reads the personal schedule from {@code events.member_schedule} (maintained by {@link MemberScheduleProjection}).
+ * Every query is a range scan of the table's primary key {@code (member_id, event_date, event_id)} per member.
+ */
 @Component
 @SecondaryAdapter
 class EventScheduleQueryImpl implements EventScheduleQuery {
 
+    private static final String SELECT_EVENT_IDS = """
+            SELECT event_id FROM events.member_schedule
+            WHERE member_id = :memberId AND event_date >= :from AND event_date <= :to
+            """;
+
+    private static final String SELECT_EVENT_IDS_OF_MEMBERS = """
+            SELECT DISTINCT event_id FROM events.member_schedule
+            WHERE member_id IN (:memberIds) AND event_date >= :from AND event_date <= :to
+            """;
+
+    private static final String SELECT_SCHEDULE = """
+            SELECT event_id, name, event_date, location, organizer, website_url, status, coordinator
+            FROM events.member_schedule
+            WHERE member_id = :memberId AND event_date >= :from AND event_date <= :to
+            ORDER BY event_date, event_id
+            """;
+
     private final NamedParameterJdbcTemplate namedJdbc;
 
     EventScheduleQueryImpl(NamedParameterJdbcTemplate namedJdbc) {
@@ -25,26 +49,46 @@ class EventScheduleQueryImpl implements EventScheduleQuery {
 
     @Override
     public Set<EventId> findEventIdsForMemberSchedule(MemberId memberId, LocalDate from, LocalDate to) {
-        String sql = """
-                SELECT e.id FROM events.events e
-                WHERE e.event_date >= :from
-                  AND e.event_date <= :to
-                  AND (
-                      e.event_coordinator_id = :memberId
-                      OR EXISTS (
-                          SELECT 1 FROM events.event_registrations r
-                          WHERE r.event_id = e.id AND r.member_id = :memberId
-                      )
-                  )
-                """;
+        return namedJdbc.query(SELECT_EVENT_IDS, params(memberId, from, to),
+                        (rs, rowNum) -> rs.getObject(1, UUID.class))
+                .stream()
+                .map(EventId::new)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<EventId> findEventIdsForMembersSchedule(Collection<MemberId> memberIds, LocalDate from,
+                                                       LocalDate to) {
+        if (memberIds.isEmpty()) {
+            return Set.of();
+        }
         MapSqlParameterSource params = new MapSqlParameterSource()
                 .addValue("from", from)
                 .addValue("to", to)
-                .addValue("memberId", memberId.uuid());
-
-        return namedJdbc.query(sql, params, (rs, rowNum) -> rs.getObject(1, UUID.class))
+                .addValue("memberIds", memberIds.stream().map(MemberId::uuid).toList());
+        return namedJdbc.query(SELECT_EVENT_IDS_OF_MEMBERS, params, (rs, rowNum) -> rs.getObject(1, UUID.class))
                 .stream()
                 .map(EventId::new)
                 .collect(Collectors.toSet());
     }
+
+    @Override
+    public List<MemberScheduleEntry> findMemberSchedule(MemberId memberId, LocalDate from, LocalDate to) {
+        return namedJdbc.query(SELECT_SCHEDULE, params(memberId, from, to), (rs, rowNum) -> new MemberScheduleEntry(
+                new EventId(rs.getObject("event_id", UUID.class)),
+                rs.getString("name"),
+                rs.getDate("event_date").toLocalDate(),
+                rs.getString("location"),
+                rs.getString("organizer"),
+                rs.getString("website_url"),
+                EventStatus.valueOf(rs.getString("status")),
+                rs.getBoolean("coordinator")));
+    }
+
+    private static MapSqlParameterSource params(MemberId memberId, LocalDate from, LocalDate to) {
+        return new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("memberId", memberId.uuid());
+    }
 }
@@ -0,0 +1,154 @@
+package com.klabis.events.infrastructure.jdbc;
+
+import com.klabis.events.EventCancelledEvent;
+import com.klabis.events.EventCreatedEvent;
+import com.klabis.events.EventFinishedEvent;
+import com.klabis.events.EventId;
+import com.klabis.events.EventPublishedEvent;
+import com.klabis.events.EventUpdatedEvent;
+import com.klabis.events.MemberRegisteredForEventEvent;
+import com.klabis.events.MemberUnregisteredFromEventEvent;
+import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the {@code events.member_schedule} read model behind {@link EventScheduleQueryImpl}.
+ * <p>
+ * The listeners are plain {@link EventListener}s: Spring Data JDBC publishes the event aggregate's domain events
+ * right after saving it, so the read model is written in the same transaction and a member sees a new registration
+ * in the personal schedule immediately. Registrations touch a single row; changes of the event itself (date,
+ * coordinator or status) rewrite only the rows of that event.
+ * <p>
+ * Rows written outside the aggregate (for example by the synthetic dataset) are picked up by {@link #rebuild()}.
+ */
+@SecondaryAdapter
+@Component
+class MemberScheduleProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberScheduleProjection.class);
+
+    private static final String INSERT_COLUMNS = """
+            INSERT INTO events.member_schedule (member_id, event_date, event_id, name, location, organizer,
+                website_url, status, coordinator)
+            """;
+
+    private static final String SELECT_ROWS = """
+            SELECT m.member_id, e.event_date, e.id, e.name, e.location, e.organizer, e.website_url, e.status,
+                   (e.event_coordinator_id IS NOT NULL AND e.event_coordinator_id = m.member_id)
+            FROM events.events e
+            """;
+
+    private static final String INSERT_EVENT = INSERT_COLUMNS + SELECT_ROWS + """
+            JOIN (SELECT event_id, member_id FROM events.event_registrations WHERE event_id = :eventId
+                  UNION
+                  SELECT id, event_coordinator_id FROM events.events
+                  WHERE id = :eventId AND event_coordinator_id IS NOT NULL) m ON m.event_id = e.id
+            """;
+
+    private static final String INSERT_ALL = INSERT_COLUMNS + SELECT_ROWS + """
+            JOIN (SELECT event_id, member_id FROM events.event_registrations
+                  UNION
+                  SELECT id, event_coordinator_id FROM events.events WHERE event_coordinator_id IS NOT NULL) m
+                 ON m.event_id = e.id
+            """;
+
+    private static final String INSERT_REGISTRATION = INSERT_COLUMNS + """
+            SELECT :memberId, e.event_date, e.id, e.name, e.location, e.organizer, e.website_url, e.status,
+                   (e.event_coordinator_id IS NOT NULL AND e.event_coordinator_id = :memberId)
+            FROM events.events e
+            WHERE e.id = :eventId
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_REGISTRATION = """
+            DELETE FROM events.member_schedule
+            WHERE event_id = :eventId AND member_id = :memberId AND coordinator = FALSE
+            """;
+
+    private static final String UPDATE_STATUS = """
+            UPDATE events.member_schedule
+            SET status = (SELECT e.status FROM events.events e WHERE e.id = :eventId)
+            WHERE event_id = :eventId
+            """;
+
+    private static final String DELETE_EVENT = "DELETE FROM events.member_schedule WHERE event_id = :eventId";
+
+    private static final String DELETE_ALL = "DELETE FROM events.member_schedule";
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+
+    MemberScheduleProjection(NamedParameterJdbcTemplate namedJdbc) {
+        this.namedJdbc = namedJdbc;
+    }
+
+    @EventListener
+    void on(MemberRegisteredForEventEvent event) {
+        namedJdbc.update(INSERT_REGISTRATION, new MapSqlParameterSource()
+                .addValue("eventId", event.eventId().value())
+                .addValue("memberId", event.memberId().uuid()));
+    }
+
+    @EventListener
+    void on(MemberUnregisteredFromEventEvent event) {
+        namedJdbc.update(DELETE_REGISTRATION, new MapSqlParameterSource()
+                .addValue("eventId", event.eventId().value())
+                .addValue("memberId", event.memberId().uuid()));
+    }
+
+    @EventListener
+    void on(EventCreatedEvent event) {
+        refresh(event.eventId());
+    }
+
+    @EventListener
+    void on(EventUpdatedEvent event) {
+        refresh(event.eventId());
+    }
+
+    @EventListener
+    void on(EventPublishedEvent event) {
+        updateStatus(event.eventId());
+    }
+
+    @EventListener
+    void on(EventCancelledEvent event) {
+        updateStatus(event.eventId());
+    }
+
+    @EventListener
+    void on(EventFinishedEvent event) {
+        updateStatus(event.eventId());
+    }
+
+    /**
+     * Rewrites the rows of one event, covering changes of its date, details and coordinator.
+     */
+    void refresh(EventId eventId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId.value());
+        namedJdbc.update(DELETE_EVENT, params);
+        namedJdbc.update(INSERT_EVENT, params);
+    }
+
+    private void updateStatus(EventId eventId) {
+        namedJdbc.update(UPDATE_STATUS, new MapSqlParameterSource("eventId", eventId.value()));
+    }
+
+    /**
+     * Recomputes the whole read model from events and registrations.
+     *
+     * @return number of schedule rows written
+     */
+    @Transactional
+    int rebuild() {
+        int deleted = namedJdbc.update(DELETE_ALL, new MapSqlParameterSource());
+        int inserted = namedJdbc.update(INSERT_ALL, new MapSqlParameterSource());
+        log.info("Member schedule rebuilt: {} rows removed, {} rows written", deleted, inserted);
+        return inserted;
+    }
+}
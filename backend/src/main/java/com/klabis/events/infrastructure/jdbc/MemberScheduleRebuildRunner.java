@@ -0,0 +1,27 @@
+package com.klabis.events.infrastructure.jdbc;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the member schedule read model at startup when the application is launched with
+ * {@code --klabis.events.member-schedule.rebuild=true}, e.g. after rows were written around the event aggregate
+ * or when the projection logic changes.
+ */
+@Component
+@ConditionalOnProperty(value = "klabis.events.member-schedule.rebuild", havingValue = "true")
+class MemberScheduleRebuildRunner implements ApplicationRunner {
+
+    private final MemberScheduleProjection projection;
+
+    MemberScheduleRebuildRunner(MemberScheduleProjection projection) {
+        this.projection = projection;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        projection.rebuild();
+    }
+}
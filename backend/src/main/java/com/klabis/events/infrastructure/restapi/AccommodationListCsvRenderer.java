@@ -1,13 +1,8 @@
 package com.klabis.events.infrastructure.restapi;
 
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
+import com.klabis.common.export.CsvExport;
+import com.klabis.common.export.RowSource;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -15,32 +10,19 @@ import java.util.Objects;
 @org.springframework.stereotype.Component
 class AccommodationListCsvRenderer {
 
-    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
-
-    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder()
-            .setDelimiter(';')
-            .setHeader("Jméno", "Příjmení", "Číslo OP", "Platnost OP", "Datum narození", "Adresa")
-            .build();
-
-    byte[] renderToBytes(List<AccommodationListItemDto> items) {
-        var out = new ByteArrayOutputStream();
-        out.writeBytes(UTF8_BOM);
-        try (var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
-             var printer = new CSVPrinter(writer, CSV_FORMAT)) {
-            for (AccommodationListItemDto item : items) {
-                printer.printRecord(
-                        item.firstName(),
-                        item.lastName(),
-                        item.identityCardNumber(),
-                        Objects.toString(item.identityCardValidityDate(), null),
-                        Objects.toString(item.dateOfBirth(), null),
-                        formatAddress(item)
-                );
-            }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-        return out.toByteArray();
+    private static final String[] HEADER = {
+            "Jméno", "Příjmení", "Číslo OP", "Platnost OP", "Datum narození", "Adresa"
+    };
+
+    CsvExport render(String filename, RowSource<AccommodationListItemDto> items) {
+        return CsvExport.of(filename, HEADER, items, item -> new Object[]{
+                item.firstName(),
+                item.lastName(),
+                item.identityCardNumber(),
+                Objects.toString(item.identityCardValidityDate(), null),
+                Objects.toString(item.dateOfBirth(), null),
+                formatAddress(item)
+        });
     }
 
     private static String formatAddress(AccommodationListItemDto item) {
@@ -1,5 +1,7 @@
 package com.klabis.events.infrastructure.restapi;
 
+import com.klabis.common.etag.AggregateETags;
+import com.klabis.common.export.RowSource;
 import com.klabis.common.mvc.MvcComponent;
 import com.klabis.common.security.KlabisJwtAuthenticationToken;
 import com.klabis.common.security.fieldsecurity.SecuritySpelEvaluator;
@@ -44,6 +46,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -133,6 +136,7 @@ public class EventController {
             @Parameter(description = "Event update data") @Valid @RequestBody UpdateEventRequest request) {
 
         EventId eventId = new EventId(id);
+        AggregateETags.expectIfMatch(id);
         Event existingEvent = eventManagementService.getEvent(eventId, true);
         Event.UpdateEvent command = UpdateEventRequestMapper.toCommand(request, existingEvent);
         eventManagementService.updateEvent(eventId, command);
@@ -151,8 +155,16 @@ public class EventController {
             @Parameter(description = "Event UUID") @PathVariable UUID id,
             @ActingUser CurrentUserData currentUser) {
 
+        EventId eventId = new EventId(id);
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        Event event = eventManagementService.getEvent(new EventId(id), EventAffordanceSupport.hasAuthority(auth, Authority.EVENTS_MANAGE));
+        boolean canManageEvents = EventAffordanceSupport.hasAuthority(auth, Authority.EVENTS_MANAGE);
+        Optional<ResponseEntity<RepresentationModel<?>>> notModified =
+                AggregateETags.notModified(() -> eventManagementService.findEventVersion(eventId, canManageEvents));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        Event event = eventManagementService.getEvent(eventId, canManageEvents);
 
         EventDto eventDto = EventDtoMapper.toDto(event);
 
@@ -168,7 +180,7 @@ public class EventController {
                 .embed(registrationDtos, RegistrationSummaryDto.class)
                 .build();
 
-        return ResponseEntity.ok(model);
+        return AggregateETags.ok(event.getVersion()).body(model);
     }
 
     private List<RegistrationSummaryDto> buildRegistrationDtos(Event event) {
@@ -412,19 +424,17 @@ public class EventController {
     )
     @ApiResponse(responseCode = "200", description = "CSV file downloaded successfully")
     @ApiResponse(responseCode = "403", description = "Forbidden - must be the event coordinator or have EVENTS:REGISTRATIONS")
-    public ResponseEntity<byte[]> getAccommodationListAsCsv(
+    public ResponseEntity<StreamingResponseBody> getAccommodationListAsCsv(
             @Parameter(description = "Event UUID") @PathVariable UUID eventId) {
 
         Event event = loadAuthorizedEventForAccommodation(eventId);
-        List<AccommodationListItemDto> items = assembleAccommodationItems(event);
-        byte[] csv = csvRenderer.renderToBytes(items);
+        List<MemberId> memberIds = event.getRegistrations().stream().map(EventRegistration::memberId).toList();
+        RowSource<AccommodationListItemDto> items = members.streamAccommodationDataByIds(memberIds)
+                .map(this::toAccommodationListItem);
 
         String filename = "ubytovani-" + EventNameSlugifier.slugify(event.getName()) + ".csv";
 
-        return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
-                .header("Content-Type", "text/csv; charset=UTF-8")
-                .body(csv);
+        return csvRenderer.render(filename, items).toResponseEntity();
     }
 
     private Event loadAuthorizedEventForAccommodation(UUID eventId) {
@@ -450,6 +460,10 @@ public class EventController {
         if (accommodationData == null) {
             return new AccommodationListItemDto(null, null, null, null, null, null, null, null, null);
         }
+        return toAccommodationListItem(accommodationData);
+    }
+
+    private AccommodationListItemDto toAccommodationListItem(MemberAccommodationDto accommodationData) {
         return new AccommodationListItemDto(
                 accommodationData.firstName(),
                 accommodationData.lastName(),
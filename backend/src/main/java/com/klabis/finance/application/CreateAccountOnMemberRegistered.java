@@ -1,10 +1,12 @@
 package com.klabis.finance.application;
 
+import com.klabis.common.listeners.ListenerExecutors;
 import com.klabis.finance.domain.MemberAccount;
 import com.klabis.finance.domain.MemberAccountRepository;
 import com.klabis.members.MemberCreatedEvent;
 import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @PrimaryAdapter
@@ -18,6 +20,7 @@ public class CreateAccountOnMemberRegistered {
     }
 
     @ApplicationModuleListener
+    @Async(ListenerExecutors.FINANCE)
     public void on(MemberCreatedEvent event) {
         MemberAccount account = MemberAccount.openFor(event.memberId());
         memberAccountRepository.save(account);
@@ -1,5 +1,6 @@
 package com.klabis.finance.application;
 
+import com.klabis.common.export.RowSource;
 import com.klabis.finance.domain.Transaction;
 import com.klabis.finance.domain.TransactionId;
 import com.klabis.finance.domain.TransactionType;
@@ -25,4 +26,11 @@ public interface TransactionQueryPort {
     Page<TransactionWithReversal> findTransactionsWithReversals(TransactionQuery query);
 
     Transaction findTransaction(MemberId memberId, TransactionId transactionId);
+
+    /**
+     * All transactions matching the filter of {@link TransactionQuery} (its pageable is not used), newest first.
+     * Rows are read from a cursor only while the source is iterated, so it can be returned from the request thread.
+     */
+    RowSource<Transaction> streamTransactions(MemberId memberId, LocalDate occurredAtFrom,
+                                              LocalDate occurredAtTo, TransactionType type);
 }
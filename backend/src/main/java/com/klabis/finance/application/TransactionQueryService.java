@@ -1,15 +1,18 @@
 package com.klabis.finance.application;
 
+import com.klabis.common.export.RowSource;
 import com.klabis.finance.domain.MemberAccount;
 import com.klabis.finance.domain.MemberAccountRepository;
 import com.klabis.finance.domain.Transaction;
 import com.klabis.finance.domain.TransactionId;
+import com.klabis.finance.domain.TransactionType;
 import com.klabis.members.MemberId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -61,4 +64,10 @@ class TransactionQueryService implements TransactionQueryPort {
                 .findFirst()
                 .orElseThrow(() -> new TransactionNotFoundException(transactionId));
     }
+
+    @Override
+    public RowSource<Transaction> streamTransactions(MemberId memberId, LocalDate occurredAtFrom,
+                                                     LocalDate occurredAtTo, TransactionType type) {
+        return memberAccountRepository.streamTransactions(memberId, occurredAtFrom, occurredAtTo, type);
+    }
 }
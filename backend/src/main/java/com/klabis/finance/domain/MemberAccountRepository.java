@@ -1,5 +1,6 @@
 package com.klabis.finance.domain;
 
+import com.klabis.common.export.RowSource;
 import com.klabis.members.MemberId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +18,11 @@ public interface MemberAccountRepository {
 
     Optional<Money> findBalanceById(MemberId memberId);
 
+    /**
+     * Version of the account without loading it or its transactions, for conditional requests.
+     */
+    Optional<Long> findVersionById(MemberId memberId);
+
     Optional<Transaction> findReversalOf(TransactionId transactionId);
 
     /**
@@ -29,4 +35,11 @@ public interface MemberAccountRepository {
 
     Page<Transaction> findTransactions(MemberId memberId, LocalDate occurredAtFrom,
                                        LocalDate occurredAtTo, TransactionType type, Pageable pageable);
+
+    /**
+     * Same filter as {@link #findTransactions}, but all matching transactions, newest first, read from a cursor
+     * while they are consumed.
+     */
+    RowSource<Transaction> streamTransactions(MemberId memberId, LocalDate occurredAtFrom,
+                                              LocalDate occurredAtTo, TransactionType type);
 }
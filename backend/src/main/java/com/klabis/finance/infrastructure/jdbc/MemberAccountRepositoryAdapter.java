@@ -1,5 +1,7 @@
 package com.klabis.finance.infrastructure.jdbc;
 
+import com.klabis.common.export.RowSource;
+import com.klabis.common.jdbc.JdbcCursor;
 import com.klabis.common.pagination.TranslatedPageable;
 import com.klabis.common.users.UserId;
 import com.klabis.finance.domain.MemberAccount;
@@ -20,6 +22,7 @@ import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -48,11 +51,14 @@ class MemberAccountRepositoryAdapter implements MemberAccountRepository {
 
     private final MemberAccountJdbcRepository jdbcRepository;
     private final NamedParameterJdbcTemplate namedJdbc;
+    private final JdbcCursor cursor;
 
     MemberAccountRepositoryAdapter(MemberAccountJdbcRepository jdbcRepository,
-                                   NamedParameterJdbcTemplate namedJdbc) {
+                                   NamedParameterJdbcTemplate namedJdbc,
+                                   PlatformTransactionManager transactionManager) {
         this.jdbcRepository = jdbcRepository;
         this.namedJdbc = namedJdbc;
+        this.cursor = new JdbcCursor(namedJdbc.getJdbcTemplate().getDataSource(), transactionManager);
     }
 
     @Override
@@ -78,6 +84,13 @@ class MemberAccountRepositoryAdapter implements MemberAccountRepository {
         }
     }
 
+    @Override
+    public Optional<Long> findVersionById(MemberId memberId) {
+        String sql = "SELECT version FROM finance.member_account WHERE member_id = :memberId";
+        MapSqlParameterSource params = new MapSqlParameterSource("memberId", memberId.uuid());
+        return namedJdbc.queryForList(sql, params, Long.class).stream().findFirst();
+    }
+
     @Override
     public Optional<Transaction> findReversalOf(TransactionId transactionId) {
         String sql = "SELECT * FROM finance.finance_transaction WHERE reverses_transaction_id = :txId";
@@ -112,6 +125,31 @@ class MemberAccountRepositoryAdapter implements MemberAccountRepository {
     public Page<Transaction> findTransactions(MemberId memberId, LocalDate occurredAtFrom,
                                               LocalDate occurredAtTo, TransactionType type, Pageable pageable) {
         MapSqlParameterSource params = new MapSqlParameterSource();
+        String whereClause = transactionFilter(memberId, occurredAtFrom, occurredAtTo, type, params);
+        String countSql = "SELECT COUNT(*) FROM finance.finance_transaction WHERE " + whereClause;
+
+        Pageable dbPageable = TranslatedPageable.translate(pageable, DOMAIN_TO_DB_COLUMN);
+        String orderClause = buildOrderClause(dbPageable.getSort());
+        String dataSql = "SELECT * FROM finance.finance_transaction WHERE " + whereClause + orderClause
+                + " LIMIT " + dbPageable.getPageSize() + " OFFSET " + dbPageable.getOffset();
+
+        long total = Optional.ofNullable(namedJdbc.queryForObject(countSql, params, Long.class)).orElse(0L);
+        List<Transaction> transactions = namedJdbc.query(dataSql, params, new TransactionRowMapper());
+
+        return new PageImpl<>(transactions, pageable, total);
+    }
+
+    @Override
+    public RowSource<Transaction> streamTransactions(MemberId memberId, LocalDate occurredAtFrom,
+                                                     LocalDate occurredAtTo, TransactionType type) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String whereClause = transactionFilter(memberId, occurredAtFrom, occurredAtTo, type, params);
+        String sql = "SELECT * FROM finance.finance_transaction WHERE " + whereClause + buildOrderClause(Sort.unsorted());
+        return cursor.query(sql, params, new TransactionRowMapper());
+    }
+
+    private static String transactionFilter(MemberId memberId, LocalDate occurredAtFrom, LocalDate occurredAtTo,
+                                            TransactionType type, MapSqlParameterSource params) {
         params.addValue("memberId", memberId.uuid());
 
         List<String> conditions = new ArrayList<>();
@@ -130,18 +168,7 @@ class MemberAccountRepositoryAdapter implements MemberAccountRepository {
             params.addValue("type", type.name());
         }
 
-        String whereClause = conditions.stream().collect(Collectors.joining(" AND "));
-        String countSql = "SELECT COUNT(*) FROM finance.finance_transaction WHERE " + whereClause;
-
-        Pageable dbPageable = TranslatedPageable.translate(pageable, DOMAIN_TO_DB_COLUMN);
-        String orderClause = buildOrderClause(dbPageable.getSort());
-        String dataSql = "SELECT * FROM finance.finance_transaction WHERE " + whereClause + orderClause
-                + " LIMIT " + dbPageable.getPageSize() + " OFFSET " + dbPageable.getOffset();
-
-        long total = Optional.ofNullable(namedJdbc.queryForObject(countSql, params, Long.class)).orElse(0L);
-        List<Transaction> transactions = namedJdbc.query(dataSql, params, new TransactionRowMapper());
-
-        return new PageImpl<>(transactions, pageable, total);
+        return conditions.stream().collect(Collectors.joining(" AND "));
     }
 
     private String buildOrderClause(Sort sort) {
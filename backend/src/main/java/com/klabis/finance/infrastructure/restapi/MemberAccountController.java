@@ -1,5 +1,7 @@
 package com.klabis.finance.infrastructure.restapi;
 
+import com.klabis.common.etag.AggregateETags;
+import com.klabis.common.export.CsvExport;
 import com.klabis.common.mvc.MvcComponent;
 import com.klabis.common.ui.ModelWithDomainPostprocessor;
 import com.klabis.common.users.Authority;
@@ -37,6 +39,7 @@ import org.springframework.hateoas.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.net.URI;
@@ -55,6 +58,10 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @Tag(name = "Finance", description = "Member financial account API")
 class MemberAccountController {
 
+    private static final String[] TRANSACTION_CSV_HEADER = {
+            "Datum", "Typ", "Částka", "Měna", "Poznámka", "Zaúčtováno"
+    };
+
     private final DepositPort depositPort;
     private final ChargePort chargePort;
     private final ReversePort reversePort;
@@ -82,10 +89,17 @@ class MemberAccountController {
             @ActingUser CurrentUserData currentUser) {
         MemberId id = new MemberId(memberId);
         checkAccountAccess(id, currentUser);
+        // Version before balance: a deposit in between leaves the tag older than the body, never newer
+        Optional<Long> version = memberAccountRepository.findVersionById(id);
+        Optional<ResponseEntity<EntityModel<MemberAccountResource>>> notModified =
+                AggregateETags.notModified(() -> version);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
         Money balance = memberAccountRepository.findBalanceById(id)
                 .orElseThrow(() -> new MemberAccountNotFoundException(id));
         MemberAccountResource resource = MemberAccountResource.fromBalance(id, balance);
-        return ResponseEntity.ok(entityModelWithDomain(resource, id));
+        return AggregateETags.ok(version.orElse(null)).body(entityModelWithDomain(resource, id));
     }
 
     @GetMapping("/transactions")
@@ -118,6 +132,29 @@ class MemberAccountController {
         return ResponseEntity.ok(model);
     }
 
+    @GetMapping(value = "/transactions", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @PathVariable UUID memberId,
+            @ActingUser CurrentUserData currentUser,
+            @RequestParam(required = false) LocalDate occurredAtFrom,
+            @RequestParam(required = false) LocalDate occurredAtTo,
+            @RequestParam(required = false) TransactionType type) {
+        MemberId id = new MemberId(memberId);
+        checkAccountAccess(id, currentUser);
+
+        return CsvExport.of("transakce.csv", TRANSACTION_CSV_HEADER,
+                        transactionQueryPort.streamTransactions(id, occurredAtFrom, occurredAtTo, type),
+                        tx -> new Object[]{
+                                tx.getOccurredAt(),
+                                tx.getType().name(),
+                                tx.getAmount().amount().toPlainString(),
+                                tx.getAmount().currency().getCurrencyCode(),
+                                tx.getNote(),
+                                tx.getRecordedAt()
+                        })
+                .toResponseEntity();
+    }
+
     @GetMapping("/transactions/{txId}")
     @Transactional(readOnly = true)
     public ResponseEntity<EntityModel<TransactionResource>> getTransaction(
@@ -0,0 +1,22 @@
+package com.klabis.groups.application;
+
+import com.klabis.members.MemberId;
+import org.jmolecules.architecture.hexagonal.SecondaryPort;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cross-module query port for the people of a group, regardless of the group type.
+ * <p>
+ * Used by the calendar module to build and authorize group calendar feeds.
+ */
+@SecondaryPort
+public interface GroupMembersQuery {
+
+    /**
+     * Returns the owners (trainers, parents) and members of the group; pending invitations are not included.
+     * Empty when the group does not exist.
+     */
+    Set<MemberId> findMembersOf(UUID groupId);
+}
@@ -1,59 +1,39 @@
 package com.klabis.groups.application;
 
-import com.klabis.groups.common.domain.FamilyGroupFilter;
-import com.klabis.groups.common.domain.FreeGroupFilter;
-import com.klabis.groups.common.domain.TrainingGroupFilter;
-import com.klabis.groups.familygroup.domain.FamilyGroup;
-import com.klabis.groups.familygroup.domain.FamilyGroupRepository;
-import com.klabis.groups.freegroup.domain.FreeGroup;
-import com.klabis.groups.freegroup.domain.FreeGroupRepository;
-import com.klabis.groups.traininggroup.domain.TrainingGroup;
-import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
+import com.klabis.groups.common.domain.MemberGroupIndex;
+import com.klabis.groups.common.domain.MemberGroupRole;
 import com.klabis.members.MemberId;
 import com.klabis.members.MemberSuspensionRequestedEvent;
 import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * Blocks suspension of a member who is the last owner of any group (last parent of a family group,
+ * last owner of a free group or last trainer of a training group).
+ * <p>
+ * Uses the {@link MemberGroupIndex}, so no group aggregate is loaded. The roles are read uncached, because a
+ * stale cache entry could let the last owner of a group be suspended.
+ */
 @PrimaryAdapter
 @Component
 public class LastOwnershipCheckerImpl {
 
-    private final FamilyGroupRepository familyGroupRepository;
-    private final FreeGroupRepository freeGroupRepository;
-    private final TrainingGroupRepository trainingGroupRepository;
+    private final MemberGroupIndex memberGroupIndex;
 
-    LastOwnershipCheckerImpl(FamilyGroupRepository familyGroupRepository,
-                             FreeGroupRepository freeGroupRepository,
-                             TrainingGroupRepository trainingGroupRepository) {
-        this.familyGroupRepository = familyGroupRepository;
-        this.freeGroupRepository = freeGroupRepository;
-        this.trainingGroupRepository = trainingGroupRepository;
+    LastOwnershipCheckerImpl(MemberGroupIndex memberGroupIndex) {
+        this.memberGroupIndex = memberGroupIndex;
     }
 
     @EventListener
     void onMemberSuspensionRequested(MemberSuspensionRequestedEvent event) {
         MemberId memberId = event.memberId();
 
-        familyGroupRepository.findOne(FamilyGroupFilter.all().withMemberOrParentIs(memberId))
-                .filter(group -> group.isLastParent(memberId))
-                .ifPresent(group -> event.addBlockingGroup(
-                        group.getId().uuid().toString(),
-                        group.getName(),
-                        FamilyGroup.TYPE_DISCRIMINATOR));
-
-        freeGroupRepository.findAll(FreeGroupFilter.all().withOwnerOrMemberIs(memberId)).stream()
-                .filter(group -> group.isLastOwner(memberId))
-                .forEach(group -> event.addBlockingGroup(
-                        group.getId().uuid().toString(),
-                        group.getName(),
-                        FreeGroup.TYPE_DISCRIMINATOR));
-
-        trainingGroupRepository.findAll(TrainingGroupFilter.all().withTrainerIs(memberId)).stream()
-                .filter(group -> group.isLastTrainer(memberId))
+        memberGroupIndex.findCurrentGroupsOf(memberId).stream()
+                .filter(MemberGroupRole::isLastOwner)
                 .forEach(group -> event.addBlockingGroup(
-                        group.getId().uuid().toString(),
-                        group.getName(),
-                        TrainingGroup.TYPE_DISCRIMINATOR));
+                        group.groupId().toString(),
+                        group.groupName(),
+                        group.groupType()));
     }
 }
@@ -0,0 +1,2 @@
+@org.springframework.modulith.NamedInterface("application")
+package com.klabis.groups.application;
@@ -0,0 +1,35 @@
+package com.klabis.groups.common.domain;
+
+import com.klabis.members.MemberId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reverse index from members to the groups they belong to.
+ * <p>
+ * Answers "which groups and roles does this member have" without loading any group aggregate —
+ * use it instead of the group repositories whenever only group ids, names, types or roles are needed.
+ * Entries are cached and invalidated whenever a group is saved or deleted; invariant checks read
+ * uncached through {@link #findCurrentGroupsOf(MemberId)}.
+ */
+public interface MemberGroupIndex {
+
+    /**
+     * Returns all group roles of the given member (empty list when the member is in no group).
+     */
+    List<MemberGroupRole> findGroupsOf(MemberId memberId);
+
+    /**
+     * Returns group roles for a batch of members in a single lookup.
+     * Every requested member is present in the result, members without groups map to an empty list.
+     */
+    Map<MemberId, List<MemberGroupRole>> findGroupsOf(Collection<MemberId> memberIds);
+
+    /**
+     * Returns all group roles of the given member read from the database, bypassing the cache.
+     * Use it for invariant checks (such as the last owner check) that must never act on a stale entry.
+     */
+    List<MemberGroupRole> findCurrentGroupsOf(MemberId memberId);
+}
@@ -0,0 +1,53 @@
+package com.klabis.groups.common.domain;
+
+import com.klabis.members.MemberId;
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.util.UUID;
+
+/**
+ * A single entry of the {@link MemberGroupIndex}: one role a member has in one group.
+ * <p>
+ * A member may appear with several roles in the same group (e.g. a family parent is both
+ * {@link Role#OWNER} and {@link Role#MEMBER}).
+ *
+ * @param memberId   the member this entry belongs to
+ * @param groupId    id of the group
+ * @param groupType  group type discriminator (e.g. {@code FamilyGroup.TYPE_DISCRIMINATOR})
+ * @param groupName  name of the group
+ * @param role       role of the member in the group
+ * @param ownerCount total number of owners (trainers, parents) of the group
+ */
+@ValueObject
+public record MemberGroupRole(
+        MemberId memberId,
+        UUID groupId,
+        String groupType,
+        String groupName,
+        Role role,
+        int ownerCount
+) {
+
+    public enum Role {
+        /** Owner of a free group, trainer of a training group or parent of a family group. */
+        OWNER,
+        MEMBER,
+        /** Member has a pending invitation to a free group. */
+        INVITED
+    }
+
+    public boolean isOfType(String type) {
+        return groupType.equals(type);
+    }
+
+    public boolean hasRole(Role expected) {
+        return role == expected;
+    }
+
+    /**
+     * Returns true when the member is the only owner of the group.
+     */
+    public boolean isLastOwner() {
+        return role == Role.OWNER && ownerCount == 1;
+    }
+}
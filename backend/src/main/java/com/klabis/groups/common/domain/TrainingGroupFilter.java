@@ -12,22 +12,30 @@ import org.jmolecules.ddd.annotation.ValueObject;
 public record TrainingGroupFilter(
         MemberId memberIs,
         MemberId trainerIs,
-        AgeRangeOverlap overlap
+        AgeRangeOverlap overlap,
+        Integer ageIncludes
 ) implements GroupFilter {
 
     public static TrainingGroupFilter all() {
-        return new TrainingGroupFilter(null, null, null);
+        return new TrainingGroupFilter(null, null, null, null);
     }
 
     public TrainingGroupFilter withMemberIs(MemberId memberId) {
-        return new TrainingGroupFilter(memberId, this.trainerIs, this.overlap);
+        return new TrainingGroupFilter(memberId, this.trainerIs, this.overlap, this.ageIncludes);
     }
 
     public TrainingGroupFilter withTrainerIs(MemberId trainerId) {
-        return new TrainingGroupFilter(this.memberIs, trainerId, this.overlap);
+        return new TrainingGroupFilter(this.memberIs, trainerId, this.overlap, this.ageIncludes);
     }
 
     public TrainingGroupFilter withOverlap(AgeRangeOverlap overlap) {
-        return new TrainingGroupFilter(this.memberIs, this.trainerIs, overlap);
+        return new TrainingGroupFilter(this.memberIs, this.trainerIs, overlap, this.ageIncludes);
+    }
+
+    /**
+     * Restricts the result to groups whose age range contains the given age (in whole years).
+     */
+    public TrainingGroupFilter withAgeIncluding(int age) {
+        return new TrainingGroupFilter(this.memberIs, this.trainerIs, this.overlap, age);
     }
 }
@@ -1,6 +1,5 @@
 package com.klabis.groups.common.infrastructure.jdbc;
 
-import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -17,10 +16,6 @@ public interface GroupJdbcRepository extends CrudRepository<GroupMemento, UUID>
     @Query("SELECT EXISTS (SELECT 1 FROM groups.user_groups WHERE id = :id AND type = :type)")
     boolean existsByIdAndType(@Param("id") UUID id, @Param("type") String type);
 
-    @Query("DELETE FROM groups.user_groups WHERE id = :id AND type = :type")
-    @Modifying
-    void deleteByIdAndType(@Param("id") UUID id, @Param("type") String type);
-
     @Query("""
             SELECT ug.* FROM groups.user_groups ug
             WHERE ug.type = :type
@@ -0,0 +1,20 @@
+package com.klabis.groups.common.infrastructure.jdbc;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by group persistence adapters that change group membership with plain SQL, bypassing the
+ * {@link GroupJdbcRepository} aggregate events, so that {@link MemberGroupIndexInvalidator} still evicts
+ * the affected entries of the member group index.
+ *
+ * @param groupId   the group whose membership changed
+ * @param memberIds members added to or removed from the group
+ */
+public record GroupMembersChangedEvent(UUID groupId, Collection<UUID> memberIds) {
+
+    public GroupMembersChangedEvent {
+        memberIds = List.copyOf(memberIds);
+    }
+}
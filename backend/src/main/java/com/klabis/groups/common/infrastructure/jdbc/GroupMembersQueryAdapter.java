@@ -0,0 +1,41 @@
+package com.klabis.groups.common.infrastructure.jdbc;
+
+import com.klabis.groups.application.GroupMembersQuery;
+import com.klabis.members.MemberId;
+import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC implementation of {@link GroupMembersQuery} reading the owner and member link tables shared by all group
+ * types.
+ */
+@SecondaryAdapter
+@Component
+class GroupMembersQueryAdapter implements GroupMembersQuery {
+
+    private static final String MEMBERS_OF_GROUP_QUERY = """
+            SELECT member_id FROM groups.user_group_owners WHERE user_group_id = :groupId
+            UNION
+            SELECT member_id FROM groups.user_group_members WHERE user_group_id = :groupId
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+
+    GroupMembersQueryAdapter(NamedParameterJdbcTemplate namedJdbc) {
+        this.namedJdbc = namedJdbc;
+    }
+
+    @Override
+    public Set<MemberId> findMembersOf(UUID groupId) {
+        return namedJdbc.query(MEMBERS_OF_GROUP_QUERY, new MapSqlParameterSource("groupId", groupId),
+                        (rs, rowNum) -> new MemberId(rs.getObject(1, UUID.class)))
+                .stream()
+                .collect(Collectors.toSet());
+    }
+}
@@ -165,6 +165,17 @@ public class GroupMemento implements Persistable<UUID> {
         return isNew;
     }
 
+    /**
+     * Ids of all members linked to this group as owner, member or invitee.
+     */
+    Set<UUID> referencedMemberIds() {
+        Set<UUID> memberIds = new HashSet<>();
+        owners.forEach(owner -> memberIds.add(owner.getMemberId()));
+        members.forEach(member -> memberIds.add(member.getMemberId()));
+        invitations.forEach(invitation -> memberIds.add(invitation.getInvitedMemberId()));
+        return memberIds;
+    }
+
     private static GroupMemento initWithMembers(KlabisAggregateRoot<?, ?> group, UUID id, String name, String type,
                                                Set<MemberId> owners, Set<com.klabis.groups.common.domain.GroupMembership> members) {
         GroupMemento memento = initCommon(group, id, name, type);
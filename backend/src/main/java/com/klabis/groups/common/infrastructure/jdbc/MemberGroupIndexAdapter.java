@@ -0,0 +1,150 @@
+package com.klabis.groups.common.infrastructure.jdbc;
+
+import com.klabis.groups.common.domain.MemberGroupIndex;
+import com.klabis.groups.common.domain.MemberGroupRole;
+import com.klabis.members.MemberId;
+import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link MemberGroupIndex}.
+ * <p>
+ * Reads only the owner/member/invitation link tables joined with the group header row — no group
+ * aggregate is hydrated. Results are cached per member in the {@value #CACHE_NAME} cache, keyed by the member's
+ * UUID so that evictions are broadcast to the other nodes; {@link MemberGroupIndexInvalidator} evicts affected
+ * entries whenever a group is saved or deleted.
+ */
+@SecondaryAdapter
+@Component
+class MemberGroupIndexAdapter implements MemberGroupIndex {
+
+    static final String CACHE_NAME = "memberGroups";
+
+    private static final String GROUPS_OF_MEMBERS_QUERY = """
+            SELECT ugo.member_id, ug.id AS group_id, ug.type, ug.name, 'OWNER' AS role,
+                   (SELECT COUNT(*) FROM groups.user_group_owners c WHERE c.user_group_id = ug.id) AS owner_count
+            FROM groups.user_group_owners ugo
+            JOIN groups.user_groups ug ON ug.id = ugo.user_group_id
+            WHERE ugo.member_id IN (:memberIds)
+            UNION ALL
+            SELECT ugm.member_id, ug.id, ug.type, ug.name, 'MEMBER',
+                   (SELECT COUNT(*) FROM groups.user_group_owners c WHERE c.user_group_id = ug.id)
+            FROM groups.user_group_members ugm
+            JOIN groups.user_groups ug ON ug.id = ugm.user_group_id
+            WHERE ugm.member_id IN (:memberIds)
+            UNION ALL
+            SELECT ugi.invited_member_id, ug.id, ug.type, ug.name, 'INVITED',
+                   (SELECT COUNT(*) FROM groups.user_group_owners c WHERE c.user_group_id = ug.id)
+            FROM groups.user_group_invitations ugi
+            JOIN groups.user_groups ug ON ug.id = ugi.user_group_id
+            WHERE ugi.invited_member_id IN (:memberIds) AND ugi.status = 'PENDING'
+            """;
+
+    private static final String MEMBERS_OF_GROUP_QUERY = """
+            SELECT member_id FROM groups.user_group_owners WHERE user_group_id = :groupId
+            UNION
+            SELECT member_id FROM groups.user_group_members WHERE user_group_id = :groupId
+            UNION
+            SELECT invited_member_id FROM groups.user_group_invitations WHERE user_group_id = :groupId
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final Cache cache;
+
+    MemberGroupIndexAdapter(NamedParameterJdbcTemplate namedJdbc, CacheManager cacheManager) {
+        this.namedJdbc = namedJdbc;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        Assert.state(cache != null, () -> "Cache " + CACHE_NAME + " is not configured");
+    }
+
+    @Override
+    public List<MemberGroupRole> findGroupsOf(MemberId memberId) {
+        return findGroupsOf(List.of(memberId)).get(memberId);
+    }
+
+    @Override
+    public Map<MemberId, List<MemberGroupRole>> findGroupsOf(Collection<MemberId> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<MemberId, List<MemberGroupRole>> result = new HashMap<>();
+        Set<MemberId> missing = new HashSet<>();
+        for (MemberId memberId : memberIds) {
+            Cache.ValueWrapper cached = cache.get(memberId.value());
+            if (cached != null) {
+                result.put(memberId, cachedRoles(cached));
+            } else {
+                missing.add(memberId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<MemberId, List<MemberGroupRole>> loaded = loadGroupsOf(missing);
+            loaded.forEach((memberId, roles) -> cache.put(memberId.value(), roles));
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<MemberGroupRole> cachedRoles(Cache.ValueWrapper cached) {
+        return (List<MemberGroupRole>) cached.get();
+    }
+
+    @Override
+    public List<MemberGroupRole> findCurrentGroupsOf(MemberId memberId) {
+        return loadGroupsOf(Set.of(memberId)).get(memberId);
+    }
+
+    private Map<MemberId, List<MemberGroupRole>> loadGroupsOf(Set<? extends MemberId> memberIds) {
+        List<UUID> uuids = memberIds.stream().map(MemberId::value).toList();
+
+        Map<MemberId, List<MemberGroupRole>> result = new HashMap<>();
+        memberIds.forEach(memberId -> result.put(memberId, new ArrayList<>()));
+
+        namedJdbc.query(GROUPS_OF_MEMBERS_QUERY, new MapSqlParameterSource("memberIds", uuids), rs -> {
+            MemberId memberId = new MemberId(rs.getObject("member_id", UUID.class));
+            result.get(memberId).add(new MemberGroupRole(
+                    memberId,
+                    rs.getObject("group_id", UUID.class),
+                    rs.getString("type"),
+                    rs.getString("name"),
+                    MemberGroupRole.Role.valueOf(rs.getString("role")),
+                    rs.getInt("owner_count")));
+        });
+
+        result.replaceAll((memberId, roles) -> List.copyOf(roles));
+        return result;
+    }
+
+    /**
+     * Owners, members and invited members of the group as currently stored.
+     */
+    Set<UUID> findStoredMemberIdsOf(UUID groupId) {
+        return new HashSet<>(namedJdbc.queryForList(MEMBERS_OF_GROUP_QUERY,
+                new MapSqlParameterSource("groupId", groupId), UUID.class));
+    }
+
+    /**
+     * Evicts cached entries of the given members, on this node and (through the cluster cache) on all others.
+     * <p>
+     * The cluster cache evicts the local entries once more after the surrounding transaction commits, so that
+     * a concurrent read cannot re-populate the cache with data from before the commit.
+     */
+    void invalidate(Collection<UUID> memberIds) {
+        memberIds.forEach(cache::evict);
+    }
+}
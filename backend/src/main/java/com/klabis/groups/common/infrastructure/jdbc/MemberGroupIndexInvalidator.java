@@ -0,0 +1,66 @@
+package com.klabis.groups.common.infrastructure.jdbc;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.relational.core.mapping.event.AbstractRelationalEventListener;
+import org.springframework.data.relational.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.relational.core.mapping.event.BeforeDeleteEvent;
+import org.springframework.data.relational.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Keeps {@link MemberGroupIndexAdapter} consistent by evicting cached entries on every group save or delete.
+ * <p>
+ * Listens to Spring Data JDBC aggregate events, so every change made through {@link GroupJdbcRepository}
+ * is covered regardless of the group type or the use case that made it. Entries are evicted by member, both
+ * for the members stored before the change (covering removed members) and for those referenced after it, so the
+ * evictions can be broadcast to the other nodes. Membership changed with plain SQL is reported by
+ * {@link GroupMembersChangedEvent}.
+ */
+@Component
+class MemberGroupIndexInvalidator extends AbstractRelationalEventListener<GroupMemento> {
+
+    private final MemberGroupIndexAdapter memberGroupIndex;
+
+    MemberGroupIndexInvalidator(MemberGroupIndexAdapter memberGroupIndex) {
+        this.memberGroupIndex = memberGroupIndex;
+    }
+
+    @Override
+    protected void onBeforeSave(BeforeSaveEvent<GroupMemento> event) {
+        invalidateStoredMembersOf(event.getEntity().getId());
+    }
+
+    @Override
+    protected void onAfterSave(AfterSaveEvent<GroupMemento> event) {
+        memberGroupIndex.invalidate(event.getEntity().referencedMemberIds());
+    }
+
+    @Override
+    protected void onBeforeDelete(BeforeDeleteEvent<GroupMemento> event) {
+        if (event.getId().getValue() instanceof UUID groupId) {
+            invalidateStoredMembersOf(groupId);
+        }
+    }
+
+    @Override
+    protected void onAfterDelete(AfterDeleteEvent<GroupMemento> event) {
+        GroupMemento group = event.getEntity();
+        if (group != null) {
+            memberGroupIndex.invalidate(group.referencedMemberIds());
+        }
+    }
+
+    @EventListener
+    void onGroupMembersChanged(GroupMembersChangedEvent event) {
+        memberGroupIndex.invalidate(event.memberIds());
+    }
+
+    private void invalidateStoredMembersOf(UUID groupId) {
+        if (groupId != null) {
+            memberGroupIndex.invalidate(memberGroupIndex.findStoredMemberIdsOf(groupId));
+        }
+    }
+}
@@ -69,7 +69,8 @@ class FamilyGroupRepositoryAdapter implements FamilyGroupRepository {
 
     @Override
     public void delete(FamilyGroupId id) {
-        jdbcRepository.deleteByIdAndType(id.value(), FamilyGroup.TYPE_DISCRIMINATOR);
+        jdbcRepository.findByIdAndType(id.value(), FamilyGroup.TYPE_DISCRIMINATOR)
+                .ifPresent(jdbcRepository::delete);
     }
 
     /**
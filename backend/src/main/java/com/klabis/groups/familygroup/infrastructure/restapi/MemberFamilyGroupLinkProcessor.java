@@ -1,8 +1,9 @@
 package com.klabis.groups.familygroup.infrastructure.restapi;
 
 import com.klabis.common.mvc.MvcComponent;
-import com.klabis.groups.common.domain.FamilyGroupFilter;
-import com.klabis.groups.familygroup.domain.FamilyGroupRepository;
+import com.klabis.groups.common.domain.MemberGroupIndex;
+import com.klabis.groups.common.domain.MemberGroupRole;
+import com.klabis.groups.familygroup.domain.FamilyGroup;
 import com.klabis.members.MemberId;
 import com.klabis.members.MemberResource;
 import org.springframework.hateoas.EntityModel;
@@ -14,17 +15,20 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @MvcComponent
 public class MemberFamilyGroupLinkProcessor implements RepresentationModelProcessor<EntityModel<MemberResource>> {
 
-    private final FamilyGroupRepository familyGroupRepository;
+    private final MemberGroupIndex memberGroupIndex;
 
-    MemberFamilyGroupLinkProcessor(FamilyGroupRepository familyGroupRepository) {
-        this.familyGroupRepository = familyGroupRepository;
+    MemberFamilyGroupLinkProcessor(MemberGroupIndex memberGroupIndex) {
+        this.memberGroupIndex = memberGroupIndex;
     }
 
     @Override
     public EntityModel<MemberResource> process(EntityModel<MemberResource> model) {
         MemberId memberId = model.getContent().memberId();
-        familyGroupRepository.findOne(FamilyGroupFilter.all().withMemberOrParentIs(memberId))
-                .ifPresent(group -> klabisLinkTo(methodOn(FamilyGroupController.class).getFamilyGroup(group.getId().uuid(), null))
+        memberGroupIndex.findGroupsOf(memberId).stream()
+                .filter(group -> group.isOfType(FamilyGroup.TYPE_DISCRIMINATOR))
+                .map(MemberGroupRole::groupId)
+                .findFirst()
+                .ifPresent(groupId -> klabisLinkTo(methodOn(FamilyGroupController.class).getFamilyGroup(groupId, null))
                         .map(link -> link.withRel("familyGroup"))
                         .ifPresent(model::add));
         return model;
@@ -1,5 +1,6 @@
 package com.klabis.groups.freegroup.infrastructure.jdbc;
 
+import com.klabis.common.etag.ExpectedVersions;
 import com.klabis.groups.common.domain.FreeGroupFilter;
 import com.klabis.groups.common.infrastructure.jdbc.GroupJdbcRepository;
 import com.klabis.groups.common.infrastructure.jdbc.GroupMemento;
@@ -30,6 +31,7 @@ class FreeGroupRepositoryAdapter implements FreeGroupRepository {
 
     @Override
     public FreeGroup save(FreeGroup group) {
+        ExpectedVersions.applyTo(group, group.getId().value());
         return jdbcRepository.save(GroupMemento.fromFreeGroup(group)).toFreeGroup();
     }
 
@@ -74,7 +76,8 @@ class FreeGroupRepositoryAdapter implements FreeGroupRepository {
 
     @Override
     public void delete(FreeGroupId id) {
-        jdbcRepository.deleteByIdAndType(id.value(), FreeGroup.TYPE_DISCRIMINATOR);
+        jdbcRepository.findByIdAndType(id.value(), FreeGroup.TYPE_DISCRIMINATOR)
+                .ifPresent(jdbcRepository::delete);
     }
 
     /**
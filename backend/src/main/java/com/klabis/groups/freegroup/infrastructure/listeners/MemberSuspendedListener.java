@@ -1,6 +1,9 @@
 package com.klabis.groups.freegroup.infrastructure.listeners;
 
+import com.klabis.common.listeners.ListenerExecutors;
 import com.klabis.groups.common.domain.FreeGroupFilter;
+import com.klabis.groups.common.domain.MemberGroupIndex;
+import com.klabis.groups.common.domain.MemberGroupRole;
 import com.klabis.groups.freegroup.domain.FreeGroup;
 import com.klabis.groups.freegroup.domain.FreeGroupRepository;
 import com.klabis.members.MemberId;
@@ -9,6 +12,7 @@ import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -23,15 +27,24 @@ class MemberSuspendedListener {
     static final String SYSTEM_CANCEL_REASON = "Member was deactivated";
 
     private final FreeGroupRepository freeGroupRepository;
+    private final MemberGroupIndex memberGroupIndex;
 
-    MemberSuspendedListener(FreeGroupRepository freeGroupRepository) {
+    MemberSuspendedListener(FreeGroupRepository freeGroupRepository, MemberGroupIndex memberGroupIndex) {
         this.freeGroupRepository = freeGroupRepository;
+        this.memberGroupIndex = memberGroupIndex;
     }
 
     @ApplicationModuleListener
+    @Async(ListenerExecutors.GROUPS)
     void on(MemberSuspendedEvent event) {
         MemberId deactivatedMember = event.memberId();
 
+        boolean hasPendingInvitations = memberGroupIndex.findGroupsOf(deactivatedMember).stream()
+                .anyMatch(group -> group.hasRole(MemberGroupRole.Role.INVITED));
+        if (!hasPendingInvitations) {
+            return;
+        }
+
         List<FreeGroup> groupsWithPendingInvitations = freeGroupRepository
                 .findAll(FreeGroupFilter.all().withPendingInvitationFor(deactivatedMember));
 
@@ -1,5 +1,6 @@
 package com.klabis.groups.freegroup.infrastructure.restapi;
 
+import com.klabis.common.etag.AggregateETags;
 import com.klabis.common.exceptions.InsufficientAuthorityException;
 import com.klabis.common.mvc.MvcComponent;
 import com.klabis.common.security.KlabisJwtAuthenticationToken;
@@ -106,7 +107,7 @@ class FreeGroupController {
         klabisLinkTo(methodOn(FreeGroupController.class).listGroups(null))
                 .ifPresent(link -> model.add(link.withRel("collection")));
 
-        return ResponseEntity.ok(model);
+        return AggregateETags.ok(group.getVersion()).body(model);
     }
 
     @PatchMapping(value = "/{id}", consumes = "application/json")
@@ -117,6 +118,7 @@ class FreeGroupController {
             @ActingMember MemberId actingMember) {
 
         FreeGroupId groupId = new FreeGroupId(id);
+        AggregateETags.expectIfMatch(id);
         membersGroupManagementService.renameGroup(groupId, request.name(), actingMember);
         return ResponseEntity.noContent().build();
     }
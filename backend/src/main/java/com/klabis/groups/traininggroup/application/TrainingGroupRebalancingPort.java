@@ -0,0 +1,15 @@
+package com.klabis.groups.traininggroup.application;
+
+import org.jmolecules.architecture.hexagonal.PrimaryPort;
+
+@PrimaryPort
+public interface TrainingGroupRebalancingPort {
+
+    /**
+     * Moves members whose current age no longer fits their training group into the group whose age
+     * range now includes them.
+     *
+     * @return number of members moved
+     */
+    int rebalanceByAge();
+}
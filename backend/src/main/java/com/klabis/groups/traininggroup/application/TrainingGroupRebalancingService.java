@@ -0,0 +1,84 @@
+package com.klabis.groups.traininggroup.application;
+
+import com.klabis.groups.MemberAssignedToTrainingGroupEvent;
+import com.klabis.groups.traininggroup.TrainingGroupId;
+import com.klabis.groups.traininggroup.domain.TrainingGroupAgeBand;
+import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
+import com.klabis.members.ActiveMembersByAgeProvider;
+import com.klabis.members.MemberId;
+import org.jmolecules.ddd.annotation.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based age rebalancing of training groups.
+ * <p>
+ * Resolves the eligible members of every age band with one indexed query per band and compares them
+ * with the current assignments read from the link table. Only members who are already in a training
+ * group and whose age now falls into a different band are moved; members outside every band are left
+ * in place so that manual assignments survive.
+ */
+@Service
+class TrainingGroupRebalancingService implements TrainingGroupRebalancingPort {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainingGroupRebalancingService.class);
+
+    private final TrainingGroupRepository trainingGroupRepository;
+    private final ActiveMembersByAgeProvider activeMembersByAgeProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    TrainingGroupRebalancingService(TrainingGroupRepository trainingGroupRepository,
+                                    ActiveMembersByAgeProvider activeMembersByAgeProvider,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.trainingGroupRepository = trainingGroupRepository;
+        this.activeMembersByAgeProvider = activeMembersByAgeProvider;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    @Override
+    public int rebalanceByAge() {
+        List<TrainingGroupAgeBand> bands = trainingGroupRepository.findAgeBands();
+        if (bands.isEmpty()) {
+            return 0;
+        }
+
+        Map<MemberId, TrainingGroupAgeBand> bandByMember = new HashMap<>();
+        for (TrainingGroupAgeBand band : bands) {
+            activeMembersByAgeProvider
+                    .findActiveMemberIdsByAgeRange(band.ageRange().minAge(), band.ageRange().maxAge())
+                    .forEach(memberId -> bandByMember.put(memberId, band));
+        }
+
+        Map<MemberId, TrainingGroupId> moves = new HashMap<>();
+        trainingGroupRepository.findMemberAssignments().forEach((memberId, currentGroup) -> {
+            TrainingGroupAgeBand target = bandByMember.get(memberId);
+            if (target != null && !target.id().equals(currentGroup)) {
+                moves.put(memberId, target.id());
+            }
+        });
+
+        if (moves.isEmpty()) {
+            return 0;
+        }
+
+        trainingGroupRepository.moveMembers(moves);
+
+        Map<TrainingGroupId, String> namesById = bands.stream()
+                .collect(Collectors.toMap(TrainingGroupAgeBand::id, TrainingGroupAgeBand::name));
+        Instant now = Instant.now();
+        moves.forEach((memberId, groupId) -> eventPublisher.publishEvent(
+                new MemberAssignedToTrainingGroupEvent(memberId, groupId, namesById.get(groupId), now)));
+
+        log.info("Moved {} member(s) to training groups matching their current age", moves.size());
+        return moves.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.klabis.groups.traininggroup.domain;
+
+import com.klabis.groups.traininggroup.TrainingGroupId;
+import org.jmolecules.ddd.annotation.ValueObject;
+
+/**
+ * Header of a training group — identity, name and age range — without its member set.
+ */
+@ValueObject
+public record TrainingGroupAgeBand(TrainingGroupId id, String name, AgeRange ageRange) {
+}
@@ -3,8 +3,10 @@ package com.klabis.groups.traininggroup.domain;
 import com.klabis.groups.common.domain.TrainingGroupFilter;
 import com.klabis.groups.traininggroup.TrainingGroupId;
 import com.klabis.groups.traininggroup.domain.TrainingGroup;
+import com.klabis.members.MemberId;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TrainingGroupRepository {
@@ -20,4 +22,23 @@ public interface TrainingGroupRepository {
     boolean exists(TrainingGroupFilter filter);
 
     void delete(TrainingGroupId id);
+
+    /**
+     * Returns the age band of every training group without loading their member sets.
+     */
+    List<TrainingGroupAgeBand> findAgeBands();
+
+    /**
+     * Returns the training group each member is currently assigned to.
+     * <p>
+     * A member belongs to at most one training group; the lookup fails with {@link IllegalStateException}
+     * when the stored assignments violate that, like {@link #findOne(TrainingGroupFilter)} does.
+     */
+    Map<MemberId, TrainingGroupId> findMemberAssignments();
+
+    /**
+     * Moves each member from their current training group into the given target group in a single
+     * set-based update. Bypasses the aggregate — no domain events are registered.
+     */
+    void moveMembers(Map<MemberId, TrainingGroupId> targetGroups);
 }
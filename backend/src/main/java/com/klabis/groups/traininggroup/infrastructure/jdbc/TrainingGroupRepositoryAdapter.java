@@ -1,36 +1,86 @@
 package com.klabis.groups.traininggroup.infrastructure.jdbc;
 
+import com.klabis.common.etag.ExpectedVersions;
 import com.klabis.groups.common.domain.AgeRangeOverlap;
 import com.klabis.groups.common.domain.TrainingGroupFilter;
 import com.klabis.groups.common.infrastructure.jdbc.GroupJdbcRepository;
 import com.klabis.groups.common.infrastructure.jdbc.GroupMemento;
+import com.klabis.groups.common.infrastructure.jdbc.GroupMembersChangedEvent;
 import com.klabis.groups.traininggroup.TrainingGroupId;
+import com.klabis.groups.traininggroup.domain.AgeRange;
 import com.klabis.groups.traininggroup.domain.TrainingGroup;
+import com.klabis.groups.traininggroup.domain.TrainingGroupAgeBand;
 import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
+import com.klabis.members.MemberId;
 import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
 import org.jmolecules.ddd.annotation.Repository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @SecondaryAdapter
 @Repository
 class TrainingGroupRepositoryAdapter implements TrainingGroupRepository {
 
+    private static final String SELECT_AGE_BANDS = """
+            SELECT id, name, age_range_min, age_range_max FROM groups.user_groups
+            WHERE type = 'TRAINING'
+            ORDER BY age_range_min
+            """;
+
+    private static final String SELECT_MEMBER_ASSIGNMENTS = """
+            SELECT ugm.member_id, ugm.user_group_id FROM groups.user_group_members ugm
+            JOIN groups.user_groups ug ON ug.id = ugm.user_group_id
+            WHERE ug.type = 'TRAINING'
+            """;
+
+    private static final String BUMP_VERSION_OF_AFFECTED_GROUPS = """
+            UPDATE groups.user_groups SET version = version + 1, modified_at = CURRENT_TIMESTAMP
+            WHERE type = 'TRAINING'
+              AND (id IN (:targetGroupIds)
+                   OR id IN (SELECT user_group_id FROM groups.user_group_members WHERE member_id IN (:memberIds)))
+            """;
+
+    private static final String DELETE_CURRENT_ASSIGNMENTS = """
+            DELETE FROM groups.user_group_members
+            WHERE member_id IN (:memberIds)
+              AND user_group_id IN (SELECT id FROM groups.user_groups WHERE type = 'TRAINING')
+            """;
+
+    private static final String INSERT_ASSIGNMENT = """
+            INSERT INTO groups.user_group_members (user_group_id, member_id, joined_at)
+            VALUES (:groupId, :memberId, CURRENT_TIMESTAMP)
+            """;
+
     private final GroupJdbcRepository jdbcRepository;
     private final JdbcAggregateTemplate jdbcAggregateTemplate;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final ApplicationEventPublisher eventPublisher;
 
     TrainingGroupRepositoryAdapter(GroupJdbcRepository jdbcRepository,
-                                   JdbcAggregateTemplate jdbcAggregateTemplate) {
+                                   JdbcAggregateTemplate jdbcAggregateTemplate,
+                                   NamedParameterJdbcTemplate namedJdbc,
+                                   ApplicationEventPublisher eventPublisher) {
         this.jdbcRepository = jdbcRepository;
         this.jdbcAggregateTemplate = jdbcAggregateTemplate;
+        this.namedJdbc = namedJdbc;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public TrainingGroup save(TrainingGroup group) {
+        ExpectedVersions.applyTo(group, group.getId().value());
         return jdbcRepository.save(GroupMemento.fromTrainingGroup(group)).toTrainingGroup();
     }
 
@@ -70,15 +120,65 @@ class TrainingGroupRepositoryAdapter implements TrainingGroupRepository {
 
     @Override
     public void delete(TrainingGroupId id) {
-        jdbcRepository.deleteByIdAndType(id.value(), TrainingGroup.TYPE_DISCRIMINATOR);
+        jdbcRepository.findByIdAndType(id.value(), TrainingGroup.TYPE_DISCRIMINATOR)
+                .ifPresent(jdbcRepository::delete);
+    }
+
+    @Override
+    public List<TrainingGroupAgeBand> findAgeBands() {
+        return namedJdbc.query(SELECT_AGE_BANDS, (rs, rowNum) -> new TrainingGroupAgeBand(
+                new TrainingGroupId(rs.getObject("id", UUID.class)),
+                rs.getString("name"),
+                new AgeRange(rs.getInt("age_range_min"), rs.getInt("age_range_max"))));
+    }
+
+    @Override
+    public Map<MemberId, TrainingGroupId> findMemberAssignments() {
+        Map<MemberId, TrainingGroupId> assignments = new HashMap<>();
+        namedJdbc.query(SELECT_MEMBER_ASSIGNMENTS, rs -> {
+            MemberId memberId = new MemberId(rs.getObject("member_id", UUID.class));
+            TrainingGroupId groupId = new TrainingGroupId(rs.getObject("user_group_id", UUID.class));
+            TrainingGroupId otherGroupId = assignments.put(memberId, groupId);
+            if (otherGroupId != null) {
+                throw new IllegalStateException("Member %s is assigned to training groups %s and %s"
+                        .formatted(memberId.value(), otherGroupId.value(), groupId.value()));
+            }
+        });
+        return assignments;
+    }
+
+    @Override
+    public void moveMembers(Map<MemberId, TrainingGroupId> targetGroups) {
+        if (targetGroups.isEmpty()) {
+            return;
+        }
+        List<UUID> memberIds = targetGroups.keySet().stream().map(MemberId::value).toList();
+        List<UUID> targetGroupIds = targetGroups.values().stream().map(TrainingGroupId::value).distinct().toList();
+
+        namedJdbc.update(BUMP_VERSION_OF_AFFECTED_GROUPS, new MapSqlParameterSource()
+                .addValue("targetGroupIds", targetGroupIds)
+                .addValue("memberIds", memberIds));
+        namedJdbc.update(DELETE_CURRENT_ASSIGNMENTS, new MapSqlParameterSource("memberIds", memberIds));
+        namedJdbc.batchUpdate(INSERT_ASSIGNMENT, targetGroups.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("groupId", entry.getValue().value())
+                        .addValue("memberId", entry.getKey().value()))
+                .toArray(SqlParameterSource[]::new));
+
+        targetGroups.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> entry.getValue().value(),
+                        Collectors.mapping(entry -> entry.getKey().value(), Collectors.toList())))
+                .forEach((groupId, movedMemberIds) ->
+                        eventPublisher.publishEvent(new GroupMembersChangedEvent(groupId, movedMemberIds)));
     }
 
     /**
      * Builds a {@link Query} using {@link Criteria} for filters that can be expressed as simple
      * column conditions (no JOIN required). Returns empty when the filter requires a JOIN
      * ({@code memberIs} or {@code trainerIs}), in which case callers fall back to named
-     * {@link GroupJdbcRepository} queries. The {@code overlap} predicate can always be expressed
-     * via Criteria — simple numeric column comparisons, no EXISTS subquery needed.
+     * {@link GroupJdbcRepository} queries. The {@code overlap} and {@code ageIncludes} predicates can
+     * always be expressed via Criteria — simple numeric column comparisons served by
+     * {@code idx_user_groups_training_age}, no EXISTS subquery needed.
      */
     private Optional<Query> buildSimpleCriteriaQuery(TrainingGroupFilter filter) {
         if (filter.memberIs() != null || filter.trainerIs() != null) {
@@ -88,6 +188,10 @@ class TrainingGroupRepositoryAdapter implements TrainingGroupRepository {
         if (filter.overlap() != null) {
             criteria = criteria.and(applyOverlapCriteria(filter.overlap()));
         }
+        if (filter.ageIncludes() != null) {
+            criteria = criteria.and(Criteria.where("age_range_min").lessThanOrEquals(filter.ageIncludes())
+                    .and("age_range_max").greaterThanOrEquals(filter.ageIncludes()));
+        }
         return Optional.of(Query.query(criteria));
     }
 
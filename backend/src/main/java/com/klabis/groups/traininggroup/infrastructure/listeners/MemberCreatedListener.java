@@ -1,5 +1,6 @@
 package com.klabis.groups.traininggroup.infrastructure.listeners;
 
+import com.klabis.common.listeners.ListenerExecutors;
 import com.klabis.groups.common.domain.TrainingGroupFilter;
 import com.klabis.groups.traininggroup.domain.TrainingGroup;
 import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
@@ -8,8 +9,11 @@ import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.Period;
 import java.util.List;
 
 @PrimaryAdapter
@@ -25,10 +29,10 @@ class MemberCreatedListener {
     }
 
     @ApplicationModuleListener
+    @Async(ListenerExecutors.GROUPS)
     void on(MemberCreatedEvent event) {
-        List<TrainingGroup> matchingGroups = trainingGroupRepository.findAll(TrainingGroupFilter.all()).stream()
-                .filter(group -> group.matchesByAge(event.dateOfBirth()))
-                .toList();
+        int age = Period.between(event.dateOfBirth(), LocalDate.now()).getYears();
+        List<TrainingGroup> matchingGroups = trainingGroupRepository.findAll(TrainingGroupFilter.all().withAgeIncluding(age));
 
         if (matchingGroups.isEmpty()) {
             return;
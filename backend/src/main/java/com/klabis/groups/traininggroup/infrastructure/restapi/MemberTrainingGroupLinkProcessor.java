@@ -1,8 +1,9 @@
 package com.klabis.groups.traininggroup.infrastructure.restapi;
 
 import com.klabis.common.mvc.MvcComponent;
-import com.klabis.groups.common.domain.TrainingGroupFilter;
-import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
+import com.klabis.groups.common.domain.MemberGroupIndex;
+import com.klabis.groups.common.domain.MemberGroupRole;
+import com.klabis.groups.traininggroup.domain.TrainingGroup;
 import com.klabis.members.MemberId;
 import com.klabis.members.MemberResource;
 import org.springframework.hateoas.EntityModel;
@@ -14,17 +15,21 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @MvcComponent
 public class MemberTrainingGroupLinkProcessor implements RepresentationModelProcessor<EntityModel<MemberResource>> {
 
-    private final TrainingGroupRepository trainingGroupRepository;
+    private final MemberGroupIndex memberGroupIndex;
 
-    MemberTrainingGroupLinkProcessor(TrainingGroupRepository trainingGroupRepository) {
-        this.trainingGroupRepository = trainingGroupRepository;
+    MemberTrainingGroupLinkProcessor(MemberGroupIndex memberGroupIndex) {
+        this.memberGroupIndex = memberGroupIndex;
     }
 
     @Override
     public EntityModel<MemberResource> process(EntityModel<MemberResource> model) {
         MemberId memberId = model.getContent().memberId();
-        trainingGroupRepository.findOne(TrainingGroupFilter.all().withMemberIs(memberId))
-                .ifPresent(group -> klabisLinkTo(methodOn(TrainingGroupController.class).getTrainingGroup(group.getId().uuid(), null))
+        memberGroupIndex.findGroupsOf(memberId).stream()
+                .filter(group -> group.isOfType(TrainingGroup.TYPE_DISCRIMINATOR))
+                .filter(group -> group.hasRole(MemberGroupRole.Role.MEMBER))
+                .map(MemberGroupRole::groupId)
+                .findFirst()
+                .ifPresent(groupId -> klabisLinkTo(methodOn(TrainingGroupController.class).getTrainingGroup(groupId, null))
                         .map(link -> link.withRel("trainingGroup"))
                         .ifPresent(model::add));
         return model;
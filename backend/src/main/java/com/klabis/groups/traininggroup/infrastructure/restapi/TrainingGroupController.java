@@ -1,5 +1,6 @@
 package com.klabis.groups.traininggroup.infrastructure.restapi;
 
+import com.klabis.common.etag.AggregateETags;
 import com.klabis.common.exceptions.InsufficientAuthorityException;
 import com.klabis.common.mvc.MvcComponent;
 import com.klabis.common.ui.ModelWithDomainPostprocessor;
@@ -116,7 +117,7 @@ class TrainingGroupController {
                     .ifPresent(link -> model.add(link.withRel("collection")));
         }
 
-        return ResponseEntity.ok(model);
+        return AggregateETags.ok(group.getVersion()).body(model);
     }
 
     private TrainingGroupResponse buildLimitedGroupResponse(TrainingGroup group, UUID groupUuid) {
@@ -142,6 +143,7 @@ class TrainingGroupController {
             @Valid @RequestBody UpdateTrainingGroupRequest request) {
 
         TrainingGroupId groupId = new TrainingGroupId(id);
+        AggregateETags.expectIfMatch(id);
         UpdateTrainingGroupCommand command = new UpdateTrainingGroupCommand(
                 request.name(),
                 request.ageRangeDomain(),
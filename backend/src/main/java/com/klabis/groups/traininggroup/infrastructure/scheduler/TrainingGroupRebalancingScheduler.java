@@ -0,0 +1,20 @@
+package com.klabis.groups.traininggroup.infrastructure.scheduler;
+
+import com.klabis.groups.traininggroup.application.TrainingGroupRebalancingPort;
+import org.jmolecules.ddd.annotation.Service;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Service
+class TrainingGroupRebalancingScheduler {
+
+    private final TrainingGroupRebalancingPort trainingGroupRebalancingPort;
+
+    TrainingGroupRebalancingScheduler(TrainingGroupRebalancingPort trainingGroupRebalancingPort) {
+        this.trainingGroupRebalancingPort = trainingGroupRebalancingPort;
+    }
+
+    @Scheduled(cron = "${klabis.groups.training.rebalancing-cron:0 30 2 1 1 *}")
+    void rebalanceTrainingGroups() {
+        trainingGroupRebalancingPort.rebalanceByAge();
+    }
+}
@@ -1,5 +1,7 @@
 package com.klabis.members;
 
+import com.klabis.common.export.RowSource;
+
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -12,5 +14,11 @@ public interface Members {
 
     Map<MemberId, MemberAccommodationDto> findAccommodationDataByIds(Collection<MemberId> memberIds);
 
+    /**
+     * Streams accommodation data of the given members ordered by last name, first name, without loading the
+     * member aggregates. Meant for exports; unknown IDs are skipped.
+     */
+    RowSource<MemberAccommodationDto> streamAccommodationDataByIds(Collection<MemberId> memberIds);
+
     Optional<MemberDto> findByRegistrationNumber(String registrationNumber);
 }
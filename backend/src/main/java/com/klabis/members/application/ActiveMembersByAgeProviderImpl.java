@@ -2,13 +2,10 @@ package com.klabis.members.application;
 
 import com.klabis.members.ActiveMembersByAgeProvider;
 import com.klabis.members.MemberId;
-import com.klabis.members.domain.Member;
-import com.klabis.members.domain.MemberFilter;
 import com.klabis.members.domain.MemberRepository;
 import org.jmolecules.ddd.annotation.Service;
 
 import java.time.LocalDate;
-import java.time.Period;
 import java.util.List;
 
 @Service
@@ -22,14 +19,9 @@ class ActiveMembersByAgeProviderImpl implements ActiveMembersByAgeProvider {
 
     @Override
     public List<MemberId> findActiveMemberIdsByAgeRange(int minAge, int maxAge) {
+        // age >= minAge  <=>  born on or before today - minAge years
+        // age <= maxAge  <=>  born after today - (maxAge + 1) years
         LocalDate today = LocalDate.now();
-        return memberRepository.findAll(MemberFilter.activeOnly()).stream()
-                .filter(member -> member.getDateOfBirth() != null)
-                .filter(member -> {
-                    int age = Period.between(member.getDateOfBirth(), today).getYears();
-                    return age >= minAge && age <= maxAge;
-                })
-                .map(Member::getId)
-                .toList();
+        return memberRepository.findActiveIdsBornBetween(today.minusYears(maxAge + 1L), today.minusYears(minAge));
     }
 }
@@ -0,0 +1,24 @@
+package com.klabis.members.application;
+
+import java.util.Map;
+
+/**
+ * Thrown when a bulk registration is rejected because some of the commands violate member rules.
+ * No member of the batch has been registered.
+ */
+public class BulkRegistrationRejectedException extends RuntimeException {
+
+    private final Map<Integer, String> errors;
+
+    public BulkRegistrationRejectedException(Map<Integer, String> errors) {
+        super("Bulk registration rejected — %d member(s) violate registration rules".formatted(errors.size()));
+        this.errors = Map.copyOf(errors);
+    }
+
+    /**
+     * @return error message per index of the rejected command in the registered list
+     */
+    public Map<Integer, String> getErrors() {
+        return errors;
+    }
+}
@@ -114,10 +114,7 @@ public class ManagementService implements ManagementPort {
             throw new MemberNotFoundException(memberId);
         }
 
-        boolean isOwner = member.getUserId().equals(viewedBy);
-        boolean canSeeBirthNumber = canManageMembers || isOwner;
-
-        if (member.getBirthNumber() != null && canSeeBirthNumber) {
+        if (member.hasBirthNumber() && member.isBirthNumberVisibleTo(viewedBy, canManageMembers)) {
             eventPublisher.publishEvent(BirthNumberAccessedEvent.viewed(viewedBy, memberId));
         }
 
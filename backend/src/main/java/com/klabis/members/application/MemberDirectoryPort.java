@@ -0,0 +1,16 @@
+package com.klabis.members.application;
+
+import com.klabis.common.export.RowSource;
+import com.klabis.members.application.MemberExportQuery.MemberDirectoryEntry;
+import com.klabis.members.domain.MemberFilter;
+import org.jmolecules.architecture.hexagonal.PrimaryPort;
+
+@PrimaryPort
+public interface MemberDirectoryPort {
+
+    /**
+     * Members with the given status, ordered by last name, first name. Rows are read from a cursor only while the
+     * source is iterated, so it can be returned from the request thread.
+     */
+    RowSource<MemberDirectoryEntry> directory(MemberFilter.StatusFilter status);
+}
@@ -0,0 +1,21 @@
+package com.klabis.members.application;
+
+import com.klabis.common.export.RowSource;
+import com.klabis.members.application.MemberExportQuery.MemberDirectoryEntry;
+import com.klabis.members.domain.MemberFilter;
+import org.jmolecules.ddd.annotation.Service;
+
+@Service
+class MemberDirectoryService implements MemberDirectoryPort {
+
+    private final MemberExportQuery memberExportQuery;
+
+    MemberDirectoryService(MemberExportQuery memberExportQuery) {
+        this.memberExportQuery = memberExportQuery;
+    }
+
+    @Override
+    public RowSource<MemberDirectoryEntry> directory(MemberFilter.StatusFilter status) {
+        return memberExportQuery.directory(status);
+    }
+}
@@ -0,0 +1,39 @@
+package com.klabis.members.application;
+
+import com.klabis.common.export.RowSource;
+import com.klabis.members.MemberAccommodationDto;
+import com.klabis.members.MemberId;
+import com.klabis.members.domain.MemberFilter;
+import org.jmolecules.architecture.hexagonal.SecondaryPort;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Read-only projections of members for file exports. Rows are streamed from the database instead of loading
+ * {@code Member} aggregates.
+ */
+@SecondaryPort
+public interface MemberExportQuery {
+
+    /**
+     * Members with the given status, ordered by last name, first name.
+     */
+    RowSource<MemberDirectoryEntry> directory(MemberFilter.StatusFilter status);
+
+    /**
+     * Accommodation data of the given members, ordered by last name, first name. Unknown IDs are skipped.
+     */
+    RowSource<MemberAccommodationDto> accommodationData(Collection<MemberId> memberIds);
+
+    record MemberDirectoryEntry(
+            String registrationNumber,
+            String lastName,
+            String firstName,
+            LocalDate dateOfBirth,
+            String email,
+            String phone,
+            boolean active
+    ) {
+    }
+}
@@ -1,8 +1,8 @@
 package com.klabis.members.application;
 
 import com.klabis.common.ClubProperties;
-import com.klabis.members.domain.MemberRepository;
 import com.klabis.members.domain.RegistrationNumberGenerator;
+import com.klabis.members.domain.RegistrationNumberSequences;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,7 +12,7 @@ class MembersConfiguration {
     @Bean
     RegistrationNumberGenerator registrationNumberGenerator(
             ClubProperties clubProperties,
-            MemberRepository memberRepository) {
-        return new RegistrationNumberGenerator(clubProperties.getCode(), memberRepository);
+            RegistrationNumberSequences registrationNumberSequences) {
+        return new RegistrationNumberGenerator(clubProperties.getCode(), registrationNumberSequences);
     }
 }
@@ -1,5 +1,6 @@
 package com.klabis.members.application;
 
+import com.klabis.common.export.RowSource;
 import com.klabis.members.MemberAccommodationDto;
 import com.klabis.members.MemberDto;
 import com.klabis.members.MemberId;
@@ -20,9 +21,11 @@ import java.util.stream.Collectors;
 class MembersImpl implements Members {
 
     private final MemberRepository memberRepository;
+    private final MemberExportQuery memberExportQuery;
 
-    MembersImpl(MemberRepository memberRepository) {
+    MembersImpl(MemberRepository memberRepository, MemberExportQuery memberExportQuery) {
         this.memberRepository = memberRepository;
+        this.memberExportQuery = memberExportQuery;
     }
 
     @Override
@@ -52,6 +55,11 @@ class MembersImpl implements Members {
                         this::fromMemberToAccommodationDto));
     }
 
+    @Override
+    public RowSource<MemberAccommodationDto> streamAccommodationDataByIds(Collection<MemberId> memberIds) {
+        return memberExportQuery.accommodationData(memberIds);
+    }
+
     @Override
     public Optional<MemberDto> findByRegistrationNumber(String registrationNumber) {
         if (RegistrationNumber.isRegistrationNumber(registrationNumber)) {
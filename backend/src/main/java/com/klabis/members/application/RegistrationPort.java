@@ -4,6 +4,8 @@ import com.klabis.common.users.UserId;
 import com.klabis.common.users.UserService;
 import com.klabis.members.domain.*;
 
+import java.util.List;
+
 /**
  * Service for member registration operations.
  */
@@ -53,4 +55,20 @@ public interface RegistrationPort {
      */
     @org.springframework.transaction.annotation.Transactional
     Member registerMember(RegisterNewMember command);
+
+    /**
+     * Registers several members in one transaction, all or none.
+     * <p>
+     * Does the same as {@link #registerMember} for every command, but allocates registration numbers
+     * per birth year in blocks and inserts users, permissions and members in batches. Events are
+     * published for each member and handled after commit, as for a single registration.
+     *
+     * @param commands the registration commands
+     * @return the newly created Member aggregates, in the order of {@code commands}
+     * @throws BulkRegistrationRejectedException if any command violates member rules; it is thrown before anything
+     *                                           is written, so nothing is registered
+     * @throws IllegalStateException             if a birth year runs out of registration numbers
+     */
+    @org.springframework.transaction.annotation.Transactional
+    List<Member> registerMembers(List<RegisterNewMember> commands);
 }
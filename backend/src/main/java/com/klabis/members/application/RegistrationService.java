@@ -1,5 +1,6 @@
 package com.klabis.members.application;
 
+import com.klabis.common.exceptions.BusinessRuleViolationException;
 import com.klabis.common.users.Authority;
 import com.klabis.common.users.UserId;
 import com.klabis.common.users.UserService;
@@ -15,6 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Service for member registration operations.
@@ -79,8 +84,65 @@ public class RegistrationService implements RegistrationPort {
         log.debug("User created with shared ID: {} for username: {}",
                 sharedUserId, registrationNumber.getValue());
 
-        Member.RegisterMember domainCommand = new Member.RegisterMember(
-                MemberId.fromUserId(sharedUserId),
+        Member member = Member.register(toDomainCommand(command, sharedUserId, registrationNumber));
+
+        Member savedMember = memberRepository.save(member);
+
+        log.debug("Member created with shared ID: {}", savedMember.getId());
+
+        return savedMember;
+    }
+
+    @Transactional
+    @Override
+    public List<Member> registerMembers(List<RegisterNewMember> commands) {
+        commands.forEach(command -> {
+            Assert.notNull(command.personalInformation(), "Personal information must not be null");
+            Assert.notNull(command.personalInformation().getDateOfBirth(), "Date of birth must not be null");
+        });
+
+        // all members are checked before anything is written, so the caller learns about every invalid one at once
+        Map<Integer, String> errors = new TreeMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            RegisterNewMember command = commands.get(i);
+            try {
+                Member.validateRegistration(command.personalInformation(), command.address(), command.email(),
+                        command.phone(), command.guardian(), command.birthNumber());
+            } catch (IllegalArgumentException | BusinessRuleViolationException e) {
+                errors.put(i, e.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BulkRegistrationRejectedException(errors);
+        }
+
+        List<RegistrationNumber> registrationNumbers = registrationNumberGenerator.generateAll(commands.stream()
+                .map(command -> command.personalInformation().getDateOfBirth())
+                .toList());
+
+        List<Member> members = new ArrayList<>(commands.size());
+        List<UserService.PendingUser> pendingUsers = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            UserId userId = UserId.newId();
+            RegistrationNumber registrationNumber = registrationNumbers.get(i);
+            members.add(Member.register(toDomainCommand(commands.get(i), userId, registrationNumber)));
+            pendingUsers.add(new UserService.PendingUser(
+                    userId, registrationNumber.getValue(), commands.get(i).email().value()));
+        }
+
+        userService.createUsers(pendingUsers, Authority.getStandardUserAuthorities());
+
+        List<Member> savedMembers = memberRepository.saveAll(members);
+
+        log.info("Registered {} members in bulk", savedMembers.size());
+
+        return savedMembers;
+    }
+
+    private static Member.RegisterMember toDomainCommand(RegisterNewMember command, UserId userId,
+                                                         RegistrationNumber registrationNumber) {
+        return new Member.RegisterMember(
+                MemberId.fromUserId(userId),
                 registrationNumber,
                 command.personalInformation(),
                 command.address(),
@@ -91,13 +153,5 @@ public class RegistrationService implements RegistrationPort {
                 command.bankAccountNumber(),
                 command.registeredBy()
         );
-
-        Member member = Member.register(domainCommand);
-
-        Member savedMember = memberRepository.save(member);
-
-        log.debug("Member created with shared ID: {}", savedMember.getId());
-
-        return savedMember;
     }
 }
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Member aggregate root.
@@ -56,6 +57,10 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
     private DrivingLicenseGroup drivingLicenseGroup;
     private String dietaryRestrictions;
     private BirthNumber birthNumber;
+    // Resolves the birth number on first access when reconstructed from encrypted storage
+    private Supplier<BirthNumber> deferredBirthNumber;
+    // The loader the current birth number came from; cleared once the birth number changes
+    private Supplier<BirthNumber> storedBirthNumber;
     private BankAccountNumber bankAccountNumber;
 
     // Suspension fields
@@ -94,7 +99,7 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
                     member.email,
                     member.phone,
                     member.guardian,
-                    member.birthNumber,
+                    member.getBirthNumber(),
                     member.bankAccountNumber,
                     null
             );
@@ -150,7 +155,7 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
                     member.personalInformation != null ? member.personalInformation.getLastName() : null,
                     member.personalInformation != null ? member.personalInformation.getDateOfBirth() : null,
                     member.personalInformation != null ? member.personalInformation.getGender() : null,
-                    member.birthNumber,
+                    member.getBirthNumber(),
                     null
             );
         }
@@ -320,21 +325,41 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
         return member;
     }
 
+    /**
+     * Defers resolution of the birth number until it is first read.
+     * <p>
+     * This method is public only for infrastructure/persistence layer usage. The persistence layer
+     * keeps the birth number encrypted and supplies a loader that decrypts it on demand, so loading
+     * members does not pay for decryption unless the birth number is actually accessed.
+     *
+     * @param loader supplies the birth number when first needed (must not be null)
+     * @return this member
+     */
+    public Member deferBirthNumber(Supplier<BirthNumber> loader) {
+        Assert.notNull(loader, "Birth number loader is required");
+        this.birthNumber = null;
+        this.deferredBirthNumber = loader;
+        this.storedBirthNumber = loader;
+        return this;
+    }
+
+    /**
+     * Returns the loader passed to {@link #deferBirthNumber(Supplier)} while the birth number is still the one it
+     * supplies, or {@code null} once the birth number was changed or removed.
+     * <p>
+     * This method is public only for infrastructure/persistence layer usage, so that an unchanged birth number is
+     * written back as stored instead of being encrypted again.
+     */
+    public Supplier<BirthNumber> getStoredBirthNumber() {
+        return storedBirthNumber;
+    }
+
     public static Member register(RegisterMember command) {
         // Validate required fields
         Assert.notNull(command.id(), "Member ID is required");
         Assert.notNull(command.registrationNumber(), "Registration number is required");
-        Assert.notNull(command.personalInformation(), "Personal information is required");
-        Assert.notNull(command.address(), "Address is required");
-
-        // Validate contact information
-        validateContactInformation(command.email(), command.phone(), command.guardian());
-
-        // Validate guardian for minors
-        validateGuardianForMinors(command.personalInformation(), command.guardian());
-
-        // Validate birth number nationality
-        validateBirthNumberNationality(command.personalInformation().getNationalityCode(), command.birthNumber());
+        validateRegistration(command.personalInformation(), command.address(), command.email(), command.phone(),
+                command.guardian(), command.birthNumber());
 
         Member member = new Member(
                 command.id(),
@@ -370,6 +395,34 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
         return member;
     }
 
+    /**
+     * Checks the rules {@link #register(RegisterMember)} enforces on the data of a new member, for which no ID or
+     * registration number has to be allocated yet.
+     *
+     * @throws IllegalArgumentException       when required data is missing
+     * @throws BusinessRuleViolationException when the data violates a registration rule
+     */
+    public static void validateRegistration(
+            PersonalInformation personalInformation,
+            Address address,
+            EmailAddress email,
+            PhoneNumber phone,
+            GuardianInformation guardian,
+            BirthNumber birthNumber) {
+
+        Assert.notNull(personalInformation, "Personal information is required");
+        Assert.notNull(address, "Address is required");
+
+        // Validate contact information
+        validateContactInformation(email, phone, guardian);
+
+        // Validate guardian for minors
+        validateGuardianForMinors(personalInformation, guardian);
+
+        // Validate birth number nationality
+        validateBirthNumberNationality(personalInformation.getNationalityCode(), birthNumber != null);
+    }
+
     private static void validateContactInformation(
             EmailAddress email,
             PhoneNumber phone,
@@ -423,21 +476,21 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
      * and forbidden for non-Czech nationals.
      *
      * @param nationalityCode the member's nationality code (ISO 3166-1)
-     * @param birthNumber     the birth number to validate (may be null)
+     * @param hasBirthNumber  whether the member has a birth number
      * @throws BusinessRuleViolationException if birth number is provided for non-Czech nationality
      *                                        or missing for Czech nationality
      */
-    private static void validateBirthNumberNationality(String nationalityCode, BirthNumber birthNumber) {
+    private static void validateBirthNumberNationality(String nationalityCode, boolean hasBirthNumber) {
         Nationality nationality = Nationality.of(nationalityCode);
 
-        if (birthNumber != null && !nationality.isCzech()) {
+        if (hasBirthNumber && !nationality.isCzech()) {
             throw new BusinessRuleViolationException(
                     "Birth number is only allowed for Czech nationals"
             ) {
             };
         }
 
-        if (birthNumber == null && nationality.isCzech()) {
+        if (!hasBirthNumber && nationality.isCzech()) {
             throw new BusinessRuleViolationException(
                     "Birth number is required for Czech nationals"
             ) {
@@ -533,9 +586,27 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
     }
 
     public BirthNumber getBirthNumber() {
+        if (deferredBirthNumber != null) {
+            birthNumber = deferredBirthNumber.get();
+            deferredBirthNumber = null;
+        }
         return birthNumber;
     }
 
+    /**
+     * Returns whether the member has a birth number, without resolving (decrypting) it.
+     */
+    public boolean hasBirthNumber() {
+        return deferredBirthNumber != null || birthNumber != null;
+    }
+
+    /**
+     * Returns whether the birth number may be shown to the given user: members managers and the member themself.
+     */
+    public boolean isBirthNumberVisibleTo(UserId viewer, boolean canManageMembers) {
+        return canManageMembers || getUserId().equals(viewer);
+    }
+
     public BankAccountNumber getBankAccountNumber() {
         return bankAccountNumber;
     }
@@ -583,20 +654,23 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
 
         validateGuardianForMinors(newPersonalInfo, newGuardian);
 
-        BirthNumber newBirthNumber = command.birthNumber() != null ? command.birthNumber() : this.birthNumber;
-        if (newBirthNumber != null && !Nationality.of(newPersonalInfo.getNationalityCode()).isCzech()) {
-            newBirthNumber = null;
-        }
-        validateBirthNumberNationality(newPersonalInfo.getNationalityCode(), newBirthNumber);
-
-        BirthNumber previousBirthNumber = this.birthNumber;
+        // the stored birth number is decrypted only when a birth number is submitted, to tell a change apart
+        boolean czech = Nationality.of(newPersonalInfo.getNationalityCode()).isCzech();
+        validateBirthNumberNationality(newPersonalInfo.getNationalityCode(),
+                czech && (command.birthNumber() != null || hasBirthNumber()));
+        boolean birthNumberModified = czech && command.birthNumber() != null
+                && !command.birthNumber().equals(getBirthNumber());
 
         this.email = newEmail;
         this.phone = newPhone;
         this.address = newAddress;
         this.guardian = newGuardian;
         this.personalInformation = newPersonalInfo;
-        this.birthNumber = newBirthNumber;
+        if (!czech) {
+            replaceBirthNumber(null);
+        } else if (birthNumberModified) {
+            replaceBirthNumber(command.birthNumber());
+        }
 
         if (command.chipNumber() != null) this.chipNumber = command.chipNumber();
         if (command.bankAccountNumber() != null) this.bankAccountNumber = command.bankAccountNumber();
@@ -607,9 +681,24 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
         if (command.refereeLicense() != null) this.refereeLicense = command.refereeLicense();
         if (command.dietaryRestrictions() != null) this.dietaryRestrictions = command.dietaryRestrictions();
 
-        if (command.birthNumber() != null && command.updatedBy() != null && !command.birthNumber().equals(previousBirthNumber)) {
+        if (birthNumberModified && command.updatedBy() != null) {
             registerEvent(BirthNumberAccessedEvent.modified(command.updatedBy(), this.id));
         }
+
+        // the consistency warnings need the birth number; resolving it for them counts as an audited view
+        boolean birthNumberCheckDue = command.dateOfBirth() != null || command.gender() != null;
+        if (birthNumberCheckDue && deferredBirthNumber != null && command.updatedBy() != null) {
+            getBirthNumber();
+            registerEvent(BirthNumberAccessedEvent.viewed(command.updatedBy(), this.id));
+        }
+    }
+
+    private void replaceBirthNumber(BirthNumber birthNumber) {
+        if (hasBirthNumber() || birthNumber != null) {
+            this.birthNumber = birthNumber;
+            this.deferredBirthNumber = null;
+            this.storedBirthNumber = null;
+        }
     }
 
     /**
@@ -671,13 +760,16 @@ public class Member extends KlabisAggregateRoot<Member, MemberId> {
     }
 
     /**
-     * Checks for inconsistencies between the stored birth number and the member's date of birth and gender.
+     * Checks for inconsistencies between the birth number and the member's date of birth and gender.
      * Returns warnings (not errors) — the data is already persisted; these are advisory notices.
+     * <p>
+     * Never decrypts: a birth number still encrypted as loaded from storage is not checked. Registration and
+     * {@link #update(UpdateMember)} leave it decrypted whenever it or the date of birth or gender changed.
      *
-     * @return list of warning messages, empty when birth number is absent or fully consistent
+     * @return list of warning messages, empty when birth number is absent, not decrypted or fully consistent
      */
     public List<String> birthNumberConsistencyWarnings() {
-        if (birthNumber == null) {
+        if (birthNumber == null || deferredBirthNumber != null) {
             return Collections.emptyList();
         }
 
@@ -5,6 +5,7 @@ import org.jmolecules.architecture.hexagonal.Port;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +29,15 @@ public interface MemberRepository {
      */
     Optional<Member> findById(MemberId id);
 
+    /**
+     * Reads only the optimistic locking version of a member, without loading the aggregate.
+     * Used to answer conditional requests.
+     *
+     * @param id the member's ID
+     * @return the current version, or empty if the member does not exist
+     */
+    Optional<Long> findVersionById(MemberId id);
+
     /**
      * Find a member by their registration number.
      *
@@ -51,18 +61,27 @@ public interface MemberRepository {
     Page<Member> findAll(MemberFilter filter, Pageable pageable);
 
     /**
-     * Counts the number of members born in a specific year.
+     * Finds IDs of active members born after {@code bornAfter} and on or before {@code bornOnOrBefore}.
      * <p>
-     * Used for registration number generation to determine the next sequence number.
+     * Lightweight alternative to {@link #findAll(MemberFilter)} for age-based lookups — no aggregate is loaded.
      *
-     * @param birthYear the birth year (e.g., 2005, 1995)
-     * @return count of members born in that year
+     * @param bornAfter      exclusive lower bound of the date of birth
+     * @param bornOnOrBefore inclusive upper bound of the date of birth
+     * @return IDs of matching active members
      */
-    int countByBirthYear(int birthYear);
+    List<MemberId> findActiveIdsBornBetween(LocalDate bornAfter, LocalDate bornOnOrBefore);
 
     List<Member> findAllByIds(Collection<MemberId> ids);
 
     boolean existsAny();
 
     Member save(Member member);
+
+    /**
+     * Saves all members at once; new members are inserted in a single batch.
+     *
+     * @param members the members to save
+     * @return the saved members, in the given order
+     */
+    List<Member> saveAll(Collection<Member> members);
 }
@@ -1,6 +1,11 @@
 package com.klabis.members.domain;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -18,16 +23,16 @@ public class RegistrationNumberGenerator {
     private static final int MAX_SEQUENCE_NUMBER = 99;
 
     private final String clubCode;
-    private final MemberRepository memberRepository;
+    private final RegistrationNumberSequences sequences;
 
     /**
      * Creates a new RegistrationNumberGenerator.
      *
-     * @param clubCode         club code (exactly 3 characters)
-     * @param memberRepository repository for querying existing members
+     * @param clubCode  club code (exactly 3 characters)
+     * @param sequences per-birth-year sequence counters
      * @throws IllegalArgumentException if club code is invalid
      */
-    public RegistrationNumberGenerator(String clubCode, MemberRepository memberRepository) {
+    public RegistrationNumberGenerator(String clubCode, RegistrationNumberSequences sequences) {
         if (clubCode == null || clubCode.isBlank()) {
             throw new IllegalArgumentException("Club code is required");
         }
@@ -36,7 +41,7 @@ public class RegistrationNumberGenerator {
         }
 
         this.clubCode = clubCode.toUpperCase();
-        this.memberRepository = Objects.requireNonNull(memberRepository, "Member repository is required");
+        this.sequences = Objects.requireNonNull(sequences, "Registration number sequences are required");
     }
 
     /**
@@ -53,9 +58,49 @@ public class RegistrationNumberGenerator {
         }
 
         int birthYear = dateOfBirth.getYear();
-        int nextSequence = memberRepository.countByBirthYear(birthYear);
+        int nextSequence = sequences.allocateNext(birthYear);
+        checkSequence(birthYear, nextSequence);
+        return format(birthYear, nextSequence);
+    }
+
+    /**
+     * Generates registration numbers for several members at once.
+     * <p>
+     * Numbers of one birth year are allocated as a single block, so the sequences are touched once per
+     * distinct birth year rather than once per member. Within a birth year, numbers follow the order of
+     * the given dates.
+     *
+     * @param datesOfBirth members' dates of birth
+     * @return generated registration numbers, in the order of {@code datesOfBirth}
+     * @throws IllegalArgumentException if any date of birth is null
+     * @throws IllegalStateException    if maximum sequence number would be exceeded for any birth year
+     */
+    public List<RegistrationNumber> generateAll(List<LocalDate> datesOfBirth) {
+        Map<Integer, Integer> countsByYear = new LinkedHashMap<>();
+        for (LocalDate dateOfBirth : datesOfBirth) {
+            if (dateOfBirth == null) {
+                throw new IllegalArgumentException("Date of birth is required for registration number generation");
+            }
+            countsByYear.merge(dateOfBirth.getYear(), 1, Integer::sum);
+        }
 
-        if (nextSequence > MAX_SEQUENCE_NUMBER) {
+        Map<Integer, Integer> nextSequenceByYear = new HashMap<>();
+        countsByYear.forEach((birthYear, count) -> {
+            int first = sequences.allocateBlock(birthYear, count);
+            checkSequence(birthYear, first + count - 1);
+            nextSequenceByYear.put(birthYear, first);
+        });
+
+        List<RegistrationNumber> numbers = new ArrayList<>(datesOfBirth.size());
+        for (LocalDate dateOfBirth : datesOfBirth) {
+            int birthYear = dateOfBirth.getYear();
+            numbers.add(format(birthYear, nextSequenceByYear.merge(birthYear, 1, Integer::sum) - 1));
+        }
+        return numbers;
+    }
+
+    private static void checkSequence(int birthYear, int sequence) {
+        if (sequence > MAX_SEQUENCE_NUMBER) {
             throw new IllegalStateException(
                     String.format(
                             "Cannot generate registration number for birth year %d: " +
@@ -65,7 +110,9 @@ public class RegistrationNumberGenerator {
                     )
             );
         }
+    }
 
+    private RegistrationNumber format(int birthYear, int sequence) {
         // Extract last 2 digits of birth year
         int birthYearTwoDigits = birthYear % 100;
 
@@ -73,7 +120,7 @@ public class RegistrationNumberGenerator {
         String registrationNumberValue = "%s%02d%02d".formatted(
                 clubCode,
                 birthYearTwoDigits,
-                nextSequence
+                sequence
         );
 
         return new RegistrationNumber(registrationNumberValue);
@@ -0,0 +1,30 @@
+package com.klabis.members.domain;
+
+import org.jmolecules.architecture.hexagonal.Port;
+
+/**
+ * Per-birth-year counters backing {@link RegistrationNumberGenerator}.
+ * <p>
+ * Allocation is atomic: concurrent callers never receive the same value for the same birth year.
+ * The allocation belongs to the caller's transaction, so a rolled back registration releases its number.
+ */
+@Port
+public interface RegistrationNumberSequences {
+
+    /**
+     * Allocates the next sequence number for the given birth year.
+     *
+     * @param birthYear the birth year (e.g., 2005, 1995)
+     * @return allocated sequence number, starting at 0 for the first member of that birth year
+     */
+    int allocateNext(int birthYear);
+
+    /**
+     * Allocates {@code count} consecutive sequence numbers for the given birth year in one step.
+     *
+     * @param birthYear the birth year (e.g., 2005, 1995)
+     * @param count     how many numbers to allocate, at least 1
+     * @return the first allocated sequence number; the block ends at {@code first + count - 1}
+     */
+    int allocateBlock(int birthYear, int count);
+}
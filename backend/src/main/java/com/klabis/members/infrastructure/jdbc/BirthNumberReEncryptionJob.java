@@ -0,0 +1,123 @@
+package com.klabis.members.infrastructure.jdbc;
+
+import com.klabis.common.encryption.EncryptionService;
+import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Background job re-encrypting stored birth numbers into the currently configured cipher format.
+ * <p>
+ * Walks the members table in id order using keyset pagination, one chunk per transaction, so memory
+ * use and lock duration stay bounded regardless of the number of members. Each row is updated only
+ * if its ciphertext is unchanged since it was read, so concurrent edits are never overwritten.
+ * Rows already in the current format are skipped, making the job idempotent and cheap once finished.
+ * <p>
+ * Enabled with {@code klabis.encryption.re-encryption.enabled=true}.
+ */
+@Component
+@SecondaryAdapter
+@ConditionalOnProperty(value = "klabis.encryption.re-encryption.enabled", havingValue = "true")
+class BirthNumberReEncryptionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BirthNumberReEncryptionJob.class);
+
+    private static final String SELECT_CHUNK = """
+            SELECT id, birth_number FROM members.members
+            WHERE birth_number IS NOT NULL AND id > :lastId
+            ORDER BY id
+            LIMIT :chunkSize
+            """;
+
+    private static final String UPDATE_BIRTH_NUMBER = """
+            UPDATE members.members SET birth_number = :newValue
+            WHERE id = :id AND birth_number = :oldValue
+            """;
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final EncryptionService encryptionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    BirthNumberReEncryptionJob(NamedParameterJdbcTemplate namedJdbc,
+                               EncryptionService encryptionService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${klabis.encryption.re-encryption.chunk-size:200}") int chunkSize) {
+        this.namedJdbc = namedJdbc;
+        this.encryptionService = encryptionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(initialDelayString = "${klabis.encryption.re-encryption.initial-delay:PT1M}",
+            fixedDelayString = "${klabis.encryption.re-encryption.interval:PT6H}")
+    void reEncryptOutdatedBirthNumbers() {
+        int reEncrypted = reEncryptAll();
+        if (reEncrypted > 0) {
+            log.info("Re-encrypted {} birth numbers into the current cipher format", reEncrypted);
+        }
+    }
+
+    /**
+     * Re-encrypts all birth numbers not yet in the current format.
+     *
+     * @return number of rows updated
+     */
+    int reEncryptAll() {
+        UUID lastId = MIN_UUID;
+        int total = 0;
+        while (true) {
+            UUID chunkStart = lastId;
+            ChunkResult chunk = transactionTemplate.execute(status -> reEncryptChunkAfter(chunkStart));
+            if (chunk == null || chunk.lastId() == null) {
+                return total;
+            }
+            total += chunk.updated();
+            lastId = chunk.lastId();
+        }
+    }
+
+    private ChunkResult reEncryptChunkAfter(UUID lastId) {
+        List<StoredBirthNumber> rows = namedJdbc.query(SELECT_CHUNK,
+                new MapSqlParameterSource()
+                        .addValue("lastId", lastId)
+                        .addValue("chunkSize", chunkSize),
+                (rs, rowNum) -> new StoredBirthNumber(rs.getObject("id", UUID.class), rs.getString("birth_number")));
+
+        if (rows.isEmpty()) {
+            return new ChunkResult(null, 0);
+        }
+
+        int updated = 0;
+        for (StoredBirthNumber row : rows) {
+            if (encryptionService.isCurrentFormat(row.ciphertext())) {
+                continue;
+            }
+            String reEncrypted = encryptionService.encrypt(encryptionService.decrypt(row.ciphertext()));
+            updated += namedJdbc.update(UPDATE_BIRTH_NUMBER, new MapSqlParameterSource()
+                    .addValue("id", row.id())
+                    .addValue("oldValue", row.ciphertext())
+                    .addValue("newValue", reEncrypted));
+        }
+        return new ChunkResult(rows.getLast().id(), updated);
+    }
+
+    private record StoredBirthNumber(UUID id, String ciphertext) {
+    }
+
+    private record ChunkResult(UUID lastId, int updated) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.klabis.members.infrastructure.jdbc;
+
+import com.klabis.common.export.RowSource;
+import com.klabis.common.jdbc.JdbcCursor;
+import com.klabis.members.MemberAccommodationDto;
+import com.klabis.members.MemberId;
+import com.klabis.members.application.MemberExportQuery;
+import com.klabis.members.domain.MemberFilter;
+import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+
+@SecondaryAdapter
+@Component
+class MemberExportQueryAdapter implements MemberExportQuery {
+
+    private static final String DIRECTORY_SQL = """
+            SELECT registration_number, last_name, first_name, date_of_birth, email, phone, is_active
+            FROM members.members
+            %s
+            ORDER BY last_name, first_name, registration_number
+            """;
+
+    private static final String ACCOMMODATION_SQL = """
+            SELECT first_name, last_name, identity_card_number, identity_card_validity_date, date_of_birth,
+                   street, city, postal_code, country
+            FROM members.members
+            WHERE id IN (:ids)
+            ORDER BY last_name, first_name, id
+            """;
+
+    private final JdbcCursor cursor;
+
+    MemberExportQueryAdapter(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.cursor = new JdbcCursor(dataSource, transactionManager);
+    }
+
+    @Override
+    public RowSource<MemberDirectoryEntry> directory(MemberFilter.StatusFilter status) {
+        String where = switch (status) {
+            case ACTIVE -> "WHERE is_active = TRUE";
+            case INACTIVE -> "WHERE is_active = FALSE";
+            case ALL -> "";
+        };
+        return cursor.query(DIRECTORY_SQL.formatted(where), new MapSqlParameterSource(), (rs, rowNum) -> new MemberDirectoryEntry(
+                rs.getString("registration_number"),
+                rs.getString("last_name"),
+                rs.getString("first_name"),
+                rs.getObject("date_of_birth", LocalDate.class),
+                rs.getString("email"),
+                rs.getString("phone"),
+                rs.getBoolean("is_active")
+        ));
+    }
+
+    @Override
+    public RowSource<MemberAccommodationDto> accommodationData(Collection<MemberId> memberIds) {
+        if (memberIds.isEmpty()) {
+            return action -> { };
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource(
+                "ids", memberIds.stream().map(MemberId::uuid).toList());
+        return cursor.query(ACCOMMODATION_SQL, params, (rs, rowNum) -> toAccommodationDto(rs));
+    }
+
+    /**
+     * Mirrors how {@link MemberMemento} rebuilds the value objects: an identity card needs both its number and
+     * validity, and an address without a street is not recorded at all.
+     */
+    private static MemberAccommodationDto toAccommodationDto(ResultSet rs) throws SQLException {
+        String identityCardNumber = rs.getString("identity_card_number");
+        LocalDate identityCardValidityDate = rs.getObject("identity_card_validity_date", LocalDate.class);
+        boolean hasIdentityCard = identityCardNumber != null && identityCardValidityDate != null;
+        boolean hasAddress = rs.getString("street") != null;
+        return new MemberAccommodationDto(
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                hasIdentityCard ? identityCardNumber : null,
+                hasIdentityCard ? identityCardValidityDate : null,
+                rs.getObject("date_of_birth", LocalDate.class),
+                hasAddress ? rs.getString("street") : null,
+                hasAddress ? rs.getString("city") : null,
+                hasAddress ? rs.getString("postal_code") : null,
+                hasAddress ? rs.getString("country") : null
+        );
+    }
+}
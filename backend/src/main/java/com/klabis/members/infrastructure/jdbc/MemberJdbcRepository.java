@@ -7,6 +7,7 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,7 +31,7 @@ import java.util.UUID;
  * Derived query methods:
  * - findByRegistrationNumber: Find member memento by registration number
  * - findByEmail: Find member memento by email address
- * - countByBirthYear: Count members born in a specific year (custom SQL query)
+ * - findActiveIdsBornBetween: IDs of active members born within a date window (custom SQL query)
  * - findAllByActiveTrueOrderByLastNameAscFirstNameAsc: All active members, alphabetical order
  */
 @Repository
@@ -52,16 +53,21 @@ interface MemberJdbcRepository extends CrudRepository<MemberMemento, UUID>, Pagi
      */
     Optional<MemberMemento> findByEmailEqualsIgnoreCase(String email);
 
+    @Query("SELECT version FROM members.members WHERE id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
     /**
-     * Count members born in a specific year.
+     * Find IDs of active members born in the half-open window {@code (bornAfter, bornOnOrBefore]}.
      * <p>
-     * Uses custom SQL query to extract year from date_of_birth column.
+     * Served by {@code idx_members_date_of_birth}; only the id column is read.
      *
-     * @param birthYear the birth year to count
-     * @return number of members born in that year
+     * @param bornAfter      exclusive lower bound of the date of birth
+     * @param bornOnOrBefore inclusive upper bound of the date of birth
+     * @return IDs of matching active members
      */
-    @Query("SELECT COUNT(*) FROM members.members WHERE EXTRACT(YEAR FROM date_of_birth) = :birthYear")
-    int countByBirthYear(@Param("birthYear") int birthYear);
+    @Query("SELECT id FROM members.members WHERE is_active = TRUE AND date_of_birth > :bornAfter AND date_of_birth <= :bornOnOrBefore")
+    List<UUID> findActiveIdsBornBetween(@Param("bornAfter") LocalDate bornAfter,
+                                        @Param("bornOnOrBefore") LocalDate bornOnOrBefore);
 
     List<MemberMemento> findAllByActiveTrueOrderByLastNameAscFirstNameAsc();
 
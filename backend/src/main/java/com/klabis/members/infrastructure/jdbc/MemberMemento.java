@@ -17,6 +17,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Table(schema = "members", value = "members")
 class MemberMemento implements Persistable<UUID> {
@@ -225,7 +226,7 @@ class MemberMemento implements Persistable<UUID> {
 
         memento.drivingLicenseGroup = member.getDrivingLicenseGroup();
         memento.dietaryRestrictions = member.getDietaryRestrictions();
-        memento.birthNumber = member.getBirthNumber() != null ? EncryptedString.of(member.getBirthNumber().value()) : null;
+        memento.birthNumber = toEncryptedBirthNumber(member);
         memento.bankAccountNumber = member.getBankAccountNumber() != null ? member.getBankAccountNumber().value() : null;
         memento.suspensionReason = member.getSuspensionReason();
         memento.suspendedAt = member.getSuspendedAt();
@@ -317,7 +318,6 @@ class MemberMemento implements Persistable<UUID> {
         RegistrationNumber registrationNumber = this.registrationNumber != null
                 ? new RegistrationNumber(this.registrationNumber)
                 : null;
-        BirthNumber birthNumber = this.birthNumber != null ? BirthNumber.of(this.birthNumber.value()) : null;
         BankAccountNumber bankAccountNumber = this.bankAccountNumber != null
                 ? BankAccountNumber.of(this.bankAccountNumber)
                 : null;
@@ -339,7 +339,7 @@ class MemberMemento implements Persistable<UUID> {
                 refereeLicense,
                 this.drivingLicenseGroup,
                 this.dietaryRestrictions,
-                birthNumber,
+                null,
                 bankAccountNumber,
                 this.suspensionReason,
                 this.suspendedAt,
@@ -348,11 +348,39 @@ class MemberMemento implements Persistable<UUID> {
                 getAuditMetadata()
         );
 
+        // Birth number stays encrypted until something actually reads it
+        if (this.birthNumber != null) {
+            member.deferBirthNumber(new StoredBirthNumber(this.birthNumber));
+        }
+
         this.member = member;
 
         return member;
     }
 
+    /**
+     * Keeps an unchanged birth number as the ciphertext it was loaded with, so saving a member does no
+     * cryptographic work unless the birth number itself was changed.
+     */
+    private static EncryptedString toEncryptedBirthNumber(Member member) {
+        if (member.getStoredBirthNumber() instanceof StoredBirthNumber stored) {
+            return stored.encrypted();
+        }
+        BirthNumber birthNumber = member.getBirthNumber();
+        return birthNumber != null ? EncryptedString.of(birthNumber.value()) : null;
+    }
+
+    /**
+     * Birth number as loaded from storage, decrypted on first access.
+     */
+    private record StoredBirthNumber(EncryptedString encrypted) implements Supplier<BirthNumber> {
+
+        @Override
+        public BirthNumber get() {
+            return BirthNumber.of(encrypted.value());
+        }
+    }
+
     @DomainEvents
     public List<Object> getDomainEvents() {
         if (this.member != null) {
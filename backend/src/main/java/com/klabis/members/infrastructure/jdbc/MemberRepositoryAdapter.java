@@ -1,5 +1,6 @@
 package com.klabis.members.infrastructure.jdbc;
 
+import com.klabis.common.etag.ExpectedVersions;
 import com.klabis.common.pagination.TranslatedPageable;
 import com.klabis.members.MemberId;
 import com.klabis.members.domain.Member;
@@ -17,6 +18,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -49,8 +51,10 @@ class MemberRepositoryAdapter implements MemberRepository {
     }
 
     @Override
-    public int countByBirthYear(int birthYear) {
-        return jdbcRepository.countByBirthYear(birthYear);
+    public List<MemberId> findActiveIdsBornBetween(LocalDate bornAfter, LocalDate bornOnOrBefore) {
+        return jdbcRepository.findActiveIdsBornBetween(bornAfter, bornOnOrBefore).stream()
+                .map(MemberId::new)
+                .toList();
     }
 
     @Override
@@ -60,16 +64,32 @@ class MemberRepositoryAdapter implements MemberRepository {
 
     @Override
     public Member save(Member member) {
+        ExpectedVersions.applyTo(member, member.getId().uuid());
         MemberMemento savedMemento = jdbcRepository.save(MemberMemento.from(member));
         return savedMemento.toMember();
     }
 
+    @Override
+    public List<Member> saveAll(Collection<Member> members) {
+        List<MemberMemento> mementos = members.stream()
+                .map(member -> MemberMemento.from(ExpectedVersions.applyTo(member, member.getId().uuid())))
+                .toList();
+        return StreamSupport.stream(jdbcRepository.saveAll(mementos).spliterator(), false)
+                .map(MemberMemento::toMember)
+                .toList();
+    }
+
     @Override
     public Optional<Member> findById(MemberId memberId) {
         return jdbcRepository.findById(memberId.uuid())
                 .map(MemberMemento::toMember);
     }
 
+    @Override
+    public Optional<Long> findVersionById(MemberId memberId) {
+        return jdbcRepository.findVersionById(memberId.uuid());
+    }
+
     @Override
     public List<Member> findAllByIds(Collection<MemberId> ids) {
         List<UUID> uuids = ids.stream().map(MemberId::uuid).toList();
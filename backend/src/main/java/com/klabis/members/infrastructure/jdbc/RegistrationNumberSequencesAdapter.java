@@ -0,0 +1,69 @@
+package com.klabis.members.infrastructure.jdbc;
+
+import com.klabis.members.domain.RegistrationNumberSequences;
+import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.jmolecules.ddd.annotation.Repository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.time.LocalDate;
+
+/**
+ * JDBC implementation of {@link RegistrationNumberSequences} backed by
+ * {@code members.registration_number_sequences}.
+ * <p>
+ * The counter row of a birth year is created on first use, seeded from the number of members already
+ * born in that year. The increment takes a row lock held until the surrounding transaction ends, so
+ * registrations for the same birth year serialize on that row while other years proceed in parallel.
+ */
+@SecondaryAdapter
+@Repository
+class RegistrationNumberSequencesAdapter implements RegistrationNumberSequences {
+
+    private static final String ENSURE_SEQUENCE_ROW = """
+            INSERT INTO members.registration_number_sequences (birth_year, next_value)
+            SELECT :birthYear, COUNT(*) FROM members.members
+            WHERE date_of_birth >= :yearStart AND date_of_birth < :nextYearStart
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INCREMENT = """
+            UPDATE members.registration_number_sequences SET next_value = next_value + :count
+            WHERE birth_year = :birthYear
+            """;
+
+    private static final String SELECT_CURRENT = """
+            SELECT next_value FROM members.registration_number_sequences WHERE birth_year = :birthYear
+            """;
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+
+    RegistrationNumberSequencesAdapter(NamedParameterJdbcTemplate namedJdbc) {
+        this.namedJdbc = namedJdbc;
+    }
+
+    @Override
+    @Transactional
+    public int allocateNext(int birthYear) {
+        return allocateBlock(birthYear, 1);
+    }
+
+    @Override
+    @Transactional
+    public int allocateBlock(int birthYear, int count) {
+        Assert.isTrue(count > 0, "Count must be positive");
+        LocalDate yearStart = LocalDate.of(birthYear, 1, 1);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("birthYear", birthYear)
+                .addValue("count", count)
+                .addValue("yearStart", yearStart)
+                .addValue("nextYearStart", yearStart.plusYears(1));
+
+        namedJdbc.update(ENSURE_SEQUENCE_ROW, params);
+        namedJdbc.update(INCREMENT, params);
+        Integer nextValue = namedJdbc.queryForObject(SELECT_CURRENT, params, Integer.class);
+        return nextValue - count;
+    }
+}
@@ -1,5 +1,6 @@
 package com.klabis.members.infrastructure.listeners;
 
+import com.klabis.common.listeners.ListenerExecutors;
 import com.klabis.members.BirthNumberAccessedEvent;
 import com.klabis.members.infrastructure.jdbc.BirthNumberAuditLogJdbcRepository;
 import com.klabis.members.infrastructure.jdbc.BirthNumberAuditLogMemento;
@@ -7,6 +8,7 @@ import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -28,6 +30,7 @@ class BirthNumberAuditService {
     }
 
     @ApplicationModuleListener
+    @Async(ListenerExecutors.MEMBERS)
     void onBirthNumberAccessed(BirthNumberAccessedEvent event) {
         log.debug("Recording birth number audit: action={}, memberId={}, userId={}",
                 event.action(), event.memberId(), event.actingUserId());
@@ -1,5 +1,6 @@
 package com.klabis.members.infrastructure.restapi;
 
+import com.klabis.common.etag.AggregateETags;
 import com.klabis.common.mvc.MvcComponent;
 import com.klabis.common.security.fieldsecurity.OwnerId;
 import com.klabis.common.security.fieldsecurity.OwnerVisible;
@@ -41,6 +42,7 @@ import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -92,6 +94,7 @@ public class MemberController {
             @ActingUser CurrentUserData currentUser) {
 
         MemberId memberId = new MemberId(id);
+        AggregateETags.expectIfMatch(id);
         var command = UpdateMemberRequestMapper.toCommand(request, currentUser.userId());
         Member updatedMember = managementService.updateMember(memberId, command);
 
@@ -230,7 +233,7 @@ public class MemberController {
         return filter;
     }
 
-    private MemberFilter.StatusFilter parseStatus(String status) {
+    static MemberFilter.StatusFilter parseStatus(String status) {
         if (status == null) {
             return MemberFilter.StatusFilter.ACTIVE;
         }
@@ -274,10 +277,19 @@ public class MemberController {
             @ActingUser CurrentUserData currentUser) {
 
         MemberId memberId = new MemberId(id);
-        Member member = managementService.getMemberAndRecordView(memberId, currentUser.userId(),
-                currentUser.hasAuthority(Authority.MEMBERS_MANAGE));
+        // A 304 discloses nothing, so it is not recorded as a birth number view
+        Optional<ResponseEntity<EntityModel<MemberDetailsResponse>>> notModified =
+                AggregateETags.notModified(() -> memberRepository.findVersionById(memberId));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        boolean canManageMembers = currentUser.hasAuthority(Authority.MEMBERS_MANAGE);
+        Member member = managementService.getMemberAndRecordView(memberId, currentUser.userId(), canManageMembers);
+        boolean birthNumberVisible = member.isBirthNumberVisibleTo(currentUser.userId(), canManageMembers);
 
-        return ResponseEntity.ok(entityModelWithDomain(memberMapper.toDetailsResponse(member), member));
+        return AggregateETags.ok(member.getVersion())
+                .body(entityModelWithDomain(memberMapper.toDetailsResponse(member, birthNumberVisible), member));
     }
 
 }
@@ -0,0 +1,73 @@
+package com.klabis.members.infrastructure.restapi;
+
+import com.klabis.common.export.CsvExport;
+import com.klabis.common.users.Authority;
+import com.klabis.common.users.HasAuthority;
+import com.klabis.members.application.MemberDirectoryPort;
+import com.klabis.members.application.MemberExportQuery.MemberDirectoryEntry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Objects;
+
+@PrimaryAdapter
+@RestController
+@RequestMapping("/api/members")
+@Tag(name = "Members ", description = "Member registration and management API")
+@SecurityRequirement(name = "KlabisAuth", scopes = {Authority.MEMBERS_SCOPE})
+class MemberExportController {
+
+    private static final String[] DIRECTORY_HEADER = {
+            "Registrační číslo", "Příjmení", "Jméno", "Datum narození", "E-mail", "Telefon", "Aktivní"
+    };
+
+    private final MemberDirectoryPort memberDirectoryPort;
+
+    MemberExportController(MemberDirectoryPort memberDirectoryPort) {
+        this.memberDirectoryPort = memberDirectoryPort;
+    }
+
+    @GetMapping(produces = "text/csv")
+    @HasAuthority(Authority.MEMBERS_MANAGE)
+    @Operation(
+            summary = "Download the member directory as CSV",
+            description = """
+                    Returns members ordered by last name as a CSV file (UTF-8 BOM, semicolon delimiter, Czech headers).
+                    Rows are streamed from the database, so the export works for any club size.
+                    """
+    )
+    @ApiResponse(responseCode = "200", description = "CSV file downloaded successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid status filter value")
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires MEMBERS:MANAGE")
+    public ResponseEntity<StreamingResponseBody> exportMemberDirectory(
+            @Parameter(description = "Status filter: ACTIVE (default), INACTIVE, ALL")
+            @RequestParam(required = false) String status) {
+
+        return CsvExport.of("clenove.csv", DIRECTORY_HEADER,
+                        memberDirectoryPort.directory(MemberController.parseStatus(status)),
+                        MemberExportController::toRecord)
+                .toResponseEntity();
+    }
+
+    private static Object[] toRecord(MemberDirectoryEntry entry) {
+        return new Object[]{
+                entry.registrationNumber(),
+                entry.lastName(),
+                entry.firstName(),
+                Objects.toString(entry.dateOfBirth(), null),
+                entry.email(),
+                entry.phone(),
+                entry.active() ? "ano" : "ne"
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package com.klabis.members.infrastructure.restapi;
+
+import com.klabis.common.users.Authority;
+import com.klabis.common.users.HasAuthority;
+import com.klabis.common.users.UserId;
+import com.klabis.members.ActingUser;
+import com.klabis.members.application.BulkRegistrationRejectedException;
+import com.klabis.members.application.RegistrationPort;
+import com.klabis.members.domain.Member;
+import com.klabis.members.infrastructure.restapi.MemberImportCsvReader.ParsedRow;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@PrimaryAdapter
+@RestController
+@RequestMapping("/api/members")
+@Tag(name = "Members", description = "Member registration and management API")
+@SecurityRequirement(name = "KlabisAuth", scopes = {Authority.MEMBERS_SCOPE})
+class MemberImportController {
+
+    private final MemberImportCsvReader csvReader;
+    private final RegistrationPort registrationService;
+
+    MemberImportController(MemberImportCsvReader csvReader, RegistrationPort registrationService) {
+        this.csvReader = csvReader;
+        this.registrationService = registrationService;
+    }
+
+    /**
+     * Register members from a CSV file.
+     * <p>
+     * POST /api/members/import
+     *
+     * @param file          CSV file with one member per row
+     * @param currentUserId the authenticated user performing the registration
+     * @return 200 with the registration number of every imported row, or 422 with the errors of the
+     * rejected rows when nothing was imported
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @HasAuthority(Authority.MEMBERS_MANAGE)
+    @Operation(
+            summary = "Import members from CSV",
+            description = """
+                    Registers all members of a CSV file (UTF-8, semicolon delimiter, Czech headers as in the member \
+                    export) in one go. Every row is validated before anything is saved; if any row is invalid, no \
+                    member is registered and the report lists the errors per row. Password setup emails are sent \
+                    after the import has been committed.
+                    """
+    )
+    @ApiResponse(responseCode = "200", description = "All members imported")
+    @ApiResponse(responseCode = "400", description = "File is not a member CSV (missing column, no rows)")
+    @ApiResponse(responseCode = "403", description = "Forbidden - requires MEMBERS:MANAGE")
+    @ApiResponse(responseCode = "422", description = "Some rows are invalid, nothing imported")
+    public ResponseEntity<MemberImportReport> importMembers(
+            @Parameter(description = "CSV file with columns Příjmení, Jméno, Datum narození, Pohlaví, Národnost, "
+                                     + "E-mail, Telefon, Ulice, Město, PSČ, Země and optionally Rodné číslo, "
+                                     + "Číslo účtu and Zákonný zástupce – jméno, příjmení, vztah, e-mail, telefon")
+            @RequestParam("file") MultipartFile file,
+            @ActingUser UserId currentUserId) throws IOException {
+
+        List<ParsedRow> rows;
+        try (InputStream csv = file.getInputStream()) {
+            rows = csvReader.read(csv, currentUserId);
+        }
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("CSV file contains no members");
+        }
+        if (!rows.stream().allMatch(ParsedRow::isValid)) {
+            return rejected(rows, Map.of());
+        }
+
+        List<RegistrationPort.RegisterNewMember> commands = rows.stream().map(ParsedRow::command).toList();
+        List<Member> members;
+        try {
+            members = registrationService.registerMembers(commands);
+        } catch (BulkRegistrationRejectedException e) {
+            return rejected(rows, e.getErrors());
+        }
+
+        List<MemberImportReport.Row> report = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Member member = members.get(i);
+            report.add(new MemberImportReport.Row(rows.get(i).row(), member.getRegistrationNumber().getValue(),
+                    member.getId().uuid(), List.of()));
+        }
+        return ResponseEntity.ok(new MemberImportReport(true, report));
+    }
+
+    private static ResponseEntity<MemberImportReport> rejected(List<ParsedRow> rows,
+                                                               Map<Integer, String> registrationErrors) {
+        List<MemberImportReport.Row> report = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ParsedRow row = rows.get(i);
+            String registrationError = registrationErrors.get(i);
+            List<String> errors = registrationError != null ? List.of(registrationError) : row.errors();
+            report.add(new MemberImportReport.Row(row.row(), null, null, errors));
+        }
+        return ResponseEntity.status(HttpStatusCode.valueOf(422)).body(new MemberImportReport(false, report));
+    }
+}
@@ -0,0 +1,199 @@
+package com.klabis.members.infrastructure.restapi;
+
+import com.klabis.common.exceptions.BusinessRuleViolationException;
+import com.klabis.common.users.UserId;
+import com.klabis.members.application.RegistrationPort;
+import com.klabis.members.domain.Gender;
+import jakarta.validation.Validator;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Reads and validates members to import from a CSV file.
+ * <p>
+ * The file uses the same conventions as the member exports (UTF-8, optionally with BOM, semicolon delimiter,
+ * Czech headers), with columns in any order. Every row is checked against the same rules as
+ * {@link RegisterMemberRequest} before anything is registered, so a single upload reports all problems at once.
+ */
+@Component
+class MemberImportCsvReader {
+
+    static final String LAST_NAME = "Příjmení";
+    static final String FIRST_NAME = "Jméno";
+    static final String DATE_OF_BIRTH = "Datum narození";
+    static final String GENDER = "Pohlaví";
+    static final String NATIONALITY = "Národnost";
+    static final String EMAIL = "E-mail";
+    static final String PHONE = "Telefon";
+    static final String STREET = "Ulice";
+    static final String CITY = "Město";
+    static final String POSTAL_CODE = "PSČ";
+    static final String COUNTRY = "Země";
+    static final String BIRTH_NUMBER = "Rodné číslo";
+    static final String BANK_ACCOUNT_NUMBER = "Číslo účtu";
+    static final String GUARDIAN_FIRST_NAME = "Zákonný zástupce – jméno";
+    static final String GUARDIAN_LAST_NAME = "Zákonný zástupce – příjmení";
+    static final String GUARDIAN_RELATIONSHIP = "Zákonný zástupce – vztah";
+    static final String GUARDIAN_EMAIL = "Zákonný zástupce – e-mail";
+    static final String GUARDIAN_PHONE = "Zákonný zástupce – telefon";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            LAST_NAME, FIRST_NAME, DATE_OF_BIRTH, GENDER, NATIONALITY, EMAIL, PHONE, STREET, CITY, POSTAL_CODE, COUNTRY
+    );
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setDelimiter(';')
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setTrim(true)
+            .build();
+
+    /**
+     * A data row of the file, numbered like spreadsheet rows (the header is row 1). Holds either the
+     * registration command or the reasons why the row cannot be imported.
+     */
+    record ParsedRow(int row, RegistrationPort.RegisterNewMember command, List<String> errors) {
+
+        boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    private final Validator validator;
+    private final MemberMapper memberMapper;
+
+    MemberImportCsvReader(Validator validator, MemberMapper memberMapper) {
+        this.validator = validator;
+        this.memberMapper = memberMapper;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a required column is missing
+     */
+    List<ParsedRow> read(InputStream csv, UserId registeredBy) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+
+        try (CSVParser parser = CSVParser.parse(reader, FORMAT)) {
+            List<String> missing = REQUIRED_COLUMNS.stream()
+                    .filter(column -> !parser.getHeaderMap().containsKey(column))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV file is missing column(s): " + String.join(", ", missing));
+            }
+
+            List<ParsedRow> rows = new ArrayList<>();
+            int row = 1;
+            for (CSVRecord record : parser) {
+                rows.add(parse(++row, record, registeredBy));
+            }
+            return rows;
+        }
+    }
+
+    private ParsedRow parse(int row, CSVRecord record, UserId registeredBy) {
+        List<String> errors = new ArrayList<>();
+        LocalDate dateOfBirth = parseDate(cell(record, DATE_OF_BIRTH), errors);
+        Gender gender = parseGender(cell(record, GENDER), errors);
+        if (!errors.isEmpty()) {
+            return new ParsedRow(row, null, errors);
+        }
+
+        RegisterMemberRequest request = toRequest(record, dateOfBirth, gender);
+        validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .forEach(errors::add);
+        if (!errors.isEmpty()) {
+            return new ParsedRow(row, null, errors);
+        }
+
+        try {
+            return new ParsedRow(row, memberMapper.toRegisterNewMemberCommand(request, registeredBy), List.of());
+        } catch (IllegalArgumentException | BusinessRuleViolationException e) {
+            return new ParsedRow(row, null, List.of(e.getMessage()));
+        }
+    }
+
+    private static RegisterMemberRequest toRequest(CSVRecord record, LocalDate dateOfBirth, Gender gender) {
+        AddressRequest address = anySet(record, STREET, CITY, POSTAL_CODE, COUNTRY)
+                ? new AddressRequest(cell(record, STREET), cell(record, CITY), cell(record, POSTAL_CODE),
+                        cell(record, COUNTRY))
+                : null;
+        GuardianDTO guardian = anySet(record, GUARDIAN_FIRST_NAME, GUARDIAN_LAST_NAME, GUARDIAN_RELATIONSHIP,
+                GUARDIAN_EMAIL, GUARDIAN_PHONE)
+                ? new GuardianDTO(cell(record, GUARDIAN_FIRST_NAME), cell(record, GUARDIAN_LAST_NAME),
+                        cell(record, GUARDIAN_RELATIONSHIP), cell(record, GUARDIAN_EMAIL), cell(record, GUARDIAN_PHONE))
+                : null;
+
+        return new RegisterMemberRequest(
+                cell(record, FIRST_NAME),
+                cell(record, LAST_NAME),
+                dateOfBirth,
+                cell(record, NATIONALITY),
+                gender,
+                cell(record, EMAIL),
+                cell(record, PHONE),
+                address,
+                guardian,
+                cell(record, BIRTH_NUMBER),
+                cell(record, BANK_ACCOUNT_NUMBER)
+        );
+    }
+
+    private static LocalDate parseDate(String value, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            errors.add("dateOfBirth: Date of birth must be in format YYYY-MM-DD");
+            return null;
+        }
+    }
+
+    private static Gender parseGender(String value, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Gender.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            errors.add("gender: Gender must be MALE or FEMALE");
+            return null;
+        }
+    }
+
+    private static boolean anySet(CSVRecord record, String... columns) {
+        return Stream.of(columns).anyMatch(column -> cell(record, column) != null);
+    }
+
+    /**
+     * Returns the trimmed cell value, or {@code null} for an empty cell or a column the file does not have.
+     */
+    private static String cell(CSVRecord record, String column) {
+        if (!record.isSet(column)) {
+            return null;
+        }
+        String value = record.get(column);
+        return value.isEmpty() ? null : value;
+    }
+}
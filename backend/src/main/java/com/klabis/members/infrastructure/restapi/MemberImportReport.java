@@ -0,0 +1,38 @@
+package com.klabis.members.infrastructure.restapi;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO of the member CSV import, with one entry per data row of the uploaded file.
+ */
+@Schema(description = "Result of a member CSV import")
+public record MemberImportReport(
+        @Schema(description = "Whether the members were imported. The import is all or nothing: when false, no member was registered")
+        boolean imported,
+
+        @Schema(description = "Outcome of each data row, in file order")
+        List<Row> rows
+) {
+
+    @Schema(description = "Outcome of one CSV row")
+    public record Row(
+            @Schema(description = "Row number as shown by a spreadsheet; the header is row 1", example = "2")
+            int row,
+
+            @Schema(description = "Registration number of the imported member", example = "ZBM0501")
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            String registrationNumber,
+
+            @Schema(description = "ID of the imported member")
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            UUID memberId,
+
+            @Schema(description = "Why the row cannot be imported; empty for valid rows")
+            List<String> errors
+    ) {
+    }
+}
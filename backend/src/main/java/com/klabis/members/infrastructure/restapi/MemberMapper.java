@@ -3,6 +3,7 @@ package com.klabis.members.infrastructure.restapi;
 import com.klabis.common.users.UserId;
 import com.klabis.members.application.RegistrationPort;
 import com.klabis.members.domain.*;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValueCheckStrategy;
@@ -21,15 +22,19 @@ interface MemberMapper {
     @Mapping(target = "email", expression = "java(member.getEmail() != null ? member.getEmail().value() : null)")
     MemberSummaryResponse toSummaryResponse(Member member);
 
+    /**
+     * @param birthNumberVisible whether the viewer may see the birth number; it is decrypted only then, so every
+     *                           decryption on the read path matches an audited birth number view
+     */
     @Mapping(target = "registrationNumber", source = "registrationNumber.value")
     @Mapping(target = "address", source = "address")
     @Mapping(target = "guardian", source = "guardian")
     @Mapping(target = "email", expression = "java(member.getEmail() != null ? member.getEmail().value() : null)")
     @Mapping(target = "phone", expression = "java(member.getPhone() != null ? member.getPhone().value() : null)")
-    @Mapping(target = "birthNumber", expression = "java(member.getBirthNumber() != null ? member.getBirthNumber().value() : null)")
+    @Mapping(target = "birthNumber", expression = "java(birthNumberVisible && member.getBirthNumber() != null ? member.getBirthNumber().value() : null)")
     @Mapping(target = "bankAccountNumber", expression = "java(member.getBankAccountNumber() != null ? member.getBankAccountNumber().value() : null)")
     @Mapping(target = "suspendedBy", expression = "java(member.getSuspendedBy() != null ? member.getSuspendedBy().uuid().toString() : null)")
-    MemberDetailsResponse toDetailsResponse(Member member);
+    MemberDetailsResponse toDetailsResponse(Member member, @Context boolean birthNumberVisible);
 
     AddressResponse addressToResponse(Address address);
 
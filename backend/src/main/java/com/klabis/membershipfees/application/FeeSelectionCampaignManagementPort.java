@@ -59,6 +59,8 @@ public interface FeeSelectionCampaignManagementPort {
 
     MembershipFeeGroup getGroup(MembershipFeeGroupId id);
 
+    Optional<Long> findGroupVersion(MembershipFeeGroupId id);
+
     void editGroupSnapshot(MembershipFeeGroupId id, EditGroupSnapshotCommand command);
 
     FeeSelectionCampaign changeDeadline(FeeSelectionCampaignId id, ChangeDeadlineCommand command);
@@ -108,6 +108,11 @@ class FeeSelectionCampaignManagementService implements FeeSelectionCampaignManag
                 .orElseThrow(() -> new MembershipFeeGroupNotFoundException(id));
     }
 
+    @Override
+    public Optional<Long> findGroupVersion(MembershipFeeGroupId id) {
+        return groupRepository.findVersionById(id);
+    }
+
     @Transactional
     @Override
     public FeeSelectionCampaign changeDeadline(FeeSelectionCampaignId id, ChangeDeadlineCommand command) {
@@ -15,6 +15,11 @@ public interface MembershipFeeGroupRepository {
 
     Optional<MembershipFeeGroup> findById(MembershipFeeGroupId id);
 
+    /**
+     * Version of the group without loading it, for conditional requests.
+     */
+    Optional<Long> findVersionById(MembershipFeeGroupId id);
+
     List<MembershipFeeGroup> findByYear(int year);
 
     List<MembershipFeeGroup> saveAll(List<MembershipFeeGroup> groups);
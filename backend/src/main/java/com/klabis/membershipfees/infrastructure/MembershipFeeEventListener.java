@@ -1,5 +1,6 @@
 package com.klabis.membershipfees.infrastructure;
 
+import com.klabis.common.listeners.ListenerExecutors;
 import com.klabis.events.application.MemberRegistrationSanctionPort;
 import com.klabis.membershipfees.MemberFeeSelectionResolvedEvent;
 import com.klabis.membershipfees.MemberMissedFeeSelectionEvent;
@@ -7,6 +8,7 @@ import org.jmolecules.architecture.hexagonal.PrimaryAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,6 +24,7 @@ class MembershipFeeEventListener {
     }
 
     @ApplicationModuleListener
+    @Async(ListenerExecutors.MEMBERSHIP_FEES)
     public void handle(MemberMissedFeeSelectionEvent event) {
         log.info("Received MemberMissedFeeSelectionEvent for member {} (year {})",
                 event.memberId(), event.year());
@@ -29,6 +32,7 @@ class MembershipFeeEventListener {
     }
 
     @ApplicationModuleListener
+    @Async(ListenerExecutors.MEMBERSHIP_FEES)
     public void handle(MemberFeeSelectionResolvedEvent event) {
         log.info("Received MemberFeeSelectionResolvedEvent for member {} (year {}), lifting registration block",
                 event.memberId(), event.year());
@@ -10,6 +10,9 @@ import java.util.UUID;
 
 interface MembershipFeeGroupJdbcRepository extends CrudRepository<MembershipFeeGroupMemento, UUID> {
 
+    @Query("SELECT version FROM membershipfees.membership_fee_group WHERE id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
     @Query("SELECT * FROM membershipfees.membership_fee_group WHERE group_year = :year")
     List<MembershipFeeGroupMemento> findByYear(@Param("year") int year);
 
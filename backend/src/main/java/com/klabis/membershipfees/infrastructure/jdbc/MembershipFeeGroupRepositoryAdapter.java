@@ -1,5 +1,6 @@
 package com.klabis.membershipfees.infrastructure.jdbc;
 
+import com.klabis.common.etag.ExpectedVersions;
 import com.klabis.members.MemberId;
 import com.klabis.membershipfees.MembershipFeeGroupId;
 import com.klabis.membershipfees.MembershipFeeTierId;
@@ -23,6 +24,7 @@ class MembershipFeeGroupRepositoryAdapter implements MembershipFeeGroupRepositor
 
     @Override
     public MembershipFeeGroup save(MembershipFeeGroup group) {
+        ExpectedVersions.applyTo(group, group.getId().value());
         return jdbcRepository.save(MembershipFeeGroupMemento.from(group)).toGroup();
     }
 
@@ -31,6 +33,11 @@ class MembershipFeeGroupRepositoryAdapter implements MembershipFeeGroupRepositor
         return jdbcRepository.findById(id.value()).map(MembershipFeeGroupMemento::toGroup);
     }
 
+    @Override
+    public Optional<Long> findVersionById(MembershipFeeGroupId id) {
+        return jdbcRepository.findVersionById(id.value());
+    }
+
     @Override
     public List<MembershipFeeGroup> findByYear(int year) {
         return jdbcRepository.findByYear(year).stream()
@@ -1,5 +1,6 @@
 package com.klabis.membershipfees.infrastructure.restapi;
 
+import com.klabis.common.etag.AggregateETags;
 import com.klabis.common.mvc.MvcComponent;
 import com.klabis.common.ui.ModelWithDomainPostprocessor;
 import com.klabis.common.users.Authority;
@@ -31,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -65,7 +67,14 @@ class MembershipFeeGroupController {
     @Operation(summary = "Get membership fee group details with snapshot and member count")
     ResponseEntity<RepresentationModel<?>> getGroup(
             @Parameter(description = "Group UUID") @PathVariable UUID id) {
-        MembershipFeeGroup group = managementPort.getGroup(new MembershipFeeGroupId(id));
+        MembershipFeeGroupId groupId = new MembershipFeeGroupId(id);
+        Optional<ResponseEntity<RepresentationModel<?>>> notModified =
+                AggregateETags.notModified(() -> managementPort.findGroupVersion(groupId));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        MembershipFeeGroup group = managementPort.getGroup(groupId);
         EntityModel<MembershipFeeGroupResponse> entityModel = entityModelWithDomain(MembershipFeeGroupResponse.from(group), group);
         groupDetailsPostprocessor.process(entityModel, group);
 
@@ -73,7 +82,7 @@ class MembershipFeeGroupController {
         RepresentationModel<?> model = HalModelBuilder.halModelOf(entityModel)
                 .embed(groupMembers, MembershipFeeGroupResponse.MemberInGroupResponse.class)
                 .build();
-        return ResponseEntity.ok(model);
+        return AggregateETags.ok(group.getVersion()).body(model);
     }
 
     private List<MembershipFeeGroupResponse.MemberInGroupResponse> buildGroupMembers(MembershipFeeGroup group) {
@@ -94,6 +103,7 @@ class MembershipFeeGroupController {
     ResponseEntity<Void> editSnapshot(
             @Parameter(description = "Group UUID") @PathVariable UUID id,
             @Valid @RequestBody EditGroupSnapshotRequest request) {
+        AggregateETags.expectIfMatch(id);
         managementPort.editGroupSnapshot(new MembershipFeeGroupId(id), request.toCommand());
         return ResponseEntity.noContent().build();
     }
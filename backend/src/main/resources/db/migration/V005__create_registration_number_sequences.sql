@@ -0,0 +1,20 @@
+-- ============================================================================
+-- REGISTRATION_NUMBER_SEQUENCES TABLE
+-- Per-birth-year counter for the DD part of registration numbers (XXXYYDD).
+-- Incremented atomically on member registration; replaces counting members per year.
+-- ============================================================================
+
+CREATE TABLE members.registration_number_sequences
+(
+    birth_year INT NOT NULL PRIMARY KEY,
+    next_value INT NOT NULL
+);
+
+COMMENT ON TABLE members.registration_number_sequences IS 'Next registration number sequence per birth year';
+COMMENT ON COLUMN members.registration_number_sequences.next_value IS 'Sequence number (DD) assigned to the next member born in birth_year';
+
+-- Seed from existing members so already issued numbers are not handed out again
+INSERT INTO members.registration_number_sequences (birth_year, next_value)
+SELECT EXTRACT(YEAR FROM date_of_birth), COUNT(*)
+FROM members.members
+GROUP BY EXTRACT(YEAR FROM date_of_birth);
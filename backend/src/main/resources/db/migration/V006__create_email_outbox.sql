@@ -0,0 +1,26 @@
+-- ============================================================================
+-- EMAIL_OUTBOX TABLE
+-- Outgoing emails queued by EmailService and delivered by a background dispatcher.
+-- Rows are deleted once delivered; rows exceeding the retry limit stay as FAILED.
+-- ============================================================================
+
+CREATE TABLE common.email_outbox
+(
+    id              UUID          NOT NULL PRIMARY KEY,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(998)  NOT NULL,
+    html_body       TEXT,
+    text_body       TEXT,
+    status          VARCHAR(20)   NOT NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP     NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_email_outbox_status CHECK (status IN ('PENDING', 'FAILED'))
+);
+
+CREATE INDEX idx_email_outbox_due ON common.email_outbox (status, next_attempt_at);
+
+COMMENT ON TABLE common.email_outbox IS 'Outgoing emails waiting for delivery (transactional outbox)';
+COMMENT ON COLUMN common.email_outbox.next_attempt_at IS 'Earliest time of the next delivery attempt; also used as a short lease while a dispatcher sends the row';
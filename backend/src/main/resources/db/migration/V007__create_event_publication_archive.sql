@@ -0,0 +1,23 @@
+-- ============================================================================
+-- EVENT_PUBLICATION_ARCHIVE TABLE
+-- Completed event publications moved out of EVENT_PUBLICATION by the retention job,
+-- so that the live table only holds recent and incomplete publications.
+-- Same layout as EVENT_PUBLICATION (and as Spring Modulith's ARCHIVE completion mode).
+-- Archived rows are deleted after the configured archive retention period.
+-- ============================================================================
+
+CREATE TABLE event_publication_archive
+(
+    id                     UUID          NOT NULL PRIMARY KEY,
+    completion_date        TIMESTAMP WITH TIME ZONE,
+    event_type             VARCHAR(512)  NOT NULL,
+    listener_id            VARCHAR(512)  NOT NULL,
+    publication_date       TIMESTAMP WITH TIME ZONE NOT NULL,
+    serialized_event       VARCHAR(4000) NOT NULL,
+    status                 VARCHAR(20),
+    completion_attempts    INT,
+    last_resubmission_date TIMESTAMP WITH TIME ZONE
+);
+
+-- Used by the archive retention purge
+CREATE INDEX idx_event_publication_archive_completion_date ON event_publication_archive (completion_date);
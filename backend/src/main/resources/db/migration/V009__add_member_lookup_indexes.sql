@@ -0,0 +1,13 @@
+-- ============================================================================
+-- MEMBER LOOKUP INDEXES
+-- Supporting indexes for queries that look events up by member rather than by event.
+-- Found missing by the query plan regression tests (./gradlew queryPlanTest).
+-- ============================================================================
+
+-- "My events" filter and the member schedule (iCal feed, calendar) look registrations up by member.
+-- uk_event_registrations_event_member leads with event_id and cannot serve these lookups;
+-- event_id is included so the EXISTS checks are answered from the index alone.
+CREATE INDEX idx_event_registrations_member_id ON events.event_registrations (member_id, event_id);
+
+-- Events filtered by coordinator (event list filter, member schedule)
+CREATE INDEX idx_events_event_coordinator_id ON events.events (event_coordinator_id);
@@ -0,0 +1,23 @@
+-- ============================================================================
+-- CACHE_INVALIDATION TABLE
+-- Evictions of node-local caches, written by the evicting node and replayed by
+-- all other nodes (see com.klabis.common.cache). On PostgreSQL every insert is
+-- followed by NOTIFY klabis_cache_invalidation so other nodes react at commit;
+-- elsewhere they poll. Rows are only needed for a short look-back window and
+-- are purged after the configured retention.
+-- ============================================================================
+
+CREATE TABLE common.cache_invalidation
+(
+    id         UUID         NOT NULL PRIMARY KEY,
+    origin     UUID         NOT NULL,
+    cache_name VARCHAR(200) NOT NULL,
+    cache_key  VARCHAR(500),
+    created_at TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidation_created_at ON common.cache_invalidation (created_at);
+
+COMMENT ON TABLE common.cache_invalidation IS 'Cache evictions broadcast between application nodes';
+COMMENT ON COLUMN common.cache_invalidation.origin IS 'Node that evicted the entry; it does not replay its own rows';
+COMMENT ON COLUMN common.cache_invalidation.cache_key IS 'Type-prefixed key (s:, u:, l:, i:); NULL clears the whole cache';
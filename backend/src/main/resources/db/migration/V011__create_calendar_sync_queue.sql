@@ -0,0 +1,25 @@
+-- ============================================================================
+-- CALENDAR_SYNC_QUEUE TABLE
+-- Pending synchronisation of calendar items with events. Event listeners only
+-- upsert one row per event, so a burst of updates of the same event collapses
+-- into a single row; a background job reconciles due rows in batches and
+-- deletes them unless the event was changed again in the meantime.
+-- ============================================================================
+
+CREATE TABLE calendar.calendar_sync_queue
+(
+    event_id           UUID        NOT NULL PRIMARY KEY,
+    action             VARCHAR(20) NOT NULL,
+    first_requested_at TIMESTAMP   NOT NULL,
+    last_requested_at  TIMESTAMP   NOT NULL,
+    claimed_until      TIMESTAMP,
+
+    CONSTRAINT chk_calendar_sync_queue_action CHECK (action IN ('RECONCILE', 'REMOVE'))
+);
+
+CREATE INDEX idx_calendar_sync_queue_first_requested_at ON calendar.calendar_sync_queue (first_requested_at);
+
+COMMENT ON TABLE calendar.calendar_sync_queue IS 'Events whose calendar items wait for synchronisation, one row per event';
+COMMENT ON COLUMN calendar.calendar_sync_queue.action IS 'Latest requested action: RECONCILE (published/updated) or REMOVE (cancelled)';
+COMMENT ON COLUMN calendar.calendar_sync_queue.last_requested_at IS 'Time of the latest change; the row is due once the event has been quiet for the configured period';
+COMMENT ON COLUMN calendar.calendar_sync_queue.claimed_until IS 'Short lease while a node synchronises the event';
@@ -0,0 +1,38 @@
+-- ============================================================================
+-- MEMBER_SCHEDULE TABLE
+-- Read model of the personal schedule: one row per member and event the member
+-- is registered for or coordinates, holding everything the schedule and iCal
+-- feed render. Maintained from event domain events; a member's schedule window
+-- is a single range scan of the primary key.
+-- ============================================================================
+
+CREATE TABLE events.member_schedule
+(
+    member_id   UUID         NOT NULL REFERENCES members.members (id) ON DELETE CASCADE,
+    event_date  DATE         NOT NULL,
+    event_id    UUID         NOT NULL REFERENCES events.events (id) ON DELETE CASCADE,
+    name        VARCHAR(200) NOT NULL,
+    location    VARCHAR(200) NULL,
+    organizer   VARCHAR(10)  NOT NULL,
+    website_url VARCHAR(500) NULL,
+    status      VARCHAR(20)  NOT NULL,
+    coordinator BOOLEAN      NOT NULL,
+
+    CONSTRAINT pk_member_schedule PRIMARY KEY (member_id, event_date, event_id)
+);
+
+CREATE INDEX idx_member_schedule_event_id ON events.member_schedule (event_id);
+
+COMMENT ON TABLE events.member_schedule IS 'Personal schedule read model: events a member is registered for or coordinates';
+COMMENT ON COLUMN events.member_schedule.event_date IS 'Copy of events.event_date, part of the key so a date window is a range scan';
+COMMENT ON COLUMN events.member_schedule.coordinator IS 'True when the member is the event coordinator (whether registered or not)';
+
+INSERT INTO events.member_schedule (member_id, event_date, event_id, name, location, organizer, website_url,
+                                    status, coordinator)
+SELECT m.member_id, e.event_date, e.id, e.name, e.location, e.organizer, e.website_url, e.status,
+       (e.event_coordinator_id IS NOT NULL AND e.event_coordinator_id = m.member_id)
+FROM events.events e
+         JOIN (SELECT event_id, member_id FROM events.event_registrations
+               UNION
+               SELECT id, event_coordinator_id FROM events.events WHERE event_coordinator_id IS NOT NULL) m
+              ON m.event_id = e.id;
@@ -12,6 +12,7 @@ import com.klabis.events.domain.Event;
 import com.klabis.events.domain.EventStatus;
 import com.klabis.events.domain.Events;
 import com.klabis.events.domain.RegistrationDeadlines;
+import com.klabis.groups.application.GroupMembersQuery;
 import com.klabis.members.infrastructure.restapi.MemberIdMixin;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,6 +28,8 @@ import org.springframework.test.context.jdbc.SqlConfig;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,6 +73,9 @@ class CalendarEventSyncIntegrationTest {
     @MockitoBean
     private Events events;
 
+    @MockitoBean
+    private GroupMembersQuery groupMembersQuery;
+
     @Test
     @DisplayName("should create calendar item when EventPublishedEvent arrives")
     @Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, statements = "delete from calendar.calendar_items")
@@ -77,14 +83,14 @@ class CalendarEventSyncIntegrationTest {
         // Given: Event data
         final EventId eventId = EVENT_ID;
 
-        when(eventDataProviderMock.getEventData(eventId)).thenReturn(new EventData(
+        when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, new EventData(
                 "Spring Boot Workshop",
                 LocalDate.of(2024, 3, 15),
                 "Prague CC",
                 "OOB",
                 "https://example.com/workshop",
                 null
-        ));
+        )));
 
         // When & Then: CalendarItem should be created automatically
         scenario.publish(EventPublishedEvent.fromAggregate(Event.reconstruct(eventId, "Spring Boot Workshop", LocalDate.of(2024, 3, 15), "Prague CC", "OOB", WebsiteUrl.of("https://example.com/workshop"), null, null, null, EventStatus.ACTIVE, null, null, List.of(), null, null, List.of(), null)))
@@ -112,14 +118,14 @@ class CalendarEventSyncIntegrationTest {
         final EventId eventId = EVENT_ID;
 
         // When: Event is updated
-        when(eventDataProviderMock.getEventData(eventId)).thenReturn(new EventData(
+        when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, new EventData(
                 "Updated Workshop",
                 LocalDate.of(2024, 5, 21),
                 "New Loc",
                 "NewOrg",
                 "https://new-url.com",
                 null
-        ));
+        )));
         scenario.publish(new EventUpdatedEvent(
                         java.util.UUID.randomUUID(),
                         eventId,
@@ -177,14 +183,14 @@ class CalendarEventSyncIntegrationTest {
         void publishWithoutDeadlineCreatesOneEventDateItem(Scenario scenario) {
             final EventId eventId = EVENT_ID;
 
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(new EventData(
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, new EventData(
                     "Jarní sprint",
                     EVENT_DATE,
                     "Les Brdy",
                     "OOB",
                     null,
                     null
-            ));
+            )));
 
             scenario.publish(EventPublishedEvent.fromAggregate(Event.reconstruct(
                             eventId, "Jarní sprint", EVENT_DATE, "Les Brdy", "OOB",
@@ -203,14 +209,14 @@ class CalendarEventSyncIntegrationTest {
         void publishWithDeadlineCreatesTwoItems(Scenario scenario) {
             final EventId eventId = EVENT_ID;
 
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(new EventData(
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, new EventData(
                     "Jarní sprint",
                     EVENT_DATE,
                     "Les Brdy",
                     "OOB",
                     null,
                     DEADLINE_DATE
-            ));
+            )));
 
             scenario.publish(EventPublishedEvent.fromAggregate(Event.reconstruct(
                             eventId, "Jarní sprint", EVENT_DATE, "Les Brdy", "OOB",
@@ -234,14 +240,14 @@ class CalendarEventSyncIntegrationTest {
         void updateToAddDeadlineCreatesTwoItems(Scenario scenario) {
             final EventId eventId = EVENT_ID;
 
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(new EventData(
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, new EventData(
                     "Jarní sprint",
                     EVENT_DATE,
                     "Les Brdy",
                     "OOB",
                     null,
                     DEADLINE_DATE
-            ));
+            )));
 
             scenario.publish(new EventUpdatedEvent(
                             UUID.randomUUID(), eventId, "Jarní sprint", EVENT_DATE,
@@ -280,14 +286,14 @@ class CalendarEventSyncIntegrationTest {
 
             assertThat(calendarRepository.findByEventId(eventId)).hasSize(2);
 
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(new EventData(
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, new EventData(
                     "Jarní sprint",
                     EVENT_DATE,
                     "Les Brdy",
                     "OOB",
                     null,
                     null
-            ));
+            )));
 
             scenario.publish(new EventUpdatedEvent(
                             UUID.randomUUID(), eventId, "Jarní sprint", EVENT_DATE,
@@ -314,14 +320,14 @@ class CalendarEventSyncIntegrationTest {
             final EventId eventId = EVENT_ID;
             final String newName = "Jarní sprint 2025";
 
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(new EventData(
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, new EventData(
                     newName,
                     EVENT_DATE,
                     "Les Brdy",
                     "OOB",
                     null,
                     DEADLINE_DATE
-            ));
+            )));
 
             scenario.publish(new EventUpdatedEvent(
                             UUID.randomUUID(), eventId, newName, EVENT_DATE,
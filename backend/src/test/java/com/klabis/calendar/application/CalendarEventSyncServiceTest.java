@@ -2,6 +2,7 @@ package com.klabis.calendar.application;
 
 import com.klabis.calendar.CalendarItemId;
 import com.klabis.calendar.CalendarItemKind;
+import com.klabis.calendar.application.CalendarSyncRequest.Action;
 import com.klabis.calendar.domain.CalendarItem;
 import com.klabis.calendar.domain.CalendarRepository;
 import com.klabis.calendar.domain.EventCalendarItem;
@@ -16,13 +17,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @DisplayName("CalendarEventSyncService Unit Tests")
@@ -35,14 +45,44 @@ class CalendarEventSyncServiceTest {
     @Mock
     private EventDataProvider eventDataProviderMock;
 
+    @Mock
+    private CalendarSyncQueue syncQueueMock;
+
     private CalendarEventSyncService testedSubject;
 
     private static final LocalDate EVENT_DATE = LocalDate.of(2024, 6, 15);
     private static final LocalDate DEADLINE_DATE = LocalDate.of(2024, 6, 1);
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
 
     @BeforeEach
     void setUp() {
-        testedSubject = new CalendarEventSyncService(calendarRepositoryMock, eventDataProviderMock);
+        testedSubject = new CalendarEventSyncService(calendarRepositoryMock, eventDataProviderMock, syncQueueMock,
+                new CalendarSyncProperties(), TransactionOperations.withoutTransaction(),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private void synchronize(EventId eventId) {
+        testedSubject.synchronize(List.of(new CalendarSyncRequest(eventId, Action.RECONCILE, NOW)));
+    }
+
+    private void remove(EventId eventId) {
+        testedSubject.synchronize(List.of(new CalendarSyncRequest(eventId, Action.REMOVE, NOW)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CalendarItem> verifySaved(int count) {
+        ArgumentCaptor<Collection<CalendarItem>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(calendarRepositoryMock).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(count);
+        return List.copyOf(captor.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CalendarItem> verifyDeleted(int count) {
+        ArgumentCaptor<Collection<CalendarItem>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(calendarRepositoryMock).deleteAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(count);
+        return List.copyOf(captor.getValue());
     }
 
     private EventId newEventId() {
@@ -81,10 +121,99 @@ class CalendarEventSyncServiceTest {
                 null);
     }
 
-    // ===== handleEventPublished() Tests =====
+    // ===== Coalescing of event notifications =====
+
+    @Nested
+    @DisplayName("event notifications")
+    class EventNotificationTests {
+
+        @Test
+        @DisplayName("should only queue reconciliation of published and updated events")
+        void shouldQueueReconciliation() {
+            EventId eventId = newEventId();
+
+            testedSubject.handleEventPublished(eventId);
+            testedSubject.handleEventUpdated(eventId);
+
+            verify(syncQueueMock, times(2)).request(eventId, Action.RECONCILE, NOW);
+            verifyNoInteractions(calendarRepositoryMock, eventDataProviderMock);
+        }
+
+        @Test
+        @DisplayName("should queue removal of cancelled events")
+        void shouldQueueRemoval() {
+            EventId eventId = newEventId();
+
+            testedSubject.handleEventCancelled(eventId);
+
+            verify(syncQueueMock).request(eventId, Action.REMOVE, NOW);
+            verifyNoInteractions(calendarRepositoryMock, eventDataProviderMock);
+        }
+    }
+
+    // ===== synchronizePending() Tests =====
+
+    @Nested
+    @DisplayName("synchronizePending")
+    class SynchronizePendingTests {
+
+        @Test
+        @DisplayName("should claim events that have been quiet for the quiet period")
+        void shouldClaimQuietEvents() {
+            CalendarSyncProperties defaults = new CalendarSyncProperties();
+            when(syncQueueMock.claimDue(any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+            int count = testedSubject.synchronizePending();
+
+            assertThat(count).isZero();
+            verify(syncQueueMock).claimDue(NOW.minus(defaults.getQuietPeriod()), NOW.minus(defaults.getMaxDelay()),
+                    NOW, NOW.plus(defaults.getLease()), defaults.getBatchSize());
+            verifyNoInteractions(calendarRepositoryMock, eventDataProviderMock);
+        }
+
+        @Test
+        @DisplayName("should load data of the whole batch at once and complete the claimed requests")
+        void shouldSynchronizeBatchWithBulkOperations() {
+            EventId published = newEventId();
+            EventId cancelled = newEventId();
+            List<CalendarSyncRequest> batch = List.of(
+                    new CalendarSyncRequest(published, Action.RECONCILE, NOW.minus(Duration.ofSeconds(5))),
+                    new CalendarSyncRequest(cancelled, Action.REMOVE, NOW.minus(Duration.ofSeconds(5))));
+            when(syncQueueMock.claimDue(any(), any(), any(), any(), anyInt())).thenReturn(batch);
+            when(eventDataProviderMock.getEventData(Set.of(published)))
+                    .thenReturn(Map.of(published, eventDataWithDeadline("Published")));
+            when(calendarRepositoryMock.findByEventIds(Set.of(published, cancelled)))
+                    .thenReturn(List.of(existingEventDateItem(cancelled), existingDeadlineItem(cancelled)));
+
+            int count = testedSubject.synchronizePending();
+
+            assertThat(count).isEqualTo(2);
+            assertThat(verifySaved(2)).allSatisfy(item ->
+                    assertThat(((EventCalendarItem) item).getEventId()).isEqualTo(published));
+            assertThat(verifyDeleted(2)).allSatisfy(item ->
+                    assertThat(((EventCalendarItem) item).getEventId()).isEqualTo(cancelled));
+            verify(syncQueueMock).complete(batch);
+        }
+
+        @Test
+        @DisplayName("should remove calendar items of events that no longer exist")
+        void shouldRemoveItemsOfMissingEvents() {
+            EventId eventId = newEventId();
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of());
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId)))
+                    .thenReturn(List.of(existingEventDateItem(eventId)));
+
+            synchronize(eventId);
+
+            verifyDeleted(1);
+            verify(calendarRepositoryMock, never()).saveAll(any());
+        }
+    }
+
+    // ===== Reconciliation of a published event =====
 
     @Nested
-    @DisplayName("handleEventPublished")
+    @DisplayName("synchronize published event")
     class HandleEventPublishedTests {
 
         @Test
@@ -93,15 +222,14 @@ class CalendarEventSyncServiceTest {
             EventId eventId = newEventId();
             EventData event = eventDataWithoutDeadline("Spring Boot Workshop");
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of());
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(event);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of());
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, event));
 
-            testedSubject.handleEventPublished(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(1);
 
-            EventCalendarItem saved = (EventCalendarItem) captor.getValue();
+            EventCalendarItem saved = (EventCalendarItem) items.getFirst();
             assertThat(saved.getKind()).isEqualTo(CalendarItemKind.EVENT_DATE);
             assertThat(saved.getName()).isEqualTo("Spring Boot Workshop");
             assertThat(saved.getStartDate()).isEqualTo(EVENT_DATE);
@@ -115,15 +243,14 @@ class CalendarEventSyncServiceTest {
             EventId eventId = newEventId();
             EventData event = eventDataWithDeadline("Spring Boot Workshop");
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of());
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(event);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of());
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, event));
 
-            testedSubject.handleEventPublished(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(2)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(2);
 
-            List<EventCalendarItem> saved = captor.getAllValues().stream()
+            List<EventCalendarItem> saved = items.stream()
                     .map(EventCalendarItem.class::cast)
                     .toList();
 
@@ -152,16 +279,15 @@ class CalendarEventSyncServiceTest {
             EventData eventData = new EventData("Java Meetup", LocalDate.of(2024, 4, 20),
                     "Brno Tech Hub", "OOB", null, null);
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of());
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(eventData);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of());
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, eventData));
 
-            testedSubject.handleEventPublished(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(1);
 
-            assertThat(captor.getValue().getDescription()).isEqualTo("Brno Tech Hub - OOB");
-            assertThat(captor.getValue().getDescription()).doesNotContain("\n");
+            assertThat(items.getFirst().getDescription()).isEqualTo("Brno Tech Hub - OOB");
+            assertThat(items.getFirst().getDescription()).doesNotContain("\n");
         }
 
         @Test
@@ -171,16 +297,15 @@ class CalendarEventSyncServiceTest {
             EventData eventData = new EventData("ORIS Event", LocalDate.of(2024, 5, 10),
                     null, "OOB", null, null);
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of());
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(eventData);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of());
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, eventData));
 
-            testedSubject.handleEventPublished(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(1);
 
-            assertThat(captor.getValue().getDescription()).isEqualTo("OOB");
-            assertThat(captor.getValue().getDescription()).doesNotContain(" - ");
+            assertThat(items.getFirst().getDescription()).isEqualTo("OOB");
+            assertThat(items.getFirst().getDescription()).doesNotContain(" - ");
         }
 
         @Test
@@ -190,22 +315,21 @@ class CalendarEventSyncServiceTest {
             EventData eventData = new EventData("Minimal Event", LocalDate.of(2024, 6, 1),
                     null, null, null, null);
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of());
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(eventData);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of());
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, eventData));
 
-            testedSubject.handleEventPublished(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(1);
 
-            assertThat(captor.getValue().getDescription()).isNull();
+            assertThat(items.getFirst().getDescription()).isNull();
         }
     }
 
-    // ===== handleEventUpdated() Tests =====
+    // ===== Reconciliation of an updated event =====
 
     @Nested
-    @DisplayName("handleEventUpdated")
+    @DisplayName("synchronize updated event")
     class HandleEventUpdatedTests {
 
         @Test
@@ -223,15 +347,14 @@ class CalendarEventSyncServiceTest {
                     LocalDate.of(2024, 3, 15), "New Prague Center", "OOB",
                     "https://example.com/updated", null);
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of(existingItem));
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(eventData);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of(existingItem));
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, eventData));
 
-            testedSubject.handleEventUpdated(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(1);
 
-            CalendarItem updated = captor.getValue();
+            CalendarItem updated = items.getFirst();
             assertThat(updated.getId()).isEqualTo(calendarItemId);
             assertThat(updated.getName()).isEqualTo("Updated Spring Boot Workshop");
             assertThat(updated.getDescription()).isEqualTo("New Prague Center - OOB\nhttps://example.com/updated");
@@ -248,17 +371,16 @@ class CalendarEventSyncServiceTest {
 
             EventData eventWithoutDeadline = eventDataWithoutDeadline("Spring Boot Workshop");
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of(eventDateItem, deadlineItem));
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(eventWithoutDeadline);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of(eventDateItem, deadlineItem));
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, eventWithoutDeadline));
 
-            testedSubject.handleEventUpdated(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> deletedCaptor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).delete(deletedCaptor.capture());
-            assertThat(((EventCalendarItem) deletedCaptor.getValue()).getKind())
+            List<CalendarItem> deletedItems = verifyDeleted(1);
+            assertThat(((EventCalendarItem) deletedItems.getFirst()).getKind())
                     .isEqualTo(CalendarItemKind.EVENT_REGISTRATION_DATE);
 
-            verify(calendarRepositoryMock, times(1)).save(any());
+            verifySaved(1);
         }
 
         @Test
@@ -269,16 +391,15 @@ class CalendarEventSyncServiceTest {
 
             EventData eventWithDeadline = eventDataWithDeadline("Spring Boot Workshop");
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of(eventDateItem));
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(eventWithDeadline);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of(eventDateItem));
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, eventWithDeadline));
 
-            testedSubject.handleEventUpdated(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(2)).save(captor.capture());
-            verify(calendarRepositoryMock, never()).delete(any());
+            List<CalendarItem> items = verifySaved(2);
+            verify(calendarRepositoryMock, never()).deleteAll(any());
 
-            List<CalendarItemKind> savedKinds = captor.getAllValues().stream()
+            List<CalendarItemKind> savedKinds = items.stream()
                     .map(EventCalendarItem.class::cast)
                     .map(EventCalendarItem::getKind)
                     .toList();
@@ -295,16 +416,15 @@ class CalendarEventSyncServiceTest {
 
             EventData renamedEvent = eventDataWithDeadline("Renamed Event");
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of(eventDateItem, deadlineItem));
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(renamedEvent);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of(eventDateItem, deadlineItem));
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, renamedEvent));
 
-            testedSubject.handleEventUpdated(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(2)).save(captor.capture());
-            verify(calendarRepositoryMock, never()).delete(any());
+            List<CalendarItem> items = verifySaved(2);
+            verify(calendarRepositoryMock, never()).deleteAll(any());
 
-            List<EventCalendarItem> saved = captor.getAllValues().stream()
+            List<EventCalendarItem> saved = items.stream()
                     .map(EventCalendarItem.class::cast).toList();
 
             EventCalendarItem updatedDateItem = saved.stream()
@@ -322,15 +442,14 @@ class CalendarEventSyncServiceTest {
             EventId eventId = newEventId();
             EventData event = eventDataWithoutDeadline("Spring Boot Workshop");
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of());
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(event);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of());
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, event));
 
-            testedSubject.handleEventUpdated(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(1);
 
-            EventCalendarItem created = (EventCalendarItem) captor.getValue();
+            EventCalendarItem created = (EventCalendarItem) items.getFirst();
             assertThat(created.getKind()).isEqualTo(CalendarItemKind.EVENT_DATE);
             assertThat(created.getName()).isEqualTo("Spring Boot Workshop");
             assertThat(created.getEventId()).isEqualTo(eventId);
@@ -350,16 +469,15 @@ class CalendarEventSyncServiceTest {
             EventData eventData = new EventData("Updated Java Meetup", LocalDate.of(2024, 4, 20),
                     "Brno Tech Hub", "OOB", null, null);
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of(existingItem));
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(eventData);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of(existingItem));
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, eventData));
 
-            testedSubject.handleEventUpdated(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(1);
 
-            assertThat(captor.getValue().getDescription()).isEqualTo("Brno Tech Hub - OOB");
-            assertThat(captor.getValue().getDescription()).doesNotContain("\n");
+            assertThat(items.getFirst().getDescription()).isEqualTo("Brno Tech Hub - OOB");
+            assertThat(items.getFirst().getDescription()).doesNotContain("\n");
         }
 
         @Test
@@ -376,23 +494,22 @@ class CalendarEventSyncServiceTest {
             EventData eventData = new EventData("Updated Event No Location", LocalDate.of(2024, 5, 10),
                     null, "OOB", null, null);
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of(existingItem));
-            when(eventDataProviderMock.getEventData(eventId)).thenReturn(eventData);
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of(existingItem));
+            when(eventDataProviderMock.getEventData(Set.of(eventId))).thenReturn(Map.of(eventId, eventData));
 
-            testedSubject.handleEventUpdated(eventId);
+            synchronize(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).save(captor.capture());
+            List<CalendarItem> items = verifySaved(1);
 
-            assertThat(captor.getValue().getDescription()).isEqualTo("OOB");
-            assertThat(captor.getValue().getDescription()).doesNotContain(" - ");
+            assertThat(items.getFirst().getDescription()).isEqualTo("OOB");
+            assertThat(items.getFirst().getDescription()).doesNotContain(" - ");
         }
     }
 
-    // ===== handleEventCancelled() Tests =====
+    // ===== Removal for a cancelled event =====
 
     @Nested
-    @DisplayName("handleEventCancelled")
+    @DisplayName("synchronize cancelled event")
     class HandleEventCancelledTests {
 
         @Test
@@ -402,14 +519,13 @@ class CalendarEventSyncServiceTest {
             EventCalendarItem eventDateItem = existingEventDateItem(eventId);
             EventCalendarItem deadlineItem = existingDeadlineItem(eventId);
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of(eventDateItem, deadlineItem));
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of(eventDateItem, deadlineItem));
 
-            testedSubject.handleEventCancelled(eventId);
+            remove(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(2)).delete(captor.capture());
+            List<CalendarItem> items = verifyDeleted(2);
 
-            List<CalendarItemKind> deletedKinds = captor.getAllValues().stream()
+            List<CalendarItemKind> deletedKinds = items.stream()
                     .map(EventCalendarItem.class::cast)
                     .map(EventCalendarItem::getKind)
                     .toList();
@@ -428,14 +544,13 @@ class CalendarEventSyncServiceTest {
                     LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 15),
                     eventId, CalendarItemKind.EVENT_DATE, null);
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of(existingItem));
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of(existingItem));
 
-            testedSubject.handleEventCancelled(eventId);
+            remove(eventId);
 
-            ArgumentCaptor<CalendarItem> captor = ArgumentCaptor.forClass(CalendarItem.class);
-            verify(calendarRepositoryMock, times(1)).delete(captor.capture());
+            List<CalendarItem> items = verifyDeleted(1);
 
-            assertThat(captor.getValue().getId()).isEqualTo(calendarItemId);
+            assertThat(items.getFirst().getId()).isEqualTo(calendarItemId);
         }
 
         @Test
@@ -443,11 +558,11 @@ class CalendarEventSyncServiceTest {
         void shouldDoNothingWhenNoItemsExist() {
             EventId eventId = newEventId();
 
-            when(calendarRepositoryMock.findByEventId(eventId)).thenReturn(List.of());
+            when(calendarRepositoryMock.findByEventIds(Set.of(eventId))).thenReturn(List.of());
 
-            testedSubject.handleEventCancelled(eventId);
+            remove(eventId);
 
-            verify(calendarRepositoryMock, never()).delete(any());
+            verify(calendarRepositoryMock, never()).deleteAll(any());
         }
     }
 }
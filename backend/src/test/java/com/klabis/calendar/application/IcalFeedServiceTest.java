@@ -1,10 +1,15 @@
 package com.klabis.calendar.application;
 
+import com.klabis.calendar.CalendarItemKind;
+import com.klabis.calendar.CalendarItemTestDataBuilder;
+import com.klabis.calendar.domain.CalendarFilter;
+import com.klabis.calendar.domain.CalendarItem;
+import com.klabis.calendar.domain.CalendarRepository;
 import com.klabis.events.EventId;
 import com.klabis.events.application.EventScheduleQuery;
-import com.klabis.events.domain.Event;
+import com.klabis.events.application.EventScheduleQuery.MemberScheduleEntry;
 import com.klabis.events.domain.EventStatus;
-import com.klabis.events.domain.Events;
+import com.klabis.groups.application.GroupMembersQuery;
 import com.klabis.members.MemberId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,11 +18,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -36,42 +41,31 @@ class IcalFeedServiceTest {
     private EventScheduleQuery eventScheduleQuery;
 
     @Mock
-    private Events events;
+    private CalendarRepository calendarRepository;
+
+    @Mock
+    private GroupMembersQuery groupMembersQuery;
 
     private IcalWindowProperties windowProperties;
     private IcalFeedService service;
 
     private static final LocalDate NOW = LocalDate.of(2026, 5, 21);
     private static final MemberId MEMBER_ID = new MemberId(UUID.randomUUID());
+    private static final UUID GROUP_ID = UUID.randomUUID();
+    private static final CalendarFilter WINDOW =
+            CalendarFilter.dateRange(NOW.minus(Period.ofDays(30)), NOW.plus(Period.ofMonths(12)));
 
     @BeforeEach
     void setUp() {
         windowProperties = new IcalWindowProperties();
         windowProperties.setPast(Period.ofDays(30));
         windowProperties.setFuture(Period.ofMonths(12));
-        service = new IcalFeedService(eventScheduleQuery, events, windowProperties);
+        service = new IcalFeedService(eventScheduleQuery, calendarRepository, groupMembersQuery, windowProperties);
     }
 
-    private Event eventWithCoordinator(EventId id, MemberId coordinatorId) {
-        return Event.reconstruct(
-                id,
-                "Test Event",
-                NOW.plusDays(10),
-                "Praha",
-                "ORG",
-                null,
-                coordinatorId,
-                null,
-                null,
-                EventStatus.ACTIVE,
-                null,
-                null,
-                List.of(),
-                null,
-                null,
-                List.of(),
-                null
-        );
+    private MemberScheduleEntry scheduleEntry(EventId id, boolean coordinator) {
+        return new MemberScheduleEntry(id, "Test Event", NOW.plusDays(10), "Praha", "ORG",
+                "https://event.example.com", EventStatus.ACTIVE, coordinator);
     }
 
     @Nested
@@ -81,103 +75,80 @@ class IcalFeedServiceTest {
         @Test
         @DisplayName("should return empty list when member has no registrations or coordinator roles")
         void shouldReturnEmptyListWhenMemberHasNoInvolvement() {
-            when(eventScheduleQuery.findEventIdsForMemberSchedule(eq(MEMBER_ID), any(), any()))
-                    .thenReturn(Set.of());
+            when(eventScheduleQuery.findMemberSchedule(eq(MEMBER_ID), any(), any()))
+                    .thenReturn(List.of());
 
             List<IcalFeedPort.EventScheduleEntry> result = service.getMySchedule(MEMBER_ID, NOW);
 
             assertThat(result).isEmpty();
-            verifyNoInteractions(events);
         }
 
         @Test
         @DisplayName("should return entries as participant when member is registered but not coordinator")
         void shouldReturnParticipantEntriesWhenRegistered() {
             EventId eventId = EventId.generate();
-            Event event = eventWithCoordinator(eventId, new MemberId(UUID.randomUUID()));
 
-            when(eventScheduleQuery.findEventIdsForMemberSchedule(eq(MEMBER_ID), any(), any()))
-                    .thenReturn(Set.of(eventId));
-            when(events.findById(eventId)).thenReturn(Optional.of(event));
+            when(eventScheduleQuery.findMemberSchedule(eq(MEMBER_ID), any(), any()))
+                    .thenReturn(List.of(scheduleEntry(eventId, false)));
 
             List<IcalFeedPort.EventScheduleEntry> result = service.getMySchedule(MEMBER_ID, NOW);
 
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).event()).isSameAs(event);
-            assertThat(result.get(0).isCoordinator()).isFalse();
+            assertThat(result).singleElement().satisfies(entry -> {
+                assertThat(entry.eventId()).isEqualTo(eventId);
+                assertThat(entry.isCoordinator()).isFalse();
+            });
         }
 
         @Test
         @DisplayName("should return entry as coordinator when member is the event coordinator")
         void shouldReturnCoordinatorEntryWhenMemberIsCoordinator() {
             EventId eventId = EventId.generate();
-            Event event = eventWithCoordinator(eventId, MEMBER_ID);
 
-            when(eventScheduleQuery.findEventIdsForMemberSchedule(eq(MEMBER_ID), any(), any()))
-                    .thenReturn(Set.of(eventId));
-            when(events.findById(eventId)).thenReturn(Optional.of(event));
+            when(eventScheduleQuery.findMemberSchedule(eq(MEMBER_ID), any(), any()))
+                    .thenReturn(List.of(scheduleEntry(eventId, true)));
 
             List<IcalFeedPort.EventScheduleEntry> result = service.getMySchedule(MEMBER_ID, NOW);
 
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).event()).isSameAs(event);
-            assertThat(result.get(0).isCoordinator()).isTrue();
+            assertThat(result).singleElement()
+                    .extracting(IcalFeedPort.EventScheduleEntry::isCoordinator).isEqualTo(true);
         }
 
         @Test
-        @DisplayName("should return both registration and coordinator entries without duplication")
-        void shouldHandleBothRolesWithoutDuplication() {
-            EventId participantEventId = EventId.generate();
-            EventId coordinatorEventId = EventId.generate();
-
-            Event participantEvent = eventWithCoordinator(participantEventId, new MemberId(UUID.randomUUID()));
-            Event coordinatorEvent = eventWithCoordinator(coordinatorEventId, MEMBER_ID);
+        @DisplayName("should carry over all event data needed by the feed")
+        void shouldCarryOverEventData() {
+            EventId eventId = EventId.generate();
 
-            when(eventScheduleQuery.findEventIdsForMemberSchedule(eq(MEMBER_ID), any(), any()))
-                    .thenReturn(Set.of(participantEventId, coordinatorEventId));
-            when(events.findById(participantEventId)).thenReturn(Optional.of(participantEvent));
-            when(events.findById(coordinatorEventId)).thenReturn(Optional.of(coordinatorEvent));
+            when(eventScheduleQuery.findMemberSchedule(eq(MEMBER_ID), any(), any()))
+                    .thenReturn(List.of(scheduleEntry(eventId, false)));
 
             List<IcalFeedPort.EventScheduleEntry> result = service.getMySchedule(MEMBER_ID, NOW);
 
-            assertThat(result).hasSize(2);
-            assertThat(result).anySatisfy(e -> {
-                assertThat(e.event()).isSameAs(participantEvent);
-                assertThat(e.isCoordinator()).isFalse();
-            });
-            assertThat(result).anySatisfy(e -> {
-                assertThat(e.event()).isSameAs(coordinatorEvent);
-                assertThat(e.isCoordinator()).isTrue();
-            });
+            assertThat(result).containsExactly(new IcalFeedPort.EventScheduleEntry(eventId, "Test Event",
+                    NOW.plusDays(10), "Praha", "ORG", "https://event.example.com", EventStatus.ACTIVE, false));
         }
 
         @Test
-        @DisplayName("should skip events not found in Events repository")
-        void shouldSkipEventsNotFoundInRepository() {
-            EventId existingId = EventId.generate();
-            EventId missingId = EventId.generate();
-
-            Event existingEvent = eventWithCoordinator(existingId, new MemberId(UUID.randomUUID()));
+        @DisplayName("should keep the order of the schedule")
+        void shouldKeepScheduleOrder() {
+            EventId first = EventId.generate();
+            EventId second = EventId.generate();
 
-            when(eventScheduleQuery.findEventIdsForMemberSchedule(eq(MEMBER_ID), any(), any()))
-                    .thenReturn(Set.of(existingId, missingId));
-            when(events.findById(existingId)).thenReturn(Optional.of(existingEvent));
-            when(events.findById(missingId)).thenReturn(Optional.empty());
+            when(eventScheduleQuery.findMemberSchedule(eq(MEMBER_ID), any(), any()))
+                    .thenReturn(List.of(scheduleEntry(first, false), scheduleEntry(second, true)));
 
             List<IcalFeedPort.EventScheduleEntry> result = service.getMySchedule(MEMBER_ID, NOW);
 
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).event()).isSameAs(existingEvent);
+            assertThat(result).extracting(IcalFeedPort.EventScheduleEntry::eventId).containsExactly(first, second);
         }
 
         @Test
         @DisplayName("should use configured window past/future offsets from now")
         void shouldUseConfiguredWindowOffsets() {
-            when(eventScheduleQuery.findEventIdsForMemberSchedule(
+            when(eventScheduleQuery.findMemberSchedule(
                     eq(MEMBER_ID),
                     eq(NOW.minus(Period.ofDays(30))),
                     eq(NOW.plus(Period.ofMonths(12)))
-            )).thenReturn(Set.of());
+            )).thenReturn(List.of());
 
             service.getMySchedule(MEMBER_ID, NOW);
 
@@ -198,4 +169,82 @@ class IcalFeedServiceTest {
                     .isInstanceOf(IllegalArgumentException.class);
         }
     }
+
+    @Nested
+    @DisplayName("getClubCalendar()")
+    class GetClubCalendarTests {
+
+        @Test
+        @DisplayName("should return all calendar items within the window")
+        void shouldReturnAllItemsWithinWindow() {
+            CalendarItem item = CalendarItemTestDataBuilder.aCalendarItem().withStartDate(NOW).withEndDate(NOW)
+                    .buildManual();
+            when(calendarRepository.findByFilter(WINDOW, Sort.unsorted())).thenReturn(List.of(item));
+
+            assertThat(service.getClubCalendar(NOW)).containsExactly(item);
+        }
+    }
+
+    @Nested
+    @DisplayName("getGroupCalendar()")
+    class GetGroupCalendarTests {
+
+        @Test
+        @DisplayName("should return event date items of events attended by group members")
+        void shouldReturnEventDateItemsOfMembersEvents() {
+            EventId eventId = EventId.generate();
+            CalendarItem item = CalendarItemTestDataBuilder.aCalendarItem().withStartDate(NOW).withEndDate(NOW)
+                    .buildEventLinked(eventId.value());
+            when(groupMembersQuery.findMembersOf(GROUP_ID)).thenReturn(Set.of(MEMBER_ID));
+            when(eventScheduleQuery.findEventIdsForMembersSchedule(Set.of(MEMBER_ID), WINDOW.startDate(),
+                    WINDOW.endDate())).thenReturn(Set.of(eventId));
+            when(calendarRepository.findByFilter(
+                    WINDOW.withItemTypes(Set.of(CalendarItemKind.EVENT_DATE)).withEventIds(Set.of(eventId)),
+                    Sort.unsorted())).thenReturn(List.of(item));
+
+            assertThat(service.getGroupCalendar(GROUP_ID, NOW)).containsExactly(item);
+        }
+
+        @Test
+        @DisplayName("should return empty list without querying calendar when members attend no events")
+        void shouldReturnEmptyListWhenNoEvents() {
+            when(groupMembersQuery.findMembersOf(GROUP_ID)).thenReturn(Set.of(MEMBER_ID));
+            when(eventScheduleQuery.findEventIdsForMembersSchedule(any(), any(), any())).thenReturn(Set.of());
+
+            assertThat(service.getGroupCalendar(GROUP_ID, NOW)).isEmpty();
+            verifyNoInteractions(calendarRepository);
+        }
+
+        @Test
+        @DisplayName("should throw GroupFeedNotFoundException when the group has no owners or members")
+        void shouldRejectUnknownGroup() {
+            when(groupMembersQuery.findMembersOf(GROUP_ID)).thenReturn(Set.of());
+
+            assertThatThrownBy(() -> service.getGroupCalendar(GROUP_ID, NOW))
+                    .isInstanceOf(GroupFeedNotFoundException.class);
+            verifyNoInteractions(eventScheduleQuery, calendarRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("checkGroupFeedAccess()")
+    class CheckGroupFeedAccessTests {
+
+        @Test
+        @DisplayName("should allow a member of the group")
+        void shouldAllowGroupMember() {
+            when(groupMembersQuery.findMembersOf(GROUP_ID)).thenReturn(Set.of(MEMBER_ID));
+
+            service.checkGroupFeedAccess(GROUP_ID, MEMBER_ID);
+        }
+
+        @Test
+        @DisplayName("should throw GroupFeedNotFoundException for a member outside the group")
+        void shouldRejectNonMember() {
+            when(groupMembersQuery.findMembersOf(GROUP_ID)).thenReturn(Set.of(new MemberId(UUID.randomUUID())));
+
+            assertThatThrownBy(() -> service.checkGroupFeedAccess(GROUP_ID, MEMBER_ID))
+                    .isInstanceOf(GroupFeedNotFoundException.class);
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.klabis.calendar.infrastructure.ical;
 
+import com.klabis.calendar.CalendarItemId;
+import com.klabis.calendar.CalendarItemTestDataBuilder;
 import com.klabis.calendar.application.IcalFeedPort.EventScheduleEntry;
+import com.klabis.calendar.domain.CalendarItem;
 import com.klabis.events.EventId;
 import com.klabis.events.WebsiteUrl;
 import com.klabis.events.domain.Event;
@@ -59,6 +62,18 @@ class ICalendarRendererTest {
         );
     }
 
+    private static EventScheduleEntry entry(Event event, boolean isCoordinator) {
+        return new EventScheduleEntry(
+                event.getId(),
+                event.getName(),
+                event.getEventDate(),
+                event.getLocation(),
+                event.getOrganizer(),
+                event.getWebsiteUrl() != null ? event.getWebsiteUrl().value() : null,
+                event.getStatus(),
+                isCoordinator);
+    }
+
     @Nested
     @DisplayName("render()")
     class RenderTests {
@@ -83,7 +98,7 @@ class ICalendarRendererTest {
                     "Praha", "ORG", null, COORDINATOR_ID, EventStatus.ACTIVE);
 
             String result = renderer.render(
-                    List.of(new EventScheduleEntry(event, false)),
+                    List.of(entry(event, false)),
                     BASE_URL, DTSTAMP
             );
 
@@ -107,7 +122,7 @@ class ICalendarRendererTest {
                     "Brno", "MKO", null, COORDINATOR_ID, EventStatus.ACTIVE);
 
             String result = renderer.render(
-                    List.of(new EventScheduleEntry(event, true)),
+                    List.of(entry(event, true)),
                     BASE_URL, DTSTAMP
             );
 
@@ -122,7 +137,7 @@ class ICalendarRendererTest {
                     null, "ORG", null, null, EventStatus.CANCELLED);
 
             String result = renderer.render(
-                    List.of(new EventScheduleEntry(event, false)),
+                    List.of(entry(event, false)),
                     BASE_URL, DTSTAMP
             );
 
@@ -137,7 +152,7 @@ class ICalendarRendererTest {
                     null, "ORG", null, null, EventStatus.ACTIVE);
 
             String result = renderer.render(
-                    List.of(new EventScheduleEntry(event, false)),
+                    List.of(entry(event, false)),
                     BASE_URL, DTSTAMP
             );
 
@@ -151,7 +166,7 @@ class ICalendarRendererTest {
                     "Olomouc", "KOB", "https://event.example.com", null, EventStatus.ACTIVE);
 
             String result = renderer.render(
-                    List.of(new EventScheduleEntry(event, false)),
+                    List.of(entry(event, false)),
                     BASE_URL, DTSTAMP
             );
 
@@ -167,7 +182,7 @@ class ICalendarRendererTest {
                     null, "ORG", null, null, EventStatus.ACTIVE);
 
             String result = renderer.render(
-                    List.of(new EventScheduleEntry(event, false)),
+                    List.of(entry(event, false)),
                     BASE_URL, DTSTAMP
             );
 
@@ -181,7 +196,7 @@ class ICalendarRendererTest {
                     null, "ORG", null, null, EventStatus.ACTIVE);
 
             String result = renderer.render(
-                    List.of(new EventScheduleEntry(event, false)),
+                    List.of(entry(event, false)),
                     BASE_URL, DTSTAMP
             );
 
@@ -196,7 +211,7 @@ class ICalendarRendererTest {
                     null, longOrganizer, null, COORDINATOR_ID, EventStatus.ACTIVE);
 
             String result = renderer.render(
-                    List.of(new EventScheduleEntry(event, false)),
+                    List.of(entry(event, false)),
                     BASE_URL, DTSTAMP
             );
 
@@ -235,8 +250,8 @@ class ICalendarRendererTest {
 
             String result = renderer.render(
                     List.of(
-                            new EventScheduleEntry(participantEvent, false),
-                            new EventScheduleEntry(coordinatorEvent, true)
+                            entry(participantEvent, false),
+                            entry(coordinatorEvent, true)
                     ),
                     BASE_URL, DTSTAMP
             );
@@ -255,49 +270,50 @@ class ICalendarRendererTest {
     }
 
     @Nested
-    @DisplayName("escapeText()")
-    class EscapeTextTests {
+    @DisplayName("renderCalendarItems()")
+    class RenderCalendarItemsTests {
 
         @Test
-        @DisplayName("should return empty string for null input")
-        void shouldReturnEmptyForNull() {
-            assertThat(ICalendarRenderer.escapeText(null)).isEmpty();
+        @DisplayName("should render a manual item as an all-day VEVENT spanning its dates")
+        void shouldRenderManualItem() {
+            CalendarItem item = CalendarItemTestDataBuilder.aCalendarItemWithId(new CalendarItemId(FIXED_UUID))
+                    .withName("Soustředění")
+                    .withDescription("Jeseníky; sraz v 8:00")
+                    .withStartDate(LocalDate.of(2026, 7, 1))
+                    .withEndDate(LocalDate.of(2026, 7, 5))
+                    .buildManual();
+
+            String ical = renderer.renderCalendarItems(List.of(item), BASE_URL, DTSTAMP);
+
+            assertThat(ical).contains("UID:" + FIXED_UUID + "@klabis" + CRLF);
+            assertThat(ical).contains("DTSTART;VALUE=DATE:20260701" + CRLF);
+            assertThat(ical).contains("DTEND;VALUE=DATE:20260706" + CRLF);
+            assertThat(ical).contains("SUMMARY:Soustředění" + CRLF);
+            assertThat(ical).contains("DESCRIPTION:Jeseníky\\; sraz v 8:00" + CRLF);
+            assertThat(ical).doesNotContain("URL:");
         }
 
         @Test
-        @DisplayName("should escape backslash")
-        void shouldEscapeBackslash() {
-            assertThat(ICalendarRenderer.escapeText("a\\b")).isEqualTo("a\\\\b");
-        }
+        @DisplayName("should link an event item to the event detail")
+        void shouldLinkEventItem() {
+            UUID eventId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+            CalendarItem item = CalendarItemTestDataBuilder.aCalendarItem()
+                    .withStartDate(LocalDate.of(2026, 6, 15))
+                    .withEndDate(LocalDate.of(2026, 6, 15))
+                    .buildEventLinked(eventId);
 
-        @Test
-        @DisplayName("should escape comma")
-        void shouldEscapeComma() {
-            assertThat(ICalendarRenderer.escapeText("a,b")).isEqualTo("a\\,b");
-        }
+            String ical = renderer.renderCalendarItems(List.of(item), BASE_URL, DTSTAMP);
 
-        @Test
-        @DisplayName("should escape semicolon")
-        void shouldEscapeSemicolon() {
-            assertThat(ICalendarRenderer.escapeText("a;b")).isEqualTo("a\\;b");
+            assertThat(ical).contains("URL:" + BASE_URL + "/events/" + eventId + CRLF);
         }
 
         @Test
-        @DisplayName("should escape newline as \\n")
-        void shouldEscapeNewline() {
-            assertThat(ICalendarRenderer.escapeText("a\nb")).isEqualTo("a\\nb");
-        }
+        @DisplayName("should produce the same output for the same items and DTSTAMP")
+        void shouldBeDeterministic() {
+            CalendarItem item = CalendarItemTestDataBuilder.aCalendarItem().buildManual();
 
-        @Test
-        @DisplayName("should escape CRLF as \\n")
-        void shouldEscapeCrlf() {
-            assertThat(ICalendarRenderer.escapeText("a\r\nb")).isEqualTo("a\\nb");
-        }
-
-        @Test
-        @DisplayName("should escape backslash before comma and semicolon to avoid double-escaping")
-        void shouldEscapeBackslashFirst() {
-            assertThat(ICalendarRenderer.escapeText("a\\,b")).isEqualTo("a\\\\\\,b");
+            assertThat(renderer.renderCalendarItems(List.of(item), BASE_URL, DTSTAMP))
+                    .isEqualTo(renderer.renderCalendarItems(List.of(item), BASE_URL, DTSTAMP));
         }
     }
 }
@@ -0,0 +1,159 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IcalContentWriter")
+class IcalContentWriterTest {
+
+    @FunctionalInterface
+    private interface WriterAction {
+        void writeTo(IcalContentWriter writer) throws IOException;
+    }
+
+    private static String write(WriterAction action) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcalContentWriter writer = new IcalContentWriter(out);
+        action.writeTo(writer);
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String text(String value) throws IOException {
+        return write(writer -> writer.text(value));
+    }
+
+    @Nested
+    @DisplayName("text()")
+    class TextTests {
+
+        @Test
+        @DisplayName("should write nothing for null input")
+        void shouldWriteNothingForNull() throws IOException {
+            assertThat(text(null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should escape backslash")
+        void shouldEscapeBackslash() throws IOException {
+            assertThat(text("a\\b")).isEqualTo("a\\\\b");
+        }
+
+        @Test
+        @DisplayName("should escape comma")
+        void shouldEscapeComma() throws IOException {
+            assertThat(text("a,b")).isEqualTo("a\\,b");
+        }
+
+        @Test
+        @DisplayName("should escape semicolon")
+        void shouldEscapeSemicolon() throws IOException {
+            assertThat(text("a;b")).isEqualTo("a\\;b");
+        }
+
+        @Test
+        @DisplayName("should escape newline as \\n")
+        void shouldEscapeNewline() throws IOException {
+            assertThat(text("a\nb")).isEqualTo("a\\nb");
+        }
+
+        @Test
+        @DisplayName("should escape CRLF as \\n")
+        void shouldEscapeCrlf() throws IOException {
+            assertThat(text("a\r\nb")).isEqualTo("a\\nb");
+        }
+
+        @Test
+        @DisplayName("should escape backslash before comma and semicolon to avoid double-escaping")
+        void shouldEscapeBackslashFirst() throws IOException {
+            assertThat(text("a\\,b")).isEqualTo("a\\\\\\,b");
+        }
+
+        @Test
+        @DisplayName("should encode characters outside the BMP as a single 4-octet sequence")
+        void shouldEncodeSurrogatePairs() throws IOException {
+            assertThat(text("běh 🏃")).isEqualTo("běh 🏃");
+        }
+    }
+
+    @Nested
+    @DisplayName("folding")
+    class FoldingTests {
+
+        @Test
+        @DisplayName("should keep a line of exactly 75 octets unfolded")
+        void shouldKeepLineOf75Octets() throws IOException {
+            String line = "x".repeat(75);
+
+            assertThat(write(writer -> writer.line(line))).isEqualTo(line + "\r\n");
+        }
+
+        @Test
+        @DisplayName("should continue with CRLF + SPACE after 75 octets and 74 octets per continuation")
+        void shouldFoldLongLines() throws IOException {
+            String line = "x".repeat(75 + 74 + 1);
+
+            assertThat(write(writer -> writer.line(line)))
+                    .isEqualTo("x".repeat(75) + "\r\n " + "x".repeat(74) + "\r\n x\r\n");
+        }
+
+        @Test
+        @DisplayName("should fold before a multi-byte character that does not fit")
+        void shouldNotSplitMultiByteCharacters() throws IOException {
+            String line = "x".repeat(74) + "č";
+
+            assertThat(write(writer -> writer.line(line))).isEqualTo("x".repeat(74) + "\r\n č\r\n");
+        }
+
+        @Test
+        @DisplayName("should count octets across raw and escaped parts of one line")
+        void shouldFoldAcrossParts() throws IOException {
+            String output = write(writer -> writer.raw("DESCRIPTION:").text("a,".repeat(40)).endLine());
+
+            for (String physicalLine : output.split("\r\n")) {
+                assertThat(physicalLine.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+            }
+            assertThat(output.replace("\r\n ", "")).isEqualTo("DESCRIPTION:" + "a\\,".repeat(40) + "\r\n");
+        }
+
+        @Test
+        @DisplayName("should flush output larger than the internal buffer")
+        void shouldFlushLargeOutput() throws IOException {
+            String output = write(writer -> {
+                for (int i = 0; i < 1_000; i++) {
+                    writer.line("SUMMARY:" + i);
+                }
+            });
+
+            assertThat(output.split("\r\n")).hasSize(1_000).endsWith("SUMMARY:999");
+        }
+    }
+
+    @Nested
+    @DisplayName("values")
+    class ValueTests {
+
+        @Test
+        @DisplayName("should write dates as yyyyMMdd")
+        void shouldWriteDate() throws IOException {
+            assertThat(write(writer -> writer.date(LocalDate.of(2026, 3, 7)))).isEqualTo("20260307");
+        }
+
+        @Test
+        @DisplayName("should write UUIDs like UUID.toString()")
+        void shouldWriteUuid() throws IOException {
+            UUID uuid = UUID.fromString("0a1b2c3d-4e5f-6071-8293-a4b5c6d7e8f9");
+
+            assertThat(write(writer -> writer.uuid(uuid))).isEqualTo(uuid.toString());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.klabis.calendar.infrastructure.ical;
+
+import com.klabis.calendar.CalendarItemTestDataBuilder;
+import com.klabis.calendar.application.GroupFeedNotFoundException;
+import com.klabis.calendar.application.IcalFeedPort;
+import com.klabis.calendar.domain.CalendarItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("IcalSnapshotStore")
+@ExtendWith(MockitoExtension.class)
+class IcalSnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-21T10:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2026, 5, 21);
+    private static final String BASE_URL = "https://klabis.example.com";
+
+    @Mock
+    private IcalFeedPort icalFeedPort;
+
+    @TempDir
+    private Path directory;
+
+    private IcalSnapshotProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IcalSnapshotProperties();
+        properties.setDirectory(directory);
+    }
+
+    private IcalSnapshotStore store(Instant now) {
+        return new IcalSnapshotStore(icalFeedPort, new ICalendarRenderer(), properties,
+                Clock.fixed(now, ZoneOffset.UTC), BASE_URL);
+    }
+
+    private static CalendarItem item(String name) {
+        return CalendarItemTestDataBuilder.aCalendarItem().withName(name).withStartDate(TODAY).withEndDate(TODAY)
+                .buildManual();
+    }
+
+    @Nested
+    @DisplayName("get()")
+    class GetTests {
+
+        @Test
+        @DisplayName("should render the feed once and serve the same body afterwards")
+        void shouldRenderOnce() {
+            when(icalFeedPort.getClubCalendar(TODAY)).thenReturn(List.of(item("Trénink")));
+            IcalSnapshotStore store = store(NOW);
+
+            IcalSnapshot first = store.get(IcalFeedScope.club());
+            IcalSnapshot second = store.get(IcalFeedScope.club());
+
+            assertThat(second.body()).isSameAs(first.body());
+            assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("SUMMARY:Trénink");
+            verify(icalFeedPort, times(1)).getClubCalendar(TODAY);
+        }
+
+        @Test
+        @DisplayName("should write the rendered feed to the snapshot directory")
+        void shouldWriteSnapshotFile() throws Exception {
+            UUID groupId = UUID.randomUUID();
+            when(icalFeedPort.getGroupCalendar(groupId, TODAY)).thenReturn(List.of(item("Závod")));
+
+            IcalSnapshot snapshot = store(NOW).get(IcalFeedScope.group(groupId));
+
+            assertThat(Files.readAllBytes(directory.resolve("group-" + groupId + ".ics")))
+                    .isEqualTo(snapshot.body());
+        }
+
+        @Test
+        @DisplayName("should serve a snapshot file left by a previous run without rendering")
+        void shouldServeSnapshotFile() throws Exception {
+            Files.writeString(directory.resolve("club.ics"), "BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+
+            IcalSnapshot snapshot = store(NOW).get(IcalFeedScope.club());
+
+            assertThat(new String(snapshot.body(), StandardCharsets.UTF_8)).startsWith("BEGIN:VCALENDAR");
+            verify(icalFeedPort, never()).getClubCalendar(TODAY);
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshDue()")
+    class RefreshDueTests {
+
+        @Test
+        @DisplayName("should re-render a changed feed with a new ETag")
+        void shouldRerenderChangedFeed() {
+            when(icalFeedPort.getClubCalendar(TODAY))
+                    .thenReturn(List.of(item("Trénink")), List.of(item("Trénink"), item("Závod")));
+            IcalSnapshotStore store = store(NOW);
+            IcalSnapshot before = store.get(IcalFeedScope.club());
+
+            store.markAllChanged();
+            store.refreshDue();
+
+            IcalSnapshot after = store.get(IcalFeedScope.club());
+            assertThat(after.eTag()).isNotEqualTo(before.eTag());
+            assertThat(new String(after.body(), StandardCharsets.UTF_8)).contains("SUMMARY:Závod");
+        }
+
+        @Test
+        @DisplayName("should keep the previous snapshot when the content did not change")
+        void shouldKeepUnchangedSnapshot() {
+            CalendarItem item = item("Trénink");
+            when(icalFeedPort.getClubCalendar(TODAY)).thenReturn(List.of(item));
+            IcalSnapshotStore store = store(NOW);
+            IcalSnapshot before = store.get(IcalFeedScope.club());
+
+            store.markAllChanged();
+            store.refreshDue();
+
+            assertThat(store.get(IcalFeedScope.club()).eTag()).isEqualTo(before.eTag());
+        }
+
+        @Test
+        @DisplayName("should not touch feeds that are neither changed nor expired")
+        void shouldSkipFreshFeeds() {
+            when(icalFeedPort.getClubCalendar(TODAY)).thenReturn(List.of());
+            IcalSnapshotStore store = store(NOW);
+            store.get(IcalFeedScope.club());
+
+            store.refreshDue();
+
+            verify(icalFeedPort, times(1)).getClubCalendar(TODAY);
+        }
+
+        @Test
+        @DisplayName("should only re-render group feeds after a registration change")
+        void shouldRerenderOnlyGroupFeeds() {
+            UUID groupId = UUID.randomUUID();
+            when(icalFeedPort.getClubCalendar(TODAY)).thenReturn(List.of());
+            when(icalFeedPort.getGroupCalendar(groupId, TODAY)).thenReturn(List.of());
+            IcalSnapshotStore store = store(NOW);
+            store.get(IcalFeedScope.club());
+            store.get(IcalFeedScope.group(groupId));
+
+            store.markGroupsChanged();
+            store.refreshDue();
+
+            verify(icalFeedPort, times(1)).getClubCalendar(TODAY);
+            verify(icalFeedPort, times(2)).getGroupCalendar(groupId, TODAY);
+        }
+
+        @Test
+        @DisplayName("should drop the feed and its file once the group no longer exists")
+        void shouldEvictDeletedGroup() {
+            UUID groupId = UUID.randomUUID();
+            when(icalFeedPort.getGroupCalendar(groupId, TODAY))
+                    .thenReturn(List.of(item("Závod")))
+                    .thenThrow(new GroupFeedNotFoundException(groupId))
+                    .thenReturn(List.of());
+            IcalSnapshotStore store = store(NOW);
+            store.get(IcalFeedScope.group(groupId));
+
+            store.markGroupsChanged();
+            store.refreshDue();
+
+            assertThat(directory.resolve("group-" + groupId + ".ics")).doesNotExist();
+            store.markGroupsChanged();
+            store.refreshDue();
+            verify(icalFeedPort, times(2)).getGroupCalendar(groupId, TODAY);
+
+            assertThat(new String(store.get(IcalFeedScope.group(groupId)).body(), StandardCharsets.UTF_8))
+                    .doesNotContain("SUMMARY:Závod");
+            verify(icalFeedPort, times(3)).getGroupCalendar(groupId, TODAY);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.klabis.calendar.infrastructure.jdbc;
+
+import com.klabis.CleanupTestData;
+import com.klabis.calendar.application.CalendarSyncQueue;
+import com.klabis.calendar.application.CalendarSyncRequest;
+import com.klabis.calendar.application.CalendarSyncRequest.Action;
+import com.klabis.events.EventId;
+import org.jmolecules.ddd.annotation.Repository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Calendar sync queue JDBC Tests")
+@DataJdbcTest(includeFilters = @ComponentScan.Filter(
+        type = FilterType.ANNOTATION,
+        value = {Repository.class}))
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+class CalendarSyncQueueJdbcAdapterTest {
+
+    private static final Duration QUIET_PERIOD = Duration.ofSeconds(2);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(30);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private static final Instant START = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Autowired
+    private CalendarSyncQueue syncQueue;
+
+    @Test
+    @DisplayName("should coalesce repeated requests for one event into one entry with the latest action")
+    void shouldCoalesceRequestsPerEvent() {
+        EventId eventId = new EventId(UUID.randomUUID());
+        syncQueue.request(eventId, Action.RECONCILE, START);
+        syncQueue.request(eventId, Action.RECONCILE, START.plusMillis(100));
+        syncQueue.request(eventId, Action.REMOVE, START.plusMillis(200));
+
+        List<CalendarSyncRequest> due = claimAt(START.plus(Duration.ofSeconds(10)));
+
+        assertThat(due).singleElement().satisfies(request -> {
+            assertThat(request.eventId()).isEqualTo(eventId);
+            assertThat(request.action()).isEqualTo(Action.REMOVE);
+        });
+    }
+
+    @Test
+    @DisplayName("should not hand out events that are still changing before the maximum delay")
+    void shouldWaitForQuietPeriod() {
+        EventId eventId = new EventId(UUID.randomUUID());
+        syncQueue.request(eventId, Action.RECONCILE, START);
+        syncQueue.request(eventId, Action.RECONCILE, START.plusSeconds(1));
+
+        assertThat(claimAt(START.plusMillis(2500))).isEmpty();
+        assertThat(claimAt(START.plusSeconds(4))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should hand out a continuously changing event after the maximum delay")
+    void shouldHonourMaximumDelay() {
+        EventId eventId = new EventId(UUID.randomUUID());
+        syncQueue.request(eventId, Action.RECONCILE, START);
+        syncQueue.request(eventId, Action.RECONCILE, START.plus(MAX_DELAY));
+
+        assertThat(claimAt(START.plus(MAX_DELAY).plusSeconds(1))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should not hand out a claimed event again before its lease expires")
+    void shouldNotClaimTwice() {
+        EventId eventId = new EventId(UUID.randomUUID());
+        syncQueue.request(eventId, Action.RECONCILE, START);
+        Instant now = START.plusSeconds(10);
+
+        assertThat(claimAt(now)).hasSize(1);
+        assertThat(claimAt(now.plusSeconds(1))).isEmpty();
+        assertThat(claimAt(now.plus(LEASE).plusSeconds(1))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should delete completed entries")
+    void shouldDeleteCompletedEntries() {
+        EventId eventId = new EventId(UUID.randomUUID());
+        syncQueue.request(eventId, Action.RECONCILE, START);
+        Instant now = START.plusSeconds(10);
+
+        syncQueue.complete(claimAt(now));
+
+        assertThat(claimAt(now.plus(LEASE).plusSeconds(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep and release an entry requested again while it was synchronised")
+    void shouldKeepEntryRequestedDuringSynchronisation() {
+        EventId eventId = new EventId(UUID.randomUUID());
+        syncQueue.request(eventId, Action.RECONCILE, START);
+        Instant now = START.plusSeconds(10);
+        List<CalendarSyncRequest> claimed = claimAt(now);
+
+        syncQueue.request(eventId, Action.RECONCILE, now.plusMillis(500));
+        syncQueue.complete(claimed);
+
+        assertThat(claimAt(now.plusSeconds(5))).singleElement()
+                .extracting(CalendarSyncRequest::eventId).isEqualTo(eventId);
+    }
+
+    private List<CalendarSyncRequest> claimAt(Instant now) {
+        return syncQueue.claimDue(now.minus(QUIET_PERIOD), now.minus(MAX_DELAY), now, now.plus(LEASE), 100);
+    }
+}
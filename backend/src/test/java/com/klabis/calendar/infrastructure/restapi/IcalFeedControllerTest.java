@@ -162,6 +162,10 @@ class IcalFeedControllerTest {
                     "VALUES ('dddddddd-dddd-dddd-dddd-dddddddddddd', 'Zrušená akce', DATEADD(MONTH, 3, CURRENT_DATE), 'Brno', 'ZBM', 'CANCELLED', CURRENT_TIMESTAMP, 'system', CURRENT_TIMESTAMP, 'system', 0)");
             jdbcTemplate.execute("INSERT INTO events.event_registrations (id, event_id, member_id, si_card_number) " +
                     "VALUES ('11111111-1111-1111-1111-111111111111', 'dddddddd-dddd-dddd-dddd-dddddddddddd', 'cccccccc-cccc-cccc-cccc-cccccccccccc', '0000000')");
+            // rows written around the Event aggregate are not projected, so fill the schedule read model directly
+            jdbcTemplate.execute("INSERT INTO events.member_schedule (member_id, event_date, event_id, name, location, organizer, status, coordinator) " +
+                    "SELECT 'cccccccc-cccc-cccc-cccc-cccccccccccc', event_date, id, name, location, organizer, status, id = 'ffffffff-ffff-ffff-ffff-ffffffffffff' " +
+                    "FROM events.events WHERE id IN ('ffffffff-ffff-ffff-ffff-ffffffffffff', 'dddddddd-dddd-dddd-dddd-dddddddddddd')");
         }
 
         @AfterEach
@@ -193,4 +197,44 @@ class IcalFeedControllerTest {
             assertThat(body).contains("STATUS:CANCELLED");
         }
     }
+
+    @Nested
+    @DisplayName("Shared feeds")
+    class SharedFeedTests {
+
+        @Test
+        @DisplayName("club feed → 200 with ETag and text/calendar")
+        void clubFeed_returns200WithETag() throws Exception {
+            mockMvc.perform(get("/ical/club.ics").param("token", validRawToken))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(content().string(containsString("BEGIN:VCALENDAR")));
+        }
+
+        @Test
+        @DisplayName("club feed with matching If-None-Match → 304 Not Modified")
+        void clubFeed_withMatchingETag_returns304() throws Exception {
+            String eTag = mockMvc.perform(get("/ical/club.ics").param("token", validRawToken))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/ical/club.ics").param("token", validRawToken).header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("club feed without token → 401 Unauthorized")
+        void clubFeed_missingToken_returns401() throws Exception {
+            mockMvc.perform(get("/ical/club.ics"))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("feed of a group the user does not belong to → 404 Not Found")
+        void groupFeed_notAMember_returns404() throws Exception {
+            mockMvc.perform(get("/ical/groups/{groupId}.ics", UUID.randomUUID()).param("token", validRawToken))
+                    .andExpect(status().isNotFound());
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.klabis.common;
 
 import com.klabis.common.users.UserService;
 import com.klabis.events.application.MemberRegistrationSanctionPort;
+import com.klabis.groups.common.domain.MemberGroupIndex;
 import com.klabis.groups.familygroup.domain.FamilyGroupRepository;
 import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
 import com.klabis.membershipfees.application.EventTypeOptionsPort;
@@ -39,6 +40,7 @@ import java.lang.annotation.Target;
 @MockitoBean(types = {
         FamilyGroupRepository.class,
         TrainingGroupRepository.class,
+        MemberGroupIndex.class,
         UserService.class,
         UserDetailsService.class,
         RankingOptionsPort.class,
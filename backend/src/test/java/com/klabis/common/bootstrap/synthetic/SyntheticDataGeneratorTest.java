@@ -0,0 +1,132 @@
+package com.klabis.common.bootstrap.synthetic;
+
+import com.klabis.CleanupTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SyntheticDataGenerator")
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void cleanDatabase() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/cleanup.sql")).execute(dataSource);
+    }
+
+    private SyntheticDataGenerator generator(long seed) {
+        SyntheticDataProperties properties = new SyntheticDataProperties();
+        properties.setSeed(seed);
+        properties.setAnchorDate(LocalDate.of(2026, 6, 15));
+        properties.setMembers(150);
+        properties.setEvents(40);
+        properties.setRegistrations(600);
+        properties.setTransactions(300);
+        properties.setFeeYears(2);
+        properties.setBatchSize(64);
+        return new SyntheticDataGenerator(jdbcTemplate, properties, "ZBM", "{noop}password", Clock.systemUTC());
+    }
+
+    private List<String> fingerprint() {
+        return Stream.of(
+                        "SELECT id, registration_number, last_name, date_of_birth FROM members.members ORDER BY id",
+                        "SELECT id, event_date, status, categories FROM events.events ORDER BY id",
+                        "SELECT event_id, member_id, category FROM events.event_registrations ORDER BY id",
+                        "SELECT member_id, balance_amount FROM finance.member_account ORDER BY member_id")
+                .flatMap(sql -> jdbcTemplate.queryForList(sql).stream())
+                .map(Object::toString)
+                .toList();
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Test
+    @DisplayName("should generate the configured volumes")
+    void shouldGenerateConfiguredVolumes() {
+        SyntheticDataGenerator generator = generator(42);
+
+        generator.generate();
+
+        assertThat(generator.isGenerated()).isTrue();
+        assertThat(count("members.members")).isEqualTo(150);
+        assertThat(count("common.users")).isEqualTo(150);
+        assertThat(count("events.events")).isEqualTo(40);
+        assertThat(count("events.event_registrations")).isEqualTo(600);
+        assertThat(count("finance.finance_transaction")).isEqualTo(300);
+        assertThat(count("membershipfees.fee_selection_campaign")).isEqualTo(2);
+        assertThat(count("membershipfees.membership_fee_group_members")).isEqualTo(300);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM finance.member_account a
+                WHERE a.balance_amount <> (SELECT COALESCE(SUM(t.amount), 0) FROM finance.finance_transaction t
+                                           WHERE t.member_account_id = a.member_id)""", Integer.class))
+                .as("account balances match their transactions")
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM events.event_registrations r
+                WHERE NOT EXISTS (SELECT 1 FROM events.member_schedule s
+                                  WHERE s.event_id = r.event_id AND s.member_id = r.member_id)""", Integer.class))
+                .as("every registration is in the member schedule")
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("should produce identical data for the same seed and different data for another seed")
+    void shouldBeDeterministicForSeed() {
+        generator(42).generate();
+        List<String> first = fingerprint();
+
+        cleanup();
+        generator(42).generate();
+        List<String> second = fingerprint();
+
+        cleanup();
+        generator(7).generate();
+        List<String> other = fingerprint();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("should take registration numbers that are still free when members already exist")
+    void shouldSkipUsedRegistrationNumbers() {
+        generator(42).generate();
+
+        generator(7).generate();
+
+        assertThat(count("members.members")).isEqualTo(300);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT registration_number) FROM members.members", Integer.class))
+                .isEqualTo(300);
+    }
+}
@@ -0,0 +1,48 @@
+package com.klabis.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cache configuration — per-cache expiry and size")
+class CacheConfigurationTest {
+
+    @Test
+    @DisplayName("should bound a cache configured with a maximum size and keep the default expiry")
+    void shouldApplyMaximumSize() {
+        CacheProperties properties = new CacheProperties();
+        properties.setMaximumSize(Map.of("memberGroups", 10_000L));
+
+        Cache<Object, Object> cache = nativeCache(CacheConfiguration.caffeineCacheManager(properties), "memberGroups");
+
+        assertThat(cache.policy().eviction()).hasValueSatisfying(
+                eviction -> assertThat(eviction.getMaximum()).isEqualTo(10_000L));
+        assertThat(cache.policy().expireAfterWrite()).hasValueSatisfying(
+                expiry -> assertThat(expiry.getExpiresAfter()).isEqualTo(properties.getDefaultTtl()));
+    }
+
+    @Test
+    @DisplayName("should leave a cache configured only with an expiry unbounded")
+    void shouldKeepCacheWithoutMaximumSizeUnbounded() {
+        CacheProperties properties = new CacheProperties();
+        properties.setTtl(Map.of("memberRegistrationBlocks", Duration.ofHours(12)));
+
+        Cache<Object, Object> cache = nativeCache(CacheConfiguration.caffeineCacheManager(properties),
+                "memberRegistrationBlocks");
+
+        assertThat(cache.policy().eviction()).isEmpty();
+        assertThat(cache.policy().expireAfterWrite()).hasValueSatisfying(
+                expiry -> assertThat(expiry.getExpiresAfter()).isEqualTo(Duration.ofHours(12)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> nativeCache(CaffeineCacheManager manager, String name) {
+        return (Cache<Object, Object>) manager.getCache(name).getNativeCache();
+    }
+}
@@ -0,0 +1,142 @@
+package com.klabis.common.cache;
+
+import com.klabis.CleanupTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.cache.Cache;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two cache managers sharing one database stand in for two application nodes.
+ */
+@DisplayName("Cluster cache manager — invalidation between nodes")
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+class ClusterCacheManagerIntegrationTest {
+
+    private static final String CACHE = "memberRegistrationBlocks";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbc;
+
+    private CacheProperties properties;
+    private ClusterCacheManager nodeA;
+    private ClusterCacheManager nodeB;
+    private CacheInvalidationReceiver receiverA;
+    private CacheInvalidationReceiver receiverB;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        CacheInvalidationLog invalidationLog = new CacheInvalidationLog(namedJdbc, false);
+        nodeA = node(invalidationLog);
+        nodeB = node(invalidationLog);
+        receiverA = new CacheInvalidationReceiver(nodeA, invalidationLog, properties.getCluster(), null,
+                Clock.systemUTC());
+        receiverB = new CacheInvalidationReceiver(nodeB, invalidationLog, properties.getCluster(), null,
+                Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("should evict the entry on the other node")
+    void shouldEvictOnOtherNode() {
+        UUID memberId = UUID.randomUUID();
+        cache(nodeA).put(memberId, false);
+        cache(nodeB).put(memberId, false);
+
+        cache(nodeA).evict(memberId);
+        int applied = receiverB.receive();
+
+        assertThat(applied).isEqualTo(1);
+        assertThat(cache(nodeB).get(memberId)).isNull();
+    }
+
+    @Test
+    @DisplayName("should leave other entries on the other node")
+    void shouldKeepOtherEntries() {
+        UUID evicted = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        cache(nodeB).put(evicted, false);
+        cache(nodeB).put(kept, true);
+
+        cache(nodeA).evict(evicted);
+        receiverB.receive();
+
+        assertThat(cache(nodeB).get(kept)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should apply every invalidation only once")
+    void shouldApplyOnce() {
+        UUID memberId = UUID.randomUUID();
+        cache(nodeA).evict(memberId);
+        receiverB.receive();
+
+        cache(nodeB).put(memberId, true);
+
+        assertThat(receiverB.receive()).isZero();
+        assertThat(cache(nodeB).get(memberId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should not replay its own invalidations")
+    void shouldIgnoreOwnInvalidations() {
+        UUID memberId = UUID.randomUUID();
+        cache(nodeA).evict(memberId);
+        cache(nodeA).put(memberId, true);
+
+        assertThat(receiverA.receive()).isZero();
+        assertThat(cache(nodeA).get(memberId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should clear the whole cache on the other node for keys that cannot be transferred")
+    void shouldClearForUnsupportedKey() {
+        record CompositeKey(UUID memberId, int year) {
+        }
+        UUID memberId = UUID.randomUUID();
+        cache(nodeB).put(memberId, false);
+
+        cache(nodeA).evict(new CompositeKey(memberId, 2026));
+        receiverB.receive();
+
+        assertThat(cache(nodeB).get(memberId)).isNull();
+    }
+
+    @Test
+    @DisplayName("should purge invalidations older than the retention")
+    void shouldPurgeOldInvalidations() {
+        CacheInvalidationLog invalidationLog = new CacheInvalidationLog(namedJdbc, false);
+        invalidationLog.append(UUID.randomUUID(), CACHE, "s:old", Instant.now().minus(Duration.ofHours(2)));
+        invalidationLog.append(UUID.randomUUID(), CACHE, "s:new", Instant.now());
+
+        int purged = new CacheInvalidationReceiver(nodeA, invalidationLog, properties.getCluster(), null,
+                Clock.fixed(Instant.now(), ZoneOffset.UTC)).purge();
+
+        assertThat(purged).isEqualTo(1);
+    }
+
+    private ClusterCacheManager node(CacheInvalidationLog invalidationLog) {
+        return new ClusterCacheManager(CacheConfiguration.caffeineCacheManager(properties), invalidationLog,
+                UUID.randomUUID(), Clock.systemUTC());
+    }
+
+    private static Cache cache(ClusterCacheManager node) {
+        return node.getCache(CACHE);
+    }
+}
@@ -0,0 +1,131 @@
+package com.klabis.common.email;
+
+import com.klabis.common.email.EmailOutbox.OutboxEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EmailOutboxDispatcher")
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Mock
+    private EmailOutbox outbox;
+
+    @Mock
+    private JavaMailEmailService mailService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        EmailProperties properties = EmailProperties.withFrom("noreply@klabis.cz");
+        properties.getOutbox().setBatchSize(10);
+        properties.getOutbox().setMaxAttempts(3);
+        properties.getOutbox().setInitialBackoff(Duration.ofSeconds(30));
+        properties.getOutbox().setMaxBackoff(Duration.ofMinutes(5));
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new EmailOutboxDispatcher(outbox, mailService, properties,
+                Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry);
+    }
+
+    private static OutboxEntry entry(int attempts) {
+        return new OutboxEntry(UUID.randomUUID(), EmailMessage.text("user@example.com", "Subject", "Body"),
+                attempts, NOW.minusSeconds(2));
+    }
+
+    @Nested
+    @DisplayName("dispatchBatch()")
+    class DispatchBatch {
+
+        @Test
+        @DisplayName("should delete delivered messages and record metrics")
+        void shouldDeleteDeliveredMessages() {
+            OutboxEntry first = entry(0);
+            OutboxEntry second = entry(0);
+            when(outbox.claimDue(eq(10), eq(NOW), any())).thenReturn(List.of(first, second));
+            when(mailService.sendAll(any())).thenReturn(Map.of());
+
+            int claimed = dispatcher.dispatchBatch();
+
+            assertThat(claimed).isEqualTo(2);
+            verify(outbox).deleteSent(List.of(first.id(), second.id()));
+            assertThat(meterRegistry.get(EmailOutboxDispatcher.METRIC_SENT).counter().count()).isEqualTo(2);
+            assertThat(meterRegistry.get(EmailOutboxDispatcher.METRIC_DELIVERY_LAG).timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should schedule retry with backoff for failed message and delete the rest")
+        void shouldRetryFailedMessage() {
+            OutboxEntry delivered = entry(0);
+            OutboxEntry failed = entry(1);
+            when(outbox.claimDue(anyInt(), any(), any())).thenReturn(List.of(delivered, failed));
+            when(mailService.sendAll(any())).thenReturn(Map.of(1, new IllegalStateException("550 mailbox busy")));
+
+            dispatcher.dispatchBatch();
+
+            verify(outbox).deleteSent(List.of(delivered.id()));
+            verify(outbox).scheduleRetry(failed, NOW.plus(Duration.ofMinutes(1)), "550 mailbox busy");
+            assertThat(meterRegistry.get(EmailOutboxDispatcher.METRIC_FAILURES).tag("outcome", "retry").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should mark message as failed when attempts are exhausted")
+        void shouldMarkFailedAfterMaxAttempts() {
+            OutboxEntry exhausted = entry(2);
+            when(outbox.claimDue(anyInt(), any(), any())).thenReturn(List.of(exhausted));
+            when(mailService.sendAll(any())).thenReturn(Map.of(0, new IllegalStateException("connection refused")));
+
+            dispatcher.dispatchBatch();
+
+            verify(outbox).markFailed(exhausted, NOW, "connection refused");
+            verify(outbox, never()).scheduleRetry(any(), any(), anyString());
+        }
+
+        @Test
+        @DisplayName("should not contact SMTP when nothing is due")
+        void shouldSkipWhenNothingDue() {
+            when(outbox.claimDue(anyInt(), any(), any())).thenReturn(List.of());
+
+            assertThat(dispatcher.dispatchBatch()).isZero();
+
+            verify(mailService, never()).sendAll(any());
+        }
+    }
+
+    @Test
+    @DisplayName("should double backoff per attempt up to the configured maximum")
+    void shouldDoubleBackoffUpToMaximum() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(dispatcher.backoff(4)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(dispatcher.backoff(5)).isEqualTo(Duration.ofMinutes(5));
+        assertThat(dispatcher.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+    }
+}
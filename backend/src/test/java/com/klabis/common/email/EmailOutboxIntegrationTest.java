@@ -0,0 +1,82 @@
+package com.klabis.common.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.klabis.CleanupTestData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Email outbox — delivery to SMTP server")
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+class EmailOutboxIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbc;
+
+    private EmailOutbox outbox;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        outbox = new EmailOutbox(namedJdbc);
+        dispatcher = new EmailOutboxDispatcher(outbox,
+                new JavaMailEmailService(mailSender, EmailProperties.withFrom("noreply@klabis.cz")),
+                EmailProperties.withFrom("noreply@klabis.cz"),
+                Clock.systemUTC(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("should deliver queued emails in one batch and empty the outbox")
+    void shouldDeliverQueuedEmails() throws Exception {
+        Instant now = Instant.now();
+        outbox.enqueue(EmailMessage.text("alice@example.com", "Welcome Alice", "Hello Alice"), now);
+        outbox.enqueue(EmailMessage.html("bob@example.com", "Welcome Bob", "<p>Hello Bob</p>"), now);
+        outbox.enqueue(EmailMessage.multipart("carol@example.com", "Welcome Carol", "<p>Hi</p>", "Hi"), now);
+
+        int claimed = dispatcher.dispatchBatch();
+
+        assertThat(claimed).isEqualTo(3);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).extracting(MimeMessage::getSubject)
+                .containsExactlyInAnyOrder("Welcome Alice", "Welcome Bob", "Welcome Carol");
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not send the same message twice once it has been claimed")
+    void shouldNotResendClaimedMessage() {
+        outbox.enqueue(EmailMessage.text("alice@example.com", "Only once", "Hello"), Instant.now());
+
+        dispatcher.dispatchBatch();
+        int secondRun = dispatcher.dispatchBatch();
+
+        assertThat(secondRun).isZero();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+}
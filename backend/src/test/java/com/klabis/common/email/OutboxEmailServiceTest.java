@@ -0,0 +1,55 @@
+package com.klabis.common.email;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OutboxEmailService")
+@ExtendWith(MockitoExtension.class)
+class OutboxEmailServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Mock
+    private EmailOutbox outbox;
+
+    private OutboxEmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        emailService = new OutboxEmailService(outbox, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("should queue message with current time")
+    void shouldQueueMessage() {
+        EmailMessage message = EmailMessage.text("user@example.com", "Subject", "Body");
+
+        emailService.send(message);
+
+        verify(outbox).enqueue(message, NOW);
+    }
+
+    @Test
+    @DisplayName("should propagate failure to store message so the caller's transaction rolls back")
+    void shouldPropagateStorageFailure() {
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("database down");
+        doThrow(failure).when(outbox).enqueue(any(), any());
+
+        assertThatThrownBy(() -> emailService.send(EmailMessage.text("user@example.com", "Subject", "Body")))
+                .isSameAs(failure);
+    }
+}
@@ -0,0 +1,114 @@
+package com.klabis.common.encryption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EnvelopeEncryptionService Tests")
+class EnvelopeEncryptionServiceTest {
+
+    private SharedEncryptionService jasyptEncryptor;
+    private EnvelopeEncryptionService envelopeEncryptor;
+
+    @BeforeEach
+    void setUp() {
+        jasyptEncryptor = new SharedEncryptionService("test-password-for-unit-tests", "PBEWithMD5AndDES");
+        String wrappedDataKey = EnvelopeEncryptionService.wrapNewDataKey(jasyptEncryptor);
+        envelopeEncryptor = EnvelopeEncryptionService.fromWrappedDataKey(wrappedDataKey, jasyptEncryptor);
+    }
+
+    @Nested
+    @DisplayName("Encryption")
+    class Encryption {
+
+        @Test
+        @DisplayName("should produce versioned ciphertext")
+        void shouldProduceVersionedCiphertext() {
+            String encrypted = envelopeEncryptor.encrypt("900101/1235");
+
+            assertThat(encrypted).startsWith(EnvelopeEncryptionService.CIPHERTEXT_PREFIX);
+            assertThat(envelopeEncryptor.isCurrentFormat(encrypted)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should produce different ciphertexts for same input (due to random IV)")
+        void shouldProduceDifferentCiphertextsForSameInput() {
+            assertThat(envelopeEncryptor.encrypt("900101/1235"))
+                    .isNotEqualTo(envelopeEncryptor.encrypt("900101/1235"));
+        }
+
+        @Test
+        @DisplayName("should return null for null input")
+        void shouldReturnNullForNullInput() {
+            assertThat(envelopeEncryptor.encrypt(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Decryption")
+    class Decryption {
+
+        @Test
+        @DisplayName("should round-trip envelope ciphertext")
+        void shouldRoundTripEnvelopeCiphertext() {
+            String encrypted = envelopeEncryptor.encrypt("Příliš žluťoučký kůň");
+
+            assertThat(envelopeEncryptor.decrypt(encrypted)).isEqualTo("Příliš žluťoučký kůň");
+        }
+
+        @Test
+        @DisplayName("should decrypt legacy Jasypt ciphertext")
+        void shouldDecryptLegacyJasyptCiphertext() {
+            String legacy = jasyptEncryptor.encrypt("900101/1235");
+
+            assertThat(envelopeEncryptor.isCurrentFormat(legacy)).isFalse();
+            assertThat(envelopeEncryptor.decrypt(legacy)).isEqualTo("900101/1235");
+        }
+
+        @Test
+        @DisplayName("should reject tampered ciphertext")
+        void shouldRejectTamperedCiphertext() {
+            String encrypted = envelopeEncryptor.encrypt("900101/1235");
+            char last = encrypted.charAt(encrypted.length() - 3);
+            String tampered = encrypted.substring(0, encrypted.length() - 3)
+                              + (last == 'A' ? 'B' : 'A')
+                              + encrypted.substring(encrypted.length() - 2);
+
+            assertThatThrownBy(() -> envelopeEncryptor.decrypt(tampered))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("should not decrypt with a different data key")
+        void shouldNotDecryptWithDifferentDataKey() {
+            EnvelopeEncryptionService otherKey = EnvelopeEncryptionService.fromWrappedDataKey(
+                    EnvelopeEncryptionService.wrapNewDataKey(jasyptEncryptor), jasyptEncryptor);
+            String encrypted = envelopeEncryptor.encrypt("900101/1235");
+
+            assertThatThrownBy(() -> otherKey.decrypt(encrypted))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("should require wrapped data key")
+    void shouldRequireWrappedDataKey() {
+        assertThatThrownBy(() -> EnvelopeEncryptionService.fromWrappedDataKey("", jasyptEncryptor))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("klabis.encryption.wrapped-data-key");
+    }
+
+    @Test
+    @DisplayName("should accept data key printed by WrappedDataKeyGenerator")
+    void shouldAcceptGeneratedWrappedDataKey() {
+        String wrappedDataKey = WrappedDataKeyGenerator.generate("test-password-for-unit-tests", "PBEWithMD5AndDES");
+
+        EnvelopeEncryptionService fromGeneratedKey = EnvelopeEncryptionService.fromWrappedDataKey(wrappedDataKey, jasyptEncryptor);
+
+        assertThat(fromGeneratedKey.decrypt(fromGeneratedKey.encrypt("900101/1235"))).isEqualTo("900101/1235");
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("EncryptedString Converter Tests")
@@ -166,4 +168,86 @@ class StringEncryptionConverterTest {
             assertThat(decrypted.value()).isEqualTo(birthNumber);
         }
     }
+
+    @Nested
+    @DisplayName("Lazy decryption")
+    class LazyDecryption {
+
+        private final AtomicInteger decryptCalls = new AtomicInteger();
+        private final AtomicInteger encryptCalls = new AtomicInteger();
+        private final EncryptionService countingService = new EncryptionService() {
+            @Override
+            public String encrypt(String plaintext) {
+                encryptCalls.incrementAndGet();
+                return encryptionService.encrypt(plaintext);
+            }
+
+            @Override
+            public String decrypt(String encrypted) {
+                decryptCalls.incrementAndGet();
+                return encryptionService.decrypt(encrypted);
+            }
+        };
+
+        @Test
+        @DisplayName("should not decrypt when reading from database")
+        void shouldNotDecryptWhenReadingFromDatabase() {
+            String encrypted = encryptionService.encrypt("900101/1235");
+
+            EncryptedString loaded = new StringToEncryptedStringConverter(countingService).convert(encrypted);
+
+            assertThat(loaded.isDecrypted()).isFalse();
+            assertThat(decryptCalls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should decrypt only once on repeated access")
+        void shouldDecryptOnlyOnceOnRepeatedAccess() {
+            String encrypted = encryptionService.encrypt("900101/1235");
+            EncryptedString loaded = new StringToEncryptedStringConverter(countingService).convert(encrypted);
+
+            assertThat(loaded.value()).isEqualTo("900101/1235");
+            assertThat(loaded.value()).isEqualTo("900101/1235");
+
+            assertThat(loaded.isDecrypted()).isTrue();
+            assertThat(decryptCalls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should write back original ciphertext without re-encrypting")
+        void shouldWriteBackOriginalCiphertextWithoutReEncrypting() {
+            String encrypted = encryptionService.encrypt("900101/1235");
+            EncryptedString loaded = new StringToEncryptedStringConverter(countingService).convert(encrypted);
+
+            String written = new EncryptedStringToStringConverter(countingService).convert(loaded);
+
+            assertThat(written).isEqualTo(encrypted);
+            assertThat(encryptCalls).hasValue(0);
+            assertThat(decryptCalls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should compare and hash loaded values without decrypting")
+        void shouldCompareAndHashLoadedValuesWithoutDecrypting() {
+            String encrypted = encryptionService.encrypt("900101/1235");
+            StringToEncryptedStringConverter converter = new StringToEncryptedStringConverter(countingService);
+            EncryptedString loaded = converter.convert(encrypted);
+            EncryptedString loadedAgain = converter.convert(encrypted);
+
+            assertThat(loaded).isEqualTo(loadedAgain);
+            assertThat(loaded.hashCode()).isEqualTo(loadedAgain.hashCode());
+            assertThat(loaded).isNotEqualTo(EncryptedString.of("900101/1235"));
+            assertThat(decryptCalls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should not reveal value in toString")
+        void shouldNotRevealValueInToString() {
+            String encrypted = encryptionService.encrypt("900101/1235");
+            EncryptedString loaded = new StringToEncryptedStringConverter(countingService).convert(encrypted);
+
+            assertThat(loaded.toString()).isEqualTo("***");
+            assertThat(decryptCalls).hasValue(0);
+        }
+    }
 }
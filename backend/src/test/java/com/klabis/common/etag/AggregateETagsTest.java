@@ -0,0 +1,155 @@
+package com.klabis.common.etag;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AggregateETags")
+class AggregateETagsTest {
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        loginAs("ZBM8001", "MEMBERS:READ");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("If-None-Match")
+    class IfNoneMatch {
+
+        @Test
+        @DisplayName("should not look up the version without If-None-Match")
+        void skipsLookupWithoutHeader() {
+            AtomicBoolean looked = new AtomicBoolean();
+
+            Optional<ResponseEntity<Object>> response = AggregateETags.notModified(() -> {
+                looked.set(true);
+                return Optional.of(3L);
+            });
+
+            assertThat(response).isEmpty();
+            assertThat(looked).isFalse();
+        }
+
+        @Test
+        @DisplayName("should answer 304 when the tag matches the current version")
+        void notModifiedForCurrentVersion() {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, AggregateETags.eTag(3L).formattedTag());
+
+            Optional<ResponseEntity<Object>> response = AggregateETags.notModified(() -> Optional.of(3L));
+
+            assertThat(response).hasValueSatisfying(notModified -> {
+                assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+                assertThat(notModified.getHeaders().getETag()).isEqualTo(AggregateETags.eTag(3L).formattedTag());
+            });
+        }
+
+        @Test
+        @DisplayName("should render again when the version has changed")
+        void modifiedForNewerVersion() {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, AggregateETags.eTag(3L).formattedTag());
+
+            assertThat(AggregateETags.notModified(() -> Optional.of(4L))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should render again for a caller with different authorities")
+        void modifiedForOtherAuthorities() {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, AggregateETags.eTag(3L).formattedTag());
+            loginAs("ZBM8001", "MEMBERS:READ", "MEMBERS:MANAGE");
+
+            assertThat(AggregateETags.notModified(() -> Optional.of(3L))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should render when the aggregate does not exist")
+        void modifiedForMissingAggregate() {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+
+            assertThat(AggregateETags.notModified(Optional::empty)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("should fingerprint callers independently of authority order but per day")
+    void fingerprint() {
+        LocalDate today = LocalDate.of(2026, 3, 1);
+        var first = UsernamePasswordAuthenticationToken.authenticated("ZBM8001", null,
+                List.of(new SimpleGrantedAuthority("A"), new SimpleGrantedAuthority("B")));
+        var reordered = UsernamePasswordAuthenticationToken.authenticated("ZBM8001", null,
+                List.of(new SimpleGrantedAuthority("B"), new SimpleGrantedAuthority("A")));
+
+        assertThat(AggregateETags.fingerprint(first, today)).isEqualTo(AggregateETags.fingerprint(reordered, today));
+        assertThat(AggregateETags.fingerprint(first, today))
+                .isNotEqualTo(AggregateETags.fingerprint(first, today.plusDays(1)));
+    }
+
+    @Nested
+    @DisplayName("If-Match")
+    class IfMatch {
+
+        @Test
+        @DisplayName("should reject tags that do not name a version")
+        void rejectsForeignTags() {
+            request.addHeader(HttpHeaders.IF_MATCH, "W/\"3-abc\", \"latest\"");
+
+            assertThatThrownBy(() -> AggregateETags.expectIfMatch(UUID.randomUUID()))
+                    .isInstanceOfSatisfying(ErrorResponseException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED));
+        }
+
+        @Test
+        @DisplayName("should accept a wildcard without expecting a version")
+        void acceptsWildcard() {
+            request.addHeader(HttpHeaders.IF_MATCH, "*");
+
+            AggregateETags.expectIfMatch(UUID.randomUUID());
+
+            assertThat(request.getAttributeNames().hasMoreElements()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("should read the version from the tag")
+    void parsesVersion() {
+        assertThat(AggregateETags.parseVersion("12-0123456789abcdef")).contains(12L);
+        assertThat(AggregateETags.parseVersion("latest")).isEmpty();
+        assertThat(AggregateETags.parseVersion("x-1")).isEmpty();
+    }
+
+    private static void loginAs(String username, String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                username, null, Arrays.stream(authorities).map(SimpleGrantedAuthority::new).toList()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.klabis.common.eventpublication;
+
+import com.klabis.CleanupTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Event publication retention — archival and purge")
+@DataJdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+class EventPublicationArchiverTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T03:15:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EventPublicationArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM event_publication");
+        jdbcTemplate.update("DELETE FROM event_publication_archive");
+
+        EventPublicationRetentionProperties properties = new EventPublicationRetentionProperties();
+        properties.setArchiveAfter(Duration.ofDays(7));
+        properties.setKeepArchived(Duration.ofDays(30));
+        properties.setBatchSize(2);
+        archiver = new EventPublicationArchiver(namedJdbc, transactionManager, properties,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private UUID insertPublication(String table, Instant publishedAt, Instant completedAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                        INSERT INTO %s (id, completion_date, event_type, listener_id, publication_date,
+                                        serialized_event, status, completion_attempts)
+                        VALUES (?, ?, 'com.klabis.TestEvent', 'listener', ?, '{}', ?, 1)
+                        """.formatted(table),
+                id,
+                completedAt != null ? Timestamp.from(completedAt) : null,
+                Timestamp.from(publishedAt),
+                completedAt != null ? "COMPLETED" : "PUBLISHED");
+        return id;
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Nested
+    @DisplayName("archiveCompleted()")
+    class ArchiveCompleted {
+
+        @Test
+        @DisplayName("should move old completed publications to archive in batches")
+        void shouldMoveOldCompletedPublications() {
+            for (int i = 0; i < 5; i++) {
+                insertPublication("event_publication", NOW.minus(Duration.ofDays(20)), NOW.minus(Duration.ofDays(10)));
+            }
+
+            int archived = archiver.archiveCompleted();
+
+            assertThat(archived).isEqualTo(5);
+            assertThat(count("event_publication")).isZero();
+            assertThat(count("event_publication_archive")).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("should keep incomplete and recently completed publications")
+        void shouldKeepIncompleteAndRecentPublications() {
+            UUID incomplete = insertPublication("event_publication", NOW.minus(Duration.ofDays(20)), null);
+            UUID recent = insertPublication("event_publication", NOW.minus(Duration.ofDays(2)), NOW.minus(Duration.ofDays(1)));
+            UUID old = insertPublication("event_publication", NOW.minus(Duration.ofDays(20)), NOW.minus(Duration.ofDays(8)));
+
+            archiver.archiveCompleted();
+
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM event_publication", UUID.class))
+                    .containsExactlyInAnyOrder(incomplete, recent);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM event_publication_archive", UUID.class))
+                    .containsExactly(old);
+        }
+    }
+
+    @Nested
+    @DisplayName("purgeArchive()")
+    class PurgeArchive {
+
+        @Test
+        @DisplayName("should delete archived publications past retention period")
+        void shouldDeleteExpiredArchivedPublications() {
+            insertPublication("event_publication_archive", NOW.minus(Duration.ofDays(60)), NOW.minus(Duration.ofDays(40)));
+            insertPublication("event_publication_archive", NOW.minus(Duration.ofDays(60)), NOW.minus(Duration.ofDays(31)));
+            UUID kept = insertPublication("event_publication_archive", NOW.minus(Duration.ofDays(20)), NOW.minus(Duration.ofDays(10)));
+
+            int purged = archiver.purgeArchive();
+
+            assertThat(purged).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM event_publication_archive", UUID.class))
+                    .containsExactly(kept);
+        }
+    }
+}
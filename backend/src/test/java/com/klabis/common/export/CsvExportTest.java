@@ -0,0 +1,107 @@
+package com.klabis.common.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvExport")
+class CsvExportTest {
+
+    private static final String[] HEADER = {"Jméno", "Příjmení"};
+
+    @Test
+    @DisplayName("should write BOM, header and one semicolon separated line per row")
+    void writesBomHeaderAndRows() throws IOException {
+        CsvExport export = CsvExport.of("test.csv", HEADER, rows("Jan Novák", "Eva Svobodová"),
+                name -> name.split(" "));
+
+        String csv = write(export);
+
+        assertThat(csv).startsWith("﻿");
+        assertThat(csv.substring(1).lines()).containsExactly("Jméno;Příjmení", "Jan;Novák", "Eva;Svobodová");
+    }
+
+    @Test
+    @DisplayName("should write null values as empty cells")
+    void writesNullAsEmptyCell() throws IOException {
+        CsvExport export = CsvExport.of("test.csv", HEADER, rows("Jan"),
+                name -> new Object[]{name, null});
+
+        assertThat(write(export).lines()).last().isEqualTo("Jan;");
+    }
+
+    @Test
+    @DisplayName("should read rows only while writing")
+    void readsRowsLazily() throws IOException {
+        List<String> read = new ArrayList<>();
+        RowSource<String> rows = action -> List.of("Jan", "Eva").forEach(name -> {
+            read.add(name);
+            action.accept(name);
+        });
+
+        CsvExport export = CsvExport.of("test.csv", HEADER, rows, name -> new Object[]{name, null});
+        assertThat(read).isEmpty();
+
+        write(export);
+        assertThat(read).containsExactly("Jan", "Eva");
+    }
+
+    @Test
+    @DisplayName("should stop reading rows and rethrow when the client goes away")
+    void propagatesWriteFailure() {
+        List<String> read = new ArrayList<>();
+        RowSource<Integer> rows = action -> {
+            for (int i = 0; i < 100_000; i++) {
+                read.add("row");
+                action.accept(i);
+            }
+        };
+        CsvExport export = CsvExport.of("test.csv", HEADER, rows, i -> new Object[]{i, i});
+
+        assertThatThrownBy(() -> export.writeTo(new FailingOutputStream()))
+                .isInstanceOf(IOException.class);
+        assertThat(read).hasSizeLessThan(100_000);
+    }
+
+    @Test
+    @DisplayName("should offer the file as an attachment with CSV content type")
+    void responseEntityHeaders() {
+        var response = CsvExport.of("clenove.csv", HEADER, rows(), name -> new Object[]{name})
+                .toResponseEntity();
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(CsvExport.TEXT_CSV);
+        assertThat(response.getHeaders().getContentDisposition().isAttachment()).isTrue();
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("clenove.csv");
+    }
+
+    private static RowSource<String> rows(String... values) {
+        return List.of(values)::forEach;
+    }
+
+    private static String write(CsvExport export) throws IOException {
+        var out = new ByteArrayOutputStream();
+        export.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static final class FailingOutputStream extends OutputStream {
+
+        private int written;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (++written > 16 * 1024) {
+                throw new IOException("Broken pipe");
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.klabis.common.jdbc.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Two independent PostgreSQL containers stand in for a primary and its replica. Each holds a {@code node} row with
+ * its own name, so a query tells which of them served it.
+ */
+@DisplayName("Read replica routing")
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer primary = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Container
+    static PostgreSQLContainer replica = new PostgreSQLContainer("postgres:17-alpine");
+
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofMillis(500);
+
+    private HikariDataSource primaryPool;
+    private HikariDataSource replicaPool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primaryPool = pool(primary, "primary");
+        replicaPool = pool(replica, "replica");
+
+        DataSource dataSource = ReadWriteRoutingDataSource.create(primaryPool, replicaPool,
+                new ReadYourWritesTracker(READ_YOUR_WRITES_WINDOW));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcTransactionManager transactionManager = new JdbcTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @Test
+    @DisplayName("should serve read-only transactions from the replica")
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readOnly.<String>execute(status -> servingNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("should serve read-write transactions from the primary")
+    void readWriteTransactionUsesPrimary() {
+        assertThat(readWrite.<String>execute(status -> servingNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("should serve work outside a transaction from the primary")
+    void nonTransactionalWorkUsesPrimary() {
+        assertThat(servingNode()).isEqualTo("primary");
+    }
+
+    @Nested
+    @DisplayName("read your writes")
+    class ReadYourWrites {
+
+        @Test
+        @DisplayName("should keep reads of a user on the primary right after their write")
+        void readsAfterWriteUsePrimary() {
+            loginAs("ZBM8001");
+            write();
+
+            assertThat(readOnly.<String>execute(status -> servingNode())).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("should keep serving other users from the replica")
+        void otherUsersStayOnReplica() {
+            loginAs("ZBM8001");
+            write();
+
+            loginAs("ZBM8002");
+            assertThat(readOnly.<String>execute(status -> servingNode())).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("should return reads to the replica once the window has passed")
+        void readsReturnToReplicaAfterWindow() {
+            loginAs("ZBM8001");
+            write();
+
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> "replica".equals(readOnly.execute(status -> servingNode())));
+        }
+
+        @Test
+        @DisplayName("should not pin reads to the primary after a rolled back write")
+        void rolledBackWriteDoesNotPin() {
+            loginAs("ZBM8001");
+            readWrite.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE node SET name = name");
+                status.setRollbackOnly();
+            });
+
+            assertThat(readOnly.<String>execute(status -> servingNode())).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("should not track anonymous writes")
+        void anonymousWriteDoesNotPin() {
+            write();
+
+            assertThat(readOnly.<String>execute(status -> servingNode())).isEqualTo("replica");
+        }
+
+        private void write() {
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+        }
+
+        private void loginAs(String username) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+        }
+    }
+
+    private String servingNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static HikariDataSource pool(PostgreSQLContainer container, String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(container.getJdbcUrl());
+        pool.setUsername(container.getUsername());
+        pool.setPassword(container.getPassword());
+        pool.setPoolName(name);
+        JdbcTemplate jdbc = new JdbcTemplate(pool);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20) NOT NULL)");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return pool;
+    }
+}
@@ -0,0 +1,34 @@
+package com.klabis.common.listeners;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Application task executor alongside listener executors")
+class ApplicationTaskExecutorIntegrationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("should define applicationTaskExecutor separate from the listener executors")
+    void shouldDefineApplicationTaskExecutor() {
+        assertThat(applicationContext.containsBean(ListenerExecutorsConfiguration.APPLICATION_TASK_EXECUTOR)).isTrue();
+
+        Object applicationTaskExecutor = applicationContext.getBean(ListenerExecutorsConfiguration.APPLICATION_TASK_EXECUTOR);
+
+        assertThat(applicationTaskExecutor).isInstanceOf(AsyncTaskExecutor.class);
+        assertThat(applicationContext.getBean(ListenerExecutors.MEMBERS, ExecutorService.class))
+                .isNotSameAs(applicationTaskExecutor);
+    }
+}
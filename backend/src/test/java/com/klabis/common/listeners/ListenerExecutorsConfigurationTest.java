@@ -0,0 +1,128 @@
+package com.klabis.common.listeners;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Per-module listener executors")
+class ListenerExecutorsConfigurationTest {
+
+    private ListenerExecutorProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<ExecutorService> executors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new ListenerExecutorProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    private ExecutorService create(String module) {
+        ExecutorService executor = new ListenerExecutorsConfiguration(properties, meterRegistry).create(module);
+        executors.add(executor);
+        return executor;
+    }
+
+    private static void saturate(ExecutorService executor, CountDownLatch release) {
+        // one running, one queued
+        executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+        executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("should fall back to defaults for values not overridden by the module")
+    void shouldMergeModuleOverridesWithDefaults() {
+        ListenerExecutorProperties.Settings calendar = new ListenerExecutorProperties.Settings();
+        calendar.setMaxSize(1);
+        properties.getModules().put("calendar", calendar);
+
+        ListenerExecutorProperties.Settings effective = properties.forModule("calendar");
+
+        assertThat(effective.getMaxSize()).isEqualTo(1);
+        assertThat(effective.getCoreSize()).isEqualTo(properties.getDefaults().getCoreSize());
+        assertThat(effective.getQueueCapacity()).isEqualTo(properties.getDefaults().getQueueCapacity());
+        assertThat(properties.forModule("finance")).isSameAs(properties.getDefaults());
+    }
+
+    @Test
+    @DisplayName("should run listeners on threads named after the module and record metrics")
+    void shouldRunOnModuleThreadsWithMetrics() throws Exception {
+        Future<String> threadName = create("calendar").submit(() -> Thread.currentThread().getName());
+
+        assertThat(threadName.get(5, TimeUnit.SECONDS)).startsWith("listener-calendar-");
+        assertThat(meterRegistry.get("klabis.listeners.executor").tag("name", "calendar").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("klabis.listeners.executor.idle").tag("name", "calendar").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should drop and count a listener when threads and queue are exhausted")
+    void shouldDropListenerWhenSaturated() throws Exception {
+        properties.getDefaults().setCoreSize(1);
+        properties.getDefaults().setMaxSize(1);
+        properties.getDefaults().setQueueCapacity(1);
+        ExecutorService finance = create("finance");
+
+        CountDownLatch release = new CountDownLatch(1);
+        saturate(finance, release);
+        AtomicBoolean overflowRan = new AtomicBoolean();
+        finance.submit(() -> overflowRan.set(true));
+        release.countDown();
+        finance.shutdown();
+
+        assertThat(finance.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(overflowRan).isFalse();
+        assertThat(meterRegistry.get("klabis.listeners.executor.rejected").tag("name", "finance").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should run another module's listener promptly while one module is saturated")
+    void shouldNotDelayOtherModulesWhenOneIsSaturated() throws Exception {
+        properties.getDefaults().setCoreSize(1);
+        properties.getDefaults().setMaxSize(1);
+        properties.getDefaults().setQueueCapacity(1);
+        ExecutorService finance = create("finance");
+        ExecutorService calendar = create("calendar");
+
+        CountDownLatch release = new CountDownLatch(1);
+        saturate(finance, release);
+        long start = System.nanoTime();
+        // a publisher dispatches to the listeners of all modules one after another
+        finance.submit(() -> release.await(5, TimeUnit.SECONDS));
+        Future<String> calendarListener = calendar.submit(() -> Thread.currentThread().getName());
+
+        assertThat(calendarListener.get(1, TimeUnit.SECONDS)).startsWith("listener-calendar-");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("should use virtual threads when enabled")
+    void shouldUseVirtualThreadsWhenEnabled() throws Exception {
+        properties.getDefaults().setVirtualThreads(true);
+
+        Future<Boolean> virtual = create("groups").submit(() -> Thread.currentThread().isVirtual());
+
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
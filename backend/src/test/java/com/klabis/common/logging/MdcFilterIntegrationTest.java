@@ -55,7 +55,7 @@ class MdcFilterIntegrationTest {
     @DisplayName("should clean up MDC after request completes")
     void shouldCleanupMDCAfterRequest() throws Exception {
         // Given: MDC is empty before request
-        assertThat(MDC.getCopyOfContextMap()).isNull();
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
 
         // When: Make an API request (triggers MDC population)
         mockMvc.perform(org.springframework.test.web.servlet.request.MockMvcRequestBuilders
@@ -63,7 +63,7 @@ class MdcFilterIntegrationTest {
                 .andExpect(org.springframework.test.web.servlet.result.MockMvcResultMatchers
                         .status().isUnauthorized());
 
-        // Then: MDC should be empty after request (no leak)
-        assertThat(MDC.getCopyOfContextMap()).isNull();
+        // Then: MDC should be empty after request (no leak); tracing leaves an empty map behind
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
     }
 }
@@ -4,6 +4,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -62,6 +63,9 @@ class CustomMetricsIntegrationTest {
 
     }
 
+    record TaggedEvent() {
+    }
+
     Counter getPublishedEvents() {
         return meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_LISTENERS_CALLED).counter();
     }
@@ -112,6 +116,31 @@ class CustomMetricsIntegrationTest {
         });
     }
 
+    @DisplayName("Listener duration and completion lag timers should be tagged by listener and event type")
+    @Test
+    void itShouldRecordTaggedTimers(Scenario scenario) {
+        scenario.publish(new TaggedEvent())
+                .andWaitForEventOfType(TaggedEvent.class)
+                .toArrive();
+
+        await().atMost(2, SECONDS).untilAsserted(() -> {
+            Timer duration = meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_LISTENER_DURATION)
+                    .tag("listener", "TestEventsListener.onTaggedEvent")
+                    .tag("event", "TaggedEvent")
+                    .tag("outcome", "success")
+                    .timer();
+            assertThat(duration).describedAs("Listener duration timer").isNotNull();
+            assertThat(duration.count()).isEqualTo(1);
+
+            Timer lag = meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_EVENT_COMPLETION_LAG)
+                    .tag("listener", "TestEventsListener.onTaggedEvent")
+                    .tag("event", "TaggedEvent")
+                    .timer();
+            assertThat(lag).describedAs("Completion lag timer").isNotNull();
+            assertThat(lag.count()).isEqualTo(1);
+        });
+    }
+
     @TestConfiguration
     static class TestEventsListener {
 
@@ -122,6 +151,11 @@ class CustomMetricsIntegrationTest {
             LOG.info("Successfully processed event: {}", event);
         }
 
+        @ApplicationModuleListener
+        void onTaggedEvent(TaggedEvent event) {
+            LOG.info("Tagged event: {}", event);
+        }
+
         @ApplicationModuleListener
         void onFailedEvent(FailingEvent event) {
             LOG.info("FailingEvent event: {}", event);
@@ -0,0 +1,111 @@
+package com.klabis.common.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Event completion lag — recorded when a publication completes")
+class EventCompletionLagRecorderTest {
+
+    private static final Instant PUBLISHED = Instant.parse("2026-10-19T10:00:00Z");
+    private static final PublicationTargetIdentifier LISTENER = PublicationTargetIdentifier.of(
+            "com.klabis.calendar.CalendarListener.on(com.klabis.common.observability.EventCompletionLagRecorderTest$LagEvent)");
+
+    record LagEvent(int number) {
+    }
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventPublicationRepository delegate = mock(EventPublicationRepository.class);
+    private EventCompletionLagRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new EventCompletionLagRecorder(delegate,
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("should record every completion once, whatever order they complete in")
+    void shouldRecordOutOfOrderCompletions() {
+        TargetEventPublication later = TargetEventPublication.of(new LagEvent(2), LISTENER, PUBLISHED.plusSeconds(5));
+        TargetEventPublication earlier = TargetEventPublication.of(new LagEvent(1), LISTENER, PUBLISHED);
+
+        recorder.markCompleted(later, PUBLISHED.plusSeconds(6));
+        recorder.markCompleted(earlier, PUBLISHED.plusSeconds(3));
+
+        verify(delegate).markCompleted(later, PUBLISHED.plusSeconds(6));
+        verify(delegate).markCompleted(earlier, PUBLISHED.plusSeconds(3));
+        Timer lag = lagTimer();
+        assertThat(lag.count()).isEqualTo(2);
+        assertThat(lag.totalTime(SECONDS)).isEqualTo(4);
+        assertThat(lag.max(SECONDS)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should record the completion only once its transaction commits")
+    void shouldRecordAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        recorder.markCompleted(TargetEventPublication.of(new LagEvent(1), LISTENER, PUBLISHED),
+                PUBLISHED.plus(Duration.ofMillis(250)));
+
+        assertThat(meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_EVENT_COMPLETION_LAG).timer()).isNull();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(lagTimer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not record a completion that rolls back")
+    void shouldNotRecordRolledBackCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        recorder.markCompleted(TargetEventPublication.of(new LagEvent(1), LISTENER, PUBLISHED), PUBLISHED.plusSeconds(1));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_EVENT_COMPLETION_LAG).timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("should skip events outside of Klabis")
+    void shouldSkipForeignEvents() {
+        recorder.markCompleted(TargetEventPublication.of("foreign", LISTENER, PUBLISHED), PUBLISHED.plusSeconds(1));
+
+        assertThat(meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_EVENT_COMPLETION_LAG).timer()).isNull();
+    }
+
+    private Timer lagTimer() {
+        Timer timer = meterRegistry.find(CustomMetricsConfiguration.METRIC_NAME_EVENT_COMPLETION_LAG)
+                .tag("event", "LagEvent")
+                .tag("listener", "CalendarListener.on")
+                .timer();
+        assertThat(timer).isNotNull();
+        return timer;
+    }
+}
@@ -0,0 +1,112 @@
+package com.klabis.common.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.jmolecules.architecture.hexagonal.PrimaryPort;
+import org.jmolecules.architecture.hexagonal.SecondaryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Observation spans around application ports")
+class PortObservationAspectTest {
+
+    @PrimaryPort
+    interface GreetingPort {
+        String greet(String name);
+    }
+
+    static class GreetingService implements GreetingPort {
+        @Override
+        public String greet(String name) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("name is empty");
+            }
+            return "Hello " + name;
+        }
+    }
+
+    @SecondaryAdapter
+    static class GreetingStoreAdapter {
+        public int count() {
+            return 42;
+        }
+    }
+
+    private final List<Observation.Context> stoppedObservations = new ArrayList<>();
+    private PortObservationAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stoppedObservations.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        aspect = new PortObservationAspect(registry);
+    }
+
+    private <T> T proxied(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("should observe primary port implementation with low-cardinality key values")
+    void shouldObservePrimaryPort() {
+        GreetingPort port = proxied(new GreetingService());
+
+        assertThat(port.greet("Jan")).isEqualTo("Hello Jan");
+
+        assertThat(stoppedObservations).singleElement().satisfies(context -> {
+            assertThat(context.getName()).isEqualTo(PortObservationAspect.OBSERVATION_NAME);
+            assertThat(context.getContextualName()).isEqualTo("GreetingService.greet");
+            assertThat(context.getLowCardinalityKeyValues()).containsExactlyInAnyOrder(
+                    KeyValue.of("layer", PortObservationAspect.LAYER_PRIMARY_PORT),
+                    KeyValue.of("class", "GreetingService"),
+                    KeyValue.of("method", "greet"));
+        });
+    }
+
+    @Test
+    @DisplayName("should observe secondary adapter")
+    void shouldObserveSecondaryAdapter() {
+        GreetingStoreAdapter adapter = proxied(new GreetingStoreAdapter());
+
+        assertThat(adapter.count()).isEqualTo(42);
+
+        assertThat(stoppedObservations).singleElement()
+                .extracting(context -> context.getLowCardinalityKeyValue("layer").getValue())
+                .isEqualTo(PortObservationAspect.LAYER_SECONDARY_ADAPTER);
+    }
+
+    @Test
+    @DisplayName("should record error and rethrow exception")
+    void shouldRecordError() {
+        GreetingPort port = proxied(new GreetingService());
+
+        assertThatThrownBy(() -> port.greet("")).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(stoppedObservations).singleElement()
+                .extracting(Observation.Context::getError)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
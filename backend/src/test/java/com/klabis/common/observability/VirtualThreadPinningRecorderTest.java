@@ -0,0 +1,66 @@
+package com.klabis.common.observability;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Virtual thread pinning metrics")
+class VirtualThreadPinningRecorderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningRecorder recorder =
+            new VirtualThreadPinningRecorder(meterRegistry, Duration.ofMillis(5));
+
+    private final Object monitor = new Object();
+
+    @AfterEach
+    void tearDown() {
+        recorder.stop();
+    }
+
+    @Test
+    @DisplayName("should record sleeping inside a synchronized block under the calling Klabis method")
+    void recordsPinningSite() throws Exception {
+        // JDK 24 (JEP 491) lets virtual threads unmount inside synchronized, so there is nothing to pin there
+        assumeTrue(Runtime.version().feature() < 24, "monitors pin virtual threads only before JDK 24");
+        recorder.start();
+        assertThat(recorder.isRunning()).isTrue();
+
+        await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> {
+            Thread.ofVirtual().start(this::sleepHoldingMonitor).join();
+
+            Timer timer = meterRegistry.find(VirtualThreadPinningRecorder.METRIC_NAME_PINNED)
+                    .tag("site", "VirtualThreadPinningRecorderTest.sleepHoldingMonitor")
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isPositive();
+        });
+    }
+
+    @Test
+    @DisplayName("should stop streaming when the application stops")
+    void stops() {
+        recorder.start();
+        recorder.stop();
+
+        assertThat(recorder.isRunning()).isFalse();
+    }
+
+    private void sleepHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
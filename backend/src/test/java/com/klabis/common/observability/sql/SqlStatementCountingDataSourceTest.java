@@ -0,0 +1,90 @@
+package com.klabis.common.observability.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static com.klabis.common.observability.sql.SqlStatementsAssert.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL statement counting DataSource")
+class SqlStatementCountingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = SqlStatementCountingDataSource.wrap(
+                new DriverManagerDataSource("jdbc:h2:mem:sql-statistics;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item (id INT PRIMARY KEY, name VARCHAR(50))");
+        jdbcTemplate.execute("DELETE FROM item");
+    }
+
+    @Test
+    @DisplayName("should count statements executed within a scope")
+    void shouldCountStatementsWithinScope() {
+        SqlStatementStatistics statistics = countStatements(() -> {
+            jdbcTemplate.update("INSERT INTO item VALUES (?, ?)", 1, "first");
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+        });
+
+        SqlStatementsAssert.assertThat(statistics).hasStatementCount(2);
+        assertThat(statistics.totalTime()).isPositive();
+    }
+
+    @Test
+    @DisplayName("should not count statements outside of a scope")
+    void shouldIgnoreStatementsOutsideScope() {
+        jdbcTemplate.update("INSERT INTO item VALUES (?, ?)", 1, "first");
+
+        SqlStatementStatistics statistics = countStatements(() -> {
+        });
+
+        SqlStatementsAssert.assertThat(statistics).hasStatementCount(0);
+    }
+
+    @Test
+    @DisplayName("should group repeated queries by shape regardless of literals")
+    void shouldDetectRepeatedStatementShapes() {
+        for (int i = 1; i <= 5; i++) {
+            jdbcTemplate.update("INSERT INTO item VALUES (?, ?)", i, "item " + i);
+        }
+
+        SqlStatementStatistics statistics = countStatements(() -> {
+            for (int i = 1; i <= 5; i++) {
+                jdbcTemplate.queryForObject("SELECT name FROM item WHERE id = " + i, String.class);
+            }
+            jdbcTemplate.queryForList("SELECT name FROM item WHERE id IN (1, 2, 3)", String.class);
+        });
+
+        assertThat(statistics.repeatedStatements(5))
+                .containsExactly(Map.entry("SELECT name FROM item WHERE id = ?", 5));
+        SqlStatementsAssert.assertThat(statistics).hasStatementCountAtMost(6);
+    }
+
+    @Test
+    @DisplayName("should record statements into all nested scopes")
+    void shouldRecordIntoNestedScopes() {
+        try (SqlStatementTracker.Scope outer = SqlStatementTracker.start("outer")) {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+            try (SqlStatementTracker.Scope inner = SqlStatementTracker.start("inner")) {
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class);
+                assertThat(inner.statistics().statementCount()).isEqualTo(1);
+            }
+            assertThat(outer.statistics().statementCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("should normalize literals and IN lists in statement shapes")
+    void shouldNormalizeStatementShape() {
+        assertThat(SqlStatementStatistics.shapeOf("SELECT *  FROM t\n WHERE name = 'O''Brien' AND id IN (?, ?, ?) LIMIT 10"))
+                .isEqualTo("SELECT * FROM t WHERE name = ? AND id IN (?) LIMIT ?");
+    }
+}
@@ -0,0 +1,74 @@
+package com.klabis.common.observability.sql;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+import java.util.Map;
+
+/**
+ * Assertions pinning SQL query budgets in integration tests.
+ *
+ * <pre>{@code
+ * SqlStatementStatistics statistics = SqlStatementsAssert.countStatements(() ->
+ *         mockMvc.perform(get("/api/members")).andExpect(status().isOk()));
+ *
+ * SqlStatementsAssert.assertThat(statistics)
+ *         .hasStatementCountAtMost(5)
+ *         .hasNoStatementRepeatedMoreThan(1);
+ * }</pre>
+ *
+ * <p>Counting relies on the instrumented DataSource of {@link SqlStatisticsConfiguration}, so the test context
+ * must include it (full application context or {@code @ApplicationModuleTest}). MockMvc requests run on the test
+ * thread and are counted; work done asynchronously (event listeners) is not.
+ */
+public class SqlStatementsAssert extends AbstractAssert<SqlStatementsAssert, SqlStatementStatistics> {
+
+    private SqlStatementsAssert(SqlStatementStatistics actual) {
+        super(actual, SqlStatementsAssert.class);
+    }
+
+    public static SqlStatementsAssert assertThat(SqlStatementStatistics actual) {
+        return new SqlStatementsAssert(actual);
+    }
+
+    /**
+     * Runs the given code in a new tracking scope and returns the statements it executed.
+     */
+    public static SqlStatementStatistics countStatements(ThrowingCallable code) {
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.start("test")) {
+            code.call();
+            return scope.statistics();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public SqlStatementsAssert hasStatementCountAtMost(int expected) {
+        isNotNull();
+        if (actual.statementCount() > expected) {
+            failWithMessage("Expected at most <%d> SQL statements but <%d> were executed: %s",
+                    expected, actual.statementCount(), actual.statementShapes());
+        }
+        return this;
+    }
+
+    public SqlStatementsAssert hasStatementCount(int expected) {
+        isNotNull();
+        if (actual.statementCount() != expected) {
+            failWithMessage("Expected <%d> SQL statements but <%d> were executed: %s",
+                    expected, actual.statementCount(), actual.statementShapes());
+        }
+        return this;
+    }
+
+    public SqlStatementsAssert hasNoStatementRepeatedMoreThan(int times) {
+        isNotNull();
+        Map<String, Integer> repeated = actual.repeatedStatements(times + 1);
+        if (!repeated.isEmpty()) {
+            failWithMessage("Expected no SQL statement executed more than <%d> times but found: %s", times, repeated);
+        }
+        return this;
+    }
+}
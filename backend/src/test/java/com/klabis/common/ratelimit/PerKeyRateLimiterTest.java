@@ -0,0 +1,71 @@
+package com.klabis.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PerKeyRateLimiter")
+class PerKeyRateLimiterTest {
+
+    private static final int LIMIT = 5;
+
+    private PerKeyRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("rateLimitCache");
+        cacheManager.setCaffeine(Caffeine.newBuilder().expireAfterWrite(Duration.ofHours(1)));
+        rateLimiter = new PerKeyRateLimiter(LIMIT, Duration.ofHours(1), cacheManager);
+    }
+
+    @Test
+    @DisplayName("should reject requests over the limit without counting them")
+    void rejectsRequestsOverLimit() {
+        for (int i = 0; i < LIMIT; i++) {
+            rateLimiter.checkLimit("ZBM8001");
+        }
+
+        assertThatThrownBy(() -> rateLimiter.checkLimit("ZBM8001")).isInstanceOf(RateLimitExceededException.class);
+        assertThat(rateLimiter.getCount("ZBM8001")).isEqualTo(LIMIT);
+        assertThat(rateLimiter.getCount("ZBM8002")).isZero();
+    }
+
+    @Test
+    @DisplayName("should accept exactly the limit when many threads hit the same key at once")
+    void acceptsExactlyLimitUnderContention() throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+        List<Future<?>> requests = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                requests.add(executor.submit(() -> {
+                    try {
+                        rateLimiter.checkLimit("ZBM8001");
+                        accepted.incrementAndGet();
+                    } catch (RateLimitExceededException expected) {
+                        // over the limit
+                    }
+                }));
+            }
+            for (Future<?> request : requests) {
+                request.get();
+            }
+        }
+
+        assertThat(accepted).hasValue(LIMIT);
+        assertThat(rateLimiter.getCount("ZBM8001")).isEqualTo(LIMIT);
+    }
+}
@@ -13,11 +13,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -130,6 +134,41 @@ class UserServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("createUsers(users, authorities) method")
+    class CreateUsersMethod {
+
+        @Test
+        @DisplayName("should save all users and their permissions in one call each")
+        @SuppressWarnings("unchecked")
+        void shouldSaveUsersAndPermissionsInBatch() {
+            // Given
+            UserId firstId = UserId.newId();
+            UserId secondId = UserId.newId();
+
+            // When
+            testedSubject.createUsers(List.of(
+                    new UserService.PendingUser(firstId, "ZBM0501", "first@example.com"),
+                    new UserService.PendingUser(secondId, "ZBM0502", "second@example.com")), testAuthorities);
+
+            // Then
+            ArgumentCaptor<Collection<User>> usersCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(userRepository).saveAll(usersCaptor.capture());
+            assertThat(usersCaptor.getValue())
+                    .extracting(User::getId, User::getUsername, User::getAccountStatus)
+                    .containsExactly(
+                            tuple(firstId, "ZBM0501", AccountStatus.PENDING_ACTIVATION),
+                            tuple(secondId, "ZBM0502", AccountStatus.PENDING_ACTIVATION));
+
+            ArgumentCaptor<Collection<UserPermissions>> permissionsCaptor = ArgumentCaptor.forClass(Collection.class);
+            verify(userPermissionsRepository).saveAll(permissionsCaptor.capture());
+            assertThat(permissionsCaptor.getValue())
+                    .extracting(UserPermissions::getUserId)
+                    .containsExactly(firstId, secondId);
+            verify(userRepository, never()).save(any(User.class));
+        }
+    }
+
     @Nested
     @DisplayName("createActiveUser(username, passwordHash, authorities) method")
     class CreateActiveUserWithPasswordHashMethod {
@@ -381,6 +381,19 @@ class EventManagementServiceTest {
             // Then
             assertThat(result.getStatus()).isEqualTo(EventStatus.ACTIVE);
         }
+
+        @Test
+        @DisplayName("should look up the version with the same DRAFT visibility as getEvent")
+        void shouldApplyDraftVisibilityToVersionLookup() {
+            // Given
+            EventId eventId = EventId.generate();
+            when(eventRepository.findVersionById(eventId, false)).thenReturn(Optional.empty());
+            when(eventRepository.findVersionById(eventId, true)).thenReturn(Optional.of(2L));
+
+            // When & Then
+            assertThat(service.findEventVersion(eventId, false)).isEmpty();
+            assertThat(service.findEventVersion(eventId, true)).contains(2L);
+        }
     }
 
     @Nested
@@ -340,6 +340,25 @@ class EventJdbcRepositoryTest {
             assertThat(draftPage.getContent()).hasSize(1);
             assertThat(draftPage.getContent().get(0).getName()).isEqualTo("Draft Event");
         }
+
+        @Test
+        @DisplayName("should find the version of a DRAFT event only when drafts are included")
+        void shouldFindDraftVersionOnlyWhenDraftsIncluded() {
+            // Given
+            Event draftEvent = eventRepository.save(Event.create(EventCreateEventBuilder.builder()
+                    .name("Draft Event").eventDate(LocalDate.of(2026, 6, 10))
+                    .location("Location A").organizer("OOB").build()));
+            Event activeEvent = Event.create(EventCreateEventBuilder.builder()
+                    .name("Active Event").eventDate(LocalDate.of(2026, 6, 11))
+                    .location("Location B").organizer("PRG").build());
+            activeEvent.publish();
+            activeEvent = eventRepository.save(activeEvent);
+
+            // When & Then
+            assertThat(eventRepository.findVersionById(draftEvent.getId(), true)).contains(draftEvent.getVersion());
+            assertThat(eventRepository.findVersionById(draftEvent.getId(), false)).isEmpty();
+            assertThat(eventRepository.findVersionById(activeEvent.getId(), false)).contains(activeEvent.getVersion());
+        }
     }
 
     @Nested
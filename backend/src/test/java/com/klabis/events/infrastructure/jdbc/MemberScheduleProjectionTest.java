@@ -0,0 +1,224 @@
+package com.klabis.events.infrastructure.jdbc;
+
+import com.klabis.CleanupTestData;
+import com.klabis.events.EventId;
+import com.klabis.events.application.EventScheduleQuery;
+import com.klabis.events.application.EventScheduleQuery.MemberScheduleEntry;
+import com.klabis.events.domain.Event;
+import com.klabis.events.domain.EventCreateEventBuilder;
+import com.klabis.events.domain.EventRepository;
+import com.klabis.events.domain.EventStatus;
+import com.klabis.events.domain.EventUpdateEventBuilder;
+import com.klabis.events.domain.SiCardNumber;
+import com.klabis.members.MemberId;
+import org.jmolecules.ddd.annotation.Repository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Member schedule read model Tests")
+@DataJdbcTest(includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ANNOTATION, value = {Repository.class}),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                value = {MemberScheduleProjection.class, EventScheduleQueryImpl.class})})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, statements = {
+        "INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth, nationality, gender, email, phone, street, city, postal_code, country, is_active, created_at, created_by, modified_at, modified_by, version) VALUES ('11111111-1111-1111-1111-111111111111', 'TEST001', 'Test', 'Member1', '2000-01-01', 'CZ', 'MALE', 'test1@example.com', '+420111111111', 'Street 1', 'City 1', '11000', 'CZ', true, CURRENT_TIMESTAMP, 'test', CURRENT_TIMESTAMP, 'test', 0)",
+        "INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth, nationality, gender, email, phone, street, city, postal_code, country, is_active, created_at, created_by, modified_at, modified_by, version) VALUES ('22222222-2222-2222-2222-222222222222', 'TEST002', 'Test', 'Member2', '2000-01-01', 'CZ', 'MALE', 'test2@example.com', '+420111111112', 'Street 2', 'City 2', '11000', 'CZ', true, CURRENT_TIMESTAMP, 'test', CURRENT_TIMESTAMP, 'test', 0)"
+})
+class MemberScheduleProjectionTest {
+
+    private static final MemberId RUNNER = new MemberId(UUID.fromString("11111111-1111-1111-1111-111111111111"));
+    private static final MemberId COORDINATOR = new MemberId(UUID.fromString("22222222-2222-2222-2222-222222222222"));
+
+    private static final LocalDate EVENT_DATE = LocalDate.now().plusDays(30);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventScheduleQuery eventScheduleQuery;
+
+    @Autowired
+    private MemberScheduleProjection projection;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    @DisplayName("registrations")
+    class Registrations {
+
+        @Test
+        @DisplayName("should add the event to the schedule of a registered member")
+        void shouldAddRegisteredEvent() {
+            Event event = activeEvent("Jarní závod", EVENT_DATE);
+            event.registerMember(RUNNER, new SiCardNumber("123456"), null);
+            eventRepository.save(event);
+
+            assertThat(schedule(RUNNER)).singleElement().satisfies(entry -> {
+                assertThat(entry.eventId()).isEqualTo(event.getId());
+                assertThat(entry.name()).isEqualTo("Jarní závod");
+                assertThat(entry.eventDate()).isEqualTo(EVENT_DATE);
+                assertThat(entry.location()).isEqualTo("Praha");
+                assertThat(entry.organizer()).isEqualTo("ZBM");
+                assertThat(entry.status()).isEqualTo(EventStatus.ACTIVE);
+                assertThat(entry.coordinator()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("should remove the event when the member unregisters")
+        void shouldRemoveUnregisteredEvent() {
+            Event event = activeEvent("Jarní závod", EVENT_DATE);
+            event.registerMember(RUNNER, new SiCardNumber("123456"), null);
+            Event saved = eventRepository.save(event);
+
+            saved.unregisterMember(new Event.UnregisterMember(RUNNER));
+            eventRepository.save(saved);
+
+            assertThat(schedule(RUNNER)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should keep the event of a coordinator who unregisters as a runner")
+        void shouldKeepCoordinatorAfterUnregistration() {
+            Event event = activeEvent("Jarní závod", EVENT_DATE, COORDINATOR);
+            event.registerMember(COORDINATOR, new SiCardNumber("654321"), null);
+            Event saved = eventRepository.save(event);
+
+            saved.unregisterMember(new Event.UnregisterMember(COORDINATOR));
+            eventRepository.save(saved);
+
+            assertThat(schedule(COORDINATOR)).singleElement()
+                    .extracting(MemberScheduleEntry::coordinator).isEqualTo(true);
+        }
+    }
+
+    @Nested
+    @DisplayName("event changes")
+    class EventChanges {
+
+        @Test
+        @DisplayName("should list the coordinator's events")
+        void shouldListCoordinatedEvents() {
+            Event event = eventRepository.save(activeEvent("Noční OB", EVENT_DATE, COORDINATOR));
+
+            assertThat(eventScheduleQuery.findEventIdsForMemberSchedule(COORDINATOR, EVENT_DATE, EVENT_DATE))
+                    .containsExactly(event.getId());
+        }
+
+        @Test
+        @DisplayName("should follow a change of the event date and coordinator")
+        void shouldFollowEventUpdate() {
+            Event saved = eventRepository.save(activeEvent("Noční OB", EVENT_DATE, COORDINATOR));
+
+            LocalDate movedDate = EVENT_DATE.plusDays(7);
+            saved.update(EventUpdateEventBuilder.builder(Event.UpdateEvent.from(saved))
+                    .eventDate(movedDate)
+                    .eventCoordinatorId(RUNNER)
+                    .build());
+            eventRepository.save(saved);
+
+            assertThat(schedule(COORDINATOR)).isEmpty();
+            assertThat(schedule(RUNNER)).singleElement().satisfies(entry -> {
+                assertThat(entry.eventDate()).isEqualTo(movedDate);
+                assertThat(entry.coordinator()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("should mark a cancelled event as cancelled")
+        void shouldFollowCancellation() {
+            Event event = activeEvent("Noční OB", EVENT_DATE);
+            event.registerMember(RUNNER, new SiCardNumber("123456"), null);
+            Event saved = eventRepository.save(event);
+
+            saved.cancel();
+            eventRepository.save(saved);
+
+            assertThat(schedule(RUNNER)).singleElement()
+                    .extracting(MemberScheduleEntry::status).isEqualTo(EventStatus.CANCELLED);
+        }
+    }
+
+    @Nested
+    @DisplayName("findMemberSchedule()")
+    class FindMemberSchedule {
+
+        @Test
+        @DisplayName("should return only events within the window ordered by date")
+        void shouldReturnWindowOrderedByDate() {
+            Event later = activeEvent("Later", EVENT_DATE.plusDays(10));
+            later.registerMember(RUNNER, new SiCardNumber("123456"), null);
+            Event earlier = activeEvent("Earlier", EVENT_DATE);
+            earlier.registerMember(RUNNER, new SiCardNumber("123456"), null);
+            Event outside = activeEvent("Outside", EVENT_DATE.plusDays(60));
+            outside.registerMember(RUNNER, new SiCardNumber("123456"), null);
+            eventRepository.save(later);
+            eventRepository.save(earlier);
+            eventRepository.save(outside);
+
+            List<MemberScheduleEntry> schedule = eventScheduleQuery.findMemberSchedule(RUNNER, EVENT_DATE,
+                    EVENT_DATE.plusDays(30));
+
+            assertThat(schedule).extracting(MemberScheduleEntry::name).containsExactly("Earlier", "Later");
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild()")
+    class Rebuild {
+
+        @Test
+        @DisplayName("should pick up registrations written around the event aggregate")
+        void shouldPickUpDirectlyWrittenRows() {
+            Event saved = eventRepository.save(activeEvent("Noční OB", EVENT_DATE));
+            jdbcTemplate.update("""
+                    INSERT INTO events.event_registrations (id, event_id, member_id, si_card_number)
+                    VALUES (?, ?, ?, '123456')
+                    """, UUID.randomUUID(), saved.getId().value(), RUNNER.uuid());
+
+            int rows = projection.rebuild();
+
+            assertThat(rows).isEqualTo(1);
+            assertThat(schedule(RUNNER)).extracting(MemberScheduleEntry::eventId).containsExactly(saved.getId());
+        }
+    }
+
+    private List<MemberScheduleEntry> schedule(MemberId memberId) {
+        return eventScheduleQuery.findMemberSchedule(memberId, LocalDate.now(), LocalDate.now().plusYears(1));
+    }
+
+    private static Event activeEvent(String name, LocalDate date) {
+        return activeEvent(name, date, null);
+    }
+
+    private static Event activeEvent(String name, LocalDate date, MemberId coordinator) {
+        Event event = Event.create(EventCreateEventBuilder.builder()
+                .name(name)
+                .eventDate(date)
+                .location("Praha")
+                .organizer("ZBM")
+                .eventCoordinatorId(coordinator)
+                .build());
+        event.publish();
+        return event;
+    }
+}
@@ -3,6 +3,10 @@ package com.klabis.events.infrastructure.restapi;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -123,7 +127,7 @@ class AccommodationListCsvRendererTest {
 
     @Test
     void shouldStartWithUtf8Bom() {
-        byte[] bytes = renderer.renderToBytes(List.of());
+        byte[] bytes = renderToBytes(List.of());
 
         assertThat(bytes[0]).isEqualTo((byte) 0xEF);
         assertThat(bytes[1]).isEqualTo((byte) 0xBB);
@@ -140,7 +144,17 @@ class AccommodationListCsvRendererTest {
     // --- helpers ---
 
     private String render(List<AccommodationListItemDto> items) {
-        return new String(renderer.renderToBytes(items), java.nio.charset.StandardCharsets.UTF_8);
+        return new String(renderToBytes(items), StandardCharsets.UTF_8);
+    }
+
+    private byte[] renderToBytes(List<AccommodationListItemDto> items) {
+        var out = new ByteArrayOutputStream();
+        try {
+            renderer.render("ubytovani.csv", items::forEach).writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
     }
 
     private String firstLine(String csv) {
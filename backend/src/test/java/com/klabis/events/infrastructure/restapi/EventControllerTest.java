@@ -2,6 +2,7 @@ package com.klabis.events.infrastructure.restapi;
 
 import com.klabis.common.WithKlabisMockUser;
 import com.klabis.common.WithPostprocessors;
+import com.klabis.common.export.RowSource;
 import com.klabis.common.encryption.EncryptionConfiguration;
 import com.klabis.common.ui.HalFormsSupport;
 import com.klabis.common.users.Authority;
@@ -26,14 +27,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import tools.jackson.databind.ObjectMapper;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.containsString;
@@ -45,7 +49,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @DisplayName("EventController API tests")
 @WebMvcTest(controllers = {EventController.class, EventsExceptionHandler.class, EventDetailsPostprocessor.class, EventSummaryPostprocessor.class})
-@Import({EncryptionConfiguration.class, HalFormsSupport.class})
+@Import({EncryptionConfiguration.class, HalFormsSupport.class, AccommodationListCsvRenderer.class})
 @WithPostprocessors
 class EventControllerTest {
 
@@ -66,9 +70,6 @@ class EventControllerTest {
     @MockitoBean
     private Members members;
 
-    @MockitoBean
-    private AccommodationListCsvRenderer csvRenderer;
-
     @Autowired
     private MemberRegistrationSanctionPort memberRegistrationSanctionPort;
 
@@ -547,6 +548,27 @@ class EventControllerTest {
                     .andExpect(status().isNotFound());
         }
 
+        @Test
+        @DisplayName("regular user should get 404 for DRAFT event even with a matching If-None-Match")
+        @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.EVENTS_READ})
+        void shouldReturn404ForConditionalRequestOnDraftEventWithoutManageAuthority() throws Exception {
+            UUID eventId = UUID.randomUUID();
+
+            when(eventManagementService.findEventVersion(new EventId(eventId), true)).thenReturn(Optional.of(1L));
+            when(eventManagementService.findEventVersion(new EventId(eventId), false)).thenReturn(Optional.empty());
+            when(eventManagementService.getEvent(any(), eq(false)))
+                    .thenThrow(new EventNotFoundException(new EventId(eventId)));
+
+            mockMvc.perform(
+                            get("/api/events/{id}", eventId)
+                                    .header(HttpHeaders.IF_NONE_MATCH, "*")
+                                    .accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+                    )
+                    .andExpect(status().isNotFound());
+
+            verify(eventManagementService).findEventVersion(new EventId(eventId), false);
+        }
+
         @Test
         @DisplayName("manager should see DRAFT event detail")
         @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.EVENTS_READ, Authority.EVENTS_MANAGE})
@@ -1915,20 +1937,23 @@ class EventControllerTest {
                     "Jan", "Novák", "AB123456", java.time.LocalDate.of(2028, 1, 1),
                     java.time.LocalDate.of(1990, 5, 10), "Hlavní 1", "Praha", "11000", "CZ");
 
-            byte[] csvBytes = "Jan;Novák\n".getBytes(java.nio.charset.StandardCharsets.UTF_8);
+            RowSource<MemberAccommodationDto> accommodationRows = List.of(accommodationDto)::forEach;
             when(eventManagementService.getEvent(new EventId(eventId), false)).thenReturn(event);
-            when(members.findAccommodationDataByIds(any())).thenReturn(Map.of(memberId, accommodationDto));
-            when(csvRenderer.renderToBytes(any())).thenReturn(csvBytes);
+            when(members.streamAccommodationDataByIds(any())).thenReturn(accommodationRows);
 
-            mockMvc.perform(
+            MvcResult result = mockMvc.perform(
                             get("/api/events/{eventId}/accommodation-list", eventId)
                                     .accept("text/csv")
                     )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
                     .andExpect(status().isOk())
                     .andExpect(header().string("Content-Type", org.hamcrest.Matchers.startsWith("text/csv")))
                     .andExpect(header().string("Content-Disposition", org.hamcrest.Matchers.containsString("attachment")))
                     .andExpect(header().string("Content-Disposition", org.hamcrest.Matchers.containsString("ubytovani-zimni-soustredeni-2026.csv")))
-                    .andExpect(content().string(org.hamcrest.Matchers.containsString("Jan")));
+                    .andExpect(content().string(org.hamcrest.Matchers.containsString("Jan;Novák;AB123456")));
         }
 
         @Test
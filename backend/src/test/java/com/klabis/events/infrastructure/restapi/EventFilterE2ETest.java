@@ -1,6 +1,8 @@
 package com.klabis.events.infrastructure.restapi;
 
 import com.klabis.E2ETest;
+import com.klabis.common.observability.sql.SqlStatementStatistics;
+import com.klabis.common.observability.sql.SqlStatementsAssert;
 import com.klabis.common.security.JwtParams;
 import com.klabis.common.users.Authority;
 import com.klabis.common.users.UserId;
@@ -22,6 +24,7 @@ import java.time.LocalDate;
 import java.util.Map;
 import java.util.UUID;
 
+import static com.klabis.common.observability.sql.SqlStatementsAssert.countStatements;
 import static com.klabis.common.security.JwtParams.member;
 import static com.klabis.common.security.KlabisMvcRequestBuilders.klabisAuthentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -65,6 +68,11 @@ class EventFilterE2ETest {
 
     private static final UUID TEST_MEMBER_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
 
+    // Measured SQL statements per request. The list runs user lookup, fulltext IDs, page and count, and then loads
+    // the registrations of every listed Event aggregate with a statement of its own, so it grows by one per event.
+    private static final int LIST_QUERY_BUDGET = 4;
+    private static final int DETAIL_QUERY_BUDGET = 6;
+
     @Test
     @DisplayName("q=jihlava returns only events matching the fulltext token")
     void shouldFilterByFulltextQuery() throws Exception {
@@ -155,6 +163,57 @@ class EventFilterE2ETest {
                 .andExpect(jsonPath("$.page.totalElements").value(0));
     }
 
+    // -------------------------------------------------------------------------
+    // Query budgets
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("event list adds no statement per listed event beyond loading its registrations")
+    void eventListQueryCountShouldOnlyGrowByRegistrationsPerEvent() throws Exception {
+        // located in a town of their own, so events left behind by other tests do not match the listing
+        createPublishedEvent("Event 1", "Rozpoctov", LocalDate.now().plusDays(10));
+        SqlStatementStatistics singleEvent = countStatements(() -> listEvents(1));
+
+        for (int i = 2; i <= 5; i++) {
+            createPublishedEvent("Event " + i, "Rozpoctov", LocalDate.now().plusDays(10 + i));
+        }
+        SqlStatementStatistics fiveEvents = countStatements(() -> listEvents(5));
+
+        SqlStatementsAssert.assertThat(singleEvent)
+                .hasStatementCountAtMost(LIST_QUERY_BUDGET + 1);
+        SqlStatementsAssert.assertThat(fiveEvents)
+                .hasStatementCountAtMost(LIST_QUERY_BUDGET + 5)
+                .hasNoStatementRepeatedMoreThan(5);
+    }
+
+    @Test
+    @DisplayName("event detail stays within its query budget")
+    void eventDetailShouldStayWithinQueryBudget() throws Exception {
+        String eventId = createPublishedEvent("Detail event", "Praha", LocalDate.now().plusDays(10));
+        registerMember(eventId, TEST_MEMBER_ID);
+
+        SqlStatementStatistics statistics = countStatements(() -> mockMvc.perform(
+                        get("/api/events/{id}", eventId)
+                                .accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+                                .with(memberAuthentication()))
+                .andExpect(status().isOk()));
+
+        SqlStatementsAssert.assertThat(statistics)
+                .hasStatementCountAtMost(DETAIL_QUERY_BUDGET)
+                .hasNoStatementRepeatedMoreThan(2);
+    }
+
+    private void listEvents(int expectedEvents) throws Exception {
+        mockMvc.perform(
+                        get("/api/events")
+                                .param("q", "rozpoctov")
+                                .accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+                                .with(memberAuthentication())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(expectedEvents));
+    }
+
     // -------------------------------------------------------------------------
     // Test helpers
     // -------------------------------------------------------------------------
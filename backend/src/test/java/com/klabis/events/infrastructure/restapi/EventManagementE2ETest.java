@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -412,6 +413,39 @@ class EventManagementE2ETest extends SecurityTestBase {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /api/events/{id} should return 404, not 304, to a non-manager asking conditionally for a DRAFT event")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.EVENTS_READ})
+    void shouldNotRevealDraftEventThroughConditionalRequest() throws Exception {
+        Event draft = eventManagementPort.createEvent(EventCreateEventBuilder.builder()
+                .name("Secret Draft")
+                .eventDate(LocalDate.now().plusDays(30))
+                .location("Forest Park")
+                .organizer("OOB")
+                .build());
+        Event published = eventManagementPort.createEvent(EventCreateEventBuilder.builder()
+                .name("Published Event")
+                .eventDate(LocalDate.now().plusDays(30))
+                .location("Forest Park")
+                .organizer("OOB")
+                .build());
+        eventManagementPort.publishEvent(published.getId());
+
+        mockMvc.perform(
+                        get("/api/events/{id}", draft.getId().value())
+                                .header(HttpHeaders.IF_NONE_MATCH, "*")
+                                .accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+                )
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(
+                        get("/api/events/{id}", published.getId().value())
+                                .header(HttpHeaders.IF_NONE_MATCH, "*")
+                                .accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+                )
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("Event update should be rejected for FINISHED events")
     @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.EVENTS_MANAGE})
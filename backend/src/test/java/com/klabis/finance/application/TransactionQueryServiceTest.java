@@ -1,5 +1,6 @@
 package com.klabis.finance.application;
 
+import com.klabis.common.export.RowSource;
 import com.klabis.finance.domain.MemberAccount;
 import com.klabis.finance.domain.MemberAccountRepository;
 import com.klabis.finance.domain.Money;
@@ -20,6 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -111,6 +113,21 @@ class TransactionQueryServiceTest {
         assertThat(result.getContent().get(0).reversedBy()).isEmpty();
     }
 
+    @Test
+    @DisplayName("streamTransactions hands over the repository cursor with the same filters")
+    void streamTransactionsDelegatesToRepository() {
+        Transaction tx = buildTransaction(TX_ID);
+        RowSource<Transaction> rows = List.of(tx)::forEach;
+        when(memberAccountRepository.streamTransactions(MEMBER_ID, LocalDate.of(2026, 1, 1), null, TransactionType.DEPOSIT))
+                .thenReturn(rows);
+
+        List<Transaction> result = new ArrayList<>();
+        service.streamTransactions(MEMBER_ID, LocalDate.of(2026, 1, 1), null, TransactionType.DEPOSIT)
+                .forEach(result::add);
+
+        assertThat(result).containsExactly(tx);
+    }
+
     private Transaction buildTransaction(TransactionId id) {
         return Transaction.reconstruct(
                 id,
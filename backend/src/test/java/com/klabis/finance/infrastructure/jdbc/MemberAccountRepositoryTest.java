@@ -7,6 +7,7 @@ import com.klabis.finance.domain.Money;
 import com.klabis.finance.domain.Transaction;
 import com.klabis.finance.domain.TransactionAlreadyReversedException;
 import com.klabis.finance.domain.TransactionId;
+import com.klabis.finance.domain.TransactionType;
 import com.klabis.members.MemberId;
 import org.jmolecules.ddd.annotation.Repository;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -190,4 +192,20 @@ class MemberAccountRepositoryTest {
         assertThat(reloaded.get().getBalance()).isEqualTo(Money.ofCzk(BigDecimal.valueOf(450)));
         assertThat(reloaded.get().getTransactions()).hasSize(2);
     }
+
+    @Test
+    @DisplayName("streamTransactions yields filtered transactions newest first")
+    void streamTransactionsYieldsFilteredTransactionsNewestFirst() {
+        MemberAccount account = MemberAccount.openFor(memberId);
+        account.deposit(Money.ofCzk(BigDecimal.valueOf(100)), "older", LocalDate.of(2026, 1, 10), Instant.now(), financeManager);
+        account.deposit(Money.ofCzk(BigDecimal.valueOf(200)), "newer", LocalDate.of(2026, 2, 10), Instant.now(), financeManager);
+        account.charge(Money.ofCzk(BigDecimal.valueOf(50)), "charge", LocalDate.of(2026, 2, 15), Instant.now(), financeManager);
+        memberAccountRepository.save(account);
+
+        List<String> notes = new ArrayList<>();
+        memberAccountRepository.streamTransactions(memberId, LocalDate.of(2026, 1, 1), null, TransactionType.DEPOSIT)
+                .forEach(tx -> notes.add(tx.getNote()));
+
+        assertThat(notes).containsExactly("newer", "older");
+    }
 }
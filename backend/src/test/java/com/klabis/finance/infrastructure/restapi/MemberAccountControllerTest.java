@@ -1,6 +1,7 @@
 package com.klabis.finance.infrastructure.restapi;
 
 import com.klabis.common.WithKlabisMockUser;
+import com.klabis.common.export.RowSource;
 import com.klabis.common.WithPostprocessors;
 import com.klabis.common.ui.HalFormsSupport;
 import com.klabis.common.users.Authority;
@@ -31,6 +32,7 @@ import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -41,8 +43,12 @@ import java.util.UUID;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -443,6 +449,65 @@ class MemberAccountControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/members/{id}/account/transactions (text/csv export)")
+    class TransactionsExportEndpoint {
+
+        @Test
+        @DisplayName("streams the owner's transactions as CSV")
+        @WithKlabisMockUser(memberId = "11111111-1111-1111-1111-111111111111")
+        void shouldStreamTransactionsAsCsvForOwner() throws Exception {
+            RowSource<Transaction> rows = List.of(buildDepositTransaction(), buildChargeTransaction())::forEach;
+            when(transactionQueryPort.streamTransactions(MEMBER_ID, null, null, null)).thenReturn(rows);
+
+            MvcResult result = mockMvc.perform(get("/api/members/{id}/account/transactions", MEMBER_UUID)
+                            .accept("text/csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                    .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                    .andExpect(header().string("Content-Disposition", containsString("transakce.csv")))
+                    .andExpect(content().string(containsString("Datum;Typ;Částka;Měna;Poznámka;Zaúčtováno")))
+                    .andExpect(content().string(containsString("2026-05-01;DEPOSIT;200;CZK;Test deposit;")))
+                    .andExpect(content().string(containsString("2026-05-01;OTHER;-100;CZK;Test charge;")));
+        }
+
+        @Test
+        @DisplayName("passes the date range and type filters to the query")
+        @WithKlabisMockUser(authorities = {Authority.FINANCE_MANAGE})
+        void shouldPassFiltersToQuery() throws Exception {
+            RowSource<Transaction> rows = List.<Transaction>of()::forEach;
+            when(transactionQueryPort.streamTransactions(any(), any(), any(), any())).thenReturn(rows);
+
+            MvcResult result = mockMvc.perform(get("/api/members/{id}/account/transactions", MEMBER_UUID)
+                            .param("occurredAtFrom", "2026-01-01")
+                            .param("occurredAtTo", "2026-12-31")
+                            .param("type", "DEPOSIT")
+                            .accept("text/csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk());
+            verify(transactionQueryPort).streamTransactions(MEMBER_ID,
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), TransactionType.DEPOSIT);
+        }
+
+        @Test
+        @DisplayName("returns 403 for non-owner without FINANCE:MANAGE")
+        @WithKlabisMockUser(memberId = "99999999-9999-9999-9999-999999999999")
+        void shouldReturn403ForNonOwnerWithoutFinanceManage() throws Exception {
+            mockMvc.perform(get("/api/members/{id}/account/transactions", MEMBER_UUID)
+                            .accept("text/csv"))
+                    .andExpect(status().isForbidden());
+
+            verify(transactionQueryPort, never()).streamTransactions(any(), any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/members/{id}/account/transactions/{txId}")
     class GetTransactionEndpoint {
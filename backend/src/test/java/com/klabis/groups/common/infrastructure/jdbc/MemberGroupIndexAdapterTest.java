@@ -0,0 +1,169 @@
+package com.klabis.groups.common.infrastructure.jdbc;
+
+import com.klabis.CleanupTestData;
+import com.klabis.groups.common.domain.MemberGroupIndex;
+import com.klabis.groups.common.domain.MemberGroupRole;
+import com.klabis.groups.freegroup.domain.FreeGroup;
+import com.klabis.groups.freegroup.domain.FreeGroupRepository;
+import com.klabis.groups.traininggroup.domain.AgeRange;
+import com.klabis.groups.traininggroup.domain.TrainingGroup;
+import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
+import com.klabis.members.MemberId;
+import org.jmolecules.ddd.annotation.Repository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("MemberGroupIndex — reverse member → groups lookup")
+@DataJdbcTest(includeFilters = {
+        @ComponentScan.Filter(type = FilterType.ANNOTATION, value = {Repository.class}),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                value = {MemberGroupIndexAdapter.class, MemberGroupIndexInvalidator.class})
+})
+@Import(MemberGroupIndexAdapterTest.CacheTestConfiguration.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, statements = {
+        "INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth, nationality, gender, email, phone, street, city, postal_code, country, is_active, created_at, created_by, modified_at, modified_by, version) VALUES ('aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'TEST001', 'Owner', 'Member', '1985-01-01', 'CZ', 'MALE', 'owner@example.com', '+420111111111', 'Street 1', 'City', '11000', 'CZ', true, CURRENT_TIMESTAMP, 'test', CURRENT_TIMESTAMP, 'test', 0)",
+        "INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth, nationality, gender, email, phone, street, city, postal_code, country, is_active, created_at, created_by, modified_at, modified_by, version) VALUES ('bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb', 'TEST002', 'Other', 'Member', '2010-01-01', 'CZ', 'MALE', 'other@example.com', '+420222222222', 'Street 2', 'City', '11000', 'CZ', true, CURRENT_TIMESTAMP, 'test', CURRENT_TIMESTAMP, 'test', 0)"
+})
+class MemberGroupIndexAdapterTest {
+
+    private static final MemberId OWNER = new MemberId(UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa"));
+    private static final MemberId OTHER = new MemberId(UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb"));
+
+    @Autowired
+    private MemberGroupIndex memberGroupIndex;
+
+    @Autowired
+    private FreeGroupRepository freeGroupRepository;
+
+    @Autowired
+    private TrainingGroupRepository trainingGroupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @TestConfiguration
+    static class CacheTestConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager();
+        }
+    }
+
+    @Test
+    @DisplayName("should return owner, member and pending invitation roles across group types")
+    void shouldReturnAllRolesAcrossGroupTypes() {
+        FreeGroup freeGroup = FreeGroup.create(new FreeGroup.CreateFreeGroup("Free Group", OWNER));
+        freeGroup.invite(OWNER, OTHER);
+        freeGroupRepository.save(freeGroup);
+
+        TrainingGroup trainingGroup = TrainingGroup.create(
+                new TrainingGroup.CreateTrainingGroup("Training Group", OWNER, new AgeRange(5, 18)));
+        trainingGroup.assignEligibleMember(OTHER);
+        trainingGroup.clearDomainEvents();
+        trainingGroupRepository.save(trainingGroup);
+
+        Map<MemberId, List<MemberGroupRole>> result = memberGroupIndex.findGroupsOf(List.of(OWNER, OTHER));
+
+        assertThat(result.get(OWNER))
+                .extracting(MemberGroupRole::groupName, MemberGroupRole::role, MemberGroupRole::isLastOwner)
+                .containsExactlyInAnyOrder(
+                        tuple("Free Group", MemberGroupRole.Role.OWNER, true),
+                        // the creator of a free group is also its member
+                        tuple("Free Group", MemberGroupRole.Role.MEMBER, false),
+                        tuple("Training Group", MemberGroupRole.Role.OWNER, true));
+        assertThat(result.get(OTHER))
+                .extracting(MemberGroupRole::groupType, MemberGroupRole::role)
+                .containsExactlyInAnyOrder(
+                        tuple(FreeGroup.TYPE_DISCRIMINATOR, MemberGroupRole.Role.INVITED),
+                        tuple(TrainingGroup.TYPE_DISCRIMINATOR, MemberGroupRole.Role.MEMBER));
+    }
+
+    @Test
+    @DisplayName("should return empty list for member without groups")
+    void shouldReturnEmptyListForMemberWithoutGroups() {
+        assertThat(memberGroupIndex.findGroupsOf(OTHER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reflect group changes after save")
+    void shouldReflectGroupChangesAfterSave() {
+        assertThat(memberGroupIndex.findGroupsOf(OTHER)).isEmpty();
+
+        FreeGroup freeGroup = FreeGroup.create(new FreeGroup.CreateFreeGroup("Free Group", OWNER));
+        freeGroup.invite(OWNER, OTHER);
+        freeGroupRepository.save(freeGroup);
+
+        assertThat(memberGroupIndex.findGroupsOf(OTHER))
+                .extracting(MemberGroupRole::role)
+                .containsExactly(MemberGroupRole.Role.INVITED);
+    }
+
+    @Test
+    @DisplayName("should read current roles even when the cached entry is stale")
+    void shouldReadCurrentRolesBypassingCache() {
+        assertThat(memberGroupIndex.findGroupsOf(OWNER)).isEmpty();
+
+        jdbcTemplate.update("INSERT INTO groups.user_groups (id, type, name, created_by, modified_by, version) VALUES ('cccccccc-cccc-cccc-cccc-cccccccccccc', 'FREE', 'Written elsewhere', 'test', 'test', 0)");
+        jdbcTemplate.update("INSERT INTO groups.user_group_owners (user_group_id, member_id) VALUES ('cccccccc-cccc-cccc-cccc-cccccccccccc', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa')");
+
+        assertThat(memberGroupIndex.findGroupsOf(OWNER)).isEmpty();
+        assertThat(memberGroupIndex.findCurrentGroupsOf(OWNER))
+                .extracting(MemberGroupRole::groupName, MemberGroupRole::isLastOwner)
+                .containsExactly(tuple("Written elsewhere", true));
+    }
+
+    @Test
+    @DisplayName("should cache roles per member UUID in the memberGroups cache")
+    void shouldCacheRolesByMemberUuid() {
+        memberGroupIndex.findGroupsOf(OWNER);
+
+        assertThat(cacheManager.getCache(MemberGroupIndexAdapter.CACHE_NAME).get(OWNER.value())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should drop the group from a member removed from it")
+    void shouldReflectMemberRemovalAfterSave() {
+        TrainingGroup trainingGroup = TrainingGroup.create(
+                new TrainingGroup.CreateTrainingGroup("Training Group", OWNER, new AgeRange(5, 18)));
+        trainingGroup.assignEligibleMember(OTHER);
+        trainingGroup.clearDomainEvents();
+        trainingGroupRepository.save(trainingGroup);
+        assertThat(memberGroupIndex.findGroupsOf(OTHER))
+                .extracting(MemberGroupRole::groupName)
+                .containsExactly("Training Group");
+
+        TrainingGroup stored = trainingGroupRepository.findById(trainingGroup.getId()).orElseThrow();
+        stored.removeMember(OTHER);
+        stored.clearDomainEvents();
+        trainingGroupRepository.save(stored);
+
+        assertThat(memberGroupIndex.findGroupsOf(OTHER)).isEmpty();
+    }
+}
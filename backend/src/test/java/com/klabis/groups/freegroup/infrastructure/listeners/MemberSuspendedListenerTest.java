@@ -1,6 +1,8 @@
 package com.klabis.groups.freegroup.infrastructure.listeners;
 
 import com.klabis.groups.common.domain.GroupMembership;
+import com.klabis.groups.common.domain.MemberGroupIndex;
+import com.klabis.groups.common.domain.MemberGroupRole;
 import com.klabis.groups.freegroup.domain.Invitation;
 import com.klabis.groups.common.domain.FreeGroupFilter;
 import com.klabis.groups.freegroup.FreeGroupId;
@@ -40,11 +42,19 @@ class MemberSuspendedListenerTest {
     @Mock
     private FreeGroupRepository freeGroupRepository;
 
+    @Mock
+    private MemberGroupIndex memberGroupIndex;
+
     private MemberSuspendedListener listener;
 
     @BeforeEach
     void setUp() {
-        listener = new MemberSuspendedListener(freeGroupRepository);
+        listener = new MemberSuspendedListener(freeGroupRepository, memberGroupIndex);
+    }
+
+    private void givenPendingInvitationIndexed(MemberId memberId) {
+        when(memberGroupIndex.findGroupsOf(memberId)).thenReturn(List.of(new MemberGroupRole(
+                memberId, GROUP_ID.value(), FreeGroup.TYPE_DISCRIMINATOR, "Test Group", MemberGroupRole.Role.INVITED, 1)));
     }
 
     private MemberSuspendedEvent suspendedEvent(MemberId memberId) {
@@ -72,6 +82,7 @@ class MemberSuspendedListenerTest {
                     Set.of(pending),
                     null);
 
+            givenPendingInvitationIndexed(INVITEE);
             when(freeGroupRepository.findAll(FreeGroupFilter.all().withPendingInvitationFor(INVITEE)))
                     .thenReturn(List.of(group));
             when(freeGroupRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -92,6 +103,7 @@ class MemberSuspendedListenerTest {
             FreeGroup group2 = FreeGroup.reconstruct(SECOND_GROUP_ID, "Group Two",
                     Set.of(OWNER), Set.of(GroupMembership.of(OWNER)), Set.of(pending2), null);
 
+            givenPendingInvitationIndexed(INVITEE);
             when(freeGroupRepository.findAll(FreeGroupFilter.all().withPendingInvitationFor(INVITEE)))
                     .thenReturn(List.of(group1, group2));
             when(freeGroupRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -110,13 +122,24 @@ class MemberSuspendedListenerTest {
         @Test
         @DisplayName("should not attempt to cancel when the member has no pending invitations")
         void shouldNotCancelWhenNoPendingInvitations() {
-            when(freeGroupRepository.findAll(FreeGroupFilter.all().withPendingInvitationFor(INVITEE)))
-                    .thenReturn(List.of());
+            when(memberGroupIndex.findGroupsOf(INVITEE)).thenReturn(List.of());
 
             listener.on(suspendedEvent(INVITEE));
 
+            verify(freeGroupRepository, never()).findAll(any());
             verify(freeGroupRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("should not load groups when the member is only an owner or member")
+        void shouldNotLoadGroupsWhenMemberHasNoInvitationRole() {
+            when(memberGroupIndex.findGroupsOf(INVITEE)).thenReturn(List.of(new MemberGroupRole(
+                    INVITEE, GROUP_ID.value(), FreeGroup.TYPE_DISCRIMINATOR, "Test Group", MemberGroupRole.Role.MEMBER, 1)));
+
+            listener.on(suspendedEvent(INVITEE));
+
+            verify(freeGroupRepository, never()).findAll(any());
+        }
     }
 
     @Nested
@@ -133,6 +156,7 @@ class MemberSuspendedListenerTest {
             FreeGroup group2 = FreeGroup.reconstruct(SECOND_GROUP_ID, "Group Two",
                     Set.of(OWNER), Set.of(GroupMembership.of(OWNER)), Set.of(pending2), null);
 
+            givenPendingInvitationIndexed(INVITEE);
             when(freeGroupRepository.findAll(FreeGroupFilter.all().withPendingInvitationFor(INVITEE)))
                     .thenReturn(List.of(group1, group2));
             doThrow(new RuntimeException("Simulated failure")).when(freeGroupRepository).save(group1);
@@ -0,0 +1,94 @@
+package com.klabis.groups.traininggroup.application;
+
+import com.klabis.groups.MemberAssignedToTrainingGroupEvent;
+import com.klabis.groups.traininggroup.TrainingGroupId;
+import com.klabis.groups.traininggroup.domain.AgeRange;
+import com.klabis.groups.traininggroup.domain.TrainingGroupAgeBand;
+import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
+import com.klabis.members.ActiveMembersByAgeProvider;
+import com.klabis.members.MemberId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TrainingGroupRebalancingService")
+@ExtendWith(MockitoExtension.class)
+class TrainingGroupRebalancingServiceTest {
+
+    private static final TrainingGroupId KIDS = new TrainingGroupId(UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa"));
+    private static final TrainingGroupId JUNIORS = new TrainingGroupId(UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb"));
+
+    private static final MemberId STAYING = new MemberId(UUID.fromString("11111111-1111-1111-1111-111111111111"));
+    private static final MemberId GREW_UP = new MemberId(UUID.fromString("22222222-2222-2222-2222-222222222222"));
+    private static final MemberId OUTSIDE_ALL_BANDS = new MemberId(UUID.fromString("33333333-3333-3333-3333-333333333333"));
+
+    @Mock
+    private TrainingGroupRepository trainingGroupRepository;
+
+    @Mock
+    private ActiveMembersByAgeProvider activeMembersByAgeProvider;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TrainingGroupRebalancingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrainingGroupRebalancingService(trainingGroupRepository, activeMembersByAgeProvider, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should move only members whose age falls into another group's band")
+    void shouldMoveMembersWhoseAgeCrossedBoundary() {
+        when(trainingGroupRepository.findAgeBands()).thenReturn(List.of(
+                new TrainingGroupAgeBand(KIDS, "Kids", new AgeRange(6, 9)),
+                new TrainingGroupAgeBand(JUNIORS, "Juniors", new AgeRange(10, 18))));
+        when(activeMembersByAgeProvider.findActiveMemberIdsByAgeRange(6, 9)).thenReturn(List.of(STAYING));
+        when(activeMembersByAgeProvider.findActiveMemberIdsByAgeRange(10, 18)).thenReturn(List.of(GREW_UP));
+        when(trainingGroupRepository.findMemberAssignments()).thenReturn(Map.of(
+                STAYING, KIDS,
+                GREW_UP, KIDS,
+                OUTSIDE_ALL_BANDS, JUNIORS));
+
+        int moved = service.rebalanceByAge();
+
+        assertThat(moved).isEqualTo(1);
+        verify(trainingGroupRepository).moveMembers(Map.of(GREW_UP, JUNIORS));
+
+        ArgumentCaptor<MemberAssignedToTrainingGroupEvent> event = ArgumentCaptor.forClass(MemberAssignedToTrainingGroupEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().memberId()).isEqualTo(GREW_UP);
+        assertThat(event.getValue().groupId()).isEqualTo(JUNIORS);
+        assertThat(event.getValue().groupName()).isEqualTo("Juniors");
+    }
+
+    @Test
+    @DisplayName("should not touch assignments when every member is in the right group")
+    void shouldNotMoveWhenAssignmentsMatch() {
+        when(trainingGroupRepository.findAgeBands()).thenReturn(List.of(
+                new TrainingGroupAgeBand(KIDS, "Kids", new AgeRange(6, 9))));
+        when(activeMembersByAgeProvider.findActiveMemberIdsByAgeRange(6, 9)).thenReturn(List.of(STAYING));
+        when(trainingGroupRepository.findMemberAssignments()).thenReturn(Map.of(STAYING, KIDS));
+
+        assertThat(service.rebalanceByAge()).isZero();
+
+        verify(trainingGroupRepository, never()).moveMembers(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
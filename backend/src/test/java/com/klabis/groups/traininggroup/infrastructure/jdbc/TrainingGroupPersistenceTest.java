@@ -5,8 +5,10 @@ import com.klabis.groups.MemberAssignedToTrainingGroupEvent;
 import com.klabis.members.MemberId;
 import com.klabis.groups.common.domain.AgeRangeOverlap;
 import com.klabis.groups.common.domain.TrainingGroupFilter;
+import com.klabis.groups.common.infrastructure.jdbc.GroupMembersChangedEvent;
 import com.klabis.groups.traininggroup.domain.AgeRange;
 import com.klabis.groups.traininggroup.domain.TrainingGroup;
+import com.klabis.groups.traininggroup.domain.TrainingGroupAgeBand;
 import com.klabis.groups.traininggroup.TrainingGroupId;
 import com.klabis.groups.traininggroup.domain.TrainingGroupRepository;
 import org.jmolecules.ddd.annotation.Repository;
@@ -28,6 +30,7 @@ import org.springframework.test.context.jdbc.Sql;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -64,6 +67,11 @@ class TrainingGroupPersistenceTest {
             capturedEvents.add(event);
         }
 
+        @EventListener
+        public void onEvent(GroupMembersChangedEvent event) {
+            capturedEvents.add(event);
+        }
+
         public List<Object> getCapturedEvents() {
             return List.copyOf(capturedEvents);
         }
@@ -311,6 +319,90 @@ class TrainingGroupPersistenceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAll(withAgeIncluding)")
+    class FindAllByAge {
+
+        @Test
+        @DisplayName("should return only the group whose age range includes the age, bounds inclusive")
+        void shouldReturnGroupIncludingAge() {
+            trainingGroupRepository.save(TrainingGroup.create(
+                    new TrainingGroup.CreateTrainingGroup("Kids", TRAINER, new AgeRange(6, 9))));
+            trainingGroupRepository.save(TrainingGroup.create(
+                    new TrainingGroup.CreateTrainingGroup("Juniors", TRAINER, new AgeRange(10, 18))));
+
+            assertThat(trainingGroupRepository.findAll(TrainingGroupFilter.all().withAgeIncluding(10)))
+                    .extracting(TrainingGroup::getName).containsExactly("Juniors");
+            assertThat(trainingGroupRepository.findAll(TrainingGroupFilter.all().withAgeIncluding(9)))
+                    .extracting(TrainingGroup::getName).containsExactly("Kids");
+            assertThat(trainingGroupRepository.findAll(TrainingGroupFilter.all().withAgeIncluding(19))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("moveMembers() — bulk reassignment")
+    class MoveMembers {
+
+        @Test
+        @DisplayName("should move member from current training group into target group")
+        void shouldMoveMemberToTargetGroup() {
+            TrainingGroup kids = TrainingGroup.create(
+                    new TrainingGroup.CreateTrainingGroup("Kids", TRAINER, new AgeRange(6, 9)));
+            kids.assignEligibleMember(REGULAR_MEMBER);
+            kids = trainingGroupRepository.save(kids);
+            TrainingGroup juniors = trainingGroupRepository.save(TrainingGroup.create(
+                    new TrainingGroup.CreateTrainingGroup("Juniors", TRAINER, new AgeRange(10, 18))));
+
+            assertThat(trainingGroupRepository.findMemberAssignments()).containsEntry(REGULAR_MEMBER, kids.getId());
+
+            trainingGroupRepository.moveMembers(Map.of(REGULAR_MEMBER, juniors.getId()));
+
+            assertThat(trainingGroupRepository.findMemberAssignments()).containsEntry(REGULAR_MEMBER, juniors.getId());
+            assertThat(trainingGroupRepository.findById(kids.getId()).orElseThrow().getMembers()).isEmpty();
+            assertThat(trainingGroupRepository.findById(juniors.getId()).orElseThrow().hasMember(REGULAR_MEMBER)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should report moved members so the member group index is invalidated")
+        void shouldPublishGroupMembersChangedEvent() {
+            TrainingGroup juniors = trainingGroupRepository.save(TrainingGroup.create(
+                    new TrainingGroup.CreateTrainingGroup("Juniors", TRAINER, new AgeRange(10, 18))));
+            domainEventCapture.clear();
+
+            trainingGroupRepository.moveMembers(Map.of(REGULAR_MEMBER, juniors.getId()));
+
+            assertThat(domainEventCapture.getCapturedEvents()).containsExactly(
+                    new GroupMembersChangedEvent(juniors.getId().value(), List.of(REGULAR_MEMBER.value())));
+        }
+
+        @Test
+        @DisplayName("should reject member assigned to more than one training group")
+        void shouldRejectMemberInTwoTrainingGroups() {
+            TrainingGroup kids = TrainingGroup.create(
+                    new TrainingGroup.CreateTrainingGroup("Kids", TRAINER, new AgeRange(6, 9)));
+            kids.assignEligibleMember(REGULAR_MEMBER);
+            trainingGroupRepository.save(kids);
+            TrainingGroup juniors = TrainingGroup.create(
+                    new TrainingGroup.CreateTrainingGroup("Juniors", TRAINER, new AgeRange(10, 18)));
+            juniors.assignEligibleMember(REGULAR_MEMBER);
+            trainingGroupRepository.save(juniors);
+
+            assertThatThrownBy(() -> trainingGroupRepository.findMemberAssignments())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(REGULAR_MEMBER.value().toString());
+        }
+
+        @Test
+        @DisplayName("should return age bands of all training groups")
+        void shouldReturnAgeBands() {
+            TrainingGroup juniors = trainingGroupRepository.save(TrainingGroup.create(
+                    new TrainingGroup.CreateTrainingGroup("Juniors", TRAINER, new AgeRange(10, 18))));
+
+            assertThat(trainingGroupRepository.findAgeBands())
+                    .containsExactly(new TrainingGroupAgeBand(juniors.getId(), "Juniors", new AgeRange(10, 18)));
+        }
+    }
+
     @Nested
     @DisplayName("delete()")
     class DeleteMethod {
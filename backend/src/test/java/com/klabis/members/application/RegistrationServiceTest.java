@@ -17,12 +17,19 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -538,4 +545,71 @@ class RegistrationServiceTest {
             assertThat(savedMember.getBankAccountNumber()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("registerMembers() method")
+    class RegisterMembersMethod {
+
+        private RegistrationPort.RegisterNewMember command(String firstName, LocalDate dateOfBirth, String email) {
+            return new RegistrationPort.RegisterNewMember(
+                    PersonalInformation.of(firstName, "Novák", dateOfBirth, "SK", Gender.MALE),
+                    Address.of("Hlavní 123", "Praha", "11000", "CZ"),
+                    EmailAddress.of(email),
+                    PhoneNumber.of("+420777888999"),
+                    null,
+                    null,
+                    null,
+                    null
+            );
+        }
+
+        @Test
+        @DisplayName("should create users in one batch and save members with their shared IDs")
+        @SuppressWarnings("unchecked")
+        void shouldRegisterAllMembersInBatches() {
+            // Given
+            LocalDate first = LocalDate.of(1990, 1, 10);
+            LocalDate second = LocalDate.of(1985, 5, 5);
+            when(registrationNumberGenerator.generateAll(List.of(first, second)))
+                    .thenReturn(List.of(new RegistrationNumber("ZBM9003"), new RegistrationNumber("ZBM8501")));
+            when(memberRepository.saveAll(anyCollection())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+            // When
+            List<Member> result = service.registerMembers(List.of(
+                    command("Jan", first, "jan@example.com"),
+                    command("Petr", second, "petr@example.com")));
+
+            // Then
+            ArgumentCaptor<List<UserService.PendingUser>> usersCaptor = ArgumentCaptor.forClass(List.class);
+            verify(userService).createUsers(usersCaptor.capture(), eq(Authority.getStandardUserAuthorities()));
+            assertThat(usersCaptor.getValue())
+                    .extracting(UserService.PendingUser::username, UserService.PendingUser::email)
+                    .containsExactly(tuple("ZBM9003", "jan@example.com"), tuple("ZBM8501", "petr@example.com"));
+            assertThat(result).extracting(member -> member.getId().toUserId())
+                    .containsExactlyElementsOf(usersCaptor.getValue().stream().map(UserService.PendingUser::id).toList());
+            assertThat(result).extracting(member -> member.getRegistrationNumber().getValue())
+                    .containsExactly("ZBM9003", "ZBM8501");
+            verify(registrationNumberGenerator, never()).generate(any());
+            verify(userService, never()).createUser(anyString(), anyString(), any(Set.class));
+        }
+
+        @Test
+        @DisplayName("should reject the whole batch before writing anything and report every invalid member")
+        void shouldRejectBatchWithInvalidMember() {
+            // Given
+            LocalDate adult = LocalDate.of(1990, 1, 10);
+            LocalDate minor = LocalDate.now().minusYears(10);
+
+            // When & Then
+            assertThatThrownBy(() -> service.registerMembers(List.of(
+                    command("Jan", adult, "jan@example.com"),
+                    command("Petr", minor, "petr@example.com"))))
+                    .isInstanceOfSatisfying(BulkRegistrationRejectedException.class, e ->
+                            assertThat(e.getErrors()).containsOnlyKeys(1)
+                                    .hasEntrySatisfying(1, message -> assertThat(message).contains("Guardian is required")));
+            verify(registrationNumberGenerator, never()).generateAll(anyList());
+            verify(userService, never()).createUsers(anyList(), any(Set.class));
+            verify(memberRepository, never()).saveAll(anyCollection());
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.klabis.members.domain;
 import com.klabis.common.exceptions.BusinessRuleViolationException;
 import com.klabis.common.users.UserId;
 import com.klabis.members.MemberId;
+import com.klabis.members.BirthNumberAccessedEvent;
 import com.klabis.members.MemberAssert;
 import com.klabis.members.MemberCreatedEvent;
 import com.klabis.members.MemberResumedEvent;
@@ -15,9 +16,11 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.klabis.members.MemberTestDataBuilder.aMember;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
@@ -249,6 +252,24 @@ class MemberTest {
                     .hasMessageContaining("Guardian is required for minors");
         }
 
+        @Test
+        @DisplayName("should apply the registration rules without an ID or registration number")
+        void shouldValidateRegistrationWithoutIdentity() {
+            Address address = new Address("Ulice 1", "Město", "11000", "CZ");
+            EmailAddress email = new EmailAddress("anna@example.com");
+            PhoneNumber phone = new PhoneNumber("+420111222333");
+            PersonalInformation minor = PersonalInformation.of(
+                    "Anna", "Nováková", LocalDate.now().minusYears(15), "SK", Gender.FEMALE);
+            PersonalInformation adult = PersonalInformation.of(
+                    "Jan", "Novák", LocalDate.of(1990, 5, 15), "SK", Gender.MALE);
+
+            assertThatThrownBy(() -> Member.validateRegistration(minor, address, email, phone, null, null))
+                    .isInstanceOf(BusinessRuleViolationException.class)
+                    .hasMessageContaining("Guardian is required for minors");
+            assertThatCode(() -> Member.validateRegistration(adult, address, email, phone, null, null))
+                    .doesNotThrowAnyException();
+        }
+
         @Test
         @DisplayName("should fail when no contact information provided")
         void shouldFailWhenNoContactInformationProvided() {
@@ -1338,4 +1359,98 @@ class MemberTest {
                     .first().asString().contains("does not match member's date of birth");
         }
     }
+
+    @Nested
+    @DisplayName("Deferred birth number")
+    class DeferredBirthNumber {
+
+        private Member memberWithDeferredBirthNumber(AtomicInteger loads) {
+            return aMember()
+                    .withDateOfBirth(LocalDate.of(1990, 5, 15))
+                    .withGender(Gender.MALE)
+                    .withNationality("CZ")
+                    .withBirthNumber((BirthNumber) null)
+                    .withNoGuardian()
+                    .build()
+                    .deferBirthNumber(() -> {
+                        loads.incrementAndGet();
+                        return BirthNumber.of("900515/1235");
+                    });
+        }
+
+        @Test
+        @DisplayName("should report birth number presence without resolving it")
+        void shouldReportPresenceWithoutResolving() {
+            AtomicInteger loads = new AtomicInteger();
+            Member member = memberWithDeferredBirthNumber(loads);
+
+            assertThat(member.hasBirthNumber()).isTrue();
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should resolve birth number once on first access")
+        void shouldResolveOnceOnFirstAccess() {
+            AtomicInteger loads = new AtomicInteger();
+            Member member = memberWithDeferredBirthNumber(loads);
+
+            assertThat(member.getBirthNumber().value()).isEqualTo("900515/1235");
+            assertThat(member.getBirthNumber().value()).isEqualTo("900515/1235");
+
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should not resolve birth number on an update that does not submit or check it")
+        void shouldNotResolveOnUnrelatedUpdate() {
+            AtomicInteger loads = new AtomicInteger();
+            Member member = memberWithDeferredBirthNumber(loads);
+
+            member.update(MemberUpdateMemberBuilder.builder()
+                    .email(EmailAddress.of("new@example.com"))
+                    .updatedBy(new UserId(UUID.randomUUID()))
+                    .build());
+
+            assertThat(member.birthNumberConsistencyWarnings()).isEmpty();
+            assertThat(member.getStoredBirthNumber()).isNotNull();
+            assertThat(loads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should keep stored birth number when the same birth number is submitted")
+        void shouldKeepStoredBirthNumberWhenUnchanged() {
+            AtomicInteger loads = new AtomicInteger();
+            Member member = memberWithDeferredBirthNumber(loads);
+
+            member.update(MemberUpdateMemberBuilder.builder()
+                    .birthNumber(BirthNumber.of("900515/1235"))
+                    .updatedBy(new UserId(UUID.randomUUID()))
+                    .build());
+
+            assertThat(member.getStoredBirthNumber()).isNotNull();
+            assertThat(member.getDomainEvents()).isEmpty();
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("should resolve birth number as an audited view to check a gender change")
+        void shouldResolveAsAuditedViewForConsistencyCheck() {
+            AtomicInteger loads = new AtomicInteger();
+            Member member = memberWithDeferredBirthNumber(loads);
+            UserId admin = new UserId(UUID.randomUUID());
+
+            member.update(MemberUpdateMemberBuilder.builder()
+                    .gender(Gender.FEMALE)
+                    .updatedBy(admin)
+                    .build());
+
+            assertThat(member.birthNumberConsistencyWarnings())
+                    .singleElement().asString().contains("indicates different gender");
+            assertThat(member.getDomainEvents())
+                    .singleElement()
+                    .extracting("action", "actingUserId")
+                    .containsExactly(BirthNumberAccessedEvent.BirthNumberAction.VIEW_BIRTH_NUMBER, admin);
+            assertThat(loads).hasValue(1);
+        }
+    }
 }
@@ -8,10 +8,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -20,20 +23,20 @@ import static org.mockito.Mockito.when;
  * Tests registration number generation logic:
  * - Format: XXXYYDD (club code + birth year + sequence)
  * - Sequence numbers start at 00 for each birth year
- * - Sequence numbers increment for same birth year
+ * - Sequence numbers are allocated per birth year by {@link RegistrationNumberSequences}
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RegistrationNumberGenerator Domain Service")
 class RegistrationNumberGeneratorTest {
 
     @Mock
-    private MemberRepository memberRepositoryMock;
+    private RegistrationNumberSequences sequencesMock;
 
     private RegistrationNumberGenerator generator;
 
     @BeforeEach
     void setUp() {
-        generator = new RegistrationNumberGenerator("ZBM", memberRepositoryMock);
+        generator = new RegistrationNumberGenerator("ZBM", sequencesMock);
     }
 
     @Test
@@ -41,7 +44,7 @@ class RegistrationNumberGeneratorTest {
     void shouldGenerateRegistrationNumberWithSequence00ForFirstMember() {
         // Arrange
         LocalDate dateOfBirth = LocalDate.of(2005, 3, 15);
-        when(memberRepositoryMock.countByBirthYear(2005)).thenReturn(0);
+        when(sequencesMock.allocateNext(2005)).thenReturn(0);
 
         // Act
         RegistrationNumber regNumber = generator.generate(dateOfBirth);
@@ -51,7 +54,7 @@ class RegistrationNumberGeneratorTest {
         assertThat(regNumber.getClubCode()).isEqualTo("ZBM");
         assertThat(regNumber.getBirthYear()).isEqualTo(5);
         assertThat(regNumber.getSequenceNumber()).isEqualTo(0);
-        verify(memberRepositoryMock).countByBirthYear(2005);
+        verify(sequencesMock).allocateNext(2005);
     }
 
     @Test
@@ -59,7 +62,7 @@ class RegistrationNumberGeneratorTest {
     void shouldGenerateRegistrationNumberWithIncrementedSequence() {
         // Arrange
         LocalDate dateOfBirth = LocalDate.of(2005, 8, 22);
-        when(memberRepositoryMock.countByBirthYear(2005)).thenReturn(1);
+        when(sequencesMock.allocateNext(2005)).thenReturn(1);
 
         // Act
         RegistrationNumber regNumber = generator.generate(dateOfBirth);
@@ -76,8 +79,8 @@ class RegistrationNumberGeneratorTest {
         LocalDate dateOfBirth2004 = LocalDate.of(2004, 5, 10);
         LocalDate dateOfBirth2005 = LocalDate.of(2005, 5, 10);
 
-        when(memberRepositoryMock.countByBirthYear(2004)).thenReturn(5);
-        when(memberRepositoryMock.countByBirthYear(2005)).thenReturn(0);
+        when(sequencesMock.allocateNext(2004)).thenReturn(5);
+        when(sequencesMock.allocateNext(2005)).thenReturn(0);
 
         // Act
         RegistrationNumber regNumber2004 = generator.generate(dateOfBirth2004);
@@ -93,7 +96,7 @@ class RegistrationNumberGeneratorTest {
     void shouldHandleYear2000PlusCorrectly() {
         // Arrange
         LocalDate dateOfBirth = LocalDate.of(2023, 1, 1);
-        when(memberRepositoryMock.countByBirthYear(2023)).thenReturn(0);
+        when(sequencesMock.allocateNext(2023)).thenReturn(0);
 
         // Act
         RegistrationNumber regNumber = generator.generate(dateOfBirth);
@@ -108,7 +111,7 @@ class RegistrationNumberGeneratorTest {
     void shouldHandleYear1999AndBelowCorrectly() {
         // Arrange
         LocalDate dateOfBirth = LocalDate.of(1995, 6, 15);
-        when(memberRepositoryMock.countByBirthYear(1995)).thenReturn(0);
+        when(sequencesMock.allocateNext(1995)).thenReturn(0);
 
         // Act
         RegistrationNumber regNumber = generator.generate(dateOfBirth);
@@ -123,7 +126,7 @@ class RegistrationNumberGeneratorTest {
     void shouldHandleSequenceNumbersUpTo99() {
         // Arrange
         LocalDate dateOfBirth = LocalDate.of(2010, 4, 20);
-        when(memberRepositoryMock.countByBirthYear(2010)).thenReturn(99);
+        when(sequencesMock.allocateNext(2010)).thenReturn(99);
 
         // Act
         RegistrationNumber regNumber = generator.generate(dateOfBirth);
@@ -138,7 +141,7 @@ class RegistrationNumberGeneratorTest {
     void shouldFailWhenSequenceNumberExceeds99() {
         // Arrange
         LocalDate dateOfBirth = LocalDate.of(2010, 4, 20);
-        when(memberRepositoryMock.countByBirthYear(2010)).thenReturn(100);
+        when(sequencesMock.allocateNext(2010)).thenReturn(100);
 
         // Act & Assert
         assertThatThrownBy(() -> generator.generate(dateOfBirth))
@@ -161,9 +164,9 @@ class RegistrationNumberGeneratorTest {
     void shouldUseConfiguredClubCode() {
         // Arrange
         RegistrationNumberGenerator customGenerator =
-                new RegistrationNumberGenerator("ABC", memberRepositoryMock);
+                new RegistrationNumberGenerator("ABC", sequencesMock);
         LocalDate dateOfBirth = LocalDate.of(2005, 3, 15);
-        when(memberRepositoryMock.countByBirthYear(2005)).thenReturn(0);
+        when(sequencesMock.allocateNext(2005)).thenReturn(0);
 
         // Act
         RegistrationNumber regNumber = customGenerator.generate(dateOfBirth);
@@ -176,7 +179,7 @@ class RegistrationNumberGeneratorTest {
     @DisplayName("should fail when club code is null")
     void shouldFailWhenClubCodeIsNull() {
         // Act & Assert
-        assertThatThrownBy(() -> new RegistrationNumberGenerator(null, memberRepositoryMock))
+        assertThatThrownBy(() -> new RegistrationNumberGenerator(null, sequencesMock))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Club code is required");
     }
@@ -185,7 +188,7 @@ class RegistrationNumberGeneratorTest {
     @DisplayName("should fail when club code is blank")
     void shouldFailWhenClubCodeIsBlank() {
         // Act & Assert
-        assertThatThrownBy(() -> new RegistrationNumberGenerator("", memberRepositoryMock))
+        assertThatThrownBy(() -> new RegistrationNumberGenerator("", sequencesMock))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Club code is required");
     }
@@ -194,12 +197,53 @@ class RegistrationNumberGeneratorTest {
     @DisplayName("should fail when club code is not exactly 3 characters")
     void shouldFailWhenClubCodeIsNot3Characters() {
         // Act & Assert
-        assertThatThrownBy(() -> new RegistrationNumberGenerator("AB", memberRepositoryMock))
+        assertThatThrownBy(() -> new RegistrationNumberGenerator("AB", sequencesMock))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Club code must be exactly 3 characters");
 
-        assertThatThrownBy(() -> new RegistrationNumberGenerator("ABCD", memberRepositoryMock))
+        assertThatThrownBy(() -> new RegistrationNumberGenerator("ABCD", sequencesMock))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Club code must be exactly 3 characters");
     }
+
+    @Test
+    @DisplayName("should allocate one block per birth year and number members in the given order")
+    void shouldGenerateAllWithOneBlockPerBirthYear() {
+        // Arrange
+        when(sequencesMock.allocateBlock(2005, 2)).thenReturn(7);
+        when(sequencesMock.allocateBlock(1995, 1)).thenReturn(0);
+
+        // Act
+        List<RegistrationNumber> numbers = generator.generateAll(List.of(
+                LocalDate.of(2005, 3, 15), LocalDate.of(1995, 6, 15), LocalDate.of(2005, 1, 1)));
+
+        // Assert
+        assertThat(numbers).extracting(RegistrationNumber::getValue)
+                .containsExactly("ZBM0507", "ZBM9500", "ZBM0508");
+        verify(sequencesMock).allocateBlock(2005, 2);
+        verify(sequencesMock).allocateBlock(1995, 1);
+        verifyNoMoreInteractions(sequencesMock);
+    }
+
+    @Test
+    @DisplayName("should fail when a block would exceed sequence number 99")
+    void shouldFailWhenBlockExceeds99() {
+        // Arrange
+        when(sequencesMock.allocateBlock(2010, 2)).thenReturn(99);
+
+        // Act & Assert
+        assertThatThrownBy(() -> generator.generateAll(List.of(LocalDate.of(2010, 1, 1), LocalDate.of(2010, 2, 1))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maximum sequence number");
+    }
+
+    @Test
+    @DisplayName("should fail without allocating when any date of birth is null")
+    void shouldFailGenerateAllWhenDateOfBirthIsNull() {
+        // Act & Assert
+        assertThatThrownBy(() -> generator.generateAll(Arrays.asList(LocalDate.of(2010, 1, 1), null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Date of birth is required");
+        verifyNoMoreInteractions(sequencesMock);
+    }
 }
@@ -0,0 +1,164 @@
+package com.klabis.members.infrastructure.jdbc;
+
+import com.klabis.CleanupTestData;
+import com.klabis.common.encryption.EncryptionService;
+import org.jmolecules.ddd.annotation.Repository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Birth number re-encryption job")
+@DataJdbcTest(includeFilters = @ComponentScan.Filter(
+        type = FilterType.ANNOTATION,
+        value = {Repository.class}))
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BirthNumberReEncryptionJobTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Jasypt encryptor of the test profile, standing in for the legacy format
+    @Autowired
+    private EncryptionService legacyEncryptor;
+
+    private VersionedEncryptionService currentEncryptor;
+    private BirthNumberReEncryptionJob job;
+
+    @BeforeEach
+    void setUp() {
+        // the job commits its own chunks, so the rows of a previous test are not rolled back
+        new ResourceDatabasePopulator(new ClassPathResource("db/cleanup.sql")).execute(dataSource);
+        currentEncryptor = new VersionedEncryptionService(legacyEncryptor);
+        job = new BirthNumberReEncryptionJob(namedJdbc, currentEncryptor, transactionManager, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("should re-encrypt legacy values across chunks and skip values in current format")
+    void shouldReEncryptLegacyValuesAcrossChunks() {
+        insertMember("10000000-0000-0000-0000-000000000001", "ZBM9001", legacyEncryptor.encrypt("900101/0001"));
+        insertMember("10000000-0000-0000-0000-000000000002", "ZBM9002", currentEncryptor.encrypt("900101/0002"));
+        insertMember("10000000-0000-0000-0000-000000000003", "ZBM9003", legacyEncryptor.encrypt("900101/0003"));
+        insertMember("10000000-0000-0000-0000-000000000004", "ZBM9004", currentEncryptor.encrypt("900101/0004"));
+        insertMember("10000000-0000-0000-0000-000000000005", "ZBM9005", legacyEncryptor.encrypt("900101/0005"));
+        insertMember("10000000-0000-0000-0000-000000000006", "ZBM9006", null);
+        currentEncryptor.encryptCalls.set(0);
+
+        int reEncrypted = job.reEncryptAll();
+
+        assertThat(reEncrypted).isEqualTo(3);
+        assertThat(currentEncryptor.encryptCalls).hasValue(3);
+        assertThat(storedBirthNumbers())
+                .allSatisfy(ciphertext -> assertThat(currentEncryptor.isCurrentFormat(ciphertext)).isTrue())
+                .extracting(currentEncryptor::decrypt)
+                .containsExactly("900101/0001", "900101/0002", "900101/0003", "900101/0004", "900101/0005");
+    }
+
+    @Test
+    @DisplayName("should do nothing when run again after all values were re-encrypted")
+    void shouldBeIdempotent() {
+        insertMember("10000000-0000-0000-0000-000000000001", "ZBM9001", legacyEncryptor.encrypt("900101/0001"));
+        insertMember("10000000-0000-0000-0000-000000000002", "ZBM9002", legacyEncryptor.encrypt("900101/0002"));
+        insertMember("10000000-0000-0000-0000-000000000003", "ZBM9003", legacyEncryptor.encrypt("900101/0003"));
+        job.reEncryptAll();
+        List<String> afterFirstRun = storedBirthNumbers();
+        currentEncryptor.encryptCalls.set(0);
+
+        int reEncrypted = job.reEncryptAll();
+
+        assertThat(reEncrypted).isZero();
+        assertThat(currentEncryptor.encryptCalls).hasValue(0);
+        assertThat(storedBirthNumbers()).isEqualTo(afterFirstRun);
+    }
+
+    @Test
+    @DisplayName("should return zero when there are no birth numbers")
+    void shouldHandleEmptyTable() {
+        assertThat(job.reEncryptAll()).isZero();
+    }
+
+    private void insertMember(String id, String registrationNumber, String birthNumber) {
+        namedJdbc.update("""
+                        INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth, nationality, gender, birth_number, is_active, created_at, created_by, modified_at, modified_by, version)
+                        VALUES (:id, :registrationNumber, 'Test', 'Member', '1990-01-01', 'CZ', 'MALE', :birthNumber, true, CURRENT_TIMESTAMP, 'test', CURRENT_TIMESTAMP, 'test', 0)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", UUID.fromString(id))
+                        .addValue("registrationNumber", registrationNumber)
+                        .addValue("birthNumber", birthNumber));
+    }
+
+    private List<String> storedBirthNumbers() {
+        return namedJdbc.queryForList(
+                "SELECT birth_number FROM members.members WHERE birth_number IS NOT NULL ORDER BY registration_number",
+                Map.of(), String.class);
+    }
+
+    /**
+     * Stand-in for the envelope format: marks its ciphertexts with a version prefix and reads legacy values
+     * through the wrapped encryptor, counting how often it encrypts.
+     */
+    private static final class VersionedEncryptionService implements EncryptionService {
+
+        private static final String PREFIX = "v2:";
+
+        private final EncryptionService legacyEncryptor;
+        private final AtomicInteger encryptCalls = new AtomicInteger();
+
+        private VersionedEncryptionService(EncryptionService legacyEncryptor) {
+            this.legacyEncryptor = legacyEncryptor;
+        }
+
+        @Override
+        public String encrypt(String plaintext) {
+            encryptCalls.incrementAndGet();
+            return PREFIX + Base64.getEncoder().encodeToString(plaintext.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decrypt(String encrypted) {
+            if (!isCurrentFormat(encrypted)) {
+                return legacyEncryptor.decrypt(encrypted);
+            }
+            return new String(Base64.getDecoder().decode(encrypted.substring(PREFIX.length())), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean isCurrentFormat(String encrypted) {
+            return encrypted != null && encrypted.startsWith(PREFIX);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.klabis.members.infrastructure.jdbc;
+
+import com.klabis.common.export.RowSource;
+import com.klabis.members.MemberAccommodationDto;
+import com.klabis.members.MemberId;
+import com.klabis.members.application.MemberExportQuery.MemberDirectoryEntry;
+import com.klabis.members.domain.MemberFilter;
+import org.jmolecules.ddd.annotation.Repository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Member export query adapter")
+@DataJdbcTest(includeFilters = @ComponentScan.Filter(
+        type = FilterType.ANNOTATION,
+        value = {Repository.class}))
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, statements = "DELETE FROM members.members")
+@ActiveProfiles("test")
+class MemberExportQueryAdapterTest {
+
+    private static final UUID NOVAK_ID = UUID.fromString("20000000-0000-0000-0000-000000000001");
+    private static final UUID ADAMOVA_ID = UUID.fromString("20000000-0000-0000-0000-000000000002");
+    private static final UUID DVORAK_ID = UUID.fromString("20000000-0000-0000-0000-000000000003");
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MemberExportQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new MemberExportQueryAdapter(dataSource, transactionManager);
+
+        insertMember(NOVAK_ID, "ZBM9001", "Jan", "Novák", true);
+        insertMember(ADAMOVA_ID, "ZBM9002", "Eva", "Adamová", true);
+        insertMember(DVORAK_ID, "ZBM9003", "Petr", "Dvořák", false);
+    }
+
+    @Nested
+    @DisplayName("directory()")
+    class Directory {
+
+        @Test
+        @DisplayName("should return active members ordered by last name")
+        void shouldReturnActiveMembersOrderedByLastName() {
+            List<MemberDirectoryEntry> entries = read(adapter.directory(MemberFilter.StatusFilter.ACTIVE));
+
+            assertThat(entries)
+                    .extracting(MemberDirectoryEntry::registrationNumber)
+                    .containsExactly("ZBM9002", "ZBM9001");
+            assertThat(entries.get(1)).isEqualTo(new MemberDirectoryEntry(
+                    "ZBM9001", "Novák", "Jan", LocalDate.of(1990, 1, 1), "zbm9001@example.com", "+420777000000", true));
+        }
+
+        @Test
+        @DisplayName("should return only inactive members for INACTIVE")
+        void shouldReturnInactiveMembers() {
+            assertThat(read(adapter.directory(MemberFilter.StatusFilter.INACTIVE)))
+                    .extracting(MemberDirectoryEntry::registrationNumber)
+                    .containsExactly("ZBM9003");
+        }
+
+        @Test
+        @DisplayName("should return all members for ALL")
+        void shouldReturnAllMembers() {
+            assertThat(read(adapter.directory(MemberFilter.StatusFilter.ALL)))
+                    .extracting(MemberDirectoryEntry::registrationNumber)
+                    .containsExactly("ZBM9002", "ZBM9003", "ZBM9001");
+        }
+
+        @Test
+        @DisplayName("should not query the database until the source is iterated")
+        void shouldBeLazy() {
+            RowSource<MemberDirectoryEntry> source = adapter.directory(MemberFilter.StatusFilter.ALL);
+            insertMember(UUID.fromString("20000000-0000-0000-0000-000000000004"), "ZBM9004", "Karel", "Zeman", true);
+
+            assertThat(read(source))
+                    .extracting(MemberDirectoryEntry::registrationNumber)
+                    .endsWith("ZBM9004");
+        }
+    }
+
+    @Nested
+    @DisplayName("accommodationData()")
+    class AccommodationData {
+
+        @Test
+        @DisplayName("should return requested members ordered by last name and skip unknown IDs")
+        void shouldReturnRequestedMembersOrderedByLastName() {
+            List<MemberAccommodationDto> rows = read(adapter.accommodationData(Set.of(
+                    new MemberId(NOVAK_ID), new MemberId(ADAMOVA_ID), new MemberId(UUID.randomUUID()))));
+
+            assertThat(rows)
+                    .extracting(MemberAccommodationDto::lastName)
+                    .containsExactly("Adamová", "Novák");
+        }
+
+        @Test
+        @DisplayName("should map identity card and address when present")
+        void shouldMapIdentityCardAndAddress() {
+            namedJdbc.update("""
+                            UPDATE members.members
+                            SET identity_card_number = 'AB123456', identity_card_validity_date = '2030-01-01',
+                                street = 'Hlavní 1', city = 'Praha', postal_code = '11000', country = 'CZ'
+                            WHERE id = :id
+                            """,
+                    new MapSqlParameterSource("id", NOVAK_ID));
+
+            List<MemberAccommodationDto> rows = read(adapter.accommodationData(Set.of(new MemberId(NOVAK_ID))));
+
+            assertThat(rows).containsExactly(new MemberAccommodationDto(
+                    "Jan", "Novák", "AB123456", LocalDate.of(2030, 1, 1), LocalDate.of(1990, 1, 1),
+                    "Hlavní 1", "Praha", "11000", "CZ"));
+        }
+
+        @Test
+        @DisplayName("should leave out an identity card without validity and an address without street")
+        void shouldLeaveOutIncompleteIdentityCardAndAddress() {
+            namedJdbc.update("""
+                            UPDATE members.members
+                            SET identity_card_number = 'AB123456', city = 'Praha'
+                            WHERE id = :id
+                            """,
+                    new MapSqlParameterSource("id", NOVAK_ID));
+
+            List<MemberAccommodationDto> rows = read(adapter.accommodationData(Set.of(new MemberId(NOVAK_ID))));
+
+            assertThat(rows).containsExactly(new MemberAccommodationDto(
+                    "Jan", "Novák", null, null, LocalDate.of(1990, 1, 1), null, null, null, null));
+        }
+
+        @Test
+        @DisplayName("should return no rows for no IDs")
+        void shouldReturnNoRowsForNoIds() {
+            assertThat(read(adapter.accommodationData(Set.of()))).isEmpty();
+        }
+    }
+
+    private static <T> List<T> read(RowSource<T> source) {
+        List<T> rows = new ArrayList<>();
+        source.forEach(rows::add);
+        return rows;
+    }
+
+    private void insertMember(UUID id, String registrationNumber, String firstName, String lastName, boolean active) {
+        namedJdbc.update("""
+                        INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth, nationality, gender, email, phone, is_active, created_at, created_by, modified_at, modified_by, version)
+                        VALUES (:id, :registrationNumber, :firstName, :lastName, '1990-01-01', 'CZ', 'MALE', :email, '+420777000000', :active, CURRENT_TIMESTAMP, 'test', CURRENT_TIMESTAMP, 'test', 0)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("registrationNumber", registrationNumber)
+                        .addValue("firstName", firstName)
+                        .addValue("lastName", lastName)
+                        .addValue("email", registrationNumber.toLowerCase() + "@example.com")
+                        .addValue("active", active));
+    }
+}
@@ -1,6 +1,7 @@
 package com.klabis.members.infrastructure.jdbc;
 
 import com.klabis.common.domain.AuditMetadata;
+import com.klabis.common.encryption.EncryptedString;
 import com.klabis.members.MemberAssert;
 import com.klabis.members.MemberCreatedEvent;
 import com.klabis.members.MemberTestDataBuilder;
@@ -8,6 +9,7 @@ import com.klabis.members.domain.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -145,7 +147,11 @@ class MemberMementoTest {
 
             // Assert - convert back to domain to verify
             Member reconstructed = memento.toMember();
-            assertThat(reconstructed).usingRecursiveComparison().isEqualTo(member);
+            // the birth number is read back as ciphertext and decrypted on first access
+            assertThat(reconstructed).usingRecursiveComparison()
+                    .ignoringFields("birthNumber", "deferredBirthNumber", "storedBirthNumber")
+                    .isEqualTo(member);
+            assertThat(reconstructed.getBirthNumber()).isEqualTo(member.getBirthNumber());
         }
     }
 
@@ -309,6 +315,33 @@ class MemberMementoTest {
             assertThat(reconstructed.getLastModifiedBy()).isEqualTo(original.getLastModifiedBy());
             assertThat(reconstructed.getVersion()).isEqualTo(original.getVersion());
         }
+
+        @Test
+        @DisplayName("should write back unchanged birth number as stored without re-encrypting it")
+        void shouldWriteBackUnchangedBirthNumberAsStored() {
+            MemberMemento loaded = MemberMemento.from(buildTestMember().build());
+            Member member = loaded.toMember();
+
+            member.update(MemberUpdateMemberBuilder.builder().email(EmailAddress.of("new@example.com")).build());
+            MemberMemento saved = MemberMemento.from(member);
+
+            assertThat(ReflectionTestUtils.getField(saved, "birthNumber"))
+                    .isSameAs(ReflectionTestUtils.getField(loaded, "birthNumber"));
+        }
+
+        @Test
+        @DisplayName("should encrypt birth number again once it was changed")
+        void shouldEncryptChangedBirthNumber() {
+            MemberMemento loaded = MemberMemento.from(buildTestMember().build());
+            Member member = loaded.toMember();
+
+            member.update(MemberUpdateMemberBuilder.builder().birthNumber(BirthNumber.of("950301/1234")).build());
+            MemberMemento saved = MemberMemento.from(member);
+
+            EncryptedString savedBirthNumber = (EncryptedString) ReflectionTestUtils.getField(saved, "birthNumber");
+            assertThat(savedBirthNumber).isNotSameAs(ReflectionTestUtils.getField(loaded, "birthNumber"));
+            assertThat(savedBirthNumber.value()).isEqualTo("950301/1234");
+        }
     }
 
     @Nested
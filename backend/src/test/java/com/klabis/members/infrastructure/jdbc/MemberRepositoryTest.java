@@ -1,11 +1,13 @@
 package com.klabis.members.infrastructure.jdbc;
 
+import com.klabis.common.etag.AggregateETags;
 import com.klabis.common.users.UserId;
 import com.klabis.members.MemberAssert;
 import com.klabis.members.MemberId;
 import com.klabis.members.MemberTestDataBuilder;
 import com.klabis.members.domain.*;
 import org.jmolecules.ddd.annotation.Repository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,13 +16,18 @@ import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -29,6 +36,7 @@ import java.util.UUID;
 
 import static com.klabis.members.MemberTestDataBuilder.aMember;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Member JDBC Repository Tests")
 @DataJdbcTest(includeFilters = @ComponentScan.Filter(
@@ -397,72 +405,38 @@ class MemberRepositoryTest {
     }
 
     @Nested
-    @DisplayName("countByBirthYear() method")
-    class CountByBirthYearMethod {
-
-        @Test
-        @DisplayName("should count members by birth year correctly")
-        void shouldCountMembersByBirthYear() {
-            // Given
-            Member member1 = aMember()
-                    .withRegistrationNumber("ZBM0501")
-                    .withName("Jan", "Test1")
-                    .withDateOfBirth(LocalDate.of(2005, 1, 1))
+    @DisplayName("findActiveIdsBornBetween() method")
+    class FindActiveIdsBornBetweenMethod {
+
+        private Member aMemberBornOn(String registrationNumber, LocalDate dateOfBirth, boolean active) {
+            return aMember()
+                    .withRegistrationNumber(registrationNumber)
+                    .withName("Born", registrationNumber)
+                    .withDateOfBirth(dateOfBirth)
                     .withNationality("CZ")
                     .withGender(Gender.MALE)
-                    .withAddress(Address.of("Test1 1", "Praha", "11000", "CZ"))
-                    .withEmail("test1@example.com")
-                    .withPhone("+420111111119")
-                    .withNoGuardian()
-                    .build();
-
-            Member member2 = aMember()
-                    .withRegistrationNumber("ZBM0502")
-                    .withName("Petra", "Test2")
-                    .withDateOfBirth(LocalDate.of(2005, 12, 31))
-                    .withNationality("CZ")
-                    .withGender(Gender.FEMALE)
-                    .withAddress(Address.of("Test2 2", "Brno", "60200", "CZ"))
-                    .withEmail("test2@example.com")
-                    .withPhone("+420111111120")
-                    .withNoGuardian()
-                    .build();
-
-            Member member3 = aMember()
-                    .withRegistrationNumber("ZBM0601")
-                    .withName("Karel", "Test3")
-                    .withDateOfBirth(LocalDate.of(2006, 6, 15))
-                    .withNationality("CZ")
-                    .withGender(Gender.MALE)
-                    .withAddress(Address.of("Test3 3", "Ostrava", "70800", "CZ"))
-                    .withEmail("test3@example.com")
-                    .withPhone("+420111111121")
+                    .withAddress(Address.of("Test 1", "Praha", "11000", "CZ"))
+                    .withEmail(registrationNumber.toLowerCase() + "@example.com")
                     .withNoGuardian()
+                    .withActive(active)
                     .build();
-
-            memberRepository.save(member1);
-            memberRepository.save(member2);
-            memberRepository.save(member3);
-
-            // When
-            int count2005 = memberRepository.countByBirthYear(2005);
-            int count2006 = memberRepository.countByBirthYear(2006);
-            int count2007 = memberRepository.countByBirthYear(2007);
-
-            // Then
-            assertThat(count2005).isEqualTo(2);
-            assertThat(count2006).isEqualTo(1);
-            assertThat(count2007).isEqualTo(0);
         }
 
         @Test
-        @DisplayName("should return zero when no members exist")
-        void shouldReturnZeroWhenNoMembersExist() {
-            // When
-            int count = memberRepository.countByBirthYear(2005);
-
-            // Then
-            assertThat(count).isZero();
+        @DisplayName("should return active members born within the window, excluding the lower bound")
+        void shouldReturnActiveMembersWithinWindow() {
+            Member onLowerBound = memberRepository.save(aMemberBornOn("ZBM1001", LocalDate.of(2010, 3, 1), true));
+            Member inside = memberRepository.save(aMemberBornOn("ZBM1202", LocalDate.of(2012, 6, 15), true));
+            Member onUpperBound = memberRepository.save(aMemberBornOn("ZBM1503", LocalDate.of(2015, 3, 1), true));
+            Member tooYoung = memberRepository.save(aMemberBornOn("ZBM1504", LocalDate.of(2015, 3, 2), true));
+            Member inactive = memberRepository.save(aMemberBornOn("ZBM1205", LocalDate.of(2012, 6, 15), false));
+
+            List<MemberId> result = memberRepository.findActiveIdsBornBetween(
+                    LocalDate.of(2010, 3, 1), LocalDate.of(2015, 3, 1));
+
+            assertThat(result)
+                    .containsExactlyInAnyOrder(inside.getId(), onUpperBound.getId())
+                    .doesNotContain(onLowerBound.getId(), tooYoung.getId(), inactive.getId());
         }
     }
 
@@ -661,6 +635,69 @@ class MemberRepositoryTest {
             assertThat(savedMember.getVersion()).isEqualTo(0L);
         }
 
+        @Test
+        @DisplayName("should read the version without loading the member")
+        void shouldFindVersionById() {
+            Member saved = memberRepository.save(versionedMember("ZBM0015", "version-only@example.com"));
+            memberRepository.save(saved);
+
+            assertThat(memberRepository.findVersionById(saved.getId())).contains(1L);
+            assertThat(memberRepository.findVersionById(new MemberId(UUID.randomUUID()))).isEmpty();
+        }
+
+        @Nested
+        @DisplayName("with If-Match")
+        class WithIfMatch {
+
+            @AfterEach
+            void clearRequest() {
+                RequestContextHolder.resetRequestAttributes();
+            }
+
+            @Test
+            @DisplayName("should reject the save when the expected version is stale")
+            void shouldRejectStaleExpectedVersion() {
+                Member saved = memberRepository.save(versionedMember("ZBM0016", "stale@example.com"));
+                Member current = memberRepository.save(saved);
+
+                ifMatch(saved.getId(), "\"0-0011223344556677\"");
+
+                assertThatThrownBy(() -> memberRepository.save(current))
+                        .isInstanceOf(OptimisticLockingFailureException.class);
+            }
+
+            @Test
+            @DisplayName("should save when the expected version is current")
+            void shouldSaveCurrentExpectedVersion() {
+                Member saved = memberRepository.save(versionedMember("ZBM0017", "current@example.com"));
+
+                ifMatch(saved.getId(), "\"0-0011223344556677\"");
+
+                assertThat(memberRepository.save(saved).getVersion()).isEqualTo(1L);
+            }
+
+            private void ifMatch(MemberId memberId, String eTag) {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.addHeader(HttpHeaders.IF_MATCH, eTag);
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+                AggregateETags.expectIfMatch(memberId.uuid());
+            }
+        }
+
+        private Member versionedMember(String registrationNumber, String email) {
+            return aMember()
+                    .withRegistrationNumber(registrationNumber)
+                    .withName("Version", "Test")
+                    .withDateOfBirth(LocalDate.of(2000, 1, 1))
+                    .withNationality("CZ")
+                    .withGender(Gender.MALE)
+                    .withAddress(Address.of("Test 1", "Praha", "11000", "CZ"))
+                    .withEmail(email)
+                    .withPhone("+420111111" + registrationNumber.substring(5))
+                    .withNoGuardian()
+                    .build();
+        }
+
     }
 
     @Nested
@@ -0,0 +1,115 @@
+package com.klabis.members.infrastructure.jdbc;
+
+import com.klabis.CleanupTestData;
+import com.klabis.members.domain.RegistrationNumberSequences;
+import org.jmolecules.ddd.annotation.Repository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jdbc.test.autoconfigure.DataJdbcTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Registration number sequences — atomic per-birth-year allocation")
+@DataJdbcTest(includeFilters = @ComponentScan.Filter(
+        type = FilterType.ANNOTATION,
+        value = {Repository.class}))
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@CleanupTestData
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RegistrationNumberSequencesAdapterTest {
+
+    private static final int THREADS = 8;
+    private static final int ALLOCATIONS_PER_THREAD = 10;
+
+    @Autowired
+    private RegistrationNumberSequences sequences;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should start at number of existing members of the birth year")
+    void shouldSeedFromExistingMembers() {
+        jdbcTemplate.update("INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth, nationality, gender, is_active, created_at, created_by, modified_at, modified_by, version) VALUES ('aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ZBM9800', 'First', 'Member', '1998-01-01', 'CZ', 'MALE', true, CURRENT_TIMESTAMP, 'test', CURRENT_TIMESTAMP, 'test', 0)");
+        jdbcTemplate.update("INSERT INTO members.members (id, registration_number, first_name, last_name, date_of_birth, nationality, gender, is_active, created_at, created_by, modified_at, modified_by, version) VALUES ('bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb', 'ZBM9801', 'Second', 'Member', '1998-12-31', 'CZ', 'MALE', true, CURRENT_TIMESTAMP, 'test', CURRENT_TIMESTAMP, 'test', 0)");
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        assertThat(tx.<Integer>execute(status -> sequences.allocateNext(1998))).isEqualTo(2);
+        assertThat(tx.<Integer>execute(status -> sequences.allocateNext(1998))).isEqualTo(3);
+        assertThat(tx.<Integer>execute(status -> sequences.allocateNext(1999))).isZero();
+    }
+
+    @Test
+    @DisplayName("should allocate a block of consecutive numbers and continue after it")
+    void shouldAllocateBlock() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        assertThat(tx.<Integer>execute(status -> sequences.allocateNext(2003))).isZero();
+        assertThat(tx.<Integer>execute(status -> sequences.allocateBlock(2003, 5))).isEqualTo(1);
+        assertThat(tx.<Integer>execute(status -> sequences.allocateNext(2003))).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("should release allocated number when the transaction rolls back")
+    void shouldReleaseNumberOnRollback() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> sequences.allocateNext(2001));
+
+        tx.executeWithoutResult(status -> {
+            sequences.allocateNext(2001);
+            status.setRollbackOnly();
+        });
+
+        assertThat(tx.<Integer>execute(status -> sequences.allocateNext(2001))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should hand out distinct gap-free numbers to concurrent registrations of the same birth year")
+    void shouldAllocateDistinctNumbersConcurrently() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Callable<List<Integer>> worker = () -> {
+            List<Integer> allocated = new ArrayList<>();
+            for (int i = 0; i < ALLOCATIONS_PER_THREAD; i++) {
+                allocated.add(tx.execute(status -> sequences.allocateNext(2005)));
+            }
+            return allocated;
+        };
+
+        List<Integer> allocated = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(worker));
+            }
+            for (Future<List<Integer>> future : futures) {
+                allocated.addAll(future.get());
+            }
+        }
+
+        assertThat(allocated).containsExactlyInAnyOrderElementsOf(
+                IntStream.range(0, THREADS * ALLOCATIONS_PER_THREAD).boxed().toList());
+    }
+}
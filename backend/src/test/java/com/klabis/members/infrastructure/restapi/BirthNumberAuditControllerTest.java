@@ -88,6 +88,26 @@ class BirthNumberAuditControllerTest {
 
             verify(managementService).getMemberAndRecordView(eq(new MemberId(memberId)), any(UserId.class), anyBoolean());
         }
+
+        @Test
+        @DisplayName("should not decrypt birth number for viewer who cannot see it")
+        @WithKlabisMockUser(username = "ZBM0001", authorities = {Authority.MEMBERS_READ})
+        void shouldNotDecryptBirthNumberForViewerWhoCannotSeeIt() throws Exception {
+            UUID memberId = UUID.randomUUID();
+            Member member = MemberTestDataBuilder.aMemberWithId(memberId)
+                    .withNationality("CZ")
+                    .withNoGuardian()
+                    .build()
+                    .deferBirthNumber(() -> {
+                        throw new AssertionError("birth number must not be decrypted without an audited view");
+                    });
+
+            when(managementService.getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean()))
+                    .thenReturn(member);
+
+            mockMvc.perform(get("/api/members/{id}", memberId).accept(MediaTypes.HAL_FORMS_JSON_VALUE))
+                    .andExpect(status().isOk());
+        }
     }
 
     @Nested
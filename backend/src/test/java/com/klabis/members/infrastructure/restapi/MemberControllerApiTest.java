@@ -3,14 +3,15 @@ package com.klabis.members.infrastructure.restapi;
 import com.klabis.common.HateoasTestingSupport;
 import com.klabis.common.WithKlabisMockUser;
 import com.klabis.common.WithPostprocessors;
+import com.klabis.common.domain.AuditMetadata;
 import com.klabis.common.ui.HalFormsSupport;
 import com.klabis.common.users.Authority;
 import com.klabis.common.users.UserId;
 import com.klabis.members.*;
 import com.klabis.members.application.*;
 import com.klabis.members.domain.*;
-import com.klabis.groups.common.domain.FamilyGroupFilter;
-import com.klabis.groups.common.domain.TrainingGroupFilter;
+import com.klabis.groups.common.domain.MemberGroupIndex;
+import com.klabis.groups.common.domain.MemberGroupRole;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,11 +33,15 @@ import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -86,10 +91,7 @@ class MemberControllerApiTest {
     private RegistrationPort registrationService;
 
     @Autowired
-    private com.klabis.groups.traininggroup.domain.TrainingGroupRepository trainingGroupRepository;
-
-    @Autowired
-    private com.klabis.groups.familygroup.domain.FamilyGroupRepository familyGroupRepository;
+    private MemberGroupIndex memberGroupIndex;
 
     @TestBean
     private EntityLinks entityLinks;
@@ -153,6 +155,49 @@ class MemberControllerApiTest {
                             "/api/members")));
         }
 
+        @Test
+        @DisplayName("should answer 304 from the version alone when the ETag is still current")
+        @WithKlabisMockUser(username = "ZBM0001", authorities = {Authority.MEMBERS_READ})
+        void shouldReturn304WhenETagIsCurrent() throws Exception {
+            UUID memberId = UUID.randomUUID();
+            Member member = MemberTestDataBuilder.aMemberWithId(memberId).withActive(true).build();
+            member.updateAuditMetadata(new AuditMetadata(Instant.now(), null, null, null, 3L));
+            when(managementService.getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean())).thenReturn(member);
+            when(memberRepository.findVersionById(new MemberId(memberId))).thenReturn(Optional.of(3L));
+
+            String eTag = mockMvc.perform(getMemberById(memberId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(getMemberById(memberId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(content().string(""));
+
+            verify(managementService, times(1)).getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("should render the member again when its version has changed")
+        @WithKlabisMockUser(username = "ZBM0001", authorities = {Authority.MEMBERS_READ})
+        void shouldReturn200WhenVersionChanged() throws Exception {
+            UUID memberId = UUID.randomUUID();
+            Member member = MemberTestDataBuilder.aMemberWithId(memberId).withActive(true).build();
+            member.updateAuditMetadata(new AuditMetadata(Instant.now(), null, null, null, 3L));
+            when(managementService.getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean())).thenReturn(member);
+
+            String eTag = mockMvc.perform(getMemberById(memberId))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            member.updateAuditMetadata(new AuditMetadata(Instant.now(), null, null, null, 4L));
+            when(memberRepository.findVersionById(new MemberId(memberId))).thenReturn(Optional.of(4L));
+
+            mockMvc.perform(getMemberById(memberId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, org.hamcrest.Matchers.not(eTag)));
+        }
+
         @Test
         @DisplayName("should return 404 when member not found")
         @WithKlabisMockUser(username = "ZBM0001", authorities = {Authority.MEMBERS_READ})
@@ -421,14 +466,10 @@ class MemberControllerApiTest {
             Member member = MemberTestDataBuilder.aMemberWithId(memberId).build();
             when(managementService.getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean()))
                     .thenReturn(member);
-            com.klabis.groups.traininggroup.domain.TrainingGroup mockTrainingGroup =
-                    Mockito.mock(com.klabis.groups.traininggroup.domain.TrainingGroup.class);
-            Mockito.when(mockTrainingGroup.getId())
-                    .thenReturn(new com.klabis.groups.traininggroup.TrainingGroupId(groupId));
-            when(trainingGroupRepository.findOne(any(TrainingGroupFilter.class)))
-                    .thenReturn(java.util.Optional.of(mockTrainingGroup));
-            when(familyGroupRepository.findOne(any(FamilyGroupFilter.class)))
-                    .thenReturn(java.util.Optional.empty());
+            when(memberGroupIndex.findGroupsOf(any(MemberId.class)))
+                    .thenReturn(List.of(new MemberGroupRole(new MemberId(memberId), groupId,
+                            com.klabis.groups.traininggroup.domain.TrainingGroup.TYPE_DISCRIMINATOR,
+                            "Dorost", MemberGroupRole.Role.MEMBER, 1)));
 
             mockMvc.perform(getMemberById(memberId))
                     .andExpect(status().isOk())
@@ -446,14 +487,10 @@ class MemberControllerApiTest {
             Member member = MemberTestDataBuilder.aMemberWithId(memberId).build();
             when(managementService.getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean()))
                     .thenReturn(member);
-            when(trainingGroupRepository.findOne(any(TrainingGroupFilter.class)))
-                    .thenReturn(java.util.Optional.empty());
-            com.klabis.groups.familygroup.domain.FamilyGroup mockFamilyGroup =
-                    Mockito.mock(com.klabis.groups.familygroup.domain.FamilyGroup.class);
-            Mockito.when(mockFamilyGroup.getId())
-                    .thenReturn(new com.klabis.groups.familygroup.FamilyGroupId(groupId));
-            when(familyGroupRepository.findOne(any(FamilyGroupFilter.class)))
-                    .thenReturn(java.util.Optional.of(mockFamilyGroup));
+            when(memberGroupIndex.findGroupsOf(any(MemberId.class)))
+                    .thenReturn(List.of(new MemberGroupRole(new MemberId(memberId), groupId,
+                            com.klabis.groups.familygroup.domain.FamilyGroup.TYPE_DISCRIMINATOR,
+                            "Novákovi", MemberGroupRole.Role.MEMBER, 2)));
 
             mockMvc.perform(getMemberById(memberId))
                     .andExpect(status().isOk())
@@ -470,10 +507,8 @@ class MemberControllerApiTest {
             Member member = MemberTestDataBuilder.aMemberWithId(memberId).build();
             when(managementService.getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean()))
                     .thenReturn(member);
-            when(trainingGroupRepository.findOne(any(TrainingGroupFilter.class)))
-                    .thenReturn(java.util.Optional.empty());
-            when(familyGroupRepository.findOne(any(FamilyGroupFilter.class)))
-                    .thenReturn(java.util.Optional.empty());
+            when(memberGroupIndex.findGroupsOf(any(MemberId.class)))
+                    .thenReturn(List.of());
 
             mockMvc.perform(getMemberById(memberId))
                     .andExpect(status().isOk())
@@ -489,10 +524,8 @@ class MemberControllerApiTest {
             Member member = MemberTestDataBuilder.aMemberWithId(memberId).withActive(true).build();
             when(managementService.getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean()))
                     .thenReturn(member);
-            when(trainingGroupRepository.findOne(any(TrainingGroupFilter.class)))
-                    .thenReturn(java.util.Optional.empty());
-            when(familyGroupRepository.findOne(any(FamilyGroupFilter.class)))
-                    .thenReturn(java.util.Optional.empty());
+            when(memberGroupIndex.findGroupsOf(any(MemberId.class)))
+                    .thenReturn(List.of());
 
             mockMvc.perform(getMemberById(memberId))
                     .andExpect(status().isOk())
@@ -507,10 +540,8 @@ class MemberControllerApiTest {
             Member member = MemberTestDataBuilder.aMemberWithId(memberId).withActive(true).build();
             when(managementService.getMemberAndRecordView(any(MemberId.class), any(UserId.class), anyBoolean()))
                     .thenReturn(member);
-            when(trainingGroupRepository.findOne(any(TrainingGroupFilter.class)))
-                    .thenReturn(java.util.Optional.empty());
-            when(familyGroupRepository.findOne(any(FamilyGroupFilter.class)))
-                    .thenReturn(java.util.Optional.empty());
+            when(memberGroupIndex.findGroupsOf(any(MemberId.class)))
+                    .thenReturn(List.of());
 
             mockMvc.perform(getMemberById(memberId))
                     .andExpect(status().isOk())
@@ -0,0 +1,116 @@
+package com.klabis.members.infrastructure.restapi;
+
+import com.klabis.common.WithKlabisMockUser;
+import com.klabis.common.WithPostprocessors;
+import com.klabis.common.export.RowSource;
+import com.klabis.common.users.Authority;
+import com.klabis.members.application.MemberDirectoryPort;
+import com.klabis.members.application.MemberExportQuery.MemberDirectoryEntry;
+import com.klabis.members.domain.MemberFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Member directory export API tests")
+@WebMvcTest(controllers = MemberExportController.class)
+@WithPostprocessors
+class MemberExportControllerTest {
+
+    private static final String ADMIN_USERNAME = "ZBM0001";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MemberDirectoryPort memberDirectoryPort;
+
+    @Test
+    @DisplayName("should stream active members as CSV by default")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_MANAGE})
+    void shouldStreamActiveMembersAsCsv() throws Exception {
+        RowSource<MemberDirectoryEntry> rows = List.of(
+                new MemberDirectoryEntry("ZBM9002", "Adamová", "Eva", LocalDate.of(1992, 4, 3),
+                        "eva@example.com", "+420777000002", true),
+                new MemberDirectoryEntry("ZBM9001", "Novák", "Jan", null, null, null, true))::forEach;
+        when(memberDirectoryPort.directory(MemberFilter.StatusFilter.ACTIVE)).thenReturn(rows);
+
+        MvcResult result = mockMvc.perform(get("/api/members").accept("text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andExpect(header().string("Content-Disposition", containsString("clenove.csv")))
+                .andExpect(content().string(containsString(
+                        "Registrační číslo;Příjmení;Jméno;Datum narození;E-mail;Telefon;Aktivní")))
+                .andExpect(content().string(containsString(
+                        "ZBM9002;Adamová;Eva;1992-04-03;eva@example.com;+420777000002;ano")))
+                .andExpect(content().string(containsString("ZBM9001;Novák;Jan;;;;ano")));
+    }
+
+    @Test
+    @DisplayName("should pass the status filter to the query")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_MANAGE})
+    void shouldPassStatusFilterToQuery() throws Exception {
+        RowSource<MemberDirectoryEntry> rows = List.of(
+                new MemberDirectoryEntry("ZBM9003", "Dvořák", "Petr", null, null, null, false))::forEach;
+        when(memberDirectoryPort.directory(MemberFilter.StatusFilter.INACTIVE)).thenReturn(rows);
+
+        MvcResult result = mockMvc.perform(get("/api/members").param("status", "inactive").accept("text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("ZBM9003;Dvořák;Petr;;;;ne")));
+    }
+
+    @Test
+    @DisplayName("should return 400 for an invalid status filter")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_MANAGE})
+    void shouldReturn400ForInvalidStatus() throws Exception {
+        mockMvc.perform(get("/api/members").param("status", "RETIRED").accept("text/csv"))
+                .andExpect(status().isBadRequest());
+
+        verify(memberDirectoryPort, never()).directory(any());
+    }
+
+    @Test
+    @DisplayName("should return 403 without MEMBERS:MANAGE")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_READ})
+    void shouldReturn403WithoutMembersManage() throws Exception {
+        mockMvc.perform(get("/api/members").accept("text/csv"))
+                .andExpect(status().isForbidden());
+
+        verify(memberDirectoryPort, never()).directory(any());
+    }
+
+    @Test
+    @DisplayName("should return 401 when not authenticated")
+    void shouldReturn401WhenUnauthenticated() throws Exception {
+        mockMvc.perform(get("/api/members").accept("text/csv"))
+                .andExpect(status().isUnauthorized());
+    }
+}
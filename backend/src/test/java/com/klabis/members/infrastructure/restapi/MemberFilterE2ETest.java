@@ -1,6 +1,8 @@
 package com.klabis.members.infrastructure.restapi;
 
 import com.klabis.E2ETest;
+import com.klabis.common.observability.sql.SqlStatementStatistics;
+import com.klabis.common.observability.sql.SqlStatementsAssert;
 import com.klabis.common.security.JwtParams;
 import com.klabis.common.users.Authority;
 import com.klabis.common.users.UserId;
@@ -18,6 +20,7 @@ import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.util.UUID;
 
+import static com.klabis.common.observability.sql.SqlStatementsAssert.countStatements;
 import static com.klabis.common.security.JwtParams.member;
 import static com.klabis.common.security.KlabisMvcRequestBuilders.klabisAuthentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -56,6 +59,11 @@ class MemberFilterE2ETest {
 
     private static final UUID ADMIN_MEMBER_ID = UUID.fromString("00000001-0001-0001-0001-000000000099");
 
+    // Measured SQL statements per request: user lookup, page and count for the list, member for the detail.
+    // The page size must not add statements (no N+1).
+    private static final int LIST_QUERY_BUDGET = 3;
+    private static final int DETAIL_QUERY_BUDGET = 2;
+
     @Test
     @DisplayName("q=novak returns only members whose name contains 'novak' (case-insensitive)")
     void shouldFilterByFulltextQuery() throws Exception {
@@ -194,6 +202,47 @@ class MemberFilterE2ETest {
                 .andExpect(status().isBadRequest());
     }
 
+    // -------------------------------------------------------------------------
+    // Query budgets
+    // -------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("member list executes no more statements for a full page than for a single member")
+    void memberListQueryCountShouldNotGrowWithPageSize() throws Exception {
+        SqlStatementStatistics singleMember = countStatements(() -> listMembers(1));
+        SqlStatementStatistics fullPage = countStatements(() -> listMembers(5));
+
+        SqlStatementsAssert.assertThat(fullPage)
+                .hasStatementCountAtMost(singleMember.statementCount())
+                .hasStatementCountAtMost(LIST_QUERY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("member detail stays within its query budget")
+    void memberDetailShouldStayWithinQueryBudget() throws Exception {
+        SqlStatementStatistics statistics = countStatements(() -> mockMvc.perform(
+                        get("/api/members/{id}", "00000001-0001-0001-0001-000000000001")
+                                .accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+                                .with(adminAuthentication()))
+                .andExpect(status().isOk()));
+
+        SqlStatementsAssert.assertThat(statistics)
+                .hasStatementCountAtMost(DETAIL_QUERY_BUDGET)
+                .hasNoStatementRepeatedMoreThan(1);
+    }
+
+    private void listMembers(int pageSize) throws Exception {
+        mockMvc.perform(
+                        get("/api/members")
+                                .param("status", "ALL")
+                                .param("size", String.valueOf(pageSize))
+                                .accept(MediaTypes.HAL_FORMS_JSON_VALUE)
+                                .with(adminAuthentication())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.memberSummaryResponseList.length()").value(pageSize));
+    }
+
     // -------------------------------------------------------------------------
     // Test helpers
     // -------------------------------------------------------------------------
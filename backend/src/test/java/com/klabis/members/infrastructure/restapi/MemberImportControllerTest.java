@@ -0,0 +1,137 @@
+package com.klabis.members.infrastructure.restapi;
+
+import com.klabis.common.WithKlabisMockUser;
+import com.klabis.common.WithPostprocessors;
+import com.klabis.common.users.Authority;
+import com.klabis.members.MemberTestDataBuilder;
+import com.klabis.members.application.BulkRegistrationRejectedException;
+import com.klabis.members.application.RegistrationPort;
+import com.klabis.members.domain.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Member import API tests")
+@WebMvcTest(controllers = MemberImportController.class)
+@Import({MemberMapperImpl.class, MemberImportCsvReader.class})
+@WithPostprocessors
+class MemberImportControllerTest {
+
+    private static final String ADMIN_USERNAME = "ZBM0001";
+
+    private static final String HEADER = "Příjmení;Jméno;Datum narození;Pohlaví;Národnost;E-mail;Telefon;Ulice;Město;PSČ;Země;"
+                                         + "Zákonný zástupce – jméno;Zákonný zástupce – příjmení;Zákonný zástupce – vztah;"
+                                         + "Zákonný zástupce – e-mail;Zákonný zástupce – telefon\n";
+    private static final String ADULT_ROW = "Novák;Jan;1990-01-10;MALE;CZ;jan@example.com;+420777123456;Hlavní 1;Praha;11000;CZ;;;;;\n";
+    private static final String MINOR_ROW = "Nováková;Eva;" + LocalDate.now().minusYears(10)
+                                            + ";female;CZ;eva@example.com;+420777123457;Hlavní 1;Praha;11000;CZ;"
+                                            + "Jan;Novák;otec;jan@example.com;+420777123456\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RegistrationPort registrationService;
+
+    private static MockMultipartHttpServletRequestBuilder upload(String csv) {
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        byte[] content = csv.getBytes(StandardCharsets.UTF_8);
+        byte[] file = new byte[bom.length + content.length];
+        System.arraycopy(bom, 0, file, 0, bom.length);
+        System.arraycopy(content, 0, file, bom.length, content.length);
+        return multipart("/api/members/import").file(new MockMultipartFile("file", "clenove.csv", "text/csv", file));
+    }
+
+    @Test
+    @DisplayName("should register all rows and report their registration numbers")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_MANAGE})
+    void shouldImportAllRows() throws Exception {
+        Member adult = MemberTestDataBuilder.aMemberWithId(UUID.randomUUID()).withRegistrationNumber("ZBM9003").build();
+        Member minor = MemberTestDataBuilder.aMemberWithId(UUID.randomUUID()).withRegistrationNumber("ZBM1600").build();
+        when(registrationService.registerMembers(anyList())).thenReturn(List.of(adult, minor));
+
+        mockMvc.perform(upload(HEADER + ADULT_ROW + MINOR_ROW))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(true))
+                .andExpect(jsonPath("$.rows[0].row").value(2))
+                .andExpect(jsonPath("$.rows[0].registrationNumber").value("ZBM9003"))
+                .andExpect(jsonPath("$.rows[1].row").value(3))
+                .andExpect(jsonPath("$.rows[1].memberId").value(minor.getId().uuid().toString()));
+
+        verify(registrationService).registerMembers(argThat(commands -> commands.size() == 2
+                && commands.get(0).personalInformation().getFirstName().equals("Jan")
+                && commands.get(1).guardian() != null
+                && commands.get(1).guardian().getRelationship().equals("otec")));
+    }
+
+    @Test
+    @DisplayName("should report invalid rows and register nothing")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_MANAGE})
+    void shouldRejectInvalidRows() throws Exception {
+        String invalidRow = "Svoboda;Petr;10.1.1990;MALE;CZ;not-an-email;+420777123456;Hlavní 1;Praha;11000;CZ;;;;;\n";
+
+        mockMvc.perform(upload(HEADER + ADULT_ROW + invalidRow))
+                .andExpect(status().is(422))
+                .andExpect(jsonPath("$.imported").value(false))
+                .andExpect(jsonPath("$.rows[0].errors").isEmpty())
+                .andExpect(jsonPath("$.rows[1].row").value(3))
+                .andExpect(jsonPath("$.rows[1].errors[0]").value("dateOfBirth: Date of birth must be in format YYYY-MM-DD"));
+
+        verify(registrationService, never()).registerMembers(any());
+    }
+
+    @Test
+    @DisplayName("should report rows rejected by registration rules")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_MANAGE})
+    void shouldReportRowsRejectedByRegistration() throws Exception {
+        when(registrationService.registerMembers(anyList()))
+                .thenThrow(new BulkRegistrationRejectedException(Map.of(1, "Guardian is required for minors (under 18 years)")));
+
+        mockMvc.perform(upload(HEADER + ADULT_ROW + MINOR_ROW))
+                .andExpect(status().is(422))
+                .andExpect(jsonPath("$.imported").value(false))
+                .andExpect(jsonPath("$.rows[1].errors[0]").value("Guardian is required for minors (under 18 years)"));
+    }
+
+    @Test
+    @DisplayName("should return 400 when a required column is missing")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_MANAGE})
+    void shouldRejectFileWithoutRequiredColumn() throws Exception {
+        mockMvc.perform(upload("Příjmení;Jméno\nNovák;Jan\n"))
+                .andExpect(status().isBadRequest());
+
+        verify(registrationService, never()).registerMembers(any());
+    }
+
+    @Test
+    @DisplayName("should return 403 without MEMBERS:MANAGE")
+    @WithKlabisMockUser(username = ADMIN_USERNAME, authorities = {Authority.MEMBERS_READ})
+    void shouldRequireMembersManage() throws Exception {
+        mockMvc.perform(upload(HEADER + ADULT_ROW))
+                .andExpect(status().isForbidden());
+
+        verify(registrationService, never()).registerMembers(any());
+    }
+}
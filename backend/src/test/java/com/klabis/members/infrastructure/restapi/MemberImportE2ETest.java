@@ -0,0 +1,100 @@
+package com.klabis.members.infrastructure.restapi;
+
+import com.klabis.E2ETest;
+import com.klabis.common.users.Authority;
+import com.klabis.groups.application.LastOwnershipCheckerImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.klabis.common.security.JwtParams.member;
+import static com.klabis.common.security.KlabisMvcRequestBuilders.klabisAuthentication;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * End-to-end test of a season-sized member import.
+ * <p>
+ * Imports 1,000 members with birth numbers through the full stack, using the encryption mode of the test profile
+ * (Jasypt, the application default), and logs how long the request took. On H2 with a single CPU the request took
+ * 3.9 to 11.7 seconds, so the limit leaves room for a slow machine; the logged duration is the number to compare
+ * between runs.
+ */
+@E2ETest
+@DisplayName("Member Import E2E Test")
+class MemberImportE2ETest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberImportE2ETest.class);
+
+    private static final int MEMBERS = 1_000;
+    // registration numbers have two digits of sequence per birth year
+    private static final int BIRTH_YEARS = 20;
+    private static final Duration TIME_LIMIT = Duration.ofSeconds(30);
+
+    private static final UUID ADMIN_MEMBER_ID = UUID.fromString("00000001-0001-0001-0001-000000000099");
+
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private LastOwnershipCheckerImpl lastOwnershipCheckerImpl;
+
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private com.klabis.groups.traininggroup.domain.TrainingGroupRepository trainingGroupRepository;
+
+    @MockitoBean
+    @SuppressWarnings("unused")
+    private com.klabis.groups.familygroup.domain.FamilyGroupRepository familyGroupRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should import 1,000 members with birth numbers within 30 seconds")
+    void shouldImportThousandMembers() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "clenove.csv", "text/csv",
+                csv(MEMBERS).getBytes(StandardCharsets.UTF_8));
+
+        long start = System.nanoTime();
+        mockMvc.perform(multipart("/api/members/import").file(file)
+                        .with(klabisAuthentication(member(ADMIN_MEMBER_ID).withAuthorities(Authority.MEMBERS_MANAGE))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(true))
+                .andExpect(jsonPath("$.rows.length()").value(MEMBERS));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        log.info("Imported {} members in {} ms", MEMBERS, elapsed.toMillis());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM members.members WHERE birth_number IS NOT NULL", Integer.class))
+                .isEqualTo(MEMBERS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM common.users WHERE account_status = 'PENDING_ACTIVATION'", Integer.class))
+                .isEqualTo(MEMBERS);
+        assertThat(elapsed).isLessThan(TIME_LIMIT);
+    }
+
+    private static String csv(int members) {
+        StringBuilder csv = new StringBuilder(
+                "Příjmení;Jméno;Datum narození;Pohlaví;Národnost;E-mail;Telefon;Ulice;Město;PSČ;Země;Rodné číslo\n");
+        for (int i = 0; i < members; i++) {
+            int birthYear = 1970 + i % BIRTH_YEARS;
+            csv.append("Novák;Jan;%d-01-01;MALE;CZ;clen%d@example.com;+420777%06d;Hlavní 1;Praha;11000;CZ;%02d0101/%04d\n"
+                    .formatted(birthYear, i, i, birthYear % 100, i));
+        }
+        return csv.toString();
+    }
+}
@@ -257,7 +257,7 @@ class MemberMappingTests {
                     .withDietaryRestrictions("No restrictions")
                     .build();
 
-            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member);
+            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member, true);
 
             assertThat(dto).isNotNull();
             assertThat(dto.id()).isEqualTo(new MemberId(memberId));
@@ -285,7 +285,7 @@ class MemberMappingTests {
             UUID memberId = UUID.randomUUID();
             Member member = MemberTestDataBuilder.aMemberWithId(memberId).build();
 
-            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member);
+            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member, true);
 
             assertThat(dto).isNotNull();
             assertThat(dto.chipNumber()).isNull();
@@ -306,7 +306,7 @@ class MemberMappingTests {
                     .withIdentityCard(identityCard)
                     .build();
 
-            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member);
+            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member, true);
 
             assertThat(dto.identityCard()).isNotNull();
             assertThat(dto.identityCard().cardNumber()).isEqualTo("ONLY-IC");
@@ -327,7 +327,7 @@ class MemberMappingTests {
                     .withMedicalCourse(medicalCourse)
                     .build();
 
-            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member);
+            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member, true);
 
             assertThat(dto.identityCard()).isNull();
             assertThat(dto.medicalCourse()).isNotNull();
@@ -345,7 +345,7 @@ class MemberMappingTests {
                     .withTrainerLicense(trainerLicense)
                     .build();
 
-            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member);
+            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member, true);
 
             assertThat(dto.identityCard()).isNull();
             assertThat(dto.medicalCourse()).isNull();
@@ -370,7 +370,7 @@ class MemberMappingTests {
                     .withTrainerLicense(trainerLicense)
                     .build();
 
-            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member);
+            MemberDetailsResponse dto = testedSubject.toDetailsResponse(member, true);
 
             assertThat(dto.identityCard()).isNotNull();
             assertThat(dto.medicalCourse()).isNotNull();
@@ -20,6 +20,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
@@ -970,6 +971,46 @@ class UpdateMemberApiTest {
                         .andExpect(jsonPath("$.title").value("Concurrent Update Conflict"))
                         .andExpect(jsonPath("$.detail").value("Concurrent update for member - test purpose"));
             }
+
+            @Test
+            @DisplayName("stale If-Match should return 412")
+            @WithKlabisMockUser(authorities = {Authority.MEMBERS_MANAGE})
+            void shouldReturn412WhenIfMatchIsStale() throws Exception {
+                when(memberService.updateMember(any(MemberId.class), any(Member.UpdateMember.class)))
+                        .thenThrow(new OptimisticLockingFailureException("Concurrent update for member - test purpose"));
+
+                mockMvc.perform(
+                                patch("/api/members/{id}", testMemberId)
+                                        .header(HttpHeaders.IF_MATCH, "\"3-0011223344556677\"")
+                                        .contentType("application/json")
+                                        .content("""
+                                                {
+                                                    "email": "test@example.com"
+                                                }
+                                                """)
+                        )
+                        .andExpect(status().isPreconditionFailed())
+                        .andExpect(jsonPath("$.title").value("Precondition Failed"));
+            }
+
+            @Test
+            @DisplayName("If-Match without a version should return 412 without updating")
+            @WithKlabisMockUser(authorities = {Authority.MEMBERS_MANAGE})
+            void shouldReturn412WhenIfMatchHasNoVersion() throws Exception {
+                mockMvc.perform(
+                                patch("/api/members/{id}", testMemberId)
+                                        .header(HttpHeaders.IF_MATCH, "W/\"something-else\"")
+                                        .contentType("application/json")
+                                        .content("""
+                                                {
+                                                    "email": "test@example.com"
+                                                }
+                                                """)
+                        )
+                        .andExpect(status().isPreconditionFailed());
+
+                verify(memberService, never()).updateMember(any(MemberId.class), any(Member.UpdateMember.class));
+            }
         }
 
         @Nested
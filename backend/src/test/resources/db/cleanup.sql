@@ -25,10 +25,23 @@ DELETE FROM common.users;
 
 -- Event publication outbox table
 DELETE FROM event_publication;
+DELETE FROM event_publication_archive;
+
+-- Email outbox
+DELETE FROM common.email_outbox;
+
+-- Cache invalidations broadcast between nodes
+DELETE FROM common.cache_invalidation;
+
+-- Pending calendar synchronisation (one row per event, no FK)
+DELETE FROM calendar.calendar_sync_queue;
 
 -- Calendar items (references events)
 DELETE FROM calendar.calendar_items;
 
+-- Member schedule read model (also cascades from events and members)
+DELETE FROM events.member_schedule;
+
 -- Events table (registrations are deleted through cascade)
 -- DELETE FROM events.event_registrations;
 DELETE FROM events.events;
@@ -62,6 +75,9 @@ DELETE FROM membershipfees.membership_fee_tier;
 -- Members table
 DELETE FROM members.members;
 
+-- Registration number counters (re-seeded from members on first use per birth year)
+DELETE FROM members.registration_number_sequences;
+
 -- Re-enable foreign key checks (if disabled above)
 -- SET FOREIGN_KEY_CHECKS = 1;  -- MySQL
 -- SET REFERENTIAL_INTEGRITY TRUE;  -- H2
@@ -1,14 +1,42 @@
 import {defineConfig} from 'vite'
+import type {Plugin} from 'vite'
 import react from '@vitejs/plugin-react'
-import {resolve} from 'node:path';
+import {readFileSync, writeFileSync} from 'node:fs';
+import {join, resolve} from 'node:path';
+import {brotliCompressSync, constants as zlibConstants, gzipSync} from 'node:zlib';
 import devtoolsJson from 'vite-plugin-devtools-json';
 import {VitePWA} from 'vite-plugin-pwa';
 
+// Writes .br and .gz next to the hashed bundles so the backend can serve them
+// as-is for a matching Accept-Encoding instead of compressing on every request.
+function precompressAssets(): Plugin {
+    const compressible = /^assets\/.*\.(js|css|svg|json)$/;
+    return {
+        name: 'klabis-precompress-assets',
+        apply: 'build',
+        writeBundle(options, bundle) {
+            const outDir = options.dir ?? 'dist';
+            for (const fileName of Object.keys(bundle)) {
+                if (!compressible.test(fileName)) {
+                    continue;
+                }
+                const file = join(outDir, fileName);
+                const content = readFileSync(file);
+                writeFileSync(`${file}.gz`, gzipSync(content, {level: 9}));
+                writeFileSync(`${file}.br`, brotliCompressSync(content, {
+                    params: {[zlibConstants.BROTLI_PARAM_QUALITY]: zlibConstants.BROTLI_MAX_QUALITY},
+                }));
+            }
+        },
+    };
+}
+
 // https://vite.dev/config/
 export default defineConfig({
     plugins: [
         react(),
         devtoolsJson(),
+        precompressAssets(),
         VitePWA({
             registerType: 'autoUpdate',
             injectRegister: false,